@@ -0,0 +1,63 @@
+package software.amazon.datazone.benchmarks;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Builds the input values of the benchmarks, shaped like what DataZone returns: identifiers of the same length as the
+ * real ones and free text and form contents of a given size, so that the copying cost of the translators is measured
+ * on realistic payloads.
+ */
+public final class BenchmarkData {
+    public static final String ACCOUNT_ID = "123456789012";
+    public static final String REGION = "us-east-1";
+    public static final String DOMAIN_ID = "dzd_66zup2ahl2wg4n";
+    public static final String PROJECT_ID = "b3ovsfpg5srfon";
+    public static final String ENVIRONMENT_ID = "6g1nkvhuji00iv";
+    public static final String ROLE_ARN = "arn:aws:iam::123456789012:role/service-role/AmazonDataZoneBenchmarkRole";
+    public static final Instant CREATED_AT = Instant.parse("2024-01-15T10:15:30Z");
+    public static final Instant UPDATED_AT = Instant.parse("2024-02-20T18:45:10Z");
+
+    private static final String WORDS = "Lorem ipsum dolor sit amet consectetur adipiscing elit sed do eiusmod tempor ";
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * @return A DataZone style identifier, e.g. 6g1nkvhuji00iv, unique per index.
+     */
+    public static String id(final int index) {
+        return String.format("%-14s", Integer.toString(index, 36) + "bnchmrkid").replace(' ', '0').substring(0, 14);
+    }
+
+    /**
+     * @return Free text of exactly the given length.
+     */
+    public static String text(final int length) {
+        final StringBuilder text = new StringBuilder(length);
+        while (text.length() < length) {
+            text.append(WORDS, 0, Math.min(WORDS.length(), length - text.length()));
+        }
+        return text.toString();
+    }
+
+    /**
+     * @return The content of a metadata form, a JSON object of the given number of string fields.
+     */
+    public static String formContent(final int fields) {
+        return IntStream.range(0, fields)
+                .mapToObj(field -> String.format("\"field%d\":\"%s\"", field, text(64)))
+                .collect(Collectors.joining(",", "{", "}"));
+    }
+
+    /**
+     * @return Distinct names, e.g. glossary terms or parameter names, with the given prefix.
+     */
+    public static List<String> names(final String prefix, final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(index -> prefix + index)
+                .collect(Collectors.toList());
+    }
+}
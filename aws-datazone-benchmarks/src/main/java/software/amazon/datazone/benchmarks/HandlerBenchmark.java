@@ -0,0 +1,178 @@
+package software.amazon.datazone.benchmarks;
+
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Runs the Create, Read, Update, Delete and List operations of every resource type end to end, through the final
+ * BaseHandlerStd.handleRequest of its handlers, against a {@link StubDataZoneService} that answers each call after a
+ * simulated latency. An operation that returns IN_PROGRESS is invoked again right away with the model and callback
+ * context of its progress event, the way CloudFormation does after the callback delay, until it completes.
+ * <p>
+ * For each operation it reports, per run of the operation, the wall time, the simulated service time within it, and
+ * what the handlers themselves cost: the CPU time and the bytes allocated on the invoking thread, the number of
+ * DataZone calls and the number of invocations. The handler costs do not depend on the latency, so that a change to
+ * the handlers can be measured at zero latency and its effect on the wall time read at a realistic one.
+ * <p>
+ * Usage: {@code HandlerBenchmark [--latency-millis 10] [--polls 1] [--warmup 2000] [--iterations 200]
+ * [--no-async-overlap] [type filter...]}, e.g. {@code HandlerBenchmark --latency-millis 0 Environment} for the resource
+ * types whose name contains Environment. The warmup runs are made at zero latency. With {@code --no-async-overlap}
+ * the calls of the async client take as long as blocking ones, see {@link StubDataZoneService#setAsyncCallsOverlap}.
+ */
+public final class HandlerBenchmark {
+    // Far more than any stabilization takes, only there so that a handler that never completes stops the run.
+    private static final int MAXIMUM_INVOCATIONS = 100;
+    private static final String ROW_FORMAT = "%-45s %-7s %10s %10s %10s %12s %8s %8s%n";
+
+    private final StubDataZoneService service = new StubDataZoneService();
+    private final StubClientProxy proxy = new StubClientProxy(service);
+    private final LoggerProxy logger = new LoggerProxy();
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private HandlerBenchmark() {
+    }
+
+    public static List<ResourceScenario> scenarios() {
+        return List.of(
+                new software.amazon.datazone.domain.HandlerScenario(),
+                new software.amazon.datazone.project.HandlerScenario(),
+                new software.amazon.datazone.projectmembership.HandlerScenario(),
+                new software.amazon.datazone.userprofile.HandlerScenario(),
+                new software.amazon.datazone.groupprofile.HandlerScenario(),
+                new software.amazon.datazone.environmentblueprintconfiguration.HandlerScenario(),
+                new software.amazon.datazone.environmentprofile.HandlerScenario(),
+                new software.amazon.datazone.environment.HandlerScenario(),
+                new software.amazon.datazone.datasource.HandlerScenario(),
+                new software.amazon.datazone.subscriptiontarget.HandlerScenario());
+    }
+
+    public static void main(final String[] args) {
+        Duration latency = Duration.ofMillis(10);
+        int polls = 1;
+        int warmup = 2000;
+        int iterations = 200;
+        boolean asyncCallsOverlap = true;
+        final List<String> typeFilters = new ArrayList<>();
+        for (int index = 0; index < args.length; index++) {
+            switch (args[index]) {
+                case "--latency-millis":
+                    latency = Duration.ofMillis(Long.parseLong(args[++index]));
+                    break;
+                case "--polls":
+                    polls = Integer.parseInt(args[++index]);
+                    break;
+                case "--warmup":
+                    warmup = Integer.parseInt(args[++index]);
+                    break;
+                case "--iterations":
+                    iterations = Integer.parseInt(args[++index]);
+                    break;
+                case "--no-async-overlap":
+                    asyncCallsOverlap = false;
+                    break;
+                default:
+                    typeFilters.add(args[index]);
+                    break;
+            }
+        }
+
+        final HandlerBenchmark benchmark = new HandlerBenchmark();
+        benchmark.service.setAsyncCallsOverlap(asyncCallsOverlap);
+        final PrintStream out = System.out;
+        out.printf("latency %d ms, %d polls until stable, %d warmup and %d measured runs per operation%s%n",
+                latency.toMillis(), polls, warmup, iterations, asyncCallsOverlap ? "" : ", async calls not overlapping");
+        out.printf(ROW_FORMAT, "resource", "op", "wall ms", "service ms", "cpu ms", "alloc KB", "calls", "invokes");
+        for (final ResourceScenario scenario : scenarios()) {
+            if (!typeFilters.isEmpty() && typeFilters.stream().noneMatch(scenario.typeName()::contains)) {
+                continue;
+            }
+            for (final HandlerOperation operation : scenario.operations(polls)) {
+                benchmark.service.setLatency(Duration.ZERO);
+                for (int run = 0; run < warmup; run++) {
+                    benchmark.run(scenario, operation);
+                }
+                benchmark.service.setLatency(latency);
+                final Measurement total = new Measurement();
+                for (int run = 0; run < iterations; run++) {
+                    total.add(benchmark.run(scenario, operation));
+                }
+                out.printf(ROW_FORMAT, scenario.typeName(), operation.getName(),
+                        format(total.wallNanos / 1e6 / iterations),
+                        format(total.serviceNanos / 1e6 / iterations),
+                        format(total.cpuNanos / 1e6 / iterations),
+                        format(total.allocatedBytes / 1024.0 / iterations),
+                        format((double) total.calls / iterations),
+                        format((double) total.invocations / iterations));
+            }
+        }
+    }
+
+    private Measurement run(final ResourceScenario scenario, final HandlerOperation operation) {
+        service.load(operation.getScript());
+        Object resourceModel = operation.newResourceModel();
+        Object callbackContext = null;
+
+        final long calls = service.calls();
+        final long serviceNanos = service.serviceNanos();
+        final long allocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes();
+        final long cpuNanos = threadMXBean.getCurrentThreadCpuTime();
+        final long wallNanos = System.nanoTime();
+
+        ProgressEvent<?, ?> progressEvent;
+        int invocations = 0;
+        do {
+            progressEvent = operation.invoke(proxy, resourceModel, callbackContext, logger);
+            invocations++;
+            if (progressEvent.getResourceModel() != null) {
+                resourceModel = progressEvent.getResourceModel();
+            }
+            callbackContext = progressEvent.getCallbackContext();
+        } while (progressEvent.getStatus() == OperationStatus.IN_PROGRESS && invocations < MAXIMUM_INVOCATIONS);
+
+        final Measurement measurement = new Measurement();
+        measurement.wallNanos = System.nanoTime() - wallNanos;
+        measurement.cpuNanos = threadMXBean.getCurrentThreadCpuTime() - cpuNanos;
+        measurement.allocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBytes;
+        measurement.serviceNanos = service.serviceNanos() - serviceNanos;
+        measurement.calls = service.calls() - calls;
+        measurement.invocations = invocations;
+
+        if (progressEvent.getStatus() != OperationStatus.SUCCESS) {
+            throw new IllegalStateException(String.format("%s %s ended with %s after %d invocations: %s %s",
+                    scenario.typeName(), operation.getName(), progressEvent.getStatus(), invocations,
+                    progressEvent.getErrorCode(), progressEvent.getMessage()));
+        }
+        return measurement;
+    }
+
+    private static String format(final double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static final class Measurement {
+        private long wallNanos;
+        private long serviceNanos;
+        private long cpuNanos;
+        private long allocatedBytes;
+        private long calls;
+        private long invocations;
+
+        private void add(final Measurement other) {
+            wallNanos += other.wallNanos;
+            serviceNanos += other.serviceNanos;
+            cpuNanos += other.cpuNanos;
+            allocatedBytes += other.allocatedBytes;
+            calls += other.calls;
+            invocations += other.invocations;
+        }
+    }
+}
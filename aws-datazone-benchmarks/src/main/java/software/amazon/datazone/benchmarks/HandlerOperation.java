@@ -0,0 +1,66 @@
+package software.amazon.datazone.benchmarks;
+
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * One handler operation of a resource, e.g. its Create, together with the script of the DataZone calls it makes.
+ * The resource model and the callback context are passed as plain objects, each provider casts them to its own
+ * types, so that a single {@link HandlerBenchmark} runs the handlers of all providers.
+ */
+public final class HandlerOperation {
+    private final String name;
+    private final Map<String, List<Object>> script;
+    private final Supplier<?> resourceModel;
+    private final Invocation invocation;
+
+    /**
+     * @param name          The name of the operation, e.g. Create.
+     * @param script        The responses of the DataZone operations it calls, see {@link StubDataZoneService#load}.
+     * @param resourceModel A new desired resource state for each run, the handlers update it in place.
+     * @param invocation    Calls the final handleRequest of the handler.
+     */
+    public HandlerOperation(final String name,
+                            final Map<String, List<Object>> script,
+                            final Supplier<?> resourceModel,
+                            final Invocation invocation) {
+        this.name = Objects.requireNonNull(name);
+        this.script = Objects.requireNonNull(script);
+        this.resourceModel = Objects.requireNonNull(resourceModel);
+        this.invocation = Objects.requireNonNull(invocation);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Map<String, List<Object>> getScript() {
+        return script;
+    }
+
+    public Object newResourceModel() {
+        return resourceModel.get();
+    }
+
+    public ProgressEvent<?, ?> invoke(final AmazonWebServicesClientProxy proxy,
+                                      final Object resourceModel,
+                                      final Object callbackContext,
+                                      final Logger logger) {
+        return invocation.invoke(proxy, resourceModel, callbackContext, logger);
+    }
+
+    @FunctionalInterface
+    public interface Invocation {
+        /**
+         * @param resourceModel   The desired resource state, the model of the previous progress event on callbacks.
+         * @param callbackContext Null on the first invocation, the context of the previous progress event on callbacks.
+         */
+        ProgressEvent<?, ?> invoke(AmazonWebServicesClientProxy proxy, Object resourceModel, Object callbackContext, Logger logger);
+    }
+}
@@ -0,0 +1,38 @@
+package software.amazon.datazone.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The handler operations of one resource type, run end to end by {@link HandlerBenchmark}. Each provider implements it
+ * as HandlerScenario in its own package.
+ */
+public interface ResourceScenario {
+
+    /**
+     * @return The type name of the resource, e.g. AWS::DataZone::Environment.
+     */
+    String typeName();
+
+    /**
+     * @param pollsUntilStable The number of reads that return a transient status, e.g. CREATING, before the stable one.
+     *                         Each of them makes the handler return IN_PROGRESS and be invoked again.
+     * @return The operations of the resource, in the order of its life cycle.
+     */
+    List<HandlerOperation> operations(int pollsUntilStable);
+
+    /**
+     * Primes the handlers of the resource the way the provider does before a checkpoint of its container.
+     *
+     * @return The time priming took.
+     */
+    Duration prime();
+
+    /**
+     * @return The type the wrapper deserializes the requests of the resource into, the HandlerRequest of its resource
+     * model and callback context.
+     */
+    TypeReference<?> handlerRequestType();
+}
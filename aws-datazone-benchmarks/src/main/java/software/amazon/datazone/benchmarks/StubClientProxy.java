@@ -0,0 +1,59 @@
+package software.amazon.datazone.benchmarks;
+
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.services.datazone.DataZoneAsyncClient;
+import software.amazon.awssdk.services.datazone.DataZoneClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The proxy CloudFormation hands to the handlers, with every client they ask for replaced by the clients of a
+ * {@link StubDataZoneService}. Everything else, e.g. the credentials injection of the calls, stays as it is, so that
+ * its cost is part of what is measured.
+ * <p>
+ * Each invocation passes suppliers of its own, which build clients that record into the cost of that invocation.
+ * They are lambdas of a few call sites, so their class still tells them apart by call site. The client a supplier
+ * builds tells whether the blocking or the async stub goes in its place; it is built and closed once per call site.
+ */
+public final class StubClientProxy extends AmazonWebServicesClientProxy {
+    private static final Credentials CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
+    private static final long REMAINING_TIME_MILLIS = Duration.ofMinutes(15).toMillis();
+
+    private final StubDataZoneService service;
+    private final Map<Class<?>, Object> stubsBySupplier = new ConcurrentHashMap<>();
+
+    public StubClientProxy(final StubDataZoneService service) {
+        super(new LoggerProxy(), CREDENTIALS, () -> REMAINING_TIME_MILLIS);
+        this.service = service;
+        // The builders resolve the region of the client they build, there is none in a plain JVM.
+        if (System.getProperty(SdkSystemSetting.AWS_REGION.property()) == null) {
+            System.setProperty(SdkSystemSetting.AWS_REGION.property(), BenchmarkData.REGION);
+        }
+    }
+
+    @Override
+    public <ClientT> ProxyClient<ClientT> newProxy(final Supplier<ClientT> client) {
+        @SuppressWarnings("unchecked")
+        final ClientT stub = (ClientT) stubsBySupplier.computeIfAbsent(client.getClass(), supplierClass -> stubFor(client.get()));
+        return super.newProxy(() -> stub);
+    }
+
+    private Object stubFor(final Object client) {
+        try (SdkClient builtClient = (SdkClient) client) {
+            if (builtClient instanceof DataZoneAsyncClient) {
+                return service.asyncClient();
+            } else if (builtClient instanceof DataZoneClient) {
+                return service.client();
+            }
+            throw new IllegalArgumentException(String.format("No stub for %s", builtClient.serviceName()));
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package software.amazon.datazone.benchmarks;
+
+import software.amazon.awssdk.services.datazone.DataZoneAsyncClient;
+import software.amazon.awssdk.services.datazone.DataZoneClient;
+import software.amazon.awssdk.services.datazone.model.ResourceNotFoundException;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Stands in for DataZone behind both the blocking and the async client, without any network. Every operation answers
+ * from a script, the responses it returns in order, the last one repeated, so that a resource can be made to go
+ * through its transient statuses or to disappear after it was deleted. A response that is an exception is thrown, or
+ * fails the future of the async client.
+ * <p>
+ * Each call waits for the configured latency, on the calling thread for the blocking client and on a thread of its own
+ * for the async one, and is counted, so that the time and the calls spent in DataZone can be told apart from the work
+ * of the handler itself. A {@link FaultPlan} can then slow the call down further or fail it before it reaches the
+ * script, the way a throttled or failed call never reaches the resource.
+ */
+public final class StubDataZoneService {
+    private static final ExecutorService ASYNC_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "stub-datazone-async");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final DataZoneClient client;
+    private final DataZoneAsyncClient asyncClient;
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong serviceNanos = new AtomicLong();
+    private volatile Map<String, Script> scripts = Map.of();
+    private volatile Duration latency = Duration.ZERO;
+    private volatile FaultPlan faultPlan = FaultPlan.NONE;
+    private volatile boolean asyncCallsOverlap = true;
+
+    public StubDataZoneService() {
+        this.client = (DataZoneClient) Proxy.newProxyInstance(DataZoneClient.class.getClassLoader(),
+                new Class<?>[]{DataZoneClient.class}, (proxy, method, args) -> invoke(method, args, false));
+        this.asyncClient = (DataZoneAsyncClient) Proxy.newProxyInstance(DataZoneAsyncClient.class.getClassLoader(),
+                new Class<?>[]{DataZoneAsyncClient.class}, (proxy, method, args) -> invoke(method, args, true));
+    }
+
+    /**
+     * @return A {@link ResourceNotFoundException} the way DataZone returns it, to be used in scripts.
+     */
+    public static ResourceNotFoundException notFound(final String message) {
+        return ResourceNotFoundException.builder()
+                .message(message)
+                .statusCode(404)
+                .build();
+    }
+
+    /**
+     * @return The script of a read while the resource settles: the transient response the given number of times, then
+     * the final one.
+     */
+    public static List<Object> afterPolls(final int polls, final Object transientResponse, final Object finalResponse) {
+        final List<Object> responses = new ArrayList<>(Collections.nCopies(polls, transientResponse));
+        responses.add(finalResponse);
+        return responses;
+    }
+
+    /**
+     * Replaces the scripts of all operations and starts each of them again from its first response. Operations
+     * without a script fail with an {@link UnsupportedOperationException}.
+     *
+     * @param operationScripts The responses of each operation, keyed by the name of the client method, e.g. getDomain.
+     */
+    public void load(final Map<String, List<Object>> operationScripts) {
+        final Map<String, Script> loaded = new HashMap<>();
+        operationScripts.forEach((operation, responses) -> loaded.put(operation, new Script(responses)));
+        scripts = loaded;
+    }
+
+    /**
+     * @param latency The time each call takes from now on, zero to answer right away.
+     */
+    public void setLatency(final Duration latency) {
+        this.latency = Objects.requireNonNull(latency);
+    }
+
+    /**
+     * @param faultPlan The faults to inject into the calls from now on, {@link FaultPlan#NONE} for none.
+     */
+    public void setFaultPlan(final FaultPlan faultPlan) {
+        this.faultPlan = Objects.requireNonNull(faultPlan);
+    }
+
+    /**
+     * @param asyncCallsOverlap Whether the async client answers on a thread of its own, the default. Without, it
+     *                          answers on the calling thread before it returns the future, so that its calls take as
+     *                          long as the blocking ones: the overlap the handlers gain from the async client is then
+     *                          gone, and the difference in wall time is what it is worth.
+     */
+    public void setAsyncCallsOverlap(final boolean asyncCallsOverlap) {
+        this.asyncCallsOverlap = asyncCallsOverlap;
+    }
+
+    public DataZoneClient client() {
+        return client;
+    }
+
+    public DataZoneAsyncClient asyncClient() {
+        return asyncClient;
+    }
+
+    /**
+     * @return The number of calls made so far, to both clients.
+     */
+    public long calls() {
+        return calls.get();
+    }
+
+    /**
+     * @return The simulated service time of the calls made so far, the overlapping calls of the async client each
+     * counted in full.
+     */
+    public long serviceNanos() {
+        return serviceNanos.get();
+    }
+
+    private Object invoke(final Method method, final Object[] args, final boolean async) {
+        switch (method.getName()) {
+            case "close":
+                // The wrappers close the client after every call, the stub is shared by all of them.
+                return null;
+            case "serviceName":
+                return DataZoneClient.SERVICE_NAME;
+            case "toString":
+                return async ? "StubDataZoneAsyncClient" : "StubDataZoneClient";
+            case "hashCode":
+                return System.identityHashCode(this) + (async ? 1 : 0);
+            case "equals":
+                return args[0] == (async ? asyncClient : client);
+            default:
+                break;
+        }
+        final Script script = scripts.get(method.getName());
+        if (script == null) {
+            throw new UnsupportedOperationException(String.format("%s is not scripted", method.getName()));
+        }
+        if (async && asyncCallsOverlap) {
+            return CompletableFuture.supplyAsync(() -> respond(method.getName(), script), ASYNC_EXECUTOR);
+        } else if (async) {
+            final CompletableFuture<Object> response = new CompletableFuture<>();
+            try {
+                response.complete(respond(method.getName(), script));
+            } catch (final RuntimeException e) {
+                response.completeExceptionally(e);
+            }
+            return response;
+        }
+        return respond(method.getName(), script);
+    }
+
+    private Object respond(final String operation, final Script script) {
+        calls.incrementAndGet();
+        final long start = System.nanoTime();
+        final Object response;
+        try {
+            final long latencyNanos = latency.toNanos();
+            final long deadline = start + latencyNanos;
+            for (long remaining = latencyNanos; remaining > 0; remaining = deadline - System.nanoTime()) {
+                LockSupport.parkNanos(remaining);
+            }
+            faultPlan.apply(operation);
+            response = script.next();
+        } finally {
+            serviceNanos.addAndGet(System.nanoTime() - start);
+        }
+        if (response instanceof RuntimeException) {
+            throw (RuntimeException) response;
+        }
+        return response;
+    }
+
+    /**
+     * Decides, call by call, whether DataZone is slower than usual or fails the call.
+     */
+    @FunctionalInterface
+    public interface FaultPlan {
+        FaultPlan NONE = operation -> {
+        };
+
+        /**
+         * Called once the latency of the call has passed, on the thread that answers it.
+         *
+         * @param operation The name of the client method called, e.g. getDomain.
+         * @throws RuntimeException The exception the call fails with, e.g. a ThrottlingException.
+         */
+        void apply(String operation);
+    }
+
+    private static final class Script {
+        private final List<Object> responses;
+        private final AtomicInteger position = new AtomicInteger();
+
+        private Script(final List<Object> responses) {
+            if (responses.isEmpty()) {
+                throw new IllegalArgumentException("A script needs at least one response");
+            }
+            this.responses = List.copyOf(responses);
+        }
+
+        private Object next() {
+            final int index = position.getAndUpdate(current -> Math.min(current + 1, responses.size() - 1));
+            return responses.get(index);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package software.amazon.datazone.benchmarks.chaos;
+
+import java.time.Duration;
+
+/**
+ * The faults {@link RandomFaultPlan} injects, read from the command line: the share of the DataZone calls that are
+ * throttled, fail with an internal error or a connection reset, and that take a latency spike on top of the usual
+ * latency. Every rate is 0 by default.
+ */
+public final class FaultSettings {
+    private double throttleRate;
+    private double internalErrorRate;
+    private double connectionResetRate;
+    private double latencySpikeRate;
+    private Duration latencySpike = Duration.ofSeconds(2);
+    private long seed = 1;
+
+    /**
+     * Reads the settings from {@code --name value} pairs, an unknown name or a value out of range fails fast instead
+     * of silently falling back to the default.
+     *
+     * @param args The command line.
+     * @return The settings.
+     */
+    public static FaultSettings fromArgs(final String... args) {
+        final FaultSettings settings = new FaultSettings();
+        for (int index = 0; index < args.length; index += 2) {
+            if (index + 1 >= args.length) {
+                throw new IllegalArgumentException(String.format("Missing value for %s", args[index]));
+            }
+            final String value = args[index + 1];
+            switch (args[index]) {
+                case "--throttle-rate":
+                    settings.throttleRate = rate(args[index], value);
+                    break;
+                case "--internal-error-rate":
+                    settings.internalErrorRate = rate(args[index], value);
+                    break;
+                case "--connection-reset-rate":
+                    settings.connectionResetRate = rate(args[index], value);
+                    break;
+                case "--latency-spike-rate":
+                    settings.latencySpikeRate = rate(args[index], value);
+                    break;
+                case "--latency-spike-millis":
+                    settings.latencySpike = Duration.ofMillis(Long.parseLong(value));
+                    if (settings.latencySpike.isNegative()) {
+                        throw new IllegalArgumentException(String.format("%s must not be negative", args[index]));
+                    }
+                    break;
+                case "--seed":
+                    settings.seed = Long.parseLong(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException(String.format("Unknown option %s", args[index]));
+            }
+        }
+        if (settings.throttleRate + settings.internalErrorRate + settings.connectionResetRate > 1) {
+            throw new IllegalArgumentException("The throttle, internal error and connection reset rates add up to more than 1");
+        }
+        return settings;
+    }
+
+    public double getThrottleRate() {
+        return throttleRate;
+    }
+
+    public double getInternalErrorRate() {
+        return internalErrorRate;
+    }
+
+    public double getConnectionResetRate() {
+        return connectionResetRate;
+    }
+
+    public double getLatencySpikeRate() {
+        return latencySpikeRate;
+    }
+
+    public Duration getLatencySpike() {
+        return latencySpike;
+    }
+
+    /**
+     * @return The seed of the random faults, so that two runs of the same build inject the same faults.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("throttle rate %s, internal error rate %s, connection reset rate %s, "
+                        + "latency spike rate %s of %d ms, seed %d", throttleRate, internalErrorRate,
+                connectionResetRate, latencySpikeRate, latencySpike.toMillis(), seed);
+    }
+
+    private static double rate(final String name, final String value) {
+        final double rate = Double.parseDouble(value);
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException(String.format("%s must be between 0 and 1", name));
+        }
+        return rate;
+    }
+}
@@ -0,0 +1,70 @@
+package software.amazon.datazone.benchmarks.chaos;
+
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+
+/**
+ * How one run of a handler operation ended, through all its invocations and retries.
+ */
+final class Outcome {
+    private long elapsedNanos;
+    private int invocations;
+    private int retries;
+    private long calls;
+    private long faults;
+    private HandlerErrorCode errorCode;
+    private String message;
+
+    long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    int getInvocations() {
+        return invocations;
+    }
+
+    int getRetries() {
+        return retries;
+    }
+
+    long getCalls() {
+        return calls;
+    }
+
+    long getFaults() {
+        return faults;
+    }
+
+    boolean isSuccess() {
+        return errorCode == null;
+    }
+
+    /**
+     * @return The error code of the last invocation, null when the operation succeeded.
+     */
+    HandlerErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    String getMessage() {
+        return message;
+    }
+
+    void invoked() {
+        invocations++;
+    }
+
+    void retried() {
+        retries++;
+    }
+
+    void complete(final long elapsedNanos, final long calls, final long faults) {
+        this.elapsedNanos = elapsedNanos;
+        this.calls = calls;
+        this.faults = faults;
+    }
+
+    void fail(final HandlerErrorCode errorCode, final String message) {
+        this.errorCode = errorCode;
+        this.message = message;
+    }
+}
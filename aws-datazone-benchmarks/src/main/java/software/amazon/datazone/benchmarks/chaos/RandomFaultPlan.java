@@ -0,0 +1,82 @@
+package software.amazon.datazone.benchmarks.chaos;
+
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.datazone.model.InternalServerException;
+import software.amazon.awssdk.services.datazone.model.ThrottlingException;
+import software.amazon.datazone.benchmarks.StubDataZoneService;
+
+import java.net.SocketException;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Injects the faults of the {@link FaultSettings} at random, the way they reach the handlers once the retries of the
+ * SDK are exhausted: a {@link ThrottlingException}, an {@link InternalServerException}, or the
+ * {@link SdkClientException} of a connection reset. A latency spike can come on top of any of them.
+ */
+final class RandomFaultPlan implements StubDataZoneService.FaultPlan {
+    private final FaultSettings settings;
+    private final Random random;
+    private final AtomicLong faults = new AtomicLong();
+    private volatile boolean enabled = true;
+
+    RandomFaultPlan(final FaultSettings settings) {
+        this.settings = settings;
+        this.random = new Random(settings.getSeed());
+    }
+
+    /**
+     * @param enabled Whether to inject faults, the calls are answered as scripted while disabled.
+     */
+    void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The number of calls failed so far.
+     */
+    long faults() {
+        return faults.get();
+    }
+
+    @Override
+    public void apply(final String operation) {
+        if (!enabled) {
+            return;
+        }
+        final double spike;
+        final double fault;
+        synchronized (random) {
+            spike = random.nextDouble();
+            fault = random.nextDouble();
+        }
+        if (spike < settings.getLatencySpikeRate()) {
+            LockSupport.parkNanos(settings.getLatencySpike().toNanos());
+        }
+        double threshold = settings.getThrottleRate();
+        if (fault < threshold) {
+            faults.incrementAndGet();
+            throw ThrottlingException.builder()
+                    .message(String.format("Rate exceeded for %s", operation))
+                    .statusCode(429)
+                    .build();
+        }
+        threshold += settings.getInternalErrorRate();
+        if (fault < threshold) {
+            faults.incrementAndGet();
+            throw InternalServerException.builder()
+                    .message(String.format("Internal error in %s", operation))
+                    .statusCode(500)
+                    .build();
+        }
+        threshold += settings.getConnectionResetRate();
+        if (fault < threshold) {
+            faults.incrementAndGet();
+            throw SdkClientException.builder()
+                    .message("Unable to execute HTTP request: Connection reset")
+                    .cause(new SocketException("Connection reset"))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package software.amazon.datazone.benchmarks.chaos;
+
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.datazone.benchmarks.HandlerBenchmark;
+import software.amazon.datazone.benchmarks.HandlerOperation;
+import software.amazon.datazone.benchmarks.ResourceScenario;
+import software.amazon.datazone.benchmarks.StubClientProxy;
+import software.amazon.datazone.benchmarks.StubDataZoneService;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Runs the operations of every resource type end to end, the way {@link HandlerBenchmark} does, while a
+ * {@link RandomFaultPlan} throttles, fails and slows down the DataZone calls, to measure how the stabilizers, the
+ * retried environment deletion and the list handlers hold up under stress.
+ * <p>
+ * An invocation that fails with an error CloudFormation retries, Throttling, ServiceInternalError or NetworkFailure,
+ * is invoked again with the same model and callback context, up to the maximum number of retries; any other failure
+ * ends the run of the operation. Neither the callback delays nor the delays of these retries are waited for, the time
+ * to complete is the time spent in the handlers and in DataZone. Each operation is first run once without faults, its
+ * calls are the baseline of the calls wasted on faults.
+ * <p>
+ * Usage: {@code ResilienceBenchmark [--runs 200] [--latency-millis 10] [--polls 1] [--max-retries 5]
+ * [--throttle-rate 0] [--internal-error-rate 0] [--connection-reset-rate 0] [--latency-spike-rate 0]
+ * [--latency-spike-millis 2000] [--seed 1] [type filter...]}
+ */
+public final class ResilienceBenchmark {
+    // Far more than any stabilization takes, only there so that a handler that never completes stops the run.
+    private static final int MAXIMUM_INVOCATIONS = 100;
+    private static final Set<HandlerErrorCode> RETRIED_ERROR_CODES = EnumSet.of(HandlerErrorCode.Throttling,
+            HandlerErrorCode.ServiceInternalError, HandlerErrorCode.NetworkFailure);
+
+    private final StubDataZoneService service = new StubDataZoneService();
+    private final StubClientProxy proxy = new StubClientProxy(service);
+    private final LoggerProxy logger = new LoggerProxy();
+    private final RandomFaultPlan faultPlan;
+    private final int maxRetries;
+
+    private ResilienceBenchmark(final FaultSettings faultSettings, final int maxRetries) {
+        this.faultPlan = new RandomFaultPlan(faultSettings);
+        this.maxRetries = maxRetries;
+        service.setFaultPlan(faultPlan);
+    }
+
+    public static void main(final String[] args) {
+        int runs = 200;
+        Duration latency = Duration.ofMillis(10);
+        int polls = 1;
+        int maxRetries = 5;
+        final List<String> faultArgs = new ArrayList<>();
+        final List<String> typeFilters = new ArrayList<>();
+        for (int index = 0; index < args.length; index++) {
+            switch (args[index]) {
+                case "--runs":
+                    runs = Integer.parseInt(args[++index]);
+                    break;
+                case "--latency-millis":
+                    latency = Duration.ofMillis(Long.parseLong(args[++index]));
+                    break;
+                case "--polls":
+                    polls = Integer.parseInt(args[++index]);
+                    break;
+                case "--max-retries":
+                    maxRetries = Integer.parseInt(args[++index]);
+                    break;
+                default:
+                    if (args[index].startsWith("--")) {
+                        faultArgs.add(args[index]);
+                        if (index + 1 < args.length) {
+                            faultArgs.add(args[++index]);
+                        }
+                    } else {
+                        typeFilters.add(args[index]);
+                    }
+                    break;
+            }
+        }
+        final FaultSettings faultSettings = FaultSettings.fromArgs(faultArgs.toArray(new String[0]));
+
+        final ResilienceBenchmark benchmark = new ResilienceBenchmark(faultSettings, maxRetries);
+        benchmark.service.setLatency(latency);
+        final PrintStream out = System.out;
+        out.printf("latency %d ms, %d polls until stable, %d runs per operation, at most %d retries%n%s%n",
+                latency.toMillis(), polls, runs, maxRetries, faultSettings);
+        final ResilienceReport report = new ResilienceReport();
+        for (final ResourceScenario scenario : HandlerBenchmark.scenarios()) {
+            if (!typeFilters.isEmpty() && typeFilters.stream().noneMatch(scenario.typeName()::contains)) {
+                continue;
+            }
+            for (final HandlerOperation operation : scenario.operations(polls)) {
+                benchmark.faultPlan.setEnabled(false);
+                final Outcome baseline = benchmark.run(operation);
+                if (!baseline.isSuccess()) {
+                    throw new IllegalStateException(String.format("%s %s fails without faults: %s %s",
+                            scenario.typeName(), operation.getName(), baseline.getErrorCode(), baseline.getMessage()));
+                }
+                benchmark.faultPlan.setEnabled(true);
+                for (int run = 0; run < runs; run++) {
+                    report.record(scenario.typeName(), operation.getName(), baseline.getCalls(), benchmark.run(operation));
+                }
+            }
+        }
+        report.print(out);
+    }
+
+    private Outcome run(final HandlerOperation operation) {
+        service.load(operation.getScript());
+        Object resourceModel = operation.newResourceModel();
+        Object callbackContext = null;
+
+        final Outcome outcome = new Outcome();
+        final long calls = service.calls();
+        final long faults = faultPlan.faults();
+        final long start = System.nanoTime();
+        while (true) {
+            ProgressEvent<?, ?> progressEvent;
+            try {
+                progressEvent = operation.invoke(proxy, resourceModel, callbackContext, logger);
+            } catch (final BaseHandlerException exception) {
+                progressEvent = ProgressEvent.failed(resourceModel, callbackContext, exception.getErrorCode(), exception.getMessage());
+            } catch (final RuntimeException exception) {
+                // The wrapper of the handlers reports any other exception as an internal failure.
+                progressEvent = ProgressEvent.failed(resourceModel, callbackContext, HandlerErrorCode.InternalFailure, exception.toString());
+            }
+            outcome.invoked();
+            if (progressEvent.getResourceModel() != null) {
+                resourceModel = progressEvent.getResourceModel();
+            }
+            callbackContext = progressEvent.getCallbackContext();
+
+            if (progressEvent.getStatus() == OperationStatus.SUCCESS) {
+                break;
+            } else if (progressEvent.getStatus() == OperationStatus.IN_PROGRESS) {
+                if (outcome.getInvocations() >= MAXIMUM_INVOCATIONS) {
+                    outcome.fail(HandlerErrorCode.NotStabilized,
+                            String.format("Still IN_PROGRESS after %d invocations", outcome.getInvocations()));
+                    break;
+                }
+            } else if (RETRIED_ERROR_CODES.contains(progressEvent.getErrorCode()) && outcome.getRetries() < maxRetries) {
+                outcome.retried();
+            } else {
+                outcome.fail(progressEvent.getErrorCode(), progressEvent.getMessage());
+                break;
+            }
+        }
+        outcome.complete(System.nanoTime() - start, service.calls() - calls, faultPlan.faults() - faults);
+        return outcome;
+    }
+}
@@ -0,0 +1,110 @@
+package software.amazon.datazone.benchmarks.chaos;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * What the runs of each operation took under faults: the distribution of their time to complete, their invocations,
+ * the retries CloudFormation would have made, their DataZone calls and the calls among them that were wasted, i.e.
+ * the calls of a run beyond those of the same operation without faults, and all the calls of a run that failed.
+ */
+final class ResilienceReport {
+    private static final String ROW_FORMAT = "%-45s %-11s %5s %6s %9s %9s %9s %9s %8s %8s %8s %8s %8s%n";
+
+    private final Map<String, Outcomes> outcomes = new LinkedHashMap<>();
+    private final Map<String, Integer> errors = new TreeMap<>();
+
+    void record(final String typeName, final String operation, final long baselineCalls, final Outcome outcome) {
+        outcomes.computeIfAbsent(typeName + " " + operation, key -> new Outcomes(typeName, operation, baselineCalls))
+                .record(outcome);
+        if (!outcome.isSuccess()) {
+            errors.merge(String.format("%s %s %s: %s", typeName, operation, outcome.getErrorCode(),
+                    abbreviate(outcome.getMessage())), 1, Integer::sum);
+        }
+    }
+
+    void print(final PrintStream out) {
+        out.printf(ROW_FORMAT, "resource", "op", "runs", "failed", "p50 ms", "p90 ms", "p99 ms", "max ms", "invokes",
+                "retries", "calls", "wasted", "faults");
+        for (final Outcomes outcome : outcomes.values()) {
+            outcome.print(out);
+        }
+        if (!errors.isEmpty()) {
+            out.println("failures:");
+            errors.forEach((error, count) -> out.printf("%8d  %s%n", count, error));
+        }
+    }
+
+    private static String abbreviate(final String message) {
+        // Messages often carry ids or request ids, only their start groups the failures of the same cause.
+        if (message == null) {
+            return "";
+        }
+        return message.length() > 120 ? message.substring(0, 120) + "..." : message;
+    }
+
+    /**
+     * The runs of one operation of one resource type.
+     */
+    private static final class Outcomes {
+        private final String typeName;
+        private final String operation;
+        private final long baselineCalls;
+        private final List<Long> elapsedNanos = new ArrayList<>();
+        private long invocations;
+        private long retries;
+        private long calls;
+        private long wastedCalls;
+        private long faults;
+        private int failed;
+
+        private Outcomes(final String typeName, final String operation, final long baselineCalls) {
+            this.typeName = typeName;
+            this.operation = operation;
+            this.baselineCalls = baselineCalls;
+        }
+
+        private void record(final Outcome outcome) {
+            elapsedNanos.add(outcome.getElapsedNanos());
+            invocations += outcome.getInvocations();
+            retries += outcome.getRetries();
+            calls += outcome.getCalls();
+            faults += outcome.getFaults();
+            if (outcome.isSuccess()) {
+                wastedCalls += Math.max(0, outcome.getCalls() - baselineCalls);
+            } else {
+                wastedCalls += outcome.getCalls();
+                failed++;
+            }
+        }
+
+        private void print(final PrintStream out) {
+            final List<Long> sorted = new ArrayList<>(elapsedNanos);
+            Collections.sort(sorted);
+            final int runs = sorted.size();
+            out.printf(ROW_FORMAT, typeName, operation, runs, failed,
+                    millis(percentile(sorted, 0.5)), millis(percentile(sorted, 0.9)),
+                    millis(percentile(sorted, 0.99)), millis(sorted.get(runs - 1)),
+                    format((double) invocations / runs), format((double) retries / runs),
+                    format((double) calls / runs), format((double) wastedCalls / runs), format((double) faults / runs));
+        }
+
+        private static long percentile(final List<Long> sorted, final double percentile) {
+            return sorted.get((int) Math.ceil(percentile * sorted.size()) - 1);
+        }
+
+        private static String millis(final long nanos) {
+            return format(nanos / 1e6);
+        }
+
+        private static String format(final double value) {
+            return String.format(Locale.ROOT, "%.2f", value);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package software.amazon.datazone.benchmarks.coldstart;
+
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.datazone.benchmarks.HandlerBenchmark;
+import software.amazon.datazone.benchmarks.HandlerOperation;
+import software.amazon.datazone.benchmarks.ResourceScenario;
+import software.amazon.datazone.benchmarks.StubClientProxy;
+import software.amazon.datazone.benchmarks.StubDataZoneService;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Measures the cold start of the handlers of every resource type, without and with the priming their provider runs
+ * before a checkpoint of its container. Each measurement is made in a fresh JVM: it constructs the handlers, the way
+ * the wrapper does in the init phase, primes them or not, and then times the first and the second Read against a
+ * {@link StubDataZoneService} at zero latency.
+ * <p>
+ * The first Read of an unprimed JVM is what the first invocation of a regular cold start pays. With priming before a
+ * checkpoint, e.g. Lambda SnapStart, the priming time is spent before the snapshot is taken, and the first Read of a
+ * primed JVM is what the first invocation after a restore pays. The second Read is the warm reference.
+ * <p>
+ * Usage: {@code ColdStartBenchmark [--forks 5] [--jvm-arg -XX:TieredStopAtLevel=1...] [type filter...]}
+ */
+public final class ColdStartBenchmark {
+    private static final String CHILD = "--child";
+    private static final String RESULT = "cold-start";
+    private static final String ROW_FORMAT = "%-45s %-9s %6s %10s %10s %10s %10s%n";
+
+    private ColdStartBenchmark() {
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        if (args.length == 3 && CHILD.equals(args[0])) {
+            measure(args[1], Boolean.parseBoolean(args[2]));
+            return;
+        }
+        int forks = 5;
+        final List<String> jvmArgs = new ArrayList<>();
+        final List<String> typeFilters = new ArrayList<>();
+        for (int index = 0; index < args.length; index++) {
+            switch (args[index]) {
+                case "--forks":
+                    forks = Integer.parseInt(args[++index]);
+                    break;
+                case "--jvm-arg":
+                    jvmArgs.add(args[++index]);
+                    break;
+                default:
+                    typeFilters.add(args[index]);
+                    break;
+            }
+        }
+
+        final PrintStream out = System.out;
+        out.printf("%d forks per resource type and mode, medians%n", forks);
+        out.printf(ROW_FORMAT, "resource", "mode", "forks", "prime ms", "first ms", "second ms", "uptime ms");
+        for (final ResourceScenario scenario : HandlerBenchmark.scenarios()) {
+            if (!typeFilters.isEmpty() && typeFilters.stream().noneMatch(scenario.typeName()::contains)) {
+                continue;
+            }
+            for (final boolean primed : new boolean[]{false, true}) {
+                final List<long[]> results = new ArrayList<>();
+                for (int fork = 0; fork < forks; fork++) {
+                    results.add(fork(scenario.typeName(), primed, jvmArgs));
+                }
+                out.printf(ROW_FORMAT, scenario.typeName(), primed ? "primed" : "unprimed", forks,
+                        millis(median(results, 0)), millis(median(results, 1)), millis(median(results, 2)),
+                        millis(median(results, 3)));
+            }
+        }
+    }
+
+    /**
+     * Runs one measurement in a fresh JVM, with the class path of this one.
+     *
+     * @return The priming, first Read, second Read and JVM uptime nanoseconds of the fork.
+     */
+    private static long[] fork(final String typeName, final boolean primed, final List<String> jvmArgs)
+            throws IOException, InterruptedException {
+        final List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command()
+                .orElse(System.getProperty("java.home") + "/bin/java"));
+        command.addAll(jvmArgs);
+        command.addAll(List.of("-cp", System.getProperty("java.class.path"), ColdStartBenchmark.class.getName(),
+                CHILD, typeName, String.valueOf(primed)));
+        final ProcessBuilder processBuilder = new ProcessBuilder(command)
+                .redirectError(ProcessBuilder.Redirect.INHERIT);
+        final Process process = processBuilder.start();
+
+        long[] result = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(RESULT + " ")) {
+                    result = Arrays.stream(line.substring(RESULT.length() + 1).split(" "))
+                            .mapToLong(Long::parseLong)
+                            .toArray();
+                }
+            }
+        }
+        final int exitCode = process.waitFor();
+        if (exitCode != 0 || result == null) {
+            throw new IllegalStateException(String.format("Fork for %s exited with %d without a result", typeName, exitCode));
+        }
+        return result;
+    }
+
+    /**
+     * Makes the measurement of a fork, and prints it on a line of its own for {@link #fork} to read.
+     */
+    private static void measure(final String typeName, final boolean primed) {
+        final ResourceScenario scenario = HandlerBenchmark.scenarios().stream()
+                .filter(candidate -> candidate.typeName().equals(typeName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(String.format("No scenario for %s", typeName)));
+        final StubDataZoneService service = new StubDataZoneService();
+        // Sets the region the client builders resolve, before anything builds a client.
+        final StubClientProxy proxy = new StubClientProxy(service);
+        final LoggerProxy logger = new LoggerProxy();
+        final HandlerOperation read = scenario.operations(1).stream()
+                .filter(operation -> "Read".equals(operation.getName()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(String.format("No Read for %s", typeName)));
+
+        final long primeNanos = primed ? scenario.prime().toNanos() : 0;
+        final long firstNanos = timeRead(service, proxy, read, logger);
+        final long secondNanos = timeRead(service, proxy, read, logger);
+        final long uptimeNanos = Duration.ofMillis(ManagementFactory.getRuntimeMXBean().getUptime()).toNanos();
+        System.out.printf("%s %d %d %d %d%n", RESULT, primeNanos, firstNanos, secondNanos, uptimeNanos);
+    }
+
+    private static long timeRead(final StubDataZoneService service, final StubClientProxy proxy,
+                                 final HandlerOperation read, final LoggerProxy logger) {
+        service.load(read.getScript());
+        final Object resourceModel = read.newResourceModel();
+        final long start = System.nanoTime();
+        final ProgressEvent<?, ?> progressEvent = read.invoke(proxy, resourceModel, null, logger);
+        final long elapsed = System.nanoTime() - start;
+        if (progressEvent.getStatus() != OperationStatus.SUCCESS) {
+            throw new IllegalStateException(String.format("Read ended with %s: %s %s", progressEvent.getStatus(),
+                    progressEvent.getErrorCode(), progressEvent.getMessage()));
+        }
+        return elapsed;
+    }
+
+    private static long median(final List<long[]> results, final int column) {
+        final long[] values = results.stream().mapToLong(result -> result[column]).sorted().toArray();
+        return values[values.length / 2];
+    }
+
+    private static String millis(final long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1e6);
+    }
+}
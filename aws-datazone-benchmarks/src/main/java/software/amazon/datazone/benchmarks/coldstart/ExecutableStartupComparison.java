@@ -0,0 +1,153 @@
+package software.amazon.datazone.benchmarks.coldstart;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the startup of the executable entrypoint of a provider built for the JVM and built as a native executable:
+ * each run starts the executable with a handler request, the way container-based handler execution does, and measures
+ * the time until it exits and its peak resident set size.
+ * <p>
+ * The peak RSS is the VmHWM of /proc/[pid]/status, sampled every millisecond until the process exits, so the
+ * comparison runs on Linux only. Point the providers at a stand-in or a replay file through their environment, which
+ * the runs inherit, to keep DataZone out of the measurement.
+ * <p>
+ * Usage: {@code ExecutableStartupComparison --request request.json [--runs 10] [--native path/to/executable]
+ * [--jar path/to/provider.jar --main-class ...HandlerWrapperExecutable] [--jvm-arg -XX:TieredStopAtLevel=1...]}
+ */
+public final class ExecutableStartupComparison {
+    private static final String START_RESPONSE = "__CFN_RESOURCE_START_RESPONSE__";
+    private static final String ROW_FORMAT = "%-8s %5s %10s %10s %10s %10s%n";
+
+    private ExecutableStartupComparison() {
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        Path request = null;
+        int runs = 10;
+        String nativeExecutable = null;
+        String jar = null;
+        String mainClass = null;
+        final List<String> jvmArgs = new ArrayList<>();
+        for (int index = 0; index < args.length; index++) {
+            switch (args[index]) {
+                case "--request":
+                    request = Path.of(args[++index]);
+                    break;
+                case "--runs":
+                    runs = Integer.parseInt(args[++index]);
+                    break;
+                case "--native":
+                    nativeExecutable = args[++index];
+                    break;
+                case "--jar":
+                    jar = args[++index];
+                    break;
+                case "--main-class":
+                    mainClass = args[++index];
+                    break;
+                case "--jvm-arg":
+                    jvmArgs.add(args[++index]);
+                    break;
+                default:
+                    throw new IllegalArgumentException(String.format("Unknown argument %s", args[index]));
+            }
+        }
+        if (request == null || (nativeExecutable == null && jar == null) || (jar != null && mainClass == null)) {
+            throw new IllegalArgumentException("Expected --request, and --native or --jar with --main-class");
+        }
+        final String payload = Files.readString(request, StandardCharsets.UTF_8);
+
+        final Map<String, List<String>> commands = new LinkedHashMap<>();
+        if (jar != null) {
+            final List<String> command = new ArrayList<>();
+            command.add(ProcessHandle.current().info().command()
+                    .orElse(System.getProperty("java.home") + "/bin/java"));
+            command.addAll(jvmArgs);
+            command.addAll(List.of("-cp", jar, mainClass));
+            commands.put("jvm", command);
+        }
+        if (nativeExecutable != null) {
+            commands.put("native", List.of(nativeExecutable));
+        }
+
+        final PrintStream out = System.out;
+        out.printf("%d runs per build, medians and maxima%n", runs);
+        out.printf(ROW_FORMAT, "build", "runs", "p50 ms", "max ms", "p50 RSS MB", "max RSS MB");
+        for (final Map.Entry<String, List<String>> command : commands.entrySet()) {
+            final long[] elapsedNanos = new long[runs];
+            final long[] peakKilobytes = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                final long[] result = run(command.getValue(), payload);
+                elapsedNanos[run] = result[0];
+                peakKilobytes[run] = result[1];
+            }
+            Arrays.sort(elapsedNanos);
+            Arrays.sort(peakKilobytes);
+            out.printf(ROW_FORMAT, command.getKey(), runs,
+                    format(elapsedNanos[runs / 2] / 1e6), format(elapsedNanos[runs - 1] / 1e6),
+                    format(peakKilobytes[runs / 2] / 1024.0), format(peakKilobytes[runs - 1] / 1024.0));
+        }
+    }
+
+    /**
+     * @return The nanoseconds until the process exited and its peak RSS in kilobytes.
+     */
+    private static long[] run(final List<String> command, final String payload) throws IOException, InterruptedException {
+        final List<String> commandWithRequest = new ArrayList<>(command);
+        commandWithRequest.add(payload);
+        final long start = System.nanoTime();
+        final Process process = new ProcessBuilder(commandWithRequest)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        final CompletableFuture<String> output = CompletableFuture.supplyAsync(() -> readFully(process.getInputStream()));
+
+        final Path status = Path.of("/proc", String.valueOf(process.pid()), "status");
+        long peakKilobytes = 0;
+        while (!process.waitFor(1, TimeUnit.MILLISECONDS)) {
+            peakKilobytes = Math.max(peakKilobytes, peakKilobytes(status));
+        }
+        final long elapsed = System.nanoTime() - start;
+        if (process.exitValue() != 0 || !output.join().contains(START_RESPONSE)) {
+            throw new IllegalStateException(String.format("%s exited with %d without a response", command.get(0), process.exitValue()));
+        }
+        return new long[]{elapsed, peakKilobytes};
+    }
+
+    private static long peakKilobytes(final Path status) {
+        try {
+            for (final String line : Files.readAllLines(status, StandardCharsets.UTF_8)) {
+                if (line.startsWith("VmHWM:")) {
+                    return Long.parseLong(line.substring("VmHWM:".length()).replace("kB", "").trim());
+                }
+            }
+        } catch (final IOException exited) {
+            // The process exited between two samples, the last one stands.
+        }
+        return 0;
+    }
+
+    private static String readFully(final InputStream inputStream) {
+        try (InputStream input = inputStream) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (final IOException exception) {
+            throw new IllegalStateException("Unable to read the output of the executable", exception);
+        }
+    }
+
+    private static String format(final double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+}
@@ -0,0 +1,88 @@
+package software.amazon.datazone.benchmarks.rollout;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Lambda context of a simulated invocation. The handler logs are dropped: at thousands of invocations they would
+ * only slow the run down and bury its report.
+ */
+final class LoadContext implements Context {
+    private static final LambdaLogger DISCARDING_LOGGER = new LambdaLogger() {
+        @Override
+        public void log(final String message) {
+        }
+
+        public void log(final byte[] message) {
+        }
+    };
+
+    private final String region;
+    private final String functionName;
+    private final String awsRequestId = UUID.randomUUID().toString();
+
+    LoadContext(final String region, final String typeName) {
+        this.region = region;
+        this.functionName = typeName.replace("::", "-");
+    }
+
+    @Override
+    public String getAwsRequestId() {
+        return awsRequestId;
+    }
+
+    @Override
+    public String getLogGroupName() {
+        return "/aws/lambda/" + functionName;
+    }
+
+    @Override
+    public String getLogStreamName() {
+        return awsRequestId;
+    }
+
+    @Override
+    public String getFunctionName() {
+        return functionName;
+    }
+
+    @Override
+    public String getFunctionVersion() {
+        return "$LATEST";
+    }
+
+    @Override
+    public String getInvokedFunctionArn() {
+        return String.format("arn:aws:lambda:%s:%s:function:%s", region, StackTemplate.ACCOUNT_ID, functionName);
+    }
+
+    @Override
+    public CognitoIdentity getIdentity() {
+        return null;
+    }
+
+    @Override
+    public ClientContext getClientContext() {
+        return null;
+    }
+
+    @Override
+    public int getRemainingTimeInMillis() {
+        return (int) TimeUnit.MINUTES.toMillis(15);
+    }
+
+    @Override
+    public int getMemoryLimitInMB() {
+        return 512;
+    }
+
+    @Override
+    public LambdaLogger getLogger() {
+        return DISCARDING_LOGGER;
+    }
+}
@@ -0,0 +1,98 @@
+package software.amazon.datazone.benchmarks.rollout;
+
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * One resource of a {@link StackTemplate}, as CloudFormation sees it: its logical id, its type, the resources it
+ * depends on and its properties, which may refer to the models of the resources it depends on.
+ */
+final class ResourceDeclaration {
+
+    /**
+     * The properties of a resource in the template.
+     */
+    @FunctionalInterface
+    interface Properties {
+        /**
+         * @param stackName Name of the stack the resource is in, to keep names unique across stacks.
+         * @param models    Models of the resources of the stack that exist, by logical id.
+         */
+        ObjectNode of(String stackName, Map<String, ObjectNode> models);
+    }
+
+    private final String logicalId;
+    private final String typeName;
+    private final List<String> dependsOn;
+    private final List<String> primaryIdentifier;
+    private final ThreadLocal<RequestStreamHandler> handlerWrappers;
+    private final Properties properties;
+    private final UnaryOperator<ObjectNode> update;
+
+    /**
+     * @param logicalId         Logical id of the resource, also the key of its model.
+     * @param typeName          Type of the resource, such as AWS::DataZone::Project.
+     * @param dependsOn         Logical ids of the resources that have to exist before it is created.
+     * @param primaryIdentifier Properties CloudFormation adds to the template properties on update.
+     * @param handlerWrapper    Creates the HandlerWrapper of the resource type. A wrapper serves one invocation at a
+     *                          time, like a Lambda execution environment, so each worker thread gets its own.
+     * @param properties        Properties of the resource in the template.
+     * @param update            Changes the properties for an update of the stack, null when the stack never updates
+     *                          the resource.
+     */
+    ResourceDeclaration(final String logicalId,
+                        final String typeName,
+                        final List<String> dependsOn,
+                        final List<String> primaryIdentifier,
+                        final Supplier<RequestStreamHandler> handlerWrapper,
+                        final Properties properties,
+                        final UnaryOperator<ObjectNode> update) {
+        this.logicalId = logicalId;
+        this.typeName = typeName;
+        this.dependsOn = dependsOn;
+        this.primaryIdentifier = primaryIdentifier;
+        this.handlerWrappers = ThreadLocal.withInitial(handlerWrapper);
+        this.properties = properties;
+        this.update = update;
+    }
+
+    String getLogicalId() {
+        return logicalId;
+    }
+
+    String getTypeName() {
+        return typeName;
+    }
+
+    List<String> getDependsOn() {
+        return dependsOn;
+    }
+
+    List<String> getPrimaryIdentifier() {
+        return primaryIdentifier;
+    }
+
+    /**
+     * @return The HandlerWrapper of the calling thread.
+     */
+    RequestStreamHandler handlerWrapper() {
+        return handlerWrappers.get();
+    }
+
+    ObjectNode properties(final String stackName, final Map<String, ObjectNode> models) {
+        return properties.of(stackName, models);
+    }
+
+    boolean isUpdatable() {
+        return update != null;
+    }
+
+    ObjectNode updatedProperties(final String stackName, final Map<String, ObjectNode> models) {
+        return update.apply(properties(stackName, models));
+    }
+}
@@ -0,0 +1,175 @@
+package software.amazon.datazone.benchmarks.rollout;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * One CloudFormation operation on one resource, such as the CREATE of the environment of a stack, carried out the way
+ * CloudFormation does: it invokes the HandlerWrapper of the resource type with a serialized handler request, and as
+ * long as the handler answers IN_PROGRESS invokes it again after the callbackDelaySeconds of the answer, with the
+ * callbackContext of the answer, until the operation succeeds or fails.
+ */
+final class ResourceOperation {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final StackRolloutLoadGenerator generator;
+    private final ResourceDeclaration resource;
+    private final String action;
+    private final String stackId;
+    private final ObjectNode desiredProperties;
+    private final ObjectNode previousProperties;
+    private final Consumer<ResourceOperation> onCompletion;
+    private final String clientRequestToken = UUID.randomUUID().toString();
+
+    private JsonNode callbackContext;
+    private int invocations;
+    private long startNanos;
+    private long elapsedNanos;
+    private ObjectNode response;
+
+    /**
+     * @param action             CREATE, UPDATE or DELETE.
+     * @param desiredProperties  Properties of the resource after the operation, the current model on DELETE.
+     * @param previousProperties Properties of the resource before an UPDATE, null otherwise.
+     * @param onCompletion       Called once, on a worker thread, when the operation succeeded or failed.
+     */
+    ResourceOperation(final StackRolloutLoadGenerator generator,
+                      final ResourceDeclaration resource,
+                      final String action,
+                      final String stackId,
+                      final ObjectNode desiredProperties,
+                      final ObjectNode previousProperties,
+                      final Consumer<ResourceOperation> onCompletion) {
+        this.generator = generator;
+        this.resource = resource;
+        this.action = action;
+        this.stackId = stackId;
+        this.desiredProperties = desiredProperties;
+        this.previousProperties = previousProperties;
+        this.onCompletion = onCompletion;
+    }
+
+    void start() {
+        startNanos = System.nanoTime();
+        generator.submit(this::invoke);
+    }
+
+    ResourceDeclaration getResource() {
+        return resource;
+    }
+
+    String getAction() {
+        return action;
+    }
+
+    int getInvocations() {
+        return invocations;
+    }
+
+    long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    boolean isSuccess() {
+        return "SUCCESS".equals(response.path("status").asText());
+    }
+
+    /**
+     * @return The error code of a failed operation, such as NotStabilized.
+     */
+    String getErrorCode() {
+        return response.path("errorCode").asText("InternalFailure");
+    }
+
+    String getMessage() {
+        return response.path("message").asText("");
+    }
+
+    /**
+     * @return The model of the resource after a successful operation.
+     */
+    ObjectNode getResourceModel() {
+        final JsonNode model = response.get("resourceModel");
+        return model != null && model.isObject() ? (ObjectNode) model : desiredProperties;
+    }
+
+    private void invoke() {
+        invocations++;
+        response = handle(request());
+        final String status = response.path("status").asText();
+        if ("IN_PROGRESS".equals(status) && invocations < generator.getMaxInvocations()) {
+            callbackContext = response.get("callbackContext");
+            generator.scheduleCallback(this::invoke, response.path("callbackDelaySeconds").asInt(0));
+            return;
+        }
+        if ("IN_PROGRESS".equals(status)) {
+            response = failure("NotStabilized",
+                    String.format("Still IN_PROGRESS after %d invocations", invocations));
+        }
+        elapsedNanos = System.nanoTime() - startNanos;
+        onCompletion.accept(this);
+    }
+
+    private ObjectNode handle(final ObjectNode request) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            resource.handlerWrapper().handleRequest(new ByteArrayInputStream(MAPPER.writeValueAsBytes(request)), output,
+                    new LoadContext(generator.getRegion(), resource.getTypeName()));
+            final JsonNode answer = MAPPER.readTree(output.toByteArray());
+            return answer != null && answer.isObject()
+                    ? (ObjectNode) answer
+                    : failure("InternalFailure", "The HandlerWrapper answered " + output);
+        } catch (final IOException | RuntimeException e) {
+            // A wrapper that throws instead of answering with a FAILED event is a finding of the run, not its end.
+            return failure("InternalFailure", e.toString());
+        }
+    }
+
+    /**
+     * @return The handler request CloudFormation sends to the HandlerWrapper. The caller credentials are named after
+     * the resource type and action, so that the stand-in can attribute the DataZone calls they sign.
+     */
+    private ObjectNode request() {
+        final ObjectNode request = MAPPER.createObjectNode()
+                .put("awsAccountId", StackTemplate.ACCOUNT_ID)
+                .put("bearerToken", clientRequestToken)
+                .put("region", generator.getRegion())
+                .put("action", action)
+                .put("resourceType", resource.getTypeName())
+                .put("resourceTypeVersion", "00000001")
+                .put("stackId", stackId);
+        request.set("callbackContext", callbackContext);
+        final ObjectNode requestData = request.putObject("requestData")
+                .put("logicalResourceId", resource.getLogicalId());
+        requestData.putObject("callerCredentials")
+                .put("accessKeyId", accessKeyId(resource.getTypeName(), action))
+                .put("secretAccessKey", "load-generator")
+                .put("sessionToken", "load-generator");
+        requestData.set("resourceProperties", desiredProperties);
+        requestData.set("previousResourceProperties", previousProperties);
+        requestData.putObject("stackTags").put("aws:cloudformation:stack-id", stackId);
+        request.putObject("requestContext").put("invocation", invocations);
+        return request;
+    }
+
+    /**
+     * @return The access key id the operations of the resource type and action sign their DataZone calls with.
+     */
+    static String accessKeyId(final String typeName, final String action) {
+        return typeName.substring(typeName.lastIndexOf(':') + 1) + "-" + action;
+    }
+
+    private static ObjectNode failure(final String errorCode, final String message) {
+        return MAPPER.createObjectNode()
+                .put("status", "FAILED")
+                .put("errorCode", errorCode)
+                .put("message", message);
+    }
+}
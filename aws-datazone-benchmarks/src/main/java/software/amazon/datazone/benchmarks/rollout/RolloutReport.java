@@ -0,0 +1,120 @@
+package software.amazon.datazone.benchmarks.rollout;
+
+import software.amazon.datazone.benchmarks.standin.StandInServer;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * What the operations of a run took, per resource type and action: the distribution of their time to complete, their
+ * invocations, and the DataZone calls they made and how many of those were throttled, as counted by the stand-in.
+ */
+final class RolloutReport {
+    private static final String ROW_FORMAT = "%-50s %-6s %6s %6s %8s %8s %8s %8s %8s %8s %9s%n";
+
+    private final Map<String, Outcomes> outcomes = new ConcurrentSkipListMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final AtomicInteger stacks = new AtomicInteger();
+    private final AtomicInteger failedStacks = new AtomicInteger();
+
+    void record(final ResourceOperation operation) {
+        final Outcomes outcome = outcomes.computeIfAbsent(
+                operation.getResource().getTypeName() + " " + operation.getAction(),
+                key -> new Outcomes(operation.getResource().getTypeName(), operation.getAction()));
+        outcome.record(operation);
+        if (!operation.isSuccess()) {
+            errors.computeIfAbsent(String.format("%s %s %s: %s", operation.getResource().getTypeName(),
+                    operation.getAction(), operation.getErrorCode(), abbreviate(operation.getMessage())),
+                    key -> new LongAdder()).increment();
+        }
+    }
+
+    void recordStack(final StackRollout stack) {
+        stacks.incrementAndGet();
+        if (stack.isFailed()) {
+            failedStacks.incrementAndGet();
+        }
+    }
+
+    int getCompletedStacks() {
+        return stacks.get();
+    }
+
+    void print(final PrintStream out, final StandInServer standIn, final long elapsedNanos) {
+        out.printf("%d stacks in %.1f s, %d with a failed operation%n", stacks.get(), elapsedNanos / 1e9,
+                failedStacks.get());
+        out.printf(ROW_FORMAT, "resource", "action", "ops", "failed", "p50 s", "p90 s", "p99 s", "max s", "invokes",
+                "calls", "throttled");
+        for (final Outcomes outcome : outcomes.values()) {
+            outcome.print(out, standIn);
+        }
+        if (!errors.isEmpty()) {
+            out.println("failures:");
+            new TreeMap<>(errors).forEach((error, count) -> out.printf("%8d  %s%n", count.sum(), error));
+        }
+    }
+
+    private static String abbreviate(final String message) {
+        // Messages often carry ids or request ids, only their start groups the failures of the same cause.
+        return message.length() > 120 ? message.substring(0, 120) + "..." : message;
+    }
+
+    /**
+     * The operations of one resource type and action.
+     */
+    private static final class Outcomes {
+        private final String typeName;
+        private final String action;
+        private final List<Long> elapsedNanos = new ArrayList<>();
+        private long invocations;
+        private int failed;
+
+        private Outcomes(final String typeName, final String action) {
+            this.typeName = typeName;
+            this.action = action;
+        }
+
+        private synchronized void record(final ResourceOperation operation) {
+            elapsedNanos.add(operation.getElapsedNanos());
+            invocations += operation.getInvocations();
+            if (!operation.isSuccess()) {
+                failed++;
+            }
+        }
+
+        private synchronized void print(final PrintStream out, final StandInServer standIn) {
+            final List<Long> sorted = new ArrayList<>(elapsedNanos);
+            Collections.sort(sorted);
+            final int operations = sorted.size();
+            final String accessKeyId = ResourceOperation.accessKeyId(typeName, action);
+            final long calls = standIn.requestsFrom(accessKeyId);
+            final long throttled = standIn.throttledRequestsFrom(accessKeyId);
+            out.printf(ROW_FORMAT, typeName, action, operations, failed,
+                    seconds(percentile(sorted, 0.5)), seconds(percentile(sorted, 0.9)),
+                    seconds(percentile(sorted, 0.99)), seconds(sorted.get(operations - 1)),
+                    format((double) invocations / operations), format((double) calls / operations),
+                    calls == 0 ? "-" : String.format(Locale.ROOT, "%.2f%%", 100.0 * throttled / calls));
+        }
+
+        private static long percentile(final List<Long> sorted, final double percentile) {
+            return sorted.get((int) Math.ceil(percentile * sorted.size()) - 1);
+        }
+
+        private static String seconds(final long nanos) {
+            return format(nanos / 1e9);
+        }
+
+        private static String format(final double value) {
+            return String.format(Locale.ROOT, "%.2f", value);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package software.amazon.datazone.benchmarks.rollout;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The life of one simulated stack: it creates the resources of the template wave by wave, updates some of them, and
+ * deletes them all again in reverse order. A failed create stops the creates and rolls the stack back, deleting what
+ * was created, the way CloudFormation does.
+ */
+final class StackRollout {
+    private final StackRolloutLoadGenerator generator;
+    private final StackTemplate template;
+    private final String stackName;
+    private final String stackId;
+    private final Runnable onCompletion;
+    private final Map<String, ObjectNode> models = new ConcurrentHashMap<>();
+    private volatile boolean failed;
+
+    StackRollout(final StackRolloutLoadGenerator generator,
+                 final StackTemplate template,
+                 final String stackName,
+                 final Runnable onCompletion) {
+        this.generator = generator;
+        this.template = template;
+        this.stackName = stackName;
+        this.stackId = String.format("arn:aws:cloudformation:%s:%s:stack/%s/%s",
+                generator.getRegion(), StackTemplate.ACCOUNT_ID, stackName, UUID.randomUUID());
+        this.onCompletion = onCompletion;
+    }
+
+    void start() {
+        final List<List<ResourceDeclaration>> waves = template.getWaves();
+        final List<List<ResourceDeclaration>> reversed = new ArrayList<>(waves);
+        Collections.reverse(reversed);
+        runWave("CREATE", waves, 0, () -> {
+            final Runnable delete = () -> runWave("DELETE", reversed, 0, this::complete);
+            if (failed) {
+                delete.run();
+            } else {
+                runWave("UPDATE", waves, 0, delete);
+            }
+        });
+    }
+
+    /**
+     * @return Whether an operation of the stack failed.
+     */
+    boolean isFailed() {
+        return failed;
+    }
+
+    private void runWave(final String action,
+                         final List<List<ResourceDeclaration>> waves,
+                         final int index,
+                         final Runnable next) {
+        if (index == waves.size()) {
+            next.run();
+            return;
+        }
+        final List<ResourceDeclaration> resources = new ArrayList<>();
+        for (final ResourceDeclaration resource : waves.get(index)) {
+            if (runs(action, resource)) {
+                resources.add(resource);
+            }
+        }
+        if (resources.isEmpty()) {
+            runWave(action, waves, index + 1, next);
+            return;
+        }
+        final AtomicInteger pending = new AtomicInteger(resources.size());
+        for (final ResourceDeclaration resource : resources) {
+            new ResourceOperation(generator, resource, action, stackId,
+                    desiredProperties(action, resource), previousProperties(action, resource),
+                    completed -> {
+                        record(completed);
+                        if (pending.decrementAndGet() == 0) {
+                            runWave(action, waves, index + 1, next);
+                        }
+                    })
+                    .start();
+        }
+    }
+
+    /**
+     * @return Whether the stack runs the action on the resource: it creates every resource until a create fails,
+     * updates a random share of the resources that can be updated, and deletes every resource that exists.
+     */
+    private boolean runs(final String action, final ResourceDeclaration resource) {
+        switch (action) {
+            case "CREATE":
+                return !failed;
+            case "UPDATE":
+                return resource.isUpdatable() && models.containsKey(resource.getLogicalId())
+                        && ThreadLocalRandom.current().nextDouble() < generator.getUpdateRate();
+            default:
+                return models.containsKey(resource.getLogicalId());
+        }
+    }
+
+    private ObjectNode desiredProperties(final String action, final ResourceDeclaration resource) {
+        switch (action) {
+            case "CREATE":
+                return resource.properties(stackName, models);
+            case "UPDATE":
+                // CloudFormation adds the primary identifier of the resource to its template properties on update.
+                final ObjectNode desired = resource.updatedProperties(stackName, models);
+                final ObjectNode model = models.get(resource.getLogicalId());
+                resource.getPrimaryIdentifier().forEach(property -> {
+                    if (model.hasNonNull(property)) {
+                        desired.set(property, model.get(property));
+                    }
+                });
+                return desired;
+            default:
+                return models.get(resource.getLogicalId());
+        }
+    }
+
+    private ObjectNode previousProperties(final String action, final ResourceDeclaration resource) {
+        return "UPDATE".equals(action) ? resource.properties(stackName, models) : null;
+    }
+
+    private void record(final ResourceOperation operation) {
+        generator.getReport().record(operation);
+        final String logicalId = operation.getResource().getLogicalId();
+        if (!operation.isSuccess()) {
+            failed = true;
+        } else if ("DELETE".equals(operation.getAction())) {
+            models.remove(logicalId);
+        } else {
+            models.put(logicalId, operation.getResourceModel());
+        }
+    }
+
+    private void complete() {
+        generator.getReport().recordStack(this);
+        onCompletion.run();
+    }
+}
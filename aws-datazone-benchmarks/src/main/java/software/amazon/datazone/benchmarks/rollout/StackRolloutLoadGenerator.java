@@ -0,0 +1,178 @@
+package software.amazon.datazone.benchmarks.rollout;
+
+import software.amazon.datazone.benchmarks.standin.StandInServer;
+import software.amazon.datazone.benchmarks.standin.StandInSettings;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives thousands of simulated CloudFormation stack rollouts through the HandlerWrapper of every resource type,
+ * against an in-process {@link StandInServer}. Each stack creates one resource of each of the ten types, updates some
+ * of them and deletes them all, see {@link StackRollout}; a number of stacks roll out at the same time.
+ * <p>
+ * Operations that answer IN_PROGRESS are invoked again after their callbackDelaySeconds, scaled by
+ * {@code --callback-delay-scale}, with the callback context they answered with, the way CloudFormation re-invokes
+ * them. Waiting for a callback holds no thread, so the number of operations in flight is only bounded by the number
+ * of stacks rolling out at once. Once all stacks are done, it prints the time to complete of the operations per
+ * resource type and action, their DataZone calls and the share of those calls that were throttled.
+ * <p>
+ * The providers reach the stand-in through {@code DATAZONE_ENDPOINT_OVERRIDE}, which has to be set in the environment
+ * of the load generator, the stand-in listens on its port. Usage: {@code StackRolloutLoadGenerator [--stacks 1000]
+ * [--concurrency 100] [--workers 64] [--update-rate 0.5] [--callback-delay-scale 0.1] [--max-invocations 500]
+ * [stand-in options...]}, the other options are passed to the stand-in, see {@link StandInSettings}.
+ */
+public final class StackRolloutLoadGenerator {
+    private final String region;
+    private final int stacks;
+    private final int concurrency;
+    private final double updateRate;
+    private final double callbackDelayScale;
+    private final int maxInvocations;
+    private final StackTemplate template;
+    private final RolloutReport report = new RolloutReport();
+    private final ExecutorService workers;
+    private final ScheduledExecutorService callbacks = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "rollout-callbacks");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicInteger startedStacks = new AtomicInteger();
+    private final CountDownLatch completedStacks;
+
+    private StackRolloutLoadGenerator(final String region,
+                                      final int stacks,
+                                      final int concurrency,
+                                      final int workers,
+                                      final double updateRate,
+                                      final double callbackDelayScale,
+                                      final int maxInvocations) {
+        this.region = region;
+        this.stacks = stacks;
+        this.concurrency = concurrency;
+        this.updateRate = updateRate;
+        this.callbackDelayScale = callbackDelayScale;
+        this.maxInvocations = maxInvocations;
+        this.template = StackTemplate.dataZoneStack(region);
+        this.workers = Executors.newFixedThreadPool(workers, runnable -> {
+            final Thread thread = new Thread(runnable, "rollout-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.completedStacks = new CountDownLatch(stacks);
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        int stacks = 1000;
+        int concurrency = 100;
+        int workers = 64;
+        double updateRate = 0.5;
+        double callbackDelayScale = 0.1;
+        int maxInvocations = 500;
+        final List<String> standInArgs = new ArrayList<>();
+        for (int index = 0; index < args.length; index++) {
+            switch (args[index]) {
+                case "--stacks":
+                    stacks = Integer.parseInt(args[++index]);
+                    break;
+                case "--concurrency":
+                    concurrency = Integer.parseInt(args[++index]);
+                    break;
+                case "--workers":
+                    workers = Integer.parseInt(args[++index]);
+                    break;
+                case "--update-rate":
+                    updateRate = Double.parseDouble(args[++index]);
+                    break;
+                case "--callback-delay-scale":
+                    callbackDelayScale = Double.parseDouble(args[++index]);
+                    break;
+                case "--max-invocations":
+                    maxInvocations = Integer.parseInt(args[++index]);
+                    break;
+                default:
+                    standInArgs.add(args[index]);
+                    break;
+            }
+        }
+
+        final String endpoint = System.getenv("DATAZONE_ENDPOINT_OVERRIDE");
+        if (endpoint == null) {
+            throw new IllegalStateException("Set DATAZONE_ENDPOINT_OVERRIDE, such as http://localhost:8080, for the "
+                    + "providers to reach the stand-in");
+        }
+        standInArgs.add("--port");
+        standInArgs.add(String.valueOf(URI.create(endpoint).getPort()));
+        final String region = Optional.ofNullable(System.getenv("AWS_REGION")).orElse("us-east-1");
+
+        final StackRolloutLoadGenerator generator = new StackRolloutLoadGenerator(region, stacks, concurrency, workers,
+                updateRate, callbackDelayScale, maxInvocations);
+        try (StandInServer standIn = StandInServer.start(StandInSettings.fromArgs(standInArgs.toArray(new String[0])))) {
+            System.out.printf("%d stacks, %d at a time, on %d workers, update rate %s, callback delays scaled by %s,"
+                            + " against the stand-in at %s%n",
+                    stacks, concurrency, workers, updateRate, callbackDelayScale, standIn.getEndpoint());
+            final long startNanos = System.nanoTime();
+            generator.run();
+            generator.report.print(System.out, standIn, System.nanoTime() - startNanos);
+        }
+    }
+
+    String getRegion() {
+        return region;
+    }
+
+    double getUpdateRate() {
+        return updateRate;
+    }
+
+    int getMaxInvocations() {
+        return maxInvocations;
+    }
+
+    RolloutReport getReport() {
+        return report;
+    }
+
+    void submit(final Runnable task) {
+        workers.execute(task);
+    }
+
+    /**
+     * Runs the task on a worker once the callback delay, scaled by the callback delay scale, has passed.
+     */
+    void scheduleCallback(final Runnable task, final int callbackDelaySeconds) {
+        final long delayMillis = Math.round(TimeUnit.SECONDS.toMillis(callbackDelaySeconds) * callbackDelayScale);
+        callbacks.schedule(() -> submit(task), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void run() throws InterruptedException {
+        for (int stack = 0; stack < Math.min(concurrency, stacks); stack++) {
+            startNextStack();
+        }
+        while (!completedStacks.await(30, TimeUnit.SECONDS)) {
+            System.out.printf("%d of %d stacks done%n", report.getCompletedStacks(), stacks);
+        }
+        workers.shutdown();
+        callbacks.shutdown();
+    }
+
+    private void startNextStack() {
+        final int stack = startedStacks.getAndIncrement();
+        if (stack >= stacks) {
+            return;
+        }
+        new StackRollout(this, template, String.format("load-%05d", stack), () -> {
+            completedStacks.countDown();
+            startNextStack();
+        }).start();
+    }
+}
@@ -0,0 +1,203 @@
+package software.amazon.datazone.benchmarks.rollout;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The stack every simulated rollout deploys: one resource of each of the ten DataZone types, all in a domain of their
+ * own, so that stacks do not contend for the same names or blueprint configurations.
+ */
+final class StackTemplate {
+    static final String ACCOUNT_ID = "123456789012";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String ROLE = "arn:aws:iam::" + ACCOUNT_ID + ":role/";
+    private static final List<String> DOMAIN_ID_AND_ID = List.of("DomainId", "Id");
+
+    private final List<ResourceDeclaration> resources;
+    private final List<List<ResourceDeclaration>> waves;
+
+    private StackTemplate(final List<ResourceDeclaration> resources) {
+        this.resources = resources;
+        this.waves = waves(resources);
+    }
+
+    /**
+     * @param region Region the resources are deployed in.
+     * @return The template of the simulated stacks.
+     */
+    static StackTemplate dataZoneStack(final String region) {
+        return new StackTemplate(List.of(
+                new ResourceDeclaration("Domain", "AWS::DataZone::Domain", List.of(), List.of("Id"),
+                        software.amazon.datazone.domain.HandlerWrapper::new,
+                        (stack, models) -> object()
+                                .put("Name", stack)
+                                .put("Description", "Domain of " + stack)
+                                .put("DomainExecutionRole", ROLE + "DataZoneDomainExecutionRole"),
+                        StackTemplate::describeUpdate),
+                new ResourceDeclaration("Project", "AWS::DataZone::Project", List.of("Domain"), DOMAIN_ID_AND_ID,
+                        software.amazon.datazone.project.HandlerWrapper::new,
+                        (stack, models) -> object()
+                                .put("DomainIdentifier", id(models, "Domain"))
+                                .put("Name", stack + "-project")
+                                .put("Description", "Project of " + stack),
+                        StackTemplate::describeUpdate),
+                new ResourceDeclaration("UserProfile", "AWS::DataZone::UserProfile", List.of("Domain"), DOMAIN_ID_AND_ID,
+                        software.amazon.datazone.userprofile.HandlerWrapper::new,
+                        (stack, models) -> object()
+                                .put("DomainIdentifier", id(models, "Domain"))
+                                .put("UserIdentifier", "arn:aws:iam::" + ACCOUNT_ID + ":user/" + stack)
+                                .put("UserType", "IAM_USER")
+                                .put("Status", "ACTIVATED"),
+                        null),
+                new ResourceDeclaration("GroupProfile", "AWS::DataZone::GroupProfile", List.of("Domain"), DOMAIN_ID_AND_ID,
+                        software.amazon.datazone.groupprofile.HandlerWrapper::new,
+                        (stack, models) -> object()
+                                .put("DomainIdentifier", id(models, "Domain"))
+                                .put("GroupIdentifier", stack + "-group")
+                                .put("Status", "ASSIGNED"),
+                        null),
+                new ResourceDeclaration("BlueprintConfiguration", "AWS::DataZone::EnvironmentBlueprintConfiguration",
+                        List.of("Domain"), List.of("DomainId", "EnvironmentBlueprintId"),
+                        software.amazon.datazone.environmentblueprintconfiguration.HandlerWrapper::new,
+                        (stack, models) -> {
+                            final ObjectNode properties = object()
+                                    .put("DomainIdentifier", id(models, "Domain"))
+                                    .put("EnvironmentBlueprintIdentifier", "DefaultDataLake")
+                                    .put("ManageAccessRoleArn", ROLE + "DataZoneManageAccessRole")
+                                    .put("ProvisioningRoleArn", ROLE + "DataZoneProvisioningRole");
+                            properties.putArray("EnabledRegions").add(region);
+                            return properties;
+                        },
+                        properties -> {
+                            properties.withArray("EnabledRegions").add("us-west-2".equals(region) ? "eu-west-1" : "us-west-2");
+                            return properties;
+                        }),
+                new ResourceDeclaration("ProjectMembership", "AWS::DataZone::ProjectMembership",
+                        List.of("Project", "UserProfile"), List.of(),
+                        software.amazon.datazone.projectmembership.HandlerWrapper::new,
+                        (stack, models) -> {
+                            final ObjectNode properties = object()
+                                    .put("DomainIdentifier", id(models, "Domain"))
+                                    .put("ProjectIdentifier", id(models, "Project"))
+                                    .put("Designation", "PROJECT_CONTRIBUTOR");
+                            properties.putObject("Member")
+                                    .put("UserIdentifier", models.get("UserProfile").path("UserIdentifier").asText());
+                            return properties;
+                        },
+                        properties -> properties.put("Designation", "PROJECT_OWNER")),
+                new ResourceDeclaration("EnvironmentProfile", "AWS::DataZone::EnvironmentProfile",
+                        List.of("Project", "BlueprintConfiguration"), DOMAIN_ID_AND_ID,
+                        software.amazon.datazone.environmentprofile.HandlerWrapper::new,
+                        (stack, models) -> object()
+                                .put("DomainIdentifier", id(models, "Domain"))
+                                .put("ProjectIdentifier", id(models, "Project"))
+                                .put("EnvironmentBlueprintIdentifier",
+                                        models.get("BlueprintConfiguration").path("EnvironmentBlueprintId").asText())
+                                .put("AwsAccountId", ACCOUNT_ID)
+                                .put("AwsAccountRegion", region)
+                                .put("Name", stack + "-profile")
+                                .put("Description", "Environment profile of " + stack),
+                        StackTemplate::describeUpdate),
+                new ResourceDeclaration("Environment", "AWS::DataZone::Environment", List.of("EnvironmentProfile"),
+                        DOMAIN_ID_AND_ID,
+                        software.amazon.datazone.environment.HandlerWrapper::new,
+                        (stack, models) -> object()
+                                .put("DomainIdentifier", id(models, "Domain"))
+                                .put("ProjectIdentifier", id(models, "Project"))
+                                .put("EnvironmentProfileIdentifier", id(models, "EnvironmentProfile"))
+                                .put("Name", stack + "-environment")
+                                .put("Description", "Environment of " + stack),
+                        StackTemplate::describeUpdate),
+                new ResourceDeclaration("DataSource", "AWS::DataZone::DataSource", List.of("Environment"),
+                        DOMAIN_ID_AND_ID,
+                        software.amazon.datazone.datasource.HandlerWrapper::new,
+                        (stack, models) -> {
+                            final ObjectNode properties = object()
+                                    .put("DomainIdentifier", id(models, "Domain"))
+                                    .put("ProjectIdentifier", id(models, "Project"))
+                                    .put("EnvironmentIdentifier", id(models, "Environment"))
+                                    .put("Name", stack + "-data-source")
+                                    .put("Description", "Data source of " + stack)
+                                    .put("Type", "GLUE")
+                                    .put("EnableSetting", "ENABLED")
+                                    .put("PublishOnImport", false);
+                            properties.putObject("Configuration").putObject("GlueRunConfiguration")
+                                    .putArray("RelationalFilterConfigurations").addObject().put("DatabaseName", "sales");
+                            return properties;
+                        },
+                        StackTemplate::describeUpdate),
+                new ResourceDeclaration("SubscriptionTarget", "AWS::DataZone::SubscriptionTarget", List.of("Environment"),
+                        List.of("DomainId", "EnvironmentId", "Id"),
+                        software.amazon.datazone.subscriptiontarget.HandlerWrapper::new,
+                        (stack, models) -> {
+                            final ObjectNode properties = object()
+                                    .put("DomainIdentifier", id(models, "Domain"))
+                                    .put("EnvironmentIdentifier", id(models, "Environment"))
+                                    .put("Name", stack + "-subscription-target")
+                                    .put("Type", "GlueSubscriptionTargetType")
+                                    .put("Provider", "Amazon DataZone")
+                                    .put("ManageAccessRole", ROLE + "DataZoneManageAccessRole");
+                            properties.putArray("ApplicableAssetTypes").add("GlueTableAssetType");
+                            properties.putArray("AuthorizedPrincipals").add(ROLE + "DataZoneSubscriber");
+                            properties.putArray("SubscriptionTargetConfig").addObject()
+                                    .put("FormName", "GlueSubscriptionTargetConfigForm")
+                                    .put("Content", "{\"databaseName\":\"sales\"}");
+                            return properties;
+                        },
+                        properties -> properties.put("Name", properties.get("Name").asText() + "-updated"))));
+    }
+
+    List<ResourceDeclaration> getResources() {
+        return resources;
+    }
+
+    /**
+     * @return The resources grouped the way CloudFormation deploys them: each wave only depends on earlier waves, the
+     * resources within a wave are created concurrently.
+     */
+    List<List<ResourceDeclaration>> getWaves() {
+        return waves;
+    }
+
+    static ObjectNode object() {
+        return MAPPER.createObjectNode();
+    }
+
+    private static List<List<ResourceDeclaration>> waves(final List<ResourceDeclaration> resources) {
+        final Map<String, Integer> levels = new HashMap<>();
+        final List<List<ResourceDeclaration>> waves = new ArrayList<>();
+        for (final ResourceDeclaration resource : resources) {
+            final int level = resource.getDependsOn().stream()
+                    .mapToInt(dependency -> {
+                        final Integer dependencyLevel = levels.get(dependency);
+                        if (dependencyLevel == null) {
+                            throw new IllegalStateException(String.format("%s depends on %s, which is not declared before it",
+                                    resource.getLogicalId(), dependency));
+                        }
+                        return dependencyLevel + 1;
+                    })
+                    .max()
+                    .orElse(0);
+            levels.put(resource.getLogicalId(), level);
+            while (waves.size() <= level) {
+                waves.add(new ArrayList<>());
+            }
+            waves.get(level).add(resource);
+        }
+        return waves;
+    }
+
+    private static String id(final Map<String, ObjectNode> models, final String logicalId) {
+        return models.get(logicalId).path("Id").asText();
+    }
+
+    private static ObjectNode describeUpdate(final ObjectNode properties) {
+        return properties.put("Description", properties.path("Description").asText() + " (updated)");
+    }
+}
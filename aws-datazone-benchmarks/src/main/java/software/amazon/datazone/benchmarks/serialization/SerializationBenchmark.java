@@ -0,0 +1,189 @@
+package software.amazon.datazone.benchmarks.serialization;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.datazone.benchmarks.BenchmarkData;
+import software.amazon.datazone.benchmarks.HandlerBenchmark;
+import software.amazon.datazone.benchmarks.HandlerOperation;
+import software.amazon.datazone.benchmarks.ResourceScenario;
+import software.amazon.datazone.benchmarks.StubClientProxy;
+import software.amazon.datazone.benchmarks.StubDataZoneService;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Measures what the payloads of every resource type cost the wrapper. Each operation is run once end to end against a
+ * {@link StubDataZoneService} at zero latency, the way {@link HandlerBenchmark} does, and the request of each of its
+ * invocations, with the resource model and the callback context of the previous one, and the progress event it
+ * returned are recorded. They are then deserialized and serialized with the {@link Serializer} of the wrapper, over and
+ * over, the way every invocation and every callback does once.
+ * <p>
+ * For each operation it reports, per invocation, the size of the request, of the callback context within it and of
+ * the response, and the time to deserialize the request and to serialize the response.
+ * <p>
+ * Usage: {@code SerializationBenchmark [--polls 1] [--warmup 2000] [--iterations 2000] [type filter...]}
+ */
+public final class SerializationBenchmark {
+    // Far more than any stabilization takes, only there so that a handler that never completes stops the run.
+    private static final int MAXIMUM_INVOCATIONS = 100;
+    private static final List<String> ACTIONS = List.of("CREATE", "READ", "UPDATE", "DELETE", "LIST");
+    private static final String ROW_FORMAT = "%-45s %-11s %8s %10s %10s %10s %10s %10s%n";
+
+    // Keeps the results of the measured calls alive, so that none of them is optimized away.
+    private static volatile long sink;
+
+    private final StubDataZoneService service = new StubDataZoneService();
+    private final StubClientProxy proxy = new StubClientProxy(service);
+    private final LoggerProxy logger = new LoggerProxy();
+    private final Serializer serializer = new Serializer();
+
+    private SerializationBenchmark() {
+    }
+
+    public static void main(final String[] args) throws IOException {
+        int polls = 1;
+        int warmup = 2000;
+        int iterations = 2000;
+        final List<String> typeFilters = new ArrayList<>();
+        for (int index = 0; index < args.length; index++) {
+            switch (args[index]) {
+                case "--polls":
+                    polls = Integer.parseInt(args[++index]);
+                    break;
+                case "--warmup":
+                    warmup = Integer.parseInt(args[++index]);
+                    break;
+                case "--iterations":
+                    iterations = Integer.parseInt(args[++index]);
+                    break;
+                default:
+                    typeFilters.add(args[index]);
+                    break;
+            }
+        }
+
+        final SerializationBenchmark benchmark = new SerializationBenchmark();
+        final PrintStream out = System.out;
+        out.printf("%d polls until stable, %d warmup and %d measured rounds per operation, averages per invocation%n",
+                polls, warmup, iterations);
+        out.printf(ROW_FORMAT, "resource", "op", "invokes", "request B", "context B", "response B", "read us", "write us");
+        for (final ResourceScenario scenario : HandlerBenchmark.scenarios()) {
+            if (!typeFilters.isEmpty() && typeFilters.stream().noneMatch(scenario.typeName()::contains)) {
+                continue;
+            }
+            for (final HandlerOperation operation : scenario.operations(polls)) {
+                final List<Payload> payloads = benchmark.record(scenario, operation);
+                benchmark.measure(scenario.handlerRequestType(), payloads, warmup);
+                final long[] nanos = benchmark.measure(scenario.handlerRequestType(), payloads, iterations);
+                final double rounds = (double) iterations * payloads.size();
+                out.printf(ROW_FORMAT, scenario.typeName(), operation.getName(), payloads.size(),
+                        format(payloads.stream().mapToInt(payload -> bytes(payload.request)).average().orElse(0), "%.0f"),
+                        format(payloads.stream().mapToInt(payload -> bytes(payload.callbackContext)).average().orElse(0), "%.0f"),
+                        format(payloads.stream().mapToInt(payload -> bytes(payload.response)).average().orElse(0), "%.0f"),
+                        format(nanos[0] / 1e3 / rounds, "%.2f"),
+                        format(nanos[1] / 1e3 / rounds, "%.2f"));
+            }
+        }
+    }
+
+    /**
+     * Runs the operation until it completes, and records the payloads of each of its invocations.
+     */
+    private List<Payload> record(final ResourceScenario scenario, final HandlerOperation operation) throws IOException {
+        service.load(operation.getScript());
+        Object resourceModel = operation.newResourceModel();
+        Object callbackContext = null;
+
+        final List<Payload> payloads = new ArrayList<>();
+        ProgressEvent<?, ?> progressEvent;
+        do {
+            // Serialized ahead of the invocation, the handlers update the model in place.
+            final String serializedCallbackContext = callbackContext == null ? "null" : serializer.serialize(callbackContext);
+            final String request = String.format("{\"action\":\"%s\",\"awsAccountId\":\"%s\",\"region\":\"%s\","
+                            + "\"resourceType\":\"%s\",\"requestData\":{\"logicalResourceId\":\"Resource\","
+                            + "\"resourceProperties\":%s},\"callbackContext\":%s}",
+                    action(operation.getName()), BenchmarkData.ACCOUNT_ID, BenchmarkData.REGION, scenario.typeName(),
+                    serializer.serialize(resourceModel), serializedCallbackContext);
+
+            progressEvent = operation.invoke(proxy, resourceModel, callbackContext, logger);
+            payloads.add(new Payload(request, serializedCallbackContext, progressEvent, serializer.serialize(progressEvent)));
+            if (progressEvent.getResourceModel() != null) {
+                resourceModel = progressEvent.getResourceModel();
+            }
+            callbackContext = progressEvent.getCallbackContext();
+        } while (progressEvent.getStatus() == OperationStatus.IN_PROGRESS && payloads.size() < MAXIMUM_INVOCATIONS);
+
+        if (progressEvent.getStatus() != OperationStatus.SUCCESS) {
+            throw new IllegalStateException(String.format("%s %s ended with %s after %d invocations: %s %s",
+                    scenario.typeName(), operation.getName(), progressEvent.getStatus(), payloads.size(),
+                    progressEvent.getErrorCode(), progressEvent.getMessage()));
+        }
+        return payloads;
+    }
+
+    /**
+     * @return The nanoseconds spent deserializing the requests and serializing the responses of all rounds.
+     */
+    private long[] measure(final TypeReference<?> handlerRequestType, final List<Payload> payloads, final int rounds)
+            throws IOException {
+        long readNanos = 0;
+        long writeNanos = 0;
+        long results = 0;
+        for (int round = 0; round < rounds; round++) {
+            final long readStart = System.nanoTime();
+            for (final Payload payload : payloads) {
+                results += System.identityHashCode(serializer.deserialize(payload.request, handlerRequestType));
+            }
+            final long writeStart = System.nanoTime();
+            for (final Payload payload : payloads) {
+                results += serializer.serialize(payload.progressEvent).length();
+            }
+            final long end = System.nanoTime();
+            readNanos += writeStart - readStart;
+            writeNanos += end - writeStart;
+        }
+        sink = results;
+        return new long[]{readNanos, writeNanos};
+    }
+
+    private static String action(final String operationName) {
+        final String name = operationName.toUpperCase(Locale.ROOT);
+        return ACTIONS.stream()
+                .filter(name::startsWith)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(String.format("No action for %s", operationName)));
+    }
+
+    private static int bytes(final String json) {
+        return json.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static String format(final double value, final String format) {
+        return String.format(Locale.ROOT, format, value);
+    }
+
+    private static final class Payload {
+        private final String request;
+        private final String callbackContext;
+        private final ProgressEvent<?, ?> progressEvent;
+        private final String response;
+
+        private Payload(final String request,
+                        final String callbackContext,
+                        final ProgressEvent<?, ?> progressEvent,
+                        final String response) {
+            this.request = request;
+            this.callbackContext = callbackContext;
+            this.progressEvent = progressEvent;
+            this.response = response;
+        }
+    }
+}
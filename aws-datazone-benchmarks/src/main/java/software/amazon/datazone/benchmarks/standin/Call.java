@@ -0,0 +1,97 @@
+package software.amazon.datazone.benchmarks.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A request routed to one DataZone operation: the parameters from its path and query string, and its JSON body.
+ */
+final class Call {
+    private final String operationName;
+    private final Map<String, String> pathParameters;
+    private final Map<String, List<String>> queryParameters;
+    private final ObjectNode body;
+
+    Call(final String operationName,
+         final Map<String, String> pathParameters,
+         final String rawQuery,
+         final ObjectNode body) {
+        this.operationName = operationName;
+        this.pathParameters = pathParameters;
+        this.queryParameters = parseQuery(rawQuery);
+        this.body = body;
+    }
+
+    String getOperationName() {
+        return operationName;
+    }
+
+    /**
+     * @throws ServiceException A ValidationException when the path has no such parameter.
+     */
+    String path(final String name) {
+        final String value = pathParameters.get(name);
+        if (value == null) {
+            throw ServiceException.validation("Missing path parameter %s", name);
+        }
+        return value;
+    }
+
+    /**
+     * @return The first value of the query parameter, null when it is not set.
+     */
+    String query(final String name) {
+        final List<String> values = queryParameters.get(name);
+        return values == null ? null : values.get(0);
+    }
+
+    List<String> queryAll(final String name) {
+        return queryParameters.getOrDefault(name, Collections.emptyList());
+    }
+
+    ObjectNode getBody() {
+        return body;
+    }
+
+    /**
+     * @return The text of the body field, null when it is not set.
+     */
+    String text(final String field) {
+        final JsonNode value = body.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    /**
+     * @return The parameter, from the query string of a GET or from the body of a POST, null when it is not set.
+     */
+    String parameter(final String name) {
+        final String value = query(name);
+        return value != null ? value : text(name);
+    }
+
+    static String decode(final String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, List<String>> parseQuery(final String rawQuery) {
+        final Map<String, List<String>> parameters = new LinkedHashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (final String pair : rawQuery.split("&")) {
+            final int separator = pair.indexOf('=');
+            final String name = decode(separator < 0 ? pair : pair.substring(0, separator));
+            final String value = separator < 0 ? "" : decode(pair.substring(separator + 1));
+            parameters.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+        }
+        return parameters;
+    }
+}
@@ -0,0 +1,601 @@
+package software.amazon.datazone.benchmarks.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * The DataZone operations the resource providers call, on in-memory resources. Each operation answers with the
+ * fields the providers read, under their names in the DataZone REST API; fields a provider sends and the stand-in has
+ * no use for are echoed back, which the SDK ignores when they are not part of the response.
+ * <p>
+ * Parent resources are not checked, a project can be created in a domain the stand-in does not know, so that each
+ * resource type can be load tested on its own. The one exception is the domain of a user profile, which the user
+ * profile provider reads, see {@link #SEEDED_DOMAIN_ID}.
+ */
+final class DataZoneOperations {
+    /**
+     * Id of the domain the stand-in starts with, already AVAILABLE.
+     */
+    static final String SEEDED_DOMAIN_ID = "dzd_standin";
+    static final String ACCOUNT_ID = "123456789012";
+
+    private static final int DEFAULT_MAX_RESULTS = 50;
+    private static final String PROVIDER = "Amazon DataZone";
+    private static final String CREATED_BY = "standin-user";
+    private static final String NO_SCOPE = "";
+
+    private final String region;
+    private final ResourceTable domains;
+    private final ResourceTable projects;
+    private final ResourceTable projectMemberships;
+    private final ResourceTable environmentProfiles;
+    private final ResourceTable environments;
+    private final ResourceTable environmentBlueprintConfigurations;
+    private final ResourceTable dataSources;
+    private final ResourceTable subscriptionTargets;
+    private final ResourceTable groupProfiles;
+    private final ResourceTable userProfiles;
+    private final List<ObjectNode> environmentBlueprints;
+
+    DataZoneOperations(final String region,
+                       final StandInSettings settings,
+                       final FaultInjector faultInjector,
+                       final Clock clock) {
+        this.region = region;
+        this.domains = new ResourceTable("Domain", "id", Lifecycle.DOMAIN,
+                ResourceTable.TimestampStyle.EPOCH_SECONDS, settings, faultInjector, clock);
+        this.projects = new ResourceTable("Project", "id", Lifecycle.NONE,
+                ResourceTable.TimestampStyle.ISO_8601, settings, faultInjector, clock);
+        this.projectMemberships = new ResourceTable("ProjectMembership", "memberId", Lifecycle.NONE,
+                ResourceTable.TimestampStyle.ISO_8601, settings, faultInjector, clock);
+        this.environmentProfiles = new ResourceTable("EnvironmentProfile", "id", Lifecycle.NONE,
+                ResourceTable.TimestampStyle.ISO_8601, settings, faultInjector, clock);
+        this.environments = new ResourceTable("Environment", "id", Lifecycle.ENVIRONMENT,
+                ResourceTable.TimestampStyle.ISO_8601, settings, faultInjector, clock);
+        this.environmentBlueprintConfigurations = new ResourceTable("EnvironmentBlueprintConfiguration",
+                "environmentBlueprintId", Lifecycle.NONE, ResourceTable.TimestampStyle.ISO_8601, settings, faultInjector, clock);
+        this.dataSources = new ResourceTable("DataSource", "id", Lifecycle.DATA_SOURCE,
+                ResourceTable.TimestampStyle.ISO_8601, settings, faultInjector, clock);
+        this.subscriptionTargets = new ResourceTable("SubscriptionTarget", "id", Lifecycle.NONE,
+                ResourceTable.TimestampStyle.EPOCH_SECONDS, settings, faultInjector, clock);
+        this.groupProfiles = new ResourceTable("GroupProfile", "id", Lifecycle.NONE,
+                ResourceTable.TimestampStyle.ISO_8601, settings, faultInjector, clock);
+        this.userProfiles = new ResourceTable("UserProfile", "id", Lifecycle.NONE,
+                ResourceTable.TimestampStyle.ISO_8601, settings, faultInjector, clock);
+        this.environmentBlueprints = List.of(
+                blueprint("DefaultDataLake", "Creates an environment with a data lake"),
+                blueprint("DefaultDataWarehouse", "Creates an environment with a data warehouse"));
+
+        final ObjectNode seededDomain = object()
+                .put("name", "standin")
+                .put("description", "Domain the stand-in starts with")
+                .put("domainExecutionRole", String.format("arn:aws:iam::%s:role/StandInDomainExecutionRole", ACCOUNT_ID));
+        seededDomain.set("singleSignOn", object().put("type", "DISABLED"));
+        domains.seed(NO_SCOPE, SEEDED_DOMAIN_ID, withDomainFields(seededDomain, SEEDED_DOMAIN_ID));
+    }
+
+    void register(final Router router) {
+        router.add("CreateDomain", "POST", "/v2/domains", this::createDomain);
+        router.add("GetDomain", "GET", "/v2/domains/{identifier}",
+                call -> domains.get(NO_SCOPE, call.path("identifier")));
+        router.add("UpdateDomain", "PUT", "/v2/domains/{identifier}", this::updateDomain);
+        router.add("DeleteDomain", "DELETE", "/v2/domains/{identifier}", this::deleteDomain);
+        router.add("ListDomains", "GET", "/v2/domains",
+                call -> page(call, "items", domains.list(NO_SCOPE, matches("status", call.query("status")))));
+        router.add("TagResource", "POST", "/tags/{resourceArn}", this::tagResource);
+        router.add("UntagResource", "DELETE", "/tags/{resourceArn}", this::untagResource);
+
+        router.add("CreateProject", "POST", "/v2/domains/{domainIdentifier}/projects", this::createProject);
+        router.add("GetProject", "GET", "/v2/domains/{domainIdentifier}/projects/{identifier}",
+                call -> projects.get(call.path("domainIdentifier"), call.path("identifier")));
+        router.add("UpdateProject", "PATCH", "/v2/domains/{domainIdentifier}/projects/{identifier}",
+                call -> projects.update(call.path("domainIdentifier"), call.path("identifier"),
+                        project -> merge(project, call.getBody(), "name", "description", "glossaryTerms")));
+        router.add("DeleteProject", "DELETE", "/v2/domains/{domainIdentifier}/projects/{identifier}",
+                noContent(call -> projects.delete(call.path("domainIdentifier"), call.path("identifier"))));
+        router.add("ListProjects", "GET", "/v2/domains/{domainIdentifier}/projects",
+                call -> page(call, "items", projects.list(call.path("domainIdentifier"), matches("name", call.query("name")))));
+
+        router.add("CreateProjectMembership", "POST",
+                "/v2/domains/{domainIdentifier}/projects/{projectIdentifier}/createMembership", this::createProjectMembership);
+        router.add("DeleteProjectMembership", "POST",
+                "/v2/domains/{domainIdentifier}/projects/{projectIdentifier}/deleteMembership", this::deleteProjectMembership);
+        router.add("ListProjectMemberships", "GET",
+                "/v2/domains/{domainIdentifier}/projects/{projectIdentifier}/memberships",
+                call -> page(call, "members", projectMemberships.list(membershipScope(call), document -> true)));
+
+        router.add("CreateEnvironmentProfile", "POST", "/v2/domains/{domainIdentifier}/environment-profiles",
+                this::createEnvironmentProfile);
+        router.add("GetEnvironmentProfile", "GET", "/v2/domains/{domainIdentifier}/environment-profiles/{identifier}",
+                call -> environmentProfiles.get(call.path("domainIdentifier"), call.path("identifier")));
+        router.add("UpdateEnvironmentProfile", "PATCH", "/v2/domains/{domainIdentifier}/environment-profiles/{identifier}",
+                this::updateEnvironmentProfile);
+        router.add("DeleteEnvironmentProfile", "DELETE", "/v2/domains/{domainIdentifier}/environment-profiles/{identifier}",
+                noContent(call -> environmentProfiles.delete(call.path("domainIdentifier"), call.path("identifier"))));
+        router.add("ListEnvironmentProfiles", "GET", "/v2/domains/{domainIdentifier}/environment-profiles",
+                call -> page(call, "items", environmentProfiles.list(call.path("domainIdentifier"),
+                        matches("projectId", call.query("projectIdentifier"))
+                                .and(matches("environmentBlueprintId", call.query("environmentBlueprintIdentifier")))
+                                .and(matches("name", call.query("name"))))));
+
+        router.add("CreateEnvironment", "POST", "/v2/domains/{domainIdentifier}/environments", this::createEnvironment);
+        router.add("GetEnvironment", "GET", "/v2/domains/{domainIdentifier}/environments/{identifier}",
+                call -> environments.get(call.path("domainIdentifier"), call.path("identifier")));
+        router.add("UpdateEnvironment", "PATCH", "/v2/domains/{domainIdentifier}/environments/{identifier}",
+                call -> environments.update(call.path("domainIdentifier"), call.path("identifier"),
+                        environment -> merge(environment, call.getBody(), "name", "description", "glossaryTerms")));
+        router.add("DeleteEnvironment", "DELETE", "/v2/domains/{domainIdentifier}/environments/{identifier}",
+                noContent(call -> environments.delete(call.path("domainIdentifier"), call.path("identifier"))));
+        router.add("ListEnvironments", "GET", "/v2/domains/{domainIdentifier}/environments",
+                call -> page(call, "items", environments.list(call.path("domainIdentifier"),
+                        matches("projectId", call.query("projectIdentifier"))
+                                .and(matches("environmentProfileId", call.query("environmentProfileIdentifier")))
+                                .and(matches("status", call.query("status")))
+                                .and(matches("name", call.query("name"))))));
+
+        router.add("ListEnvironmentBlueprints", "GET", "/v2/domains/{domainIdentifier}/environment-blueprints",
+                call -> page(call, "items", environmentBlueprints.stream()
+                        .filter(matches("name", call.query("name")))
+                        .collect(Collectors.toList())));
+        router.add("PutEnvironmentBlueprintConfiguration", "PUT",
+                "/v2/domains/{domainIdentifier}/environment-blueprint-configurations/{environmentBlueprintIdentifier}",
+                this::putEnvironmentBlueprintConfiguration);
+        router.add("GetEnvironmentBlueprintConfiguration", "GET",
+                "/v2/domains/{domainIdentifier}/environment-blueprint-configurations/{environmentBlueprintIdentifier}",
+                call -> environmentBlueprintConfigurations.get(call.path("domainIdentifier"),
+                        call.path("environmentBlueprintIdentifier")));
+        router.add("DeleteEnvironmentBlueprintConfiguration", "DELETE",
+                "/v2/domains/{domainIdentifier}/environment-blueprint-configurations/{environmentBlueprintIdentifier}",
+                noContent(call -> environmentBlueprintConfigurations.delete(call.path("domainIdentifier"),
+                        call.path("environmentBlueprintIdentifier"))));
+        router.add("ListEnvironmentBlueprintConfigurations", "GET",
+                "/v2/domains/{domainIdentifier}/environment-blueprint-configurations",
+                call -> page(call, "items", environmentBlueprintConfigurations.list(call.path("domainIdentifier"), document -> true)));
+
+        router.add("CreateDataSource", "POST", "/v2/domains/{domainIdentifier}/data-sources", this::createDataSource);
+        router.add("GetDataSource", "GET", "/v2/domains/{domainIdentifier}/data-sources/{identifier}",
+                call -> dataSources.get(call.path("domainIdentifier"), call.path("identifier")));
+        router.add("UpdateDataSource", "PATCH", "/v2/domains/{domainIdentifier}/data-sources/{identifier}",
+                call -> dataSources.update(call.path("domainIdentifier"), call.path("identifier"),
+                        dataSource -> mergeDataSource(dataSource, call.getBody())));
+        router.add("DeleteDataSource", "DELETE", "/v2/domains/{domainIdentifier}/data-sources/{identifier}",
+                call -> dataSources.delete(call.path("domainIdentifier"), call.path("identifier")));
+        router.add("ListDataSources", "GET", "/v2/domains/{domainIdentifier}/data-sources", this::listDataSources);
+
+        router.add("CreateSubscriptionTarget", "POST",
+                "/v2/domains/{domainIdentifier}/environments/{environmentIdentifier}/subscription-targets",
+                this::createSubscriptionTarget);
+        router.add("GetSubscriptionTarget", "GET",
+                "/v2/domains/{domainIdentifier}/environments/{environmentIdentifier}/subscription-targets/{identifier}",
+                call -> subscriptionTargets.get(subscriptionTargetScope(call), call.path("identifier")));
+        router.add("UpdateSubscriptionTarget", "PATCH",
+                "/v2/domains/{domainIdentifier}/environments/{environmentIdentifier}/subscription-targets/{identifier}",
+                call -> subscriptionTargets.update(subscriptionTargetScope(call), call.path("identifier"),
+                        target -> merge(target, call.getBody(), "name", "provider", "manageAccessRole",
+                                "applicableAssetTypes", "authorizedPrincipals", "subscriptionTargetConfig")));
+        router.add("DeleteSubscriptionTarget", "DELETE",
+                "/v2/domains/{domainIdentifier}/environments/{environmentIdentifier}/subscription-targets/{identifier}",
+                noContent(call -> subscriptionTargets.delete(subscriptionTargetScope(call), call.path("identifier"))));
+        router.add("ListSubscriptionTargets", "GET",
+                "/v2/domains/{domainIdentifier}/environments/{environmentIdentifier}/subscription-targets",
+                call -> page(call, "items", subscriptionTargets.list(subscriptionTargetScope(call), document -> true)));
+
+        router.add("CreateGroupProfile", "POST", "/v2/domains/{domainIdentifier}/group-profiles", this::createGroupProfile);
+        router.add("GetGroupProfile", "GET", "/v2/domains/{domainIdentifier}/group-profiles/{groupIdentifier}",
+                call -> groupProfiles.get(call.path("domainIdentifier"),
+                        profileId(groupProfiles, call.path("domainIdentifier"), "groupIdentifier", call.path("groupIdentifier"))));
+        router.add("UpdateGroupProfile", "PUT", "/v2/domains/{domainIdentifier}/group-profiles/{groupIdentifier}",
+                call -> groupProfiles.update(call.path("domainIdentifier"),
+                        profileId(groupProfiles, call.path("domainIdentifier"), "groupIdentifier", call.path("groupIdentifier")),
+                        profile -> merge(profile, call.getBody(), "status")));
+        router.add("SearchGroupProfiles", "POST", "/v2/domains/{domainIdentifier}/search-group-profiles",
+                call -> page(call, "items", groupProfiles.list(call.path("domainIdentifier"),
+                        contains("groupName", call.text("searchText")))));
+
+        router.add("CreateUserProfile", "POST", "/v2/domains/{domainIdentifier}/user-profiles", this::createUserProfile);
+        router.add("GetUserProfile", "GET", "/v2/domains/{domainIdentifier}/user-profiles/{userIdentifier}",
+                call -> userProfiles.get(call.path("domainIdentifier"),
+                        profileId(userProfiles, call.path("domainIdentifier"), "userIdentifier", call.path("userIdentifier"))));
+        router.add("UpdateUserProfile", "PUT", "/v2/domains/{domainIdentifier}/user-profiles/{userIdentifier}",
+                call -> userProfiles.update(call.path("domainIdentifier"),
+                        profileId(userProfiles, call.path("domainIdentifier"), "userIdentifier", call.path("userIdentifier")),
+                        profile -> merge(profile, call.getBody(), "status")));
+        router.add("SearchUserProfiles", "POST", "/v2/domains/{domainIdentifier}/search-user-profiles", this::searchUserProfiles);
+    }
+
+    /**
+     * @return The number of resources of each type, for the stats of the stand-in.
+     */
+    ObjectNode resourceCounts() {
+        return object()
+                .put("domains", domains.size())
+                .put("projects", projects.size())
+                .put("projectMemberships", projectMemberships.size())
+                .put("environmentProfiles", environmentProfiles.size())
+                .put("environments", environments.size())
+                .put("environmentBlueprintConfigurations", environmentBlueprintConfigurations.size())
+                .put("dataSources", dataSources.size())
+                .put("subscriptionTargets", subscriptionTargets.size())
+                .put("groupProfiles", groupProfiles.size())
+                .put("userProfiles", userProfiles.size());
+    }
+
+    private JsonNode createDomain(final Call call) {
+        final String id = ResourceTable.newId("dzd_");
+        final ObjectNode domain = copy(call.getBody(), "name", "description", "domainExecutionRole", "kmsKeyIdentifier",
+                "singleSignOn", "tags", "clientToken");
+        if (!domain.has("singleSignOn")) {
+            domain.set("singleSignOn", object().put("type", "DISABLED"));
+        }
+        return domains.create(NO_SCOPE, id, withDomainFields(domain, id));
+    }
+
+    private ObjectNode withDomainFields(final ObjectNode domain, final String id) {
+        return domain
+                .put("arn", String.format("arn:aws:datazone:%s:%s:domain/%s", region, ACCOUNT_ID, id))
+                .put("portalUrl", String.format("https://%s.datazone.%s.on.aws", id, region))
+                .put("managedAccountId", ACCOUNT_ID);
+    }
+
+    private JsonNode updateDomain(final Call call) {
+        return domains.update(NO_SCOPE, call.path("identifier"),
+                domain -> merge(domain, call.getBody(), "name", "description", "domainExecutionRole", "singleSignOn"));
+    }
+
+    private JsonNode deleteDomain(final Call call) {
+        final ObjectNode domain = domains.delete(NO_SCOPE, call.path("identifier"));
+        return object().set("status", domain.get("status"));
+    }
+
+    private JsonNode tagResource(final Call call) {
+        final String domainId = domainIdFromArn(call.path("resourceArn"));
+        domains.update(NO_SCOPE, domainId, domain -> {
+            final ObjectNode tags = domain.has("tags") ? (ObjectNode) domain.get("tags") : domain.putObject("tags");
+            call.getBody().path("tags").fields().forEachRemaining(tag -> tags.set(tag.getKey(), tag.getValue()));
+        });
+        return object();
+    }
+
+    private JsonNode untagResource(final Call call) {
+        final String domainId = domainIdFromArn(call.path("resourceArn"));
+        domains.update(NO_SCOPE, domainId, domain -> {
+            if (domain.has("tags")) {
+                ((ObjectNode) domain.get("tags")).remove(call.queryAll("tagKeys"));
+            }
+        });
+        return object();
+    }
+
+    private static String domainIdFromArn(final String arn) {
+        final int separator = arn.lastIndexOf("domain/");
+        if (separator < 0) {
+            throw ServiceException.notFound("Resource %s not found", arn);
+        }
+        return arn.substring(separator + "domain/".length());
+    }
+
+    private JsonNode createProject(final Call call) {
+        final String domainId = call.path("domainIdentifier");
+        final String name = call.text("name");
+        if (projects.findFirst(domainId, matches("name", name)).isPresent()) {
+            throw ServiceException.conflict("Project %s already exists in domain %s", name, domainId);
+        }
+        final ObjectNode project = copy(call.getBody(), "name", "description", "glossaryTerms")
+                .put("domainId", domainId)
+                .put("createdBy", CREATED_BY);
+        return projects.create(domainId, ResourceTable.newId(""), project);
+    }
+
+    private static String membershipScope(final Call call) {
+        return call.path("domainIdentifier") + "/" + call.path("projectIdentifier");
+    }
+
+    private JsonNode createProjectMembership(final Call call) {
+        final String domainId = call.path("domainIdentifier");
+        final JsonNode member = call.getBody().path("member");
+        final ObjectNode membership = object().put("designation", call.text("designation"));
+        final String memberId;
+        if (member.hasNonNull("userIdentifier")) {
+            memberId = memberId(userProfiles, domainId, "userIdentifier", member.get("userIdentifier").asText());
+            membership.putObject("memberDetails").putObject("user").put("userId", memberId);
+        } else if (member.hasNonNull("groupIdentifier")) {
+            memberId = memberId(groupProfiles, domainId, "groupIdentifier", member.get("groupIdentifier").asText());
+            membership.putObject("memberDetails").putObject("group").put("groupId", memberId);
+        } else {
+            throw ServiceException.validation("Either userIdentifier or groupIdentifier is required");
+        }
+        projectMemberships.create(membershipScope(call), memberId, membership);
+        return object();
+    }
+
+    private JsonNode deleteProjectMembership(final Call call) {
+        final String domainId = call.path("domainIdentifier");
+        final JsonNode member = call.getBody().path("member");
+        final String memberId = member.hasNonNull("userIdentifier")
+                ? memberId(userProfiles, domainId, "userIdentifier", member.get("userIdentifier").asText())
+                : memberId(groupProfiles, domainId, "groupIdentifier", member.path("groupIdentifier").asText());
+        projectMemberships.delete(membershipScope(call), memberId);
+        return object();
+    }
+
+    /**
+     * @return The id of the profile of the member, or the identifier itself for a member without a profile.
+     */
+    private static String memberId(final ResourceTable profiles, final String domainId, final String aliasField,
+                                   final String identifier) {
+        return profiles.findFirst(domainId, isProfile(aliasField, identifier))
+                .map(profile -> profile.get("id").asText())
+                .orElse(identifier);
+    }
+
+    private JsonNode createEnvironmentProfile(final Call call) {
+        final String domainId = call.path("domainIdentifier");
+        final ObjectNode body = call.getBody();
+        final ObjectNode profile = copy(body, "name", "description", "awsAccountId", "awsAccountRegion")
+                .put("domainId", domainId)
+                .put("projectId", call.text("projectIdentifier"))
+                .put("environmentBlueprintId", call.text("environmentBlueprintIdentifier"))
+                .put("createdBy", CREATED_BY);
+        profile.set("userParameters", customParameters(body.path("userParameters")));
+        return environmentProfiles.create(domainId, ResourceTable.newId(""), profile);
+    }
+
+    private JsonNode updateEnvironmentProfile(final Call call) {
+        return environmentProfiles.update(call.path("domainIdentifier"), call.path("identifier"), profile -> {
+            merge(profile, call.getBody(), "name", "description", "awsAccountId", "awsAccountRegion");
+            if (call.getBody().has("userParameters")) {
+                profile.set("userParameters", customParameters(call.getBody().get("userParameters")));
+            }
+        });
+    }
+
+    private JsonNode createEnvironment(final Call call) {
+        final String domainId = call.path("domainIdentifier");
+        final ObjectNode body = call.getBody();
+        final ObjectNode environment = copy(body, "name", "description", "glossaryTerms")
+                .put("domainId", domainId)
+                .put("projectId", call.text("projectIdentifier"))
+                .put("provider", PROVIDER)
+                .put("createdBy", CREATED_BY);
+        environment.set("userParameters", customParameters(body.path("userParameters")));
+        final String profileId = call.text("environmentProfileIdentifier");
+        final Optional<ObjectNode> profile = profileId == null
+                ? Optional.empty()
+                : environmentProfiles.findFirst(domainId, matches("id", profileId));
+        environment.put("environmentProfileId", profileId);
+        environment.put("environmentBlueprintId", profile
+                .map(document -> document.path("environmentBlueprintId").asText(null))
+                .orElse(call.text("environmentBlueprintIdentifier")));
+        environment.put("awsAccountId", profile
+                .map(document -> document.path("awsAccountId").asText(null))
+                .orElse(Optional.ofNullable(call.text("environmentAccountIdentifier")).orElse(ACCOUNT_ID)));
+        environment.put("awsAccountRegion", profile
+                .map(document -> document.path("awsAccountRegion").asText(null))
+                .orElse(Optional.ofNullable(call.text("environmentAccountRegion")).orElse(region)));
+        return environments.create(domainId, ResourceTable.newId(""), environment);
+    }
+
+    private ObjectNode blueprint(final String name, final String description) {
+        final ObjectNode blueprint = object()
+                .put("id", ResourceTable.newId(""))
+                .put("name", name)
+                .put("description", description)
+                .put("provider", PROVIDER)
+                .put("createdAt", "2023-11-01T00:00:00Z")
+                .put("updatedAt", "2023-11-01T00:00:00Z");
+        blueprint.putObject("provisioningProperties").putObject("cloudFormation")
+                .put("templateUrl", String.format("https://datazone-blueprints-%s.s3.amazonaws.com/%s.json", region, name));
+        return blueprint;
+    }
+
+    private JsonNode putEnvironmentBlueprintConfiguration(final Call call) {
+        final String domainId = call.path("domainIdentifier");
+        final ObjectNode configuration = copy(call.getBody(), "enabledRegions", "manageAccessRoleArn",
+                "provisioningRoleArn", "regionalParameters")
+                .put("domainId", domainId);
+        return environmentBlueprintConfigurations.put(domainId, call.path("environmentBlueprintIdentifier"), configuration);
+    }
+
+    private JsonNode createDataSource(final Call call) {
+        final String domainId = call.path("domainIdentifier");
+        final ObjectNode dataSource = copy(call.getBody(), "name", "description", "type", "clientToken")
+                .put("domainId", domainId)
+                .put("projectId", call.text("projectIdentifier"))
+                .put("environmentId", call.text("environmentIdentifier"))
+                .put("enableSetting", "ENABLED");
+        mergeDataSource(dataSource, call.getBody());
+        return dataSources.create(domainId, ResourceTable.newId(""), dataSource);
+    }
+
+    private static void mergeDataSource(final ObjectNode dataSource, final ObjectNode body) {
+        merge(dataSource, body, "name", "description", "configuration", "enableSetting", "publishOnImport",
+                "recommendation", "schedule");
+        if (body.has("assetFormsInput")) {
+            dataSource.set("assetFormsOutput", body.get("assetFormsInput"));
+        }
+    }
+
+    private JsonNode listDataSources(final Call call) {
+        final List<ObjectNode> summaries = dataSources.list(call.path("domainIdentifier"),
+                matches("projectId", call.query("projectIdentifier"))
+                        .and(matches("environmentId", call.query("environmentIdentifier")))
+                        .and(matches("status", call.query("status")))
+                        .and(matches("type", call.query("type"))));
+        // The summaries name the id of the data source dataSourceId.
+        summaries.forEach(summary -> summary.set("dataSourceId", summary.get("id")));
+        return page(call, "items", summaries);
+    }
+
+    private static String subscriptionTargetScope(final Call call) {
+        return call.path("domainIdentifier") + "/" + call.path("environmentIdentifier");
+    }
+
+    private JsonNode createSubscriptionTarget(final Call call) {
+        final String domainId = call.path("domainIdentifier");
+        final String environmentId = call.path("environmentIdentifier");
+        final ObjectNode target = copy(call.getBody(), "name", "type", "provider", "manageAccessRole",
+                "applicableAssetTypes", "authorizedPrincipals", "subscriptionTargetConfig", "clientToken")
+                .put("domainId", domainId)
+                .put("environmentId", environmentId)
+                .put("createdBy", CREATED_BY);
+        environments.findFirst(domainId, matches("id", environmentId))
+                .ifPresent(environment -> target.set("projectId", environment.get("projectId")));
+        return subscriptionTargets.create(subscriptionTargetScope(call), ResourceTable.newId(""), target);
+    }
+
+    private JsonNode createGroupProfile(final Call call) {
+        final String domainId = call.path("domainIdentifier");
+        final String groupIdentifier = call.text("groupIdentifier");
+        if (groupProfiles.findFirst(domainId, isProfile("groupIdentifier", groupIdentifier)).isPresent()) {
+            throw ServiceException.conflict("GroupProfile %s already exists in domain %s", groupIdentifier, domainId);
+        }
+        final ObjectNode profile = object()
+                .put("domainId", domainId)
+                .put("groupIdentifier", groupIdentifier)
+                .put("groupName", groupIdentifier)
+                .put("status", "ASSIGNED");
+        merge(profile, call.getBody(), "clientToken");
+        return groupProfiles.create(domainId, ResourceTable.newId(""), profile);
+    }
+
+    private JsonNode createUserProfile(final Call call) {
+        final String domainId = call.path("domainIdentifier");
+        final String userIdentifier = call.text("userIdentifier");
+        if (userProfiles.findFirst(domainId, isProfile("userIdentifier", userIdentifier)).isPresent()) {
+            throw ServiceException.conflict("UserProfile %s already exists in domain %s", userIdentifier, domainId);
+        }
+        final boolean sso = "SSO_USER".equals(call.text("userType"));
+        final ObjectNode profile = object()
+                .put("domainId", domainId)
+                .put("userIdentifier", userIdentifier)
+                .put("type", sso ? "SSO" : "IAM")
+                .put("status", sso ? "ASSIGNED" : "ACTIVATED");
+        merge(profile, call.getBody(), "clientToken");
+        if (sso) {
+            profile.putObject("details").putObject("sso").put("username", userIdentifier);
+        } else {
+            profile.putObject("details").putObject("iam").put("arn", userIdentifier);
+        }
+        return userProfiles.create(domainId, ResourceTable.newId(""), profile);
+    }
+
+    private JsonNode searchUserProfiles(final Call call) {
+        final String userType = Optional.ofNullable(call.text("userType")).orElse("DATAZONE_USER");
+        final Predicate<ObjectNode> type;
+        switch (userType) {
+            case "DATAZONE_SSO_USER":
+            case "SSO_USER":
+                type = matches("type", "SSO");
+                break;
+            case "DATAZONE_IAM_USER":
+                type = matches("type", "IAM");
+                break;
+            default:
+                type = document -> true;
+                break;
+        }
+        return page(call, "items", userProfiles.list(call.path("domainIdentifier"),
+                type.and(contains("userIdentifier", call.text("searchText")))));
+    }
+
+    /**
+     * @return The id of the profile, found by its id or by the identifier it was created for.
+     */
+    private static String profileId(final ResourceTable profiles, final String domainId, final String aliasField,
+                                    final String identifier) {
+        return profiles.findFirst(domainId, isProfile(aliasField, identifier))
+                .map(profile -> profile.get("id").asText())
+                .orElseThrow(() -> ServiceException.notFound("Profile %s not found in domain %s", identifier, domainId));
+    }
+
+    private static Predicate<ObjectNode> isProfile(final String aliasField, final String identifier) {
+        return profile -> identifier != null
+                && (identifier.equals(profile.path("id").asText(null)) || identifier.equals(profile.path(aliasField).asText(null)));
+    }
+
+    /**
+     * @return Answers a page of the resources, with the token of the next page when there is one. The token is the
+     * position of the next page.
+     */
+    private static JsonNode page(final Call call, final String itemsField, final List<ObjectNode> documents) {
+        final int maxResults = Optional.ofNullable(call.parameter("maxResults")).map(Integer::parseInt).orElse(DEFAULT_MAX_RESULTS);
+        final String nextToken = call.parameter("nextToken");
+        final int from;
+        try {
+            from = nextToken == null ? 0 : Integer.parseInt(nextToken);
+        } catch (final NumberFormatException e) {
+            throw ServiceException.validation("Invalid nextToken %s", nextToken);
+        }
+        final int to = Math.min(documents.size(), from + maxResults);
+        final ObjectNode page = object();
+        final ArrayNode items = page.putArray(itemsField);
+        documents.subList(Math.min(from, to), to).forEach(items::add);
+        if (to < documents.size()) {
+            page.put("nextToken", String.valueOf(to));
+        }
+        return page;
+    }
+
+    /**
+     * Turns the parameters of a request, {@code {name, value}}, into the custom parameters of the response.
+     */
+    private static ArrayNode customParameters(final JsonNode userParameters) {
+        final ArrayNode parameters = JsonNodeFactory.instance.arrayNode();
+        userParameters.forEach(parameter -> parameters.addObject()
+                .put("keyName", parameter.path("name").asText())
+                .put("defaultValue", parameter.path("value").asText())
+                .put("fieldType", "String")
+                .put("isEditable", true)
+                .put("isOptional", false));
+        return parameters;
+    }
+
+    /**
+     * @return Whether the field of a document has the value, always true when no value is given.
+     */
+    private static Predicate<ObjectNode> matches(final String field, final String value) {
+        return document -> value == null || value.equals(document.path(field).asText(null));
+    }
+
+    private static Predicate<ObjectNode> contains(final String field, final String text) {
+        return document -> text == null
+                || document.path(field).asText("").toLowerCase(Locale.ROOT).contains(text.toLowerCase(Locale.ROOT));
+    }
+
+    private static ObjectNode copy(final ObjectNode body, final String... fields) {
+        return merge(object(), body, fields);
+    }
+
+    private static ObjectNode merge(final ObjectNode target, final ObjectNode body, final String... fields) {
+        for (final String field : fields) {
+            if (body.hasNonNull(field)) {
+                target.set(field, body.get(field).deepCopy());
+            }
+        }
+        return target;
+    }
+
+    /**
+     * @return The operation, answering with an empty 204 response the way the DataZone deletes without output do.
+     */
+    private static Router.Operation noContent(final Consumer<Call> operation) {
+        return call -> {
+            operation.accept(call);
+            return null;
+        };
+    }
+
+    private static ObjectNode object() {
+        return JsonNodeFactory.instance.objectNode();
+    }
+}
@@ -0,0 +1,75 @@
+package software.amazon.datazone.benchmarks.standin;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Applies the latency, throttling and errors of the {@link StandInSettings} to each request, before the request
+ * reaches the resources. Throttling comes either at random, at the throttle rate, or from a token bucket refilled at
+ * the maximum request rate, the way a service quota would throttle a burst.
+ */
+final class FaultInjector {
+    private static final long NANOS_PER_SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final StandInSettings settings;
+    private final Object bucketLock = new Object();
+    private double tokens;
+    private long refilledAt = System.nanoTime();
+
+    FaultInjector(final StandInSettings settings) {
+        this.settings = settings;
+        this.tokens = settings.getMaxRequestsPerSecond();
+    }
+
+    /**
+     * Waits for the latency of the request, then raises the fault chosen for it, if any.
+     *
+     * @throws ServiceException The throttling or internal error injected into the request.
+     */
+    void apply() {
+        delay();
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (!acquireToken() || random.nextDouble() < settings.getThrottleRate()) {
+            throw ServiceException.throttling();
+        }
+        if (random.nextDouble() < settings.getErrorRate()) {
+            throw ServiceException.internalError();
+        }
+    }
+
+    /**
+     * @return Whether the transition about to be made should settle in its failed status.
+     */
+    boolean failTransition() {
+        return ThreadLocalRandom.current().nextDouble() < settings.getFailedTransitionRate();
+    }
+
+    private void delay() {
+        long nanos = settings.getLatency().toNanos();
+        if (!settings.getLatencyJitter().isZero()) {
+            nanos += ThreadLocalRandom.current().nextLong(settings.getLatencyJitter().toNanos() + 1);
+        }
+        final long deadline = System.nanoTime() + nanos;
+        for (long remaining = nanos; remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private boolean acquireToken() {
+        final int maxRequestsPerSecond = settings.getMaxRequestsPerSecond();
+        if (maxRequestsPerSecond == 0) {
+            return true;
+        }
+        synchronized (bucketLock) {
+            final long now = System.nanoTime();
+            tokens = Math.min(maxRequestsPerSecond, tokens + (double) (now - refilledAt) * maxRequestsPerSecond / NANOS_PER_SECOND);
+            refilledAt = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens--;
+            return true;
+        }
+    }
+}
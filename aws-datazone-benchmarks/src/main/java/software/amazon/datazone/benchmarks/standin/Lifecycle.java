@@ -0,0 +1,82 @@
+package software.amazon.datazone.benchmarks.standin;
+
+/**
+ * The statuses a resource goes through. A resource that is created, updated or deleted sits in the transient status
+ * of that operation for the transition time of the {@link StandInSettings}, then settles in the stable status, or in
+ * the failed status for the failed transitions. A null transient status means the operation takes effect right away.
+ */
+final class Lifecycle {
+    /**
+     * Resources without a status, such as projects, on which every operation takes effect right away.
+     */
+    static final Lifecycle NONE = new Lifecycle(null, null, null, null, null, null, null);
+    static final Lifecycle DOMAIN = new Lifecycle("AVAILABLE",
+            "CREATING", "CREATION_FAILED",
+            null, null,
+            "DELETING", "DELETION_FAILED");
+    static final Lifecycle ENVIRONMENT = new Lifecycle("ACTIVE",
+            "CREATING", "CREATE_FAILED",
+            "UPDATING", "UPDATE_FAILED",
+            "DELETING", "DELETE_FAILED");
+    static final Lifecycle DATA_SOURCE = new Lifecycle("READY",
+            "CREATING", "FAILED_CREATION",
+            "UPDATING", "FAILED_UPDATE",
+            "DELETING", "FAILED_DELETION");
+
+    private final String stable;
+    private final String creating;
+    private final String createFailed;
+    private final String updating;
+    private final String updateFailed;
+    private final String deleting;
+    private final String deleteFailed;
+
+    private Lifecycle(final String stable,
+                      final String creating, final String createFailed,
+                      final String updating, final String updateFailed,
+                      final String deleting, final String deleteFailed) {
+        this.stable = stable;
+        this.creating = creating;
+        this.createFailed = createFailed;
+        this.updating = updating;
+        this.updateFailed = updateFailed;
+        this.deleting = deleting;
+        this.deleteFailed = deleteFailed;
+    }
+
+    String getStable() {
+        return stable;
+    }
+
+    String getCreating() {
+        return creating;
+    }
+
+    String getCreateFailed() {
+        return createFailed;
+    }
+
+    String getUpdating() {
+        return updating;
+    }
+
+    String getUpdateFailed() {
+        return updateFailed;
+    }
+
+    String getDeleting() {
+        return deleting;
+    }
+
+    String getDeleteFailed() {
+        return deleteFailed;
+    }
+
+    /**
+     * @param status The current status of a resource.
+     * @return Whether the resource is in the middle of an operation, and can not take another one yet.
+     */
+    boolean isTransient(final String status) {
+        return status != null && (status.equals(creating) || status.equals(updating) || status.equals(deleting));
+    }
+}
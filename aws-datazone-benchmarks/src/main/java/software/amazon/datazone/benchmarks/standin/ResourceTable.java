@@ -0,0 +1,315 @@
+package software.amazon.datazone.benchmarks.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * The resources of one type, as the JSON documents the stand-in answers with. Each resource lives in a scope, the
+ * identifiers of its parents in the request path, such as the domain of a project, and is found by its id.
+ * <p>
+ * Status transitions are settled lazily: an operation records the status the resource will settle in and when, and
+ * every read of the resource first settles the transitions that are due. This keeps the table free of timers, and
+ * makes a resource look the same to every caller at a given time.
+ */
+final class ResourceTable {
+    /**
+     * The formats of the timestamps in the DataZone service model: most resources use ISO 8601 date-times, domains and
+     * subscription targets use epoch seconds.
+     */
+    enum TimestampStyle {
+        ISO_8601,
+        EPOCH_SECONDS
+    }
+
+    private static final String STATUS = "status";
+    private static final String CLIENT_TOKEN = "clientToken";
+    private static final char[] ID_CHARACTERS = "abcdefghijklmnopqrstuvwxyz0123456789".toCharArray();
+
+    private final String typeName;
+    private final String idField;
+    private final Lifecycle lifecycle;
+    private final TimestampStyle timestampStyle;
+    private final StandInSettings settings;
+    private final FaultInjector faultInjector;
+    private final Clock clock;
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    ResourceTable(final String typeName,
+                  final String idField,
+                  final Lifecycle lifecycle,
+                  final TimestampStyle timestampStyle,
+                  final StandInSettings settings,
+                  final FaultInjector faultInjector,
+                  final Clock clock) {
+        this.typeName = typeName;
+        this.idField = idField;
+        this.lifecycle = lifecycle;
+        this.timestampStyle = timestampStyle;
+        this.settings = settings;
+        this.faultInjector = faultInjector;
+        this.clock = clock;
+    }
+
+    /**
+     * @param prefix Prefix of the ids, such as {@code dzd_} for domains.
+     * @return A new id in the format of the DataZone ids.
+     */
+    static String newId(final String prefix) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final StringBuilder id = new StringBuilder(prefix);
+        for (int index = 0; index < 14; index++) {
+            id.append(ID_CHARACTERS[random.nextInt(ID_CHARACTERS.length)]);
+        }
+        return id.toString();
+    }
+
+    /**
+     * Creates a resource in its creating status. A create repeated with the client token of an earlier create returns
+     * the resource of the earlier create instead of creating another one, the same way as DataZone.
+     *
+     * @param scope    Scope of the resource.
+     * @param id       Id of the new resource.
+     * @param document Fields of the new resource.
+     * @return The created resource.
+     * @throws ServiceException A ConflictException when the id is taken.
+     */
+    synchronized ObjectNode create(final String scope, final String id, final ObjectNode document) {
+        settle();
+        final String clientToken = document.path(CLIENT_TOKEN).asText(null);
+        if (clientToken != null) {
+            final Optional<ObjectNode> existing = entriesIn(scope)
+                    .filter(entry -> clientToken.equals(entry.document.path(CLIENT_TOKEN).asText(null)))
+                    .map(entry -> entry.document.deepCopy())
+                    .findFirst();
+            if (existing.isPresent()) {
+                return existing.get();
+            }
+        }
+        if (entries.containsKey(key(scope, id))) {
+            throw ServiceException.conflict("%s %s already exists", typeName, id);
+        }
+        final ObjectNode created = document.deepCopy();
+        created.put(idField, id);
+        putTimestamp(created, "createdAt");
+        touch(created);
+        final Entry entry = new Entry(created);
+        if (lifecycle.getStable() != null) {
+            transition(entry, lifecycle.getCreating(), lifecycle.getStable(), lifecycle.getCreateFailed(), false);
+        }
+        entries.put(key(scope, id), entry);
+        return created.deepCopy();
+    }
+
+    /**
+     * Adds a resource that is already settled in its stable status, such as a resource the stand-in starts with.
+     */
+    synchronized ObjectNode seed(final String scope, final String id, final ObjectNode document) {
+        final ObjectNode seeded = document.deepCopy();
+        seeded.put(idField, id);
+        putTimestamp(seeded, "createdAt");
+        touch(seeded);
+        if (lifecycle.getStable() != null) {
+            seeded.put(STATUS, lifecycle.getStable());
+        }
+        entries.put(key(scope, id), new Entry(seeded));
+        return seeded.deepCopy();
+    }
+
+    /**
+     * Creates the resource, or replaces all of its fields when it exists.
+     */
+    synchronized ObjectNode put(final String scope, final String id, final ObjectNode document) {
+        settle();
+        final Entry existing = entries.get(key(scope, id));
+        if (existing == null) {
+            return create(scope, id, document);
+        }
+        final JsonNode createdAt = existing.document.get("createdAt");
+        final ObjectNode replaced = document.deepCopy();
+        replaced.put(idField, id);
+        replaced.set("createdAt", createdAt);
+        touch(replaced);
+        existing.document = replaced;
+        return replaced.deepCopy();
+    }
+
+    /**
+     * @throws ServiceException A ResourceNotFoundException when there is no such resource.
+     */
+    synchronized ObjectNode get(final String scope, final String id) {
+        return find(scope, id).document.deepCopy();
+    }
+
+    /**
+     * @param scope     Scope of the resource.
+     * @param predicate Condition on the resource, such as a matching alias.
+     * @return The first resource of the scope that matches the condition.
+     */
+    synchronized Optional<ObjectNode> findFirst(final String scope, final Predicate<ObjectNode> predicate) {
+        settle();
+        return entriesIn(scope)
+                .map(entry -> entry.document)
+                .filter(predicate)
+                .map(ObjectNode::deepCopy)
+                .findFirst();
+    }
+
+    /**
+     * Changes the fields of a resource and moves it into its updating status.
+     *
+     * @throws ServiceException A ResourceNotFoundException when there is no such resource, a ConflictException when
+     *                          the resource is in the middle of another operation.
+     */
+    synchronized ObjectNode update(final String scope, final String id, final Consumer<ObjectNode> change) {
+        final Entry entry = find(scope, id);
+        checkNotTransient(entry, id);
+        change.accept(entry.document);
+        entry.document.put(idField, id);
+        touch(entry.document);
+        if (lifecycle.getUpdating() != null) {
+            transition(entry, lifecycle.getUpdating(), lifecycle.getStable(), lifecycle.getUpdateFailed(), false);
+        }
+        return entry.document.deepCopy();
+    }
+
+    /**
+     * Removes a resource, after it went through its deleting status.
+     *
+     * @return The resource as it is right after the delete request, in its deleting status when it has one.
+     * @throws ServiceException A ResourceNotFoundException when there is no such resource, a ConflictException when
+     *                          the resource is in the middle of another operation.
+     */
+    synchronized ObjectNode delete(final String scope, final String id) {
+        final Entry entry = find(scope, id);
+        checkNotTransient(entry, id);
+        if (lifecycle.getDeleting() == null) {
+            entries.remove(key(scope, id));
+        } else {
+            transition(entry, lifecycle.getDeleting(), null, lifecycle.getDeleteFailed(), true);
+        }
+        return entry.document.deepCopy();
+    }
+
+    /**
+     * @return The resources of the scope that match the condition, in the order they were created.
+     */
+    synchronized List<ObjectNode> list(final String scope, final Predicate<ObjectNode> predicate) {
+        settle();
+        final List<ObjectNode> documents = new ArrayList<>();
+        entriesIn(scope)
+                .map(entry -> entry.document)
+                .filter(predicate)
+                .forEach(document -> documents.add(document.deepCopy()));
+        return documents;
+    }
+
+    /**
+     * @return The number of resources in the table, across all scopes.
+     */
+    synchronized int size() {
+        settle();
+        return entries.size();
+    }
+
+    private Entry find(final String scope, final String id) {
+        settle();
+        final Entry entry = entries.get(key(scope, id));
+        if (entry == null) {
+            throw ServiceException.notFound("%s %s not found", typeName, id);
+        }
+        return entry;
+    }
+
+    private void checkNotTransient(final Entry entry, final String id) {
+        final String status = entry.document.path(STATUS).asText(null);
+        if (lifecycle.isTransient(status)) {
+            throw ServiceException.conflict("%s %s is %s", typeName, id, status);
+        }
+    }
+
+    private void transition(final Entry entry,
+                            final String transientStatus,
+                            final String stableStatus,
+                            final String failedStatus,
+                            final boolean removes) {
+        final boolean fails = faultInjector.failTransition();
+        entry.document.put(STATUS, transientStatus);
+        entry.settlesAt = clock.instant().plus(settings.getTransitionTime());
+        entry.settledStatus = fails ? failedStatus : stableStatus;
+        entry.removes = removes && !fails;
+    }
+
+    private void settle() {
+        final Instant now = clock.instant();
+        final Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            final Entry entry = iterator.next();
+            if (entry.settlesAt == null || now.isBefore(entry.settlesAt)) {
+                continue;
+            }
+            if (entry.removes) {
+                iterator.remove();
+                continue;
+            }
+            entry.document.put(STATUS, entry.settledStatus);
+            touch(entry.document);
+            entry.settlesAt = null;
+            entry.settledStatus = null;
+        }
+    }
+
+    private Stream<Entry> entriesIn(final String scope) {
+        final String prefix = scope + "/";
+        return entries.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(prefix))
+                .map(Map.Entry::getValue);
+    }
+
+    private void touch(final ObjectNode document) {
+        // Summaries and responses name the update timestamp differently, both are kept up to date.
+        putTimestamp(document, "updatedAt");
+        putTimestamp(document, "lastUpdatedAt");
+    }
+
+    private void putTimestamp(final ObjectNode document, final String field) {
+        final Instant now = clock.instant();
+        if (timestampStyle == TimestampStyle.EPOCH_SECONDS) {
+            document.put(field, BigDecimal.valueOf(now.toEpochMilli()).movePointLeft(3));
+        } else {
+            document.put(field, DateTimeFormatter.ISO_INSTANT.format(now));
+        }
+    }
+
+    private static String key(final String scope, final String id) {
+        return scope + "/" + id;
+    }
+
+    /**
+     * A resource, and the transition it is in, if any.
+     */
+    private static final class Entry {
+        private ObjectNode document;
+        private Instant settlesAt;
+        private String settledStatus;
+        private boolean removes;
+
+        private Entry(final ObjectNode document) {
+            this.document = document;
+        }
+    }
+}
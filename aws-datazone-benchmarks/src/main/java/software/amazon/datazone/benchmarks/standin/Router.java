@@ -0,0 +1,118 @@
+package software.amazon.datazone.benchmarks.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maps the method and path of a request to the DataZone operation it stands for, using the request URIs of the
+ * DataZone REST API, such as {@code GET /v2/domains/{domainIdentifier}/projects/{identifier}}.
+ */
+final class Router {
+    private static final Pattern PARAMETER = Pattern.compile("\\{(\\w+)}");
+
+    /**
+     * An operation of the stand-in.
+     */
+    @FunctionalInterface
+    interface Operation {
+        /**
+         * @return The body of the response, null for an empty 204 response.
+         * @throws ServiceException The error to answer with.
+         */
+        JsonNode handle(Call call);
+    }
+
+    private final List<Route> routes = new ArrayList<>();
+
+    /**
+     * @param operationName Name of the DataZone operation, such as GetProject.
+     * @param method        Http method of the operation.
+     * @param template      Request URI of the operation, with its path parameters in braces.
+     * @param operation     Implementation of the operation.
+     */
+    void add(final String operationName, final String method, final String template, final Operation operation) {
+        final List<String> names = new ArrayList<>();
+        final Matcher matcher = PARAMETER.matcher(template);
+        final StringBuilder regex = new StringBuilder();
+        int end = 0;
+        while (matcher.find()) {
+            regex.append(Pattern.quote(template.substring(end, matcher.start()))).append("([^/]+)");
+            names.add(matcher.group(1));
+            end = matcher.end();
+        }
+        regex.append(Pattern.quote(template.substring(end)));
+        routes.add(new Route(operationName, method, Pattern.compile(regex.toString()), names, operation));
+    }
+
+    /**
+     * @param method  Http method of the request.
+     * @param rawPath Path of the request, still URL-encoded so that an encoded slash stays within its parameter.
+     * @return The operation of the request and the call to make, empty when no operation matches.
+     */
+    Optional<Match> match(final String method, final String rawPath, final String rawQuery, final ObjectNode body) {
+        for (final Route route : routes) {
+            if (!route.method.equals(method)) {
+                continue;
+            }
+            final Matcher matcher = route.pattern.matcher(rawPath);
+            if (!matcher.matches()) {
+                continue;
+            }
+            final Map<String, String> parameters = new LinkedHashMap<>();
+            for (int index = 0; index < route.parameterNames.size(); index++) {
+                parameters.put(route.parameterNames.get(index), Call.decode(matcher.group(index + 1)));
+            }
+            return Optional.of(new Match(route.operation, new Call(route.operationName, parameters, rawQuery, body)));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * A request matched to its operation.
+     */
+    static final class Match {
+        private final Operation operation;
+        private final Call call;
+
+        private Match(final Operation operation, final Call call) {
+            this.operation = operation;
+            this.call = call;
+        }
+
+        Call getCall() {
+            return call;
+        }
+
+        JsonNode invoke() {
+            return operation.handle(call);
+        }
+    }
+
+    private static final class Route {
+        private final String operationName;
+        private final String method;
+        private final Pattern pattern;
+        private final List<String> parameterNames;
+        private final Operation operation;
+
+        private Route(final String operationName,
+                      final String method,
+                      final Pattern pattern,
+                      final List<String> parameterNames,
+                      final Operation operation) {
+            this.operationName = operationName;
+            this.method = method;
+            this.pattern = pattern;
+            this.parameterNames = parameterNames;
+            this.operation = operation;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package software.amazon.datazone.benchmarks.standin;
+
+/**
+ * An error answered the way DataZone answers it: the http status, the error type in the {@code x-amzn-ErrorType}
+ * header and the message in the body, so that the SDK client raises the same exception it would raise against the
+ * real service.
+ */
+public class ServiceException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final int statusCode;
+    private final String errorType;
+
+    public ServiceException(final int statusCode, final String errorType, final String message) {
+        super(message);
+        this.statusCode = statusCode;
+        this.errorType = errorType;
+    }
+
+    public static ServiceException notFound(final String format, final Object... args) {
+        return new ServiceException(404, "ResourceNotFoundException", String.format(format, args));
+    }
+
+    public static ServiceException conflict(final String format, final Object... args) {
+        return new ServiceException(409, "ConflictException", String.format(format, args));
+    }
+
+    public static ServiceException validation(final String format, final Object... args) {
+        return new ServiceException(400, "ValidationException", String.format(format, args));
+    }
+
+    public static ServiceException throttling() {
+        return new ServiceException(429, "ThrottlingException", "Rate exceeded");
+    }
+
+    public static ServiceException internalError() {
+        return new ServiceException(500, "InternalServerException", "Injected internal error");
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getErrorType() {
+        return errorType;
+    }
+}
@@ -0,0 +1,247 @@
+package software.amazon.datazone.benchmarks.standin;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Clock;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A local stand-in for the DataZone endpoint, to load and soak test the resource providers without a live service. It
+ * implements the DataZone REST operations the providers call on in-memory resources, see {@link DataZoneOperations},
+ * with the latency, status transitions, throttling and errors of its {@link StandInSettings}.
+ * <p>
+ * The providers reach it through their endpoint override, {@code DATAZONE_ENDPOINT_OVERRIDE=http://localhost:8080}.
+ * The stand-in does not check the request signatures, any credentials do. {@code GET /stand-in/stats} answers the
+ * number of requests per operation and outcome, and the number of resources of each type.
+ * <p>
+ * Usage: {@code StandInServer [--port 8080] [--threads 64] [--latency-millis 20] [--latency-jitter-millis 0]
+ * [--transition-millis 5000] [--failed-transition-rate 0] [--throttle-rate 0] [--max-requests-per-second 0]
+ * [--error-rate 0]}
+ */
+public final class StandInServer implements AutoCloseable {
+    private static final String STATS_PATH = "/stand-in/stats";
+    private static final String CREDENTIAL = "Credential=";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final StandInSettings settings;
+    private final FaultInjector faultInjector;
+    private final DataZoneOperations operations;
+    private final Router router = new Router();
+    private final Map<String, LongAdder> requestCounts = new ConcurrentHashMap<>();
+    private final Map<String, CallerCounts> callerCounts = new ConcurrentHashMap<>();
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private StandInServer(final StandInSettings settings, final String region) throws IOException {
+        this.settings = settings;
+        this.faultInjector = new FaultInjector(settings);
+        this.operations = new DataZoneOperations(region, settings, faultInjector, Clock.systemUTC());
+        operations.register(router);
+        this.executor = Executors.newFixedThreadPool(settings.getThreads(), runnable -> {
+            final Thread thread = new Thread(runnable, "stand-in-datazone");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress("localhost", settings.getPort()), 0);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * Starts a stand-in listening on localhost.
+     *
+     * @param settings Behaviour of the stand-in.
+     * @return The started stand-in, to close once done.
+     */
+    public static StandInServer start(final StandInSettings settings) throws IOException {
+        final String region = Optional.ofNullable(System.getenv("AWS_REGION")).orElse("us-east-1");
+        final StandInServer standIn = new StandInServer(settings, region);
+        standIn.server.start();
+        return standIn;
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        final StandInServer standIn = start(StandInSettings.fromArgs(args));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            System.out.println(standIn.stats().toPrettyString());
+            standIn.close();
+        }));
+        System.out.printf("DataZone stand-in listening on %s (%s)%n", standIn.getEndpoint(), standIn.settings);
+        System.out.printf("Seeded domain %s, set DATAZONE_ENDPOINT_OVERRIDE=%s for the resource providers%n",
+                DataZoneOperations.SEEDED_DOMAIN_ID, standIn.getEndpoint());
+        Thread.currentThread().join();
+    }
+
+    /**
+     * @return The endpoint to override the DataZone endpoint with.
+     */
+    public URI getEndpoint() {
+        return URI.create(String.format("http://localhost:%d", server.getAddress().getPort()));
+    }
+
+    /**
+     * @return The id of the domain the stand-in starts with, already AVAILABLE.
+     */
+    public String getSeededDomainId() {
+        return DataZoneOperations.SEEDED_DOMAIN_ID;
+    }
+
+    /**
+     * @return The number of requests per operation and outcome, such as {@code GetEnvironment 200}, and the number
+     * of resources of each type.
+     */
+    public ObjectNode stats() {
+        final ObjectNode stats = MAPPER.createObjectNode();
+        final ObjectNode requests = stats.putObject("requests");
+        requestCounts.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(count -> requests.put(count.getKey(), count.getValue().sum()));
+        stats.set("resources", operations.resourceCounts());
+        return stats;
+    }
+
+    /**
+     * Callers are told apart by the access key id their requests are signed with, so that a load generator can
+     * attribute the requests to what made them by giving each its own credentials.
+     *
+     * @return The number of requests signed with the access key id, throttled or not.
+     */
+    public long requestsFrom(final String accessKeyId) {
+        return Optional.ofNullable(callerCounts.get(accessKeyId)).map(counts -> counts.requests.sum()).orElse(0L);
+    }
+
+    /**
+     * @return The number of requests signed with the access key id that were answered with a ThrottlingException.
+     */
+    public long throttledRequestsFrom(final String accessKeyId) {
+        return Optional.ofNullable(callerCounts.get(accessKeyId)).map(counts -> counts.throttled.sum()).orElse(0L);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try {
+            final String method = exchange.getRequestMethod();
+            final String rawPath = exchange.getRequestURI().getRawPath();
+            if ("GET".equals(method) && STATS_PATH.equals(rawPath)) {
+                respond(exchange, 200, stats(), null);
+                return;
+            }
+
+            String operationName = "Unknown";
+            int statusCode;
+            try {
+                final Router.Match match = router.match(method, rawPath, exchange.getRequestURI().getRawQuery(),
+                                readBody(exchange.getRequestBody()))
+                        .orElseThrow(() -> new ServiceException(404, "UnknownOperationException",
+                                String.format("No operation for %s %s", method, rawPath)));
+                operationName = match.getCall().getOperationName();
+                faultInjector.apply();
+                final JsonNode response = match.invoke();
+                statusCode = response == null ? 204 : 200;
+                respond(exchange, statusCode, response, null);
+            } catch (final ServiceException e) {
+                statusCode = e.getStatusCode();
+                respond(exchange, statusCode, MAPPER.createObjectNode().put("message", e.getMessage()), e.getErrorType());
+            } catch (final RuntimeException e) {
+                // A request the stand-in can not make sense of, answered as a validation error instead of a hung call.
+                statusCode = 400;
+                respond(exchange, statusCode, MAPPER.createObjectNode().put("message", String.valueOf(e.getMessage())),
+                        "ValidationException");
+            }
+            requestCounts.computeIfAbsent(operationName + " " + statusCode, key -> new LongAdder()).increment();
+            final String accessKeyId = accessKeyId(exchange);
+            if (accessKeyId != null) {
+                final CallerCounts counts = callerCounts.computeIfAbsent(accessKeyId, key -> new CallerCounts());
+                counts.requests.increment();
+                if (statusCode == 429) {
+                    counts.throttled.increment();
+                }
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * @return The access key id of the SigV4 signature of the request, such as AKID in
+     * {@code AWS4-HMAC-SHA256 Credential=AKID/20240101/us-east-1/datazone/aws4_request, ...}, null when unsigned.
+     */
+    private static String accessKeyId(final HttpExchange exchange) {
+        final String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null) {
+            return null;
+        }
+        final int start = authorization.indexOf(CREDENTIAL);
+        final int end = start < 0 ? -1 : authorization.indexOf('/', start);
+        return end < 0 ? null : authorization.substring(start + CREDENTIAL.length(), end);
+    }
+
+    private static ObjectNode readBody(final InputStream body) throws IOException {
+        final byte[] bytes = body.readAllBytes();
+        if (bytes.length == 0) {
+            return MAPPER.createObjectNode();
+        }
+        final JsonNode node;
+        try {
+            node = MAPPER.readTree(bytes);
+        } catch (final JsonProcessingException e) {
+            throw ServiceException.validation("Malformed request body: %s", e.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            throw ServiceException.validation("Expected a JSON object as the request body");
+        }
+        return (ObjectNode) node;
+    }
+
+    private static void respond(final HttpExchange exchange,
+                                final int statusCode,
+                                final JsonNode body,
+                                final String errorType) throws IOException {
+        exchange.getResponseHeaders().set("x-amzn-RequestId", UUID.randomUUID().toString());
+        if (errorType != null) {
+            exchange.getResponseHeaders().set("x-amzn-ErrorType", errorType);
+        }
+        if (body == null) {
+            exchange.sendResponseHeaders(statusCode, -1);
+            return;
+        }
+        final byte[] bytes = MAPPER.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(statusCode, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    private static final class CallerCounts {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder throttled = new LongAdder();
+    }
+}
@@ -0,0 +1,155 @@
+package software.amazon.datazone.benchmarks.standin;
+
+import java.time.Duration;
+
+/**
+ * Behaviour of the {@link StandInServer}, read from its command line. Every setting has a default, so that the server
+ * answers right away and every resource settles within a few seconds when started without arguments.
+ */
+public final class StandInSettings {
+    private int port = 8080;
+    private int threads = 64;
+    private Duration latency = Duration.ofMillis(20);
+    private Duration latencyJitter = Duration.ZERO;
+    private Duration transitionTime = Duration.ofSeconds(5);
+    private double failedTransitionRate;
+    private double throttleRate;
+    private int maxRequestsPerSecond;
+    private double errorRate;
+
+    /**
+     * Reads the settings from {@code --name value} pairs, an unknown name or a value out of range fails fast instead
+     * of silently falling back to the default.
+     *
+     * @param args The command line.
+     * @return The settings.
+     */
+    public static StandInSettings fromArgs(final String... args) {
+        final StandInSettings settings = new StandInSettings();
+        for (int index = 0; index < args.length; index += 2) {
+            if (index + 1 >= args.length) {
+                throw new IllegalArgumentException(String.format("Missing value for %s", args[index]));
+            }
+            final String value = args[index + 1];
+            switch (args[index]) {
+                case "--port":
+                    settings.port = Integer.parseInt(value);
+                    break;
+                case "--threads":
+                    settings.threads = atLeast(args[index], Integer.parseInt(value), 1);
+                    break;
+                case "--latency-millis":
+                    settings.latency = millis(args[index], value);
+                    break;
+                case "--latency-jitter-millis":
+                    settings.latencyJitter = millis(args[index], value);
+                    break;
+                case "--transition-millis":
+                    settings.transitionTime = millis(args[index], value);
+                    break;
+                case "--failed-transition-rate":
+                    settings.failedTransitionRate = rate(args[index], value);
+                    break;
+                case "--throttle-rate":
+                    settings.throttleRate = rate(args[index], value);
+                    break;
+                case "--max-requests-per-second":
+                    settings.maxRequestsPerSecond = atLeast(args[index], Integer.parseInt(value), 0);
+                    break;
+                case "--error-rate":
+                    settings.errorRate = rate(args[index], value);
+                    break;
+                default:
+                    throw new IllegalArgumentException(String.format("Unknown option %s", args[index]));
+            }
+        }
+        return settings;
+    }
+
+    /**
+     * @return The port to listen on, 0 picks a free one.
+     */
+    public int getPort() {
+        return port;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @return The time every request takes at least, before it is answered.
+     */
+    public Duration getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return The upper bound of the random time added to the latency of each request.
+     */
+    public Duration getLatencyJitter() {
+        return latencyJitter;
+    }
+
+    /**
+     * @return The time a resource stays in a transient status, such as CREATING, before it settles.
+     */
+    public Duration getTransitionTime() {
+        return transitionTime;
+    }
+
+    /**
+     * @return The fraction of transitions that settle in the failed status, such as CREATE_FAILED.
+     */
+    public double getFailedTransitionRate() {
+        return failedTransitionRate;
+    }
+
+    /**
+     * @return The fraction of requests answered with a ThrottlingException regardless of the request rate.
+     */
+    public double getThrottleRate() {
+        return throttleRate;
+    }
+
+    /**
+     * @return The requests per second above which requests are answered with a ThrottlingException, 0 for no limit.
+     */
+    public int getMaxRequestsPerSecond() {
+        return maxRequestsPerSecond;
+    }
+
+    /**
+     * @return The fraction of requests answered with an InternalServerException.
+     */
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("port=%d, threads=%d, latency=%dms, latencyJitter=%dms, transitionTime=%dms, "
+                        + "failedTransitionRate=%s, throttleRate=%s, maxRequestsPerSecond=%d, errorRate=%s",
+                port, threads, latency.toMillis(), latencyJitter.toMillis(), transitionTime.toMillis(),
+                failedTransitionRate, throttleRate, maxRequestsPerSecond, errorRate);
+    }
+
+    private static int atLeast(final String name, final int value, final int minimum) {
+        if (value < minimum) {
+            throw new IllegalArgumentException(String.format("Expected at least %d for %s", minimum, name));
+        }
+        return value;
+    }
+
+    private static Duration millis(final String name, final String value) {
+        return Duration.ofMillis(atLeast(name, Integer.parseInt(value), 0));
+    }
+
+    private static double rate(final String name, final String value) {
+        final double rate = Double.parseDouble(value);
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException(String.format("Expected a rate between 0 and 1 for %s", name));
+        }
+        return rate;
+    }
+}
@@ -0,0 +1,111 @@
+package software.amazon.datazone.benchmarks.transport;
+
+import com.sun.net.httpserver.HttpServer;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.services.datazone.DataZoneClient;
+import software.amazon.awssdk.services.datazone.model.GetDomainRequest;
+import software.amazon.datazone.domain.client.DataZoneClientBuilder;
+import software.amazon.datazone.domain.client.HttpClientSettings;
+import software.amazon.datazone.domain.client.HttpTransport;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Measures cold and warm GetDomain latency of every {@link HttpTransport} against a local stand-in DataZone endpoint,
+ * so that the transport can be picked per Lambda memory size. Cold latency covers creating the http client and the
+ * DataZone client plus the first call, warm latency the calls after that on the same client. The clients are built by
+ * the HttpClientSettings and DataZoneClientBuilder of the domain provider, which every provider ships a copy of.
+ * <p>
+ * Class loading is only paid by the first transport measured in a JVM, so for comparable cold numbers run one
+ * transport per JVM, with the heap capped to the memory size under test:
+ * {@code java -Xmx512m -cp target/benchmarks.jar software.amazon.datazone.benchmarks.transport.HttpTransportBenchmark CRT 500}.
+ * Arguments are the comma separated transports (all by default) and the number of warm calls (1000 by default).
+ */
+public final class HttpTransportBenchmark {
+    private static final String DOMAIN_ID = "dzd_benchmark";
+    private static final byte[] GET_DOMAIN_RESPONSE = ("{\"id\":\"" + DOMAIN_ID + "\",\"name\":\"benchmark\"," +
+            "\"status\":\"AVAILABLE\",\"domainExecutionRole\":\"arn:aws:iam::123456789012:role/benchmark\"}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private HttpTransportBenchmark() {
+    }
+
+    public static void main(final String[] args) throws IOException {
+        final List<HttpTransport> transports = args.length > 0 ?
+                Arrays.stream(args[0].split(",")).map(HttpTransport::valueOf).collect(Collectors.toList()) :
+                Arrays.asList(HttpTransport.values());
+        final int warmCalls = args.length > 1 ? Math.max(1, Integer.parseInt(args[1])) : 1000;
+
+        // The SDK still signs the requests, the stand-in endpoint ignores the signature.
+        System.setProperty("aws.region", "us-east-1");
+        System.setProperty("aws.accessKeyId", "benchmark");
+        System.setProperty("aws.secretAccessKey", "benchmark");
+
+        final HttpServer server = startStandInEndpoint();
+        try {
+            final URI endpoint = URI.create("http://localhost:" + server.getAddress().getPort());
+            System.out.printf("max heap %d MiB, %d warm calls%n", Runtime.getRuntime().maxMemory() >> 20, warmCalls);
+            System.out.printf("%-15s %10s %10s %10s %10s%n", "transport", "cold ms", "warm p50", "warm p99", "warm max");
+            for (final HttpTransport transport : transports) {
+                // Setting keep-alive also gives the default transport a dedicated client, which is safe to close.
+                run(HttpClientSettings.builder()
+                        .transport(transport)
+                        .tcpKeepAlive(true)
+                        .endpointOverride(endpoint)
+                        .build(), warmCalls);
+            }
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static void run(final HttpClientSettings settings, final int warmCalls) {
+        final GetDomainRequest request = GetDomainRequest.builder().identifier(DOMAIN_ID).build();
+        final long coldStart = System.nanoTime();
+        try (SdkHttpClient httpClient = settings.createHttpClient();
+             DataZoneClient client = DataZoneClientBuilder.getClient(settings, httpClient)) {
+            client.getDomain(request);
+            final long cold = System.nanoTime() - coldStart;
+
+            final long[] warm = new long[warmCalls];
+            for (int i = 0; i < warmCalls; i++) {
+                final long start = System.nanoTime();
+                client.getDomain(request);
+                warm[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(warm);
+            System.out.printf("%-15s %10.2f %10.3f %10.3f %10.3f%n", settings.getTransport(), millis(cold),
+                    millis(percentile(warm, 0.5)), millis(percentile(warm, 0.99)), millis(warm[warm.length - 1]));
+        }
+    }
+
+    private static HttpServer startStandInEndpoint() throws IOException {
+        final HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, GET_DOMAIN_RESPONSE.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(GET_DOMAIN_RESPONSE);
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    private static long percentile(final long[] sorted, final double percentile) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private static double millis(final long nanos) {
+        return nanos / (double) Duration.ofMillis(1).toNanos();
+    }
+}
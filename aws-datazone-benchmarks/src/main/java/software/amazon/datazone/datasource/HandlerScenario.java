@@ -0,0 +1,164 @@
+package software.amazon.datazone.datasource;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.services.datazone.model.CreateDataSourceResponse;
+import software.amazon.awssdk.services.datazone.model.DataSourceRunStatus;
+import software.amazon.awssdk.services.datazone.model.DataSourceStatus;
+import software.amazon.awssdk.services.datazone.model.DataSourceSummary;
+import software.amazon.awssdk.services.datazone.model.DeleteDataSourceResponse;
+import software.amazon.awssdk.services.datazone.model.EnableSetting;
+import software.amazon.awssdk.services.datazone.model.FilterExpressionType;
+import software.amazon.awssdk.services.datazone.model.GetDataSourceResponse;
+import software.amazon.awssdk.services.datazone.model.ListDataSourcesResponse;
+import software.amazon.awssdk.services.datazone.model.UpdateDataSourceResponse;
+import software.amazon.cloudformation.proxy.HandlerRequest;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.datazone.benchmarks.BenchmarkData;
+import software.amazon.datazone.benchmarks.HandlerOperation;
+import software.amazon.datazone.benchmarks.ResourceScenario;
+import software.amazon.datazone.benchmarks.StubDataZoneService;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The data source handlers against a stubbed DataZone: the data source goes through CREATING, UPDATING and DELETING
+ * before it settles.
+ */
+public class HandlerScenario implements ResourceScenario {
+    private static final String NAME = "benchmark-data-source";
+    private static final String DATA_SOURCE_ID = BenchmarkData.id(1);
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public Duration prime() {
+        return Priming.prime(System.err::println);
+    }
+
+    @Override
+    public TypeReference<?> handlerRequestType() {
+        return new TypeReference<HandlerRequest<ResourceModel, CallbackContext>>() {
+        };
+    }
+
+    @Override
+    public List<HandlerOperation> operations(final int pollsUntilStable) {
+        return List.of(
+                operation("Create", new CreateHandler(), HandlerScenario::newModel, Map.of(
+                        "createDataSource", List.of(CreateDataSourceResponse.builder()
+                                .id(DATA_SOURCE_ID)
+                                .domainId(BenchmarkData.DOMAIN_ID)
+                                .name(NAME)
+                                .status(DataSourceStatus.CREATING)
+                                .build()),
+                        "getDataSource", StubDataZoneService.afterPolls(pollsUntilStable,
+                                getResponse(DataSourceStatus.CREATING), getResponse(DataSourceStatus.READY)))),
+                operation("Read", new ReadHandler(), HandlerScenario::existingModel, Map.of(
+                        "getDataSource", List.of(getResponse(DataSourceStatus.READY)))),
+                operation("Update", new UpdateHandler(), HandlerScenario::existingModel, Map.of(
+                        "updateDataSource", List.of(UpdateDataSourceResponse.builder()
+                                .id(DATA_SOURCE_ID)
+                                .domainId(BenchmarkData.DOMAIN_ID)
+                                .name(NAME)
+                                .status(DataSourceStatus.UPDATING)
+                                .build()),
+                        "getDataSource", StubDataZoneService.afterPolls(pollsUntilStable,
+                                getResponse(DataSourceStatus.UPDATING), getResponse(DataSourceStatus.READY)))),
+                operation("Delete", new DeleteHandler(), HandlerScenario::existingModel, Map.of(
+                        "deleteDataSource", List.of(DeleteDataSourceResponse.builder().status(DataSourceStatus.DELETING).build()),
+                        "getDataSource", StubDataZoneService.afterPolls(pollsUntilStable,
+                                getResponse(DataSourceStatus.DELETING), StubDataZoneService.notFound("DataSource not found")))),
+                operation("List", new ListHandler(), HandlerScenario::newModel, Map.of(
+                        "listDataSources", List.of(ListDataSourcesResponse.builder()
+                                .items(IntStream.range(0, 50)
+                                        .mapToObj(index -> DataSourceSummary.builder()
+                                                .dataSourceId(BenchmarkData.id(index))
+                                                .domainId(BenchmarkData.DOMAIN_ID)
+                                                .environmentId(BenchmarkData.ENVIRONMENT_ID)
+                                                .name("data-source-" + index)
+                                                .type("GLUE")
+                                                .status(DataSourceStatus.READY)
+                                                .enableSetting(EnableSetting.ENABLED)
+                                                .createdAt(BenchmarkData.CREATED_AT)
+                                                .updatedAt(BenchmarkData.UPDATED_AT)
+                                                .lastRunAt(BenchmarkData.UPDATED_AT)
+                                                .lastRunAssetCount(1200)
+                                                .lastRunStatus(DataSourceRunStatus.SUCCESS)
+                                                .build())
+                                        .collect(Collectors.toList()))
+                                .build()))));
+    }
+
+    private static HandlerOperation operation(final String name,
+                                              final BaseHandlerStd handler,
+                                              final Supplier<ResourceModel> resourceModel,
+                                              final Map<String, List<Object>> script) {
+        return new HandlerOperation(name, script, resourceModel, (proxy, model, callbackContext, logger) ->
+                handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder()
+                                .awsAccountId(BenchmarkData.ACCOUNT_ID)
+                                .region(BenchmarkData.REGION)
+                                .logicalResourceIdentifier("DataSource")
+                                .clientRequestToken("benchmark")
+                                .desiredResourceState((ResourceModel) model)
+                                .previousResourceState(existingModel())
+                                .build(),
+                        (CallbackContext) callbackContext, logger));
+    }
+
+    private static ResourceModel newModel() {
+        return ResourceModel.builder()
+                .domainIdentifier(BenchmarkData.DOMAIN_ID)
+                .projectIdentifier(BenchmarkData.PROJECT_ID)
+                .environmentIdentifier(BenchmarkData.ENVIRONMENT_ID)
+                .name(NAME)
+                .description(BenchmarkData.text(256))
+                .type("GLUE")
+                .enableSetting(EnableSetting.ENABLED.toString())
+                .publishOnImport(true)
+                .configuration(DataSourceConfigurationInput.builder()
+                        .glueRunConfiguration(GlueRunConfigurationInput.builder()
+                                .dataAccessRole(BenchmarkData.ROLE_ARN)
+                                .relationalFilterConfigurations(List.of(RelationalFilterConfiguration.builder()
+                                        .databaseName("sales")
+                                        .filterExpressions(List.of(FilterExpression.builder()
+                                                .type(FilterExpressionType.INCLUDE.toString())
+                                                .expression("orders_*")
+                                                .build()))
+                                        .build()))
+                                .build())
+                        .build())
+                .build();
+    }
+
+    private static ResourceModel existingModel() {
+        final ResourceModel model = newModel();
+        model.setId(DATA_SOURCE_ID);
+        model.setDomainId(BenchmarkData.DOMAIN_ID);
+        return model;
+    }
+
+    private static GetDataSourceResponse getResponse(final DataSourceStatus status) {
+        return GetDataSourceResponse.builder()
+                .id(DATA_SOURCE_ID)
+                .domainId(BenchmarkData.DOMAIN_ID)
+                .projectId(BenchmarkData.PROJECT_ID)
+                .environmentId(BenchmarkData.ENVIRONMENT_ID)
+                .name(NAME)
+                .description(BenchmarkData.text(256))
+                .type("GLUE")
+                .status(status)
+                .enableSetting(EnableSetting.ENABLED)
+                .publishOnImport(true)
+                .createdAt(BenchmarkData.CREATED_AT)
+                .updatedAt(BenchmarkData.UPDATED_AT)
+                .build();
+    }
+}
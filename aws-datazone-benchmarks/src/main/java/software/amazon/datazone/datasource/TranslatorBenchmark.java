@@ -0,0 +1,164 @@
+package software.amazon.datazone.datasource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.datazone.model.CreateDataSourceRequest;
+import software.amazon.awssdk.services.datazone.model.DataSourceRunStatus;
+import software.amazon.awssdk.services.datazone.model.DataSourceStatus;
+import software.amazon.awssdk.services.datazone.model.DataSourceSummary;
+import software.amazon.awssdk.services.datazone.model.EnableSetting;
+import software.amazon.awssdk.services.datazone.model.FilterExpressionType;
+import software.amazon.awssdk.services.datazone.model.GetDataSourceResponse;
+import software.amazon.awssdk.services.datazone.model.UpdateDataSourceRequest;
+import software.amazon.datazone.benchmarks.BenchmarkData;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Throughput of the data source {@link Translator} and {@link ResponseTranslator} in each direction, for a growing
+ * number of relational filter configurations, with the maximum of 10 asset forms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorBenchmark {
+    private static final String SCHEDULE = "cron(52 7 * * ? *)";
+
+    @Param({"1", "50"})
+    int filterConfigurationCount;
+
+    // A full page of ListDataSources.
+    @Param({"50"})
+    int listSize;
+
+    private ResourceModel model;
+    private GetDataSourceResponse getDataSourceResponse;
+    private List<DataSourceSummary> dataSourceSummaries;
+
+    @Setup
+    public void setUp() {
+        model = ResourceModel.builder()
+                .domainIdentifier(BenchmarkData.DOMAIN_ID)
+                .domainId(BenchmarkData.DOMAIN_ID)
+                .projectIdentifier(BenchmarkData.PROJECT_ID)
+                .environmentIdentifier(BenchmarkData.ENVIRONMENT_ID)
+                .id(BenchmarkData.id(1))
+                .name("benchmark-data-source")
+                .description(BenchmarkData.text(2048))
+                .type("GLUE")
+                .enableSetting(EnableSetting.ENABLED.toString())
+                .publishOnImport(true)
+                .recommendation(RecommendationConfiguration.builder().enableBusinessNameGeneration(true).build())
+                .schedule(ScheduleConfiguration.builder().schedule(SCHEDULE).timezone("UTC").build())
+                .configuration(DataSourceConfigurationInput.builder()
+                        .glueRunConfiguration(GlueRunConfigurationInput.builder()
+                                .dataAccessRole(BenchmarkData.ROLE_ARN)
+                                .relationalFilterConfigurations(IntStream.range(0, filterConfigurationCount)
+                                        .mapToObj(index -> RelationalFilterConfiguration.builder()
+                                                .databaseName("database_" + index)
+                                                .schemaName("schema_" + index)
+                                                .filterExpressions(List.of(
+                                                        FilterExpression.builder()
+                                                                .type(FilterExpressionType.INCLUDE.toString())
+                                                                .expression("sales_*")
+                                                                .build(),
+                                                        FilterExpression.builder()
+                                                                .type(FilterExpressionType.EXCLUDE.toString())
+                                                                .expression("*_staging")
+                                                                .build()))
+                                                .build())
+                                        .collect(Collectors.toList()))
+                                .build())
+                        .build())
+                .assetFormsInput(IntStream.range(0, 10)
+                        .mapToObj(index -> FormInput.builder()
+                                .formName("Form" + index)
+                                .typeIdentifier("amazon.datazone.BenchmarkFormType" + index)
+                                .typeRevision("1")
+                                .content(BenchmarkData.formContent(20))
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+        getDataSourceResponse = GetDataSourceResponse.builder()
+                .id(BenchmarkData.id(1))
+                .domainId(BenchmarkData.DOMAIN_ID)
+                .projectId(BenchmarkData.PROJECT_ID)
+                .environmentId(BenchmarkData.ENVIRONMENT_ID)
+                .name("benchmark-data-source")
+                .description(BenchmarkData.text(2048))
+                .type("GLUE")
+                .status(DataSourceStatus.READY)
+                .enableSetting(EnableSetting.ENABLED)
+                .publishOnImport(true)
+                .createdAt(BenchmarkData.CREATED_AT)
+                .updatedAt(BenchmarkData.UPDATED_AT)
+                .lastRunAt(BenchmarkData.UPDATED_AT)
+                .lastRunAssetCount(1200)
+                .lastRunStatus(DataSourceRunStatus.SUCCESS)
+                .recommendation(software.amazon.awssdk.services.datazone.model.RecommendationConfiguration.builder()
+                        .enableBusinessNameGeneration(true)
+                        .build())
+                .schedule(software.amazon.awssdk.services.datazone.model.ScheduleConfiguration.builder()
+                        .schedule(SCHEDULE)
+                        .timezone("UTC")
+                        .build())
+                .build();
+        dataSourceSummaries = IntStream.range(0, listSize)
+                .mapToObj(index -> DataSourceSummary.builder()
+                        .dataSourceId(BenchmarkData.id(index))
+                        .domainId(BenchmarkData.DOMAIN_ID)
+                        .environmentId(BenchmarkData.ENVIRONMENT_ID)
+                        .name("data-source-" + index)
+                        .type("GLUE")
+                        .status(DataSourceStatus.READY)
+                        .enableSetting(EnableSetting.ENABLED)
+                        .createdAt(BenchmarkData.CREATED_AT)
+                        .updatedAt(BenchmarkData.UPDATED_AT)
+                        .lastRunAt(BenchmarkData.UPDATED_AT)
+                        .lastRunAssetCount(1200)
+                        .lastRunStatus(DataSourceRunStatus.SUCCESS)
+                        .schedule(software.amazon.awssdk.services.datazone.model.ScheduleConfiguration.builder()
+                                .schedule(SCHEDULE)
+                                .timezone("UTC")
+                                .build())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public CreateDataSourceRequest toCreateRequest() {
+        return Translator.translateToCreateRequest(model, "benchmark-client-token");
+    }
+
+    @Benchmark
+    public UpdateDataSourceRequest toUpdateRequest() {
+        return Translator.translateToUpdateRequest(model);
+    }
+
+    @Benchmark
+    public ResourceModel fromGetResponse() {
+        return ResponseTranslator.translateFromReadResponse(getDataSourceResponse);
+    }
+
+    @Benchmark
+    public List<ResourceModel> fromListSummaries() {
+        return dataSourceSummaries.stream()
+                .map(ResponseTranslator::getResourceModelFromDataSourceSummary)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,150 @@
+package software.amazon.datazone.domain;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.services.datazone.model.CreateDomainResponse;
+import software.amazon.awssdk.services.datazone.model.DeleteDomainResponse;
+import software.amazon.awssdk.services.datazone.model.DomainStatus;
+import software.amazon.awssdk.services.datazone.model.DomainSummary;
+import software.amazon.awssdk.services.datazone.model.GetDomainResponse;
+import software.amazon.awssdk.services.datazone.model.ListDomainsResponse;
+import software.amazon.awssdk.services.datazone.model.TagResourceResponse;
+import software.amazon.awssdk.services.datazone.model.UntagResourceResponse;
+import software.amazon.awssdk.services.datazone.model.UpdateDomainResponse;
+import software.amazon.cloudformation.proxy.HandlerRequest;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.datazone.benchmarks.BenchmarkData;
+import software.amazon.datazone.benchmarks.HandlerOperation;
+import software.amazon.datazone.benchmarks.ResourceScenario;
+import software.amazon.datazone.benchmarks.StubDataZoneService;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The domain handlers against a stubbed DataZone: the domain goes through CREATING and DELETING before it settles, and
+ * the update replaces half of its tags, so that both the tag and the untag call are made.
+ */
+public class HandlerScenario implements ResourceScenario {
+    private static final String NAME = "benchmark-domain";
+    private static final String ARN = "arn:aws:datazone:us-east-1:123456789012:domain/" + BenchmarkData.DOMAIN_ID;
+    private static final String PORTAL_URL = "https://" + BenchmarkData.DOMAIN_ID + ".datazone.us-east-1.on.aws";
+    private static final List<String> TAG_KEYS = BenchmarkData.names("tag", 10);
+    private static final List<String> UPDATED_TAG_KEYS = BenchmarkData.names("tag", 15).subList(5, 15);
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public Duration prime() {
+        return Priming.prime(System.err::println);
+    }
+
+    @Override
+    public TypeReference<?> handlerRequestType() {
+        return new TypeReference<HandlerRequest<ResourceModel, CallbackContext>>() {
+        };
+    }
+
+    @Override
+    public List<HandlerOperation> operations(final int pollsUntilStable) {
+        return List.of(
+                operation("Create", new CreateHandler(), () -> newModel(TAG_KEYS), Map.of(
+                        "createDomain", List.of(CreateDomainResponse.builder()
+                                .arn(ARN)
+                                .id(BenchmarkData.DOMAIN_ID)
+                                .name(NAME)
+                                .portalUrl(PORTAL_URL)
+                                .status(DomainStatus.CREATING)
+                                .build()),
+                        "getDomain", StubDataZoneService.afterPolls(pollsUntilStable,
+                                getResponse(DomainStatus.CREATING, TAG_KEYS), getResponse(DomainStatus.AVAILABLE, TAG_KEYS)))),
+                operation("Read", new ReadHandler(), () -> existingModel(TAG_KEYS), Map.of(
+                        "getDomain", List.of(getResponse(DomainStatus.AVAILABLE, TAG_KEYS)))),
+                // DataZone has no transient status for updates, the update settles right away.
+                operation("Update", new UpdateHandler(), () -> existingModel(UPDATED_TAG_KEYS), Map.of(
+                        "updateDomain", List.of(UpdateDomainResponse.builder()
+                                .id(BenchmarkData.DOMAIN_ID)
+                                .name(NAME)
+                                .build()),
+                        "tagResource", List.of(TagResourceResponse.builder().build()),
+                        "untagResource", List.of(UntagResourceResponse.builder().build()),
+                        "getDomain", List.of(getResponse(DomainStatus.AVAILABLE, UPDATED_TAG_KEYS)))),
+                operation("Delete", new DeleteHandler(), () -> existingModel(TAG_KEYS), Map.of(
+                        "deleteDomain", List.of(DeleteDomainResponse.builder().status(DomainStatus.DELETING).build()),
+                        "getDomain", StubDataZoneService.afterPolls(pollsUntilStable,
+                                getResponse(DomainStatus.DELETING, TAG_KEYS), StubDataZoneService.notFound("Domain not found")))),
+                operation("List", new ListHandler(), ResourceModel::new, Map.of(
+                        "listDomains", List.of(ListDomainsResponse.builder()
+                                .items(IntStream.range(0, 25)
+                                        .mapToObj(index -> DomainSummary.builder()
+                                                .arn("arn:aws:datazone:us-east-1:123456789012:domain/" + BenchmarkData.id(index))
+                                                .createdAt(BenchmarkData.CREATED_AT)
+                                                .description(BenchmarkData.text(256))
+                                                .id(BenchmarkData.id(index))
+                                                .lastUpdatedAt(BenchmarkData.UPDATED_AT)
+                                                .managedAccountId(BenchmarkData.ACCOUNT_ID)
+                                                .name("domain-" + index)
+                                                .portalUrl("https://" + BenchmarkData.id(index) + ".datazone.us-east-1.on.aws")
+                                                .status(DomainStatus.AVAILABLE)
+                                                .build())
+                                        .collect(Collectors.toList()))
+                                .build()))));
+    }
+
+    private static HandlerOperation operation(final String name,
+                                              final BaseHandlerStd handler,
+                                              final Supplier<ResourceModel> resourceModel,
+                                              final Map<String, List<Object>> script) {
+        return new HandlerOperation(name, script, resourceModel, (proxy, model, callbackContext, logger) ->
+                handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder()
+                                .awsAccountId(BenchmarkData.ACCOUNT_ID)
+                                .region(BenchmarkData.REGION)
+                                .logicalResourceIdentifier("Domain")
+                                .clientRequestToken("benchmark")
+                                .desiredResourceState((ResourceModel) model)
+                                .previousResourceState(existingModel(TAG_KEYS))
+                                .build(),
+                        (CallbackContext) callbackContext, logger));
+    }
+
+    private static ResourceModel newModel(final List<String> tagKeys) {
+        return ResourceModel.builder()
+                .name(NAME)
+                .description(BenchmarkData.text(256))
+                .domainExecutionRole(BenchmarkData.ROLE_ARN)
+                .tags(tagKeys.stream()
+                        .map(key -> Tag.builder().key(key).value(BenchmarkData.text(64)).build())
+                        .collect(Collectors.toSet()))
+                .build();
+    }
+
+    private static ResourceModel existingModel(final List<String> tagKeys) {
+        final ResourceModel model = newModel(tagKeys);
+        model.setId(BenchmarkData.DOMAIN_ID);
+        model.setArn(ARN);
+        model.setPortalUrl(PORTAL_URL);
+        return model;
+    }
+
+    private static GetDomainResponse getResponse(final DomainStatus status, final List<String> tagKeys) {
+        return GetDomainResponse.builder()
+                .arn(ARN)
+                .createdAt(BenchmarkData.CREATED_AT)
+                .description(BenchmarkData.text(256))
+                .domainExecutionRole(BenchmarkData.ROLE_ARN)
+                .id(BenchmarkData.DOMAIN_ID)
+                .lastUpdatedAt(BenchmarkData.UPDATED_AT)
+                .name(NAME)
+                .portalUrl(PORTAL_URL)
+                .status(status)
+                .tags(tagKeys.stream().collect(Collectors.toMap(Function.identity(), key -> BenchmarkData.text(64))))
+                .build();
+    }
+}
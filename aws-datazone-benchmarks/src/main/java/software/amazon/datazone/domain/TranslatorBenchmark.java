@@ -0,0 +1,119 @@
+package software.amazon.datazone.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.datazone.model.CreateDomainRequest;
+import software.amazon.awssdk.services.datazone.model.DomainStatus;
+import software.amazon.awssdk.services.datazone.model.DomainSummary;
+import software.amazon.awssdk.services.datazone.model.GetDomainResponse;
+import software.amazon.awssdk.services.datazone.model.UpdateDomainRequest;
+import software.amazon.datazone.benchmarks.BenchmarkData;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Throughput of the domain {@link Translator} in each direction, for a growing number of tags.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    // A resource can have at most 50 tags.
+    @Param({"1", "50"})
+    int tagCount;
+
+    // A full page of ListDomains.
+    @Param({"25"})
+    int listSize;
+
+    private ResourceModel model;
+    private GetDomainResponse getDomainResponse;
+    private List<DomainSummary> domainSummaries;
+
+    @Setup
+    public void setUp() {
+        final Map<String, String> tags = BenchmarkData.names("tag", tagCount).stream()
+                .collect(Collectors.toMap(Function.identity(), key -> BenchmarkData.text(256)));
+        model = ResourceModel.builder()
+                .id(BenchmarkData.DOMAIN_ID)
+                .name("benchmark-domain")
+                .description(BenchmarkData.text(2048))
+                .domainExecutionRole(BenchmarkData.ROLE_ARN)
+                .kmsKeyIdentifier("arn:aws:kms:us-east-1:123456789012:key/1234abcd-12ab-34cd-56ef-1234567890ab")
+                .singleSignOn(SingleSignOn.builder().type("IAM_IDC").userAssignment("AUTOMATIC").build())
+                .tags(tags.entrySet().stream()
+                        .map(tag -> Tag.builder().key(tag.getKey()).value(tag.getValue()).build())
+                        .collect(Collectors.toSet()))
+                .build();
+        getDomainResponse = GetDomainResponse.builder()
+                .arn("arn:aws:datazone:us-east-1:123456789012:domain/" + BenchmarkData.DOMAIN_ID)
+                .createdAt(BenchmarkData.CREATED_AT)
+                .description(BenchmarkData.text(2048))
+                .domainExecutionRole(BenchmarkData.ROLE_ARN)
+                .id(BenchmarkData.DOMAIN_ID)
+                .kmsKeyIdentifier("arn:aws:kms:us-east-1:123456789012:key/1234abcd-12ab-34cd-56ef-1234567890ab")
+                .lastUpdatedAt(BenchmarkData.UPDATED_AT)
+                .name("benchmark-domain")
+                .portalUrl("https://" + BenchmarkData.DOMAIN_ID + ".datazone.us-east-1.on.aws")
+                .singleSignOn(software.amazon.awssdk.services.datazone.model.SingleSignOn.builder()
+                        .type("IAM_IDC")
+                        .userAssignment("AUTOMATIC")
+                        .build())
+                .status(DomainStatus.AVAILABLE)
+                .tags(tags)
+                .build();
+        domainSummaries = IntStream.range(0, listSize)
+                .mapToObj(index -> DomainSummary.builder()
+                        .arn("arn:aws:datazone:us-east-1:123456789012:domain/" + BenchmarkData.id(index))
+                        .createdAt(BenchmarkData.CREATED_AT)
+                        .description(BenchmarkData.text(256))
+                        .id(BenchmarkData.id(index))
+                        .lastUpdatedAt(BenchmarkData.UPDATED_AT)
+                        .managedAccountId(BenchmarkData.ACCOUNT_ID)
+                        .name("domain-" + index)
+                        .portalUrl("https://" + BenchmarkData.id(index) + ".datazone.us-east-1.on.aws")
+                        .status(DomainStatus.AVAILABLE)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public CreateDomainRequest toCreateRequest() {
+        return Translator.translateToCreateRequest(model, "benchmark-client-token");
+    }
+
+    @Benchmark
+    public UpdateDomainRequest toUpdateRequest() {
+        return Translator.translateToUpdateRequest(model, true);
+    }
+
+    @Benchmark
+    public ResourceModel fromGetResponse() {
+        return Translator.translateFromReadResponse(getDomainResponse);
+    }
+
+    @Benchmark
+    public List<ResourceModel> fromListSummaries() {
+        return domainSummaries.stream()
+                .map(Translator::getResourceModelFromDomainSummary)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,185 @@
+package software.amazon.datazone.environment;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.services.datazone.model.CreateEnvironmentResponse;
+import software.amazon.awssdk.services.datazone.model.DeleteEnvironmentResponse;
+import software.amazon.awssdk.services.datazone.model.Deployment;
+import software.amazon.awssdk.services.datazone.model.EnvironmentError;
+import software.amazon.awssdk.services.datazone.model.EnvironmentStatus;
+import software.amazon.awssdk.services.datazone.model.EnvironmentSummary;
+import software.amazon.awssdk.services.datazone.model.GetEnvironmentResponse;
+import software.amazon.awssdk.services.datazone.model.ListEnvironmentsResponse;
+import software.amazon.awssdk.services.datazone.model.UpdateEnvironmentResponse;
+import software.amazon.cloudformation.proxy.HandlerRequest;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.datazone.benchmarks.BenchmarkData;
+import software.amazon.datazone.benchmarks.HandlerOperation;
+import software.amazon.datazone.benchmarks.ResourceScenario;
+import software.amazon.datazone.benchmarks.StubDataZoneService;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The environment handlers against a stubbed DataZone: the environment goes through CREATING, UPDATING and DELETING
+ * before it settles. DeleteRetry is a deletion whose deployment times out once and is retried.
+ */
+public class HandlerScenario implements ResourceScenario {
+    private static final String NAME = "benchmark-environment";
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public Duration prime() {
+        return Priming.prime(System.err::println);
+    }
+
+    @Override
+    public TypeReference<?> handlerRequestType() {
+        return new TypeReference<HandlerRequest<ResourceModel, CallbackContext>>() {
+        };
+    }
+
+    @Override
+    public List<HandlerOperation> operations(final int pollsUntilStable) {
+        return List.of(
+                operation("Create", new CreateHandler(), HandlerScenario::newModel, Map.of(
+                        "createEnvironment", List.of(CreateEnvironmentResponse.builder()
+                                .id(BenchmarkData.ENVIRONMENT_ID)
+                                .domainId(BenchmarkData.DOMAIN_ID)
+                                .name(NAME)
+                                .projectId(BenchmarkData.PROJECT_ID)
+                                .status(EnvironmentStatus.CREATING)
+                                .build()),
+                        "getEnvironment", StubDataZoneService.afterPolls(pollsUntilStable,
+                                getResponse(EnvironmentStatus.CREATING), getResponse(EnvironmentStatus.ACTIVE)))),
+                operation("Read", new ReadHandler(), HandlerScenario::existingModel, Map.of(
+                        "getEnvironment", List.of(getResponse(EnvironmentStatus.ACTIVE)))),
+                operation("Update", new UpdateHandler(), HandlerScenario::existingModel, Map.of(
+                        "updateEnvironment", List.of(UpdateEnvironmentResponse.builder()
+                                .id(BenchmarkData.ENVIRONMENT_ID)
+                                .domainId(BenchmarkData.DOMAIN_ID)
+                                .name(NAME)
+                                .projectId(BenchmarkData.PROJECT_ID)
+                                .status(EnvironmentStatus.UPDATING)
+                                .build()),
+                        "getEnvironment", readBeforeTheCall(StubDataZoneService.afterPolls(pollsUntilStable,
+                                getResponse(EnvironmentStatus.UPDATING), getResponse(EnvironmentStatus.ACTIVE))))),
+                operation("Delete", new DeleteHandler(), HandlerScenario::existingModel, Map.of(
+                        "deleteEnvironment", List.of(DeleteEnvironmentResponse.builder().build()),
+                        "getEnvironment", readBeforeTheCall(StubDataZoneService.afterPolls(pollsUntilStable,
+                                getResponse(EnvironmentStatus.DELETING), StubDataZoneService.notFound("Environment not found"))))),
+                operation("DeleteRetry", new DeleteHandler(), HandlerScenario::existingModel, Map.of(
+                        "deleteEnvironment", List.of(DeleteEnvironmentResponse.builder().build()),
+                        "getEnvironment", readBeforeTheCall(deletionTimedOutOnce(pollsUntilStable)))),
+                operation("List", new ListHandler(), HandlerScenario::newModel, Map.of(
+                        "listEnvironments", List.of(ListEnvironmentsResponse.builder()
+                                .items(IntStream.range(0, 50)
+                                        .mapToObj(index -> EnvironmentSummary.builder()
+                                                .awsAccountId(BenchmarkData.ACCOUNT_ID)
+                                                .awsAccountRegion(BenchmarkData.REGION)
+                                                .createdAt(BenchmarkData.CREATED_AT)
+                                                .createdBy(BenchmarkData.id(2))
+                                                .domainId(BenchmarkData.DOMAIN_ID)
+                                                .environmentProfileId(BenchmarkData.id(1))
+                                                .id(BenchmarkData.id(index))
+                                                .name("environment-" + index)
+                                                .projectId(BenchmarkData.PROJECT_ID)
+                                                .provider("Amazon DataZone")
+                                                .status(EnvironmentStatus.ACTIVE)
+                                                .updatedAt(BenchmarkData.UPDATED_AT)
+                                                .build())
+                                        .collect(Collectors.toList()))
+                                .build()))));
+    }
+
+    private static HandlerOperation operation(final String name,
+                                              final BaseHandlerStd handler,
+                                              final Supplier<ResourceModel> resourceModel,
+                                              final Map<String, List<Object>> script) {
+        return new HandlerOperation(name, script, resourceModel, (proxy, model, callbackContext, logger) ->
+                handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder()
+                                .awsAccountId(BenchmarkData.ACCOUNT_ID)
+                                .region(BenchmarkData.REGION)
+                                .logicalResourceIdentifier("Environment")
+                                .clientRequestToken("benchmark")
+                                .desiredResourceState((ResourceModel) model)
+                                .previousResourceState(existingModel())
+                                .build(),
+                        (CallbackContext) callbackContext, logger));
+    }
+
+    private static ResourceModel newModel() {
+        return ResourceModel.builder()
+                .domainIdentifier(BenchmarkData.DOMAIN_ID)
+                .projectIdentifier(BenchmarkData.PROJECT_ID)
+                .environmentProfileIdentifier(BenchmarkData.id(1))
+                .name(NAME)
+                .description(BenchmarkData.text(256))
+                .glossaryTerms(BenchmarkData.names("term", 5))
+                .build();
+    }
+
+    private static ResourceModel existingModel() {
+        final ResourceModel model = newModel();
+        model.setId(BenchmarkData.ENVIRONMENT_ID);
+        model.setDomainId(BenchmarkData.DOMAIN_ID);
+        return model;
+    }
+
+    /**
+     * @return The reads of a deletion whose deployment times out once: it fails with a 408 after the polls, the
+     * handler deletes the environment again on the same invocation, and it is gone at the next read.
+     */
+    private static List<Object> deletionTimedOutOnce(final int pollsUntilStable) {
+        final GetEnvironmentResponse timedOut = getResponse(EnvironmentStatus.DELETE_FAILED).toBuilder()
+                .lastDeployment(Deployment.builder()
+                        .deploymentId(BenchmarkData.id(4))
+                        .failureReason(EnvironmentError.builder()
+                                .code("408")
+                                .message("Deployment timed out")
+                                .build())
+                        .build())
+                .build();
+        final List<Object> responses = StubDataZoneService.afterPolls(pollsUntilStable,
+                getResponse(EnvironmentStatus.DELETING), timedOut);
+        responses.add(StubDataZoneService.notFound("Environment not found"));
+        return responses;
+    }
+
+    /**
+     * @return The reads of an update or a deletion: the environment is read once before the call, for the deployment
+     * it had before it.
+     */
+    private static List<Object> readBeforeTheCall(final List<Object> responses) {
+        responses.add(0, getResponse(EnvironmentStatus.ACTIVE));
+        return responses;
+    }
+
+    private static GetEnvironmentResponse getResponse(final EnvironmentStatus status) {
+        return GetEnvironmentResponse.builder()
+                .awsAccountId(BenchmarkData.ACCOUNT_ID)
+                .awsAccountRegion(BenchmarkData.REGION)
+                .createdAt(BenchmarkData.CREATED_AT)
+                .createdBy(BenchmarkData.id(2))
+                .description(BenchmarkData.text(256))
+                .domainId(BenchmarkData.DOMAIN_ID)
+                .environmentBlueprintId(BenchmarkData.id(3))
+                .environmentProfileId(BenchmarkData.id(1))
+                .glossaryTerms(BenchmarkData.names("term", 5))
+                .id(BenchmarkData.ENVIRONMENT_ID)
+                .name(NAME)
+                .projectId(BenchmarkData.PROJECT_ID)
+                .provider("Amazon DataZone")
+                .status(status)
+                .updatedAt(BenchmarkData.UPDATED_AT)
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package software.amazon.datazone.environment;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.datazone.model.CreateEnvironmentRequest;
+import software.amazon.awssdk.services.datazone.model.CustomParameter;
+import software.amazon.awssdk.services.datazone.model.EnvironmentStatus;
+import software.amazon.awssdk.services.datazone.model.EnvironmentSummary;
+import software.amazon.awssdk.services.datazone.model.GetEnvironmentResponse;
+import software.amazon.awssdk.services.datazone.model.ListEnvironmentsResponse;
+import software.amazon.awssdk.services.datazone.model.UpdateEnvironmentRequest;
+import software.amazon.datazone.benchmarks.BenchmarkData;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Throughput of the environment {@link Translator} in each direction, for a growing number of user parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    @Param({"5", "100"})
+    int userParameterCount;
+
+    // A full page of ListEnvironments.
+    @Param({"50"})
+    int listSize;
+
+    private ResourceModel model;
+    private GetEnvironmentResponse getEnvironmentResponse;
+    private ListEnvironmentsResponse listEnvironmentsResponse;
+
+    @Setup
+    public void setUp() {
+        final List<String> names = BenchmarkData.names("parameter", userParameterCount);
+        model = ResourceModel.builder()
+                .domainIdentifier(BenchmarkData.DOMAIN_ID)
+                .projectIdentifier(BenchmarkData.PROJECT_ID)
+                .environmentProfileIdentifier(BenchmarkData.id(1))
+                .id(BenchmarkData.ENVIRONMENT_ID)
+                .name("benchmark-environment")
+                .description(BenchmarkData.text(2048))
+                .glossaryTerms(BenchmarkData.names("term", 20))
+                .userParameters(names.stream()
+                        .map(name -> EnvironmentParameter.builder().name(name).value(BenchmarkData.text(256)).build())
+                        .collect(Collectors.toList()))
+                .build();
+        getEnvironmentResponse = GetEnvironmentResponse.builder()
+                .awsAccountId(BenchmarkData.ACCOUNT_ID)
+                .awsAccountRegion(BenchmarkData.REGION)
+                .createdAt(BenchmarkData.CREATED_AT)
+                .createdBy(BenchmarkData.id(2))
+                .description(BenchmarkData.text(2048))
+                .domainId(BenchmarkData.DOMAIN_ID)
+                .environmentBlueprintId(BenchmarkData.id(3))
+                .environmentProfileId(BenchmarkData.id(1))
+                .glossaryTerms(BenchmarkData.names("term", 20))
+                .id(BenchmarkData.ENVIRONMENT_ID)
+                .name("benchmark-environment")
+                .projectId(BenchmarkData.PROJECT_ID)
+                .provider("Amazon DataZone")
+                .status(EnvironmentStatus.ACTIVE)
+                .updatedAt(BenchmarkData.UPDATED_AT)
+                .userParameters(names.stream()
+                        .map(name -> CustomParameter.builder()
+                                .keyName(name)
+                                .defaultValue(BenchmarkData.text(256))
+                                .description(BenchmarkData.text(128))
+                                .fieldType("String")
+                                .isEditable(true)
+                                .isOptional(false)
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+        listEnvironmentsResponse = ListEnvironmentsResponse.builder()
+                .items(IntStream.range(0, listSize)
+                        .mapToObj(index -> EnvironmentSummary.builder()
+                                .awsAccountId(BenchmarkData.ACCOUNT_ID)
+                                .awsAccountRegion(BenchmarkData.REGION)
+                                .createdAt(BenchmarkData.CREATED_AT)
+                                .createdBy(BenchmarkData.id(2))
+                                .description(BenchmarkData.text(256))
+                                .domainId(BenchmarkData.DOMAIN_ID)
+                                .environmentProfileId(BenchmarkData.id(1))
+                                .id(BenchmarkData.id(index))
+                                .name("environment-" + index)
+                                .projectId(BenchmarkData.PROJECT_ID)
+                                .provider("Amazon DataZone")
+                                .status(EnvironmentStatus.ACTIVE)
+                                .updatedAt(BenchmarkData.UPDATED_AT)
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    @Benchmark
+    public CreateEnvironmentRequest toCreateRequest() {
+        return Translator.translateToCreateRequest(model);
+    }
+
+    @Benchmark
+    public UpdateEnvironmentRequest toUpdateRequest() {
+        return Translator.translateToFirstUpdateRequest(model);
+    }
+
+    @Benchmark
+    public ResourceModel fromGetResponse() {
+        return Translator.translateFromReadResponse(getEnvironmentResponse);
+    }
+
+    @Benchmark
+    public List<ResourceModel> fromListSummaries() {
+        return Translator.translateFromListRequest(listEnvironmentsResponse);
+    }
+}
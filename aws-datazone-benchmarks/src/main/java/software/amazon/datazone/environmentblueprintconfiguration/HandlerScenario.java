@@ -0,0 +1,155 @@
+package software.amazon.datazone.environmentblueprintconfiguration;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.services.datazone.model.DeleteEnvironmentBlueprintConfigurationResponse;
+import software.amazon.awssdk.services.datazone.model.EnvironmentBlueprintConfigurationItem;
+import software.amazon.awssdk.services.datazone.model.EnvironmentBlueprintSummary;
+import software.amazon.awssdk.services.datazone.model.GetEnvironmentBlueprintConfigurationResponse;
+import software.amazon.awssdk.services.datazone.model.ListEnvironmentBlueprintConfigurationsResponse;
+import software.amazon.awssdk.services.datazone.model.ListEnvironmentBlueprintsResponse;
+import software.amazon.awssdk.services.datazone.model.PutEnvironmentBlueprintConfigurationResponse;
+import software.amazon.cloudformation.proxy.HandlerRequest;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.datazone.benchmarks.BenchmarkData;
+import software.amazon.datazone.benchmarks.HandlerOperation;
+import software.amazon.datazone.benchmarks.ResourceScenario;
+import software.amazon.datazone.benchmarks.StubDataZoneService;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The environment blueprint configuration handlers against a stubbed DataZone. A configuration is put in place in a
+ * single call, none of the operations has to wait for it to settle, so the polls do not apply.
+ */
+public class HandlerScenario implements ResourceScenario {
+    private static final String BLUEPRINT_NAME = "DefaultDataLake";
+    private static final String BLUEPRINT_ID = BenchmarkData.id(3);
+    private static final List<String> REGIONS = List.of("us-east-1", "us-west-2", "eu-west-1");
+    private static final Map<String, Map<String, String>> REGIONAL_PARAMETERS = REGIONS.stream()
+            .collect(Collectors.toMap(Function.identity(), region -> Map.of("S3Location", "s3://benchmark-" + region)));
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public Duration prime() {
+        return Priming.prime(System.err::println);
+    }
+
+    @Override
+    public TypeReference<?> handlerRequestType() {
+        return new TypeReference<HandlerRequest<ResourceModel, CallbackContext>>() {
+        };
+    }
+
+    @Override
+    public List<HandlerOperation> operations(final int pollsUntilStable) {
+        return List.of(
+                operation("Create", new CreateHandler(), HandlerScenario::newModel, Map.of(
+                        "listEnvironmentBlueprints", List.of(ListEnvironmentBlueprintsResponse.builder()
+                                .items(IntStream.range(0, 10)
+                                        .mapToObj(index -> EnvironmentBlueprintSummary.builder()
+                                                .id(index == 0 ? BLUEPRINT_ID : BenchmarkData.id(10 + index))
+                                                .name(index == 0 ? BLUEPRINT_NAME : "Blueprint" + index)
+                                                .provider("Amazon DataZone")
+                                                .build())
+                                        .collect(Collectors.toList()))
+                                .build()),
+                        // Not there yet for the pre-existence check, there for the read that follows the put.
+                        "getEnvironmentBlueprintConfiguration", List.of(
+                                StubDataZoneService.notFound("EnvironmentBlueprintConfiguration not found"), getResponse()),
+                        "putEnvironmentBlueprintConfiguration", List.of(putResponse()))),
+                operation("Read", new ReadHandler(), HandlerScenario::existingModel, Map.of(
+                        "getEnvironmentBlueprintConfiguration", List.of(getResponse()))),
+                operation("Update", new UpdateHandler(), HandlerScenario::existingModel, Map.of(
+                        "getEnvironmentBlueprintConfiguration", List.of(getResponse()),
+                        "putEnvironmentBlueprintConfiguration", List.of(putResponse()))),
+                operation("Delete", new DeleteHandler(), HandlerScenario::existingModel, Map.of(
+                        "getEnvironmentBlueprintConfiguration", List.of(getResponse()),
+                        "deleteEnvironmentBlueprintConfiguration", List.of(DeleteEnvironmentBlueprintConfigurationResponse.builder().build()))),
+                operation("List", new ListHandler(), HandlerScenario::newModel, Map.of(
+                        "listEnvironmentBlueprintConfigurations", List.of(ListEnvironmentBlueprintConfigurationsResponse.builder()
+                                .items(IntStream.range(0, 50)
+                                        .mapToObj(index -> EnvironmentBlueprintConfigurationItem.builder()
+                                                .domainId(BenchmarkData.DOMAIN_ID)
+                                                .environmentBlueprintId(BenchmarkData.id(index))
+                                                .enabledRegions(REGIONS)
+                                                .manageAccessRoleArn(BenchmarkData.ROLE_ARN)
+                                                .provisioningRoleArn(BenchmarkData.ROLE_ARN)
+                                                .regionalParameters(REGIONAL_PARAMETERS)
+                                                .createdAt(BenchmarkData.CREATED_AT)
+                                                .updatedAt(BenchmarkData.UPDATED_AT)
+                                                .build())
+                                        .collect(Collectors.toList()))
+                                .build()))));
+    }
+
+    private static HandlerOperation operation(final String name,
+                                              final BaseHandlerStd handler,
+                                              final Supplier<ResourceModel> resourceModel,
+                                              final Map<String, List<Object>> script) {
+        return new HandlerOperation(name, script, resourceModel, (proxy, model, callbackContext, logger) ->
+                handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder()
+                                .awsAccountId(BenchmarkData.ACCOUNT_ID)
+                                .region(BenchmarkData.REGION)
+                                .logicalResourceIdentifier("EnvironmentBlueprintConfiguration")
+                                .clientRequestToken("benchmark")
+                                .desiredResourceState((ResourceModel) model)
+                                .previousResourceState(existingModel())
+                                .build(),
+                        (CallbackContext) callbackContext, logger));
+    }
+
+    private static ResourceModel newModel() {
+        return ResourceModel.builder()
+                .domainIdentifier(BenchmarkData.DOMAIN_ID)
+                .environmentBlueprintIdentifier(BLUEPRINT_NAME)
+                .enabledRegions(REGIONS)
+                .manageAccessRoleArn(BenchmarkData.ROLE_ARN)
+                .provisioningRoleArn(BenchmarkData.ROLE_ARN)
+                .regionalParameters(REGIONAL_PARAMETERS.entrySet().stream()
+                        .map(entry -> RegionalParameter.builder().region(entry.getKey()).parameters(entry.getValue()).build())
+                        .collect(Collectors.toSet()))
+                .build();
+    }
+
+    private static ResourceModel existingModel() {
+        final ResourceModel model = newModel();
+        model.setManaged(Boolean.TRUE);
+        model.setDomainId(BenchmarkData.DOMAIN_ID);
+        model.setEnvironmentBlueprintId(BLUEPRINT_ID);
+        return model;
+    }
+
+    private static PutEnvironmentBlueprintConfigurationResponse putResponse() {
+        return PutEnvironmentBlueprintConfigurationResponse.builder()
+                .domainId(BenchmarkData.DOMAIN_ID)
+                .environmentBlueprintId(BLUEPRINT_ID)
+                .enabledRegions(REGIONS)
+                .manageAccessRoleArn(BenchmarkData.ROLE_ARN)
+                .provisioningRoleArn(BenchmarkData.ROLE_ARN)
+                .regionalParameters(REGIONAL_PARAMETERS)
+                .build();
+    }
+
+    private static GetEnvironmentBlueprintConfigurationResponse getResponse() {
+        return GetEnvironmentBlueprintConfigurationResponse.builder()
+                .domainId(BenchmarkData.DOMAIN_ID)
+                .environmentBlueprintId(BLUEPRINT_ID)
+                .enabledRegions(REGIONS)
+                .manageAccessRoleArn(BenchmarkData.ROLE_ARN)
+                .provisioningRoleArn(BenchmarkData.ROLE_ARN)
+                .regionalParameters(REGIONAL_PARAMETERS)
+                .createdAt(BenchmarkData.CREATED_AT)
+                .updatedAt(BenchmarkData.UPDATED_AT)
+                .build();
+    }
+}
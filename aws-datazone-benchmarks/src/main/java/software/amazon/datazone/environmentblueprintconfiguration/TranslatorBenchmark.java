@@ -0,0 +1,112 @@
+package software.amazon.datazone.environmentblueprintconfiguration;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.datazone.model.EnvironmentBlueprintConfigurationItem;
+import software.amazon.awssdk.services.datazone.model.GetEnvironmentBlueprintConfigurationResponse;
+import software.amazon.awssdk.services.datazone.model.PutEnvironmentBlueprintConfigurationRequest;
+import software.amazon.datazone.benchmarks.BenchmarkData;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Throughput of the environment blueprint configuration {@link Translator} in each direction, for a growing number
+ * of regions, each with a set of regional parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorBenchmark {
+    private static final List<String> REGIONS = List.of("us-east-1", "us-east-2", "us-west-1", "us-west-2",
+            "ca-central-1", "eu-west-1", "eu-west-2", "eu-west-3", "eu-central-1", "eu-north-1", "ap-south-1",
+            "ap-northeast-1", "ap-northeast-2", "ap-southeast-1", "ap-southeast-2", "sa-east-1");
+
+    @Param({"1", "16"})
+    int regionCount;
+
+    @Param({"20"})
+    int parametersPerRegion;
+
+    // A full page of ListEnvironmentBlueprintConfigurations.
+    @Param({"50"})
+    int listSize;
+
+    private ResourceModel model;
+    private GetEnvironmentBlueprintConfigurationResponse getResponse;
+    private List<EnvironmentBlueprintConfigurationItem> items;
+
+    @Setup
+    public void setUp() {
+        final List<String> regions = REGIONS.subList(0, regionCount);
+        final Map<String, Map<String, String>> regionalParameters = regions.stream()
+                .collect(Collectors.toMap(Function.identity(), region -> BenchmarkData.names("Parameter", parametersPerRegion)
+                        .stream()
+                        .collect(Collectors.toMap(Function.identity(), name -> BenchmarkData.text(128)))));
+        model = ResourceModel.builder()
+                .domainIdentifier(BenchmarkData.DOMAIN_ID)
+                .environmentBlueprintId(BenchmarkData.id(3))
+                .enabledRegions(regions)
+                .manageAccessRoleArn(BenchmarkData.ROLE_ARN)
+                .provisioningRoleArn(BenchmarkData.ROLE_ARN)
+                .regionalParameters(regionalParameters.entrySet().stream()
+                        .map(entry -> RegionalParameter.builder().region(entry.getKey()).parameters(entry.getValue()).build())
+                        .collect(Collectors.toSet()))
+                .build();
+        getResponse = GetEnvironmentBlueprintConfigurationResponse.builder()
+                .domainId(BenchmarkData.DOMAIN_ID)
+                .environmentBlueprintId(BenchmarkData.id(3))
+                .enabledRegions(regions)
+                .manageAccessRoleArn(BenchmarkData.ROLE_ARN)
+                .provisioningRoleArn(BenchmarkData.ROLE_ARN)
+                .regionalParameters(regionalParameters)
+                .createdAt(BenchmarkData.CREATED_AT)
+                .updatedAt(BenchmarkData.UPDATED_AT)
+                .build();
+        items = IntStream.range(0, listSize)
+                .mapToObj(index -> EnvironmentBlueprintConfigurationItem.builder()
+                        .domainId(BenchmarkData.DOMAIN_ID)
+                        .environmentBlueprintId(BenchmarkData.id(index))
+                        .enabledRegions(regions)
+                        .manageAccessRoleArn(BenchmarkData.ROLE_ARN)
+                        .provisioningRoleArn(BenchmarkData.ROLE_ARN)
+                        .regionalParameters(regionalParameters)
+                        .createdAt(BenchmarkData.CREATED_AT)
+                        .updatedAt(BenchmarkData.UPDATED_AT)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public PutEnvironmentBlueprintConfigurationRequest toPutRequest() {
+        return Translator.translateToPutRequest(model);
+    }
+
+    @Benchmark
+    public ResourceModel fromGetResponse() {
+        return Translator.translateFromReadResponse(getResponse);
+    }
+
+    @Benchmark
+    public List<ResourceModel> fromListItems() {
+        return items.stream()
+                .map(Translator::getResourceModelFromItem)
+                .collect(Collectors.toList());
+    }
+}
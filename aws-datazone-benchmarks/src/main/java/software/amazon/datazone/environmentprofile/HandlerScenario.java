@@ -0,0 +1,155 @@
+package software.amazon.datazone.environmentprofile;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.services.datazone.model.CreateEnvironmentProfileResponse;
+import software.amazon.awssdk.services.datazone.model.CustomParameter;
+import software.amazon.awssdk.services.datazone.model.DeleteEnvironmentProfileResponse;
+import software.amazon.awssdk.services.datazone.model.EnvironmentProfileSummary;
+import software.amazon.awssdk.services.datazone.model.GetEnvironmentProfileResponse;
+import software.amazon.awssdk.services.datazone.model.ListEnvironmentProfilesResponse;
+import software.amazon.awssdk.services.datazone.model.UpdateEnvironmentProfileResponse;
+import software.amazon.cloudformation.proxy.HandlerRequest;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.datazone.benchmarks.BenchmarkData;
+import software.amazon.datazone.benchmarks.HandlerOperation;
+import software.amazon.datazone.benchmarks.ResourceScenario;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The environment profile handlers against a stubbed DataZone. An environment profile is usable as soon as it is
+ * created, none of the operations has to wait for it to settle, so the polls do not apply.
+ */
+public class HandlerScenario implements ResourceScenario {
+    private static final String NAME = "benchmark-environment-profile";
+    private static final String ENVIRONMENT_PROFILE_ID = BenchmarkData.id(1);
+    private static final List<String> PARAMETER_NAMES = BenchmarkData.names("parameter", 5);
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public Duration prime() {
+        return Priming.prime(System.err::println);
+    }
+
+    @Override
+    public TypeReference<?> handlerRequestType() {
+        return new TypeReference<HandlerRequest<ResourceModel, CallbackContext>>() {
+        };
+    }
+
+    @Override
+    public List<HandlerOperation> operations(final int pollsUntilStable) {
+        return List.of(
+                operation("Create", new CreateHandler(), HandlerScenario::newModel, Map.of(
+                        "createEnvironmentProfile", List.of(CreateEnvironmentProfileResponse.builder()
+                                .id(ENVIRONMENT_PROFILE_ID)
+                                .domainId(BenchmarkData.DOMAIN_ID)
+                                .name(NAME)
+                                .build()),
+                        "getEnvironmentProfile", List.of(getResponse()))),
+                operation("Read", new ReadHandler(), HandlerScenario::existingModel, Map.of(
+                        "getEnvironmentProfile", List.of(getResponse()))),
+                operation("Update", new UpdateHandler(), HandlerScenario::existingModel, Map.of(
+                        "updateEnvironmentProfile", List.of(UpdateEnvironmentProfileResponse.builder()
+                                .id(ENVIRONMENT_PROFILE_ID)
+                                .domainId(BenchmarkData.DOMAIN_ID)
+                                .name(NAME)
+                                .build()),
+                        "getEnvironmentProfile", List.of(getResponse()))),
+                // The handler checks the http status of the delete response.
+                operation("Delete", new DeleteHandler(), HandlerScenario::existingModel, Map.of(
+                        "deleteEnvironmentProfile", List.of(DeleteEnvironmentProfileResponse.builder()
+                                .sdkHttpResponse(SdkHttpResponse.builder().statusCode(204).build())
+                                .build()))),
+                operation("List", new ListHandler(), HandlerScenario::newModel, Map.of(
+                        "listEnvironmentProfiles", List.of(ListEnvironmentProfilesResponse.builder()
+                                .items(IntStream.range(0, 50)
+                                        .mapToObj(index -> EnvironmentProfileSummary.builder()
+                                                .awsAccountId(BenchmarkData.ACCOUNT_ID)
+                                                .awsAccountRegion(BenchmarkData.REGION)
+                                                .createdAt(BenchmarkData.CREATED_AT)
+                                                .createdBy(BenchmarkData.id(2))
+                                                .domainId(BenchmarkData.DOMAIN_ID)
+                                                .environmentBlueprintId(BenchmarkData.id(3))
+                                                .id(BenchmarkData.id(index))
+                                                .name("environment-profile-" + index)
+                                                .projectId(BenchmarkData.PROJECT_ID)
+                                                .updatedAt(BenchmarkData.UPDATED_AT)
+                                                .build())
+                                        .collect(Collectors.toList()))
+                                .build()))));
+    }
+
+    private static HandlerOperation operation(final String name,
+                                              final BaseHandlerStd handler,
+                                              final Supplier<ResourceModel> resourceModel,
+                                              final Map<String, List<Object>> script) {
+        return new HandlerOperation(name, script, resourceModel, (proxy, model, callbackContext, logger) ->
+                handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder()
+                                .awsAccountId(BenchmarkData.ACCOUNT_ID)
+                                .region(BenchmarkData.REGION)
+                                .logicalResourceIdentifier("EnvironmentProfile")
+                                .clientRequestToken("benchmark")
+                                .desiredResourceState((ResourceModel) model)
+                                .previousResourceState(existingModel())
+                                .build(),
+                        (CallbackContext) callbackContext, logger));
+    }
+
+    private static ResourceModel newModel() {
+        return ResourceModel.builder()
+                .domainIdentifier(BenchmarkData.DOMAIN_ID)
+                .projectIdentifier(BenchmarkData.PROJECT_ID)
+                .environmentBlueprintIdentifier(BenchmarkData.id(3))
+                .name(NAME)
+                .description(BenchmarkData.text(256))
+                .awsAccountId(BenchmarkData.ACCOUNT_ID)
+                .awsAccountRegion(BenchmarkData.REGION)
+                .userParameters(PARAMETER_NAMES.stream()
+                        .map(name -> EnvironmentParameter.builder().name(name).value(BenchmarkData.text(64)).build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private static ResourceModel existingModel() {
+        final ResourceModel model = newModel();
+        model.setId(ENVIRONMENT_PROFILE_ID);
+        model.setDomainId(BenchmarkData.DOMAIN_ID);
+        return model;
+    }
+
+    private static GetEnvironmentProfileResponse getResponse() {
+        return GetEnvironmentProfileResponse.builder()
+                .awsAccountId(BenchmarkData.ACCOUNT_ID)
+                .awsAccountRegion(BenchmarkData.REGION)
+                .createdAt(BenchmarkData.CREATED_AT)
+                .createdBy(BenchmarkData.id(2))
+                .description(BenchmarkData.text(256))
+                .domainId(BenchmarkData.DOMAIN_ID)
+                .environmentBlueprintId(BenchmarkData.id(3))
+                .id(ENVIRONMENT_PROFILE_ID)
+                .name(NAME)
+                .projectId(BenchmarkData.PROJECT_ID)
+                .updatedAt(BenchmarkData.UPDATED_AT)
+                .userParameters(PARAMETER_NAMES.stream()
+                        .map(name -> CustomParameter.builder()
+                                .keyName(name)
+                                .defaultValue(BenchmarkData.text(64))
+                                .fieldType("String")
+                                .isEditable(true)
+                                .isOptional(false)
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+}
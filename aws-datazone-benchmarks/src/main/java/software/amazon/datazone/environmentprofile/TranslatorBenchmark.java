@@ -0,0 +1,126 @@
+package software.amazon.datazone.environmentprofile;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.datazone.model.CreateEnvironmentProfileRequest;
+import software.amazon.awssdk.services.datazone.model.CustomParameter;
+import software.amazon.awssdk.services.datazone.model.EnvironmentProfileSummary;
+import software.amazon.awssdk.services.datazone.model.GetEnvironmentProfileResponse;
+import software.amazon.awssdk.services.datazone.model.ListEnvironmentProfilesResponse;
+import software.amazon.awssdk.services.datazone.model.UpdateEnvironmentProfileRequest;
+import software.amazon.datazone.benchmarks.BenchmarkData;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Throughput of the environment profile {@link Translator} in each direction, for a growing number of user parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    @Param({"5", "100"})
+    int userParameterCount;
+
+    // A full page of ListEnvironmentProfiles.
+    @Param({"50"})
+    int listSize;
+
+    private ResourceModel model;
+    private GetEnvironmentProfileResponse getEnvironmentProfileResponse;
+    private ListEnvironmentProfilesResponse listEnvironmentProfilesResponse;
+
+    @Setup
+    public void setUp() {
+        final List<String> names = BenchmarkData.names("parameter", userParameterCount);
+        model = ResourceModel.builder()
+                .domainIdentifier(BenchmarkData.DOMAIN_ID)
+                .projectIdentifier(BenchmarkData.PROJECT_ID)
+                .environmentBlueprintIdentifier(BenchmarkData.id(3))
+                .id(BenchmarkData.id(1))
+                .name("benchmark-environment-profile")
+                .description(BenchmarkData.text(2048))
+                .awsAccountId(BenchmarkData.ACCOUNT_ID)
+                .awsAccountRegion(BenchmarkData.REGION)
+                .userParameters(names.stream()
+                        .map(name -> EnvironmentParameter.builder().name(name).value(BenchmarkData.text(256)).build())
+                        .collect(Collectors.toList()))
+                .build();
+        getEnvironmentProfileResponse = GetEnvironmentProfileResponse.builder()
+                .awsAccountId(BenchmarkData.ACCOUNT_ID)
+                .awsAccountRegion(BenchmarkData.REGION)
+                .createdAt(BenchmarkData.CREATED_AT)
+                .createdBy(BenchmarkData.id(2))
+                .description(BenchmarkData.text(2048))
+                .domainId(BenchmarkData.DOMAIN_ID)
+                .environmentBlueprintId(BenchmarkData.id(3))
+                .id(BenchmarkData.id(1))
+                .name("benchmark-environment-profile")
+                .projectId(BenchmarkData.PROJECT_ID)
+                .updatedAt(BenchmarkData.UPDATED_AT)
+                .userParameters(names.stream()
+                        .map(name -> CustomParameter.builder()
+                                .keyName(name)
+                                .defaultValue(BenchmarkData.text(256))
+                                .description(BenchmarkData.text(128))
+                                .fieldType("String")
+                                .isEditable(true)
+                                .isOptional(false)
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+        listEnvironmentProfilesResponse = ListEnvironmentProfilesResponse.builder()
+                .items(IntStream.range(0, listSize)
+                        .mapToObj(index -> EnvironmentProfileSummary.builder()
+                                .awsAccountId(BenchmarkData.ACCOUNT_ID)
+                                .awsAccountRegion(BenchmarkData.REGION)
+                                .createdAt(BenchmarkData.CREATED_AT)
+                                .createdBy(BenchmarkData.id(2))
+                                .description(BenchmarkData.text(256))
+                                .domainId(BenchmarkData.DOMAIN_ID)
+                                .environmentBlueprintId(BenchmarkData.id(3))
+                                .id(BenchmarkData.id(index))
+                                .name("environment-profile-" + index)
+                                .projectId(BenchmarkData.PROJECT_ID)
+                                .updatedAt(BenchmarkData.UPDATED_AT)
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    @Benchmark
+    public CreateEnvironmentProfileRequest toCreateRequest() {
+        return Translator.translateToCreateRequest(model);
+    }
+
+    @Benchmark
+    public UpdateEnvironmentProfileRequest toUpdateRequest() {
+        return Translator.translateToFirstUpdateRequest(model);
+    }
+
+    @Benchmark
+    public ResourceModel fromGetResponse() {
+        return Translator.translateFromReadResponse(getEnvironmentProfileResponse);
+    }
+
+    @Benchmark
+    public List<ResourceModel> fromListSummaries() {
+        return Translator.translateFromListRequest(listEnvironmentProfilesResponse);
+    }
+}
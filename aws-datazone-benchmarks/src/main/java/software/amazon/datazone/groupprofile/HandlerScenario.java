@@ -0,0 +1,133 @@
+package software.amazon.datazone.groupprofile;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.services.datazone.model.CreateGroupProfileResponse;
+import software.amazon.awssdk.services.datazone.model.GetGroupProfileResponse;
+import software.amazon.awssdk.services.datazone.model.GroupProfileStatus;
+import software.amazon.awssdk.services.datazone.model.GroupProfileSummary;
+import software.amazon.awssdk.services.datazone.model.SearchGroupProfilesResponse;
+import software.amazon.awssdk.services.datazone.model.UpdateGroupProfileResponse;
+import software.amazon.cloudformation.proxy.HandlerRequest;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.datazone.benchmarks.BenchmarkData;
+import software.amazon.datazone.benchmarks.HandlerOperation;
+import software.amazon.datazone.benchmarks.ResourceScenario;
+import software.amazon.datazone.benchmarks.StubDataZoneService;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The group profile handlers against a stubbed DataZone. A group profile is assigned and unassigned in a single
+ * call, none of the operations has to wait for it to settle, so the polls do not apply.
+ */
+public class HandlerScenario implements ResourceScenario {
+    private static final String GROUP_NAME = "benchmark-group";
+    private static final String GROUP_PROFILE_ID = BenchmarkData.id(1);
+    private static final String GROUP_IDENTIFIER = "benchmark-sso-group";
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public Duration prime() {
+        return Priming.prime(System.err::println);
+    }
+
+    @Override
+    public TypeReference<?> handlerRequestType() {
+        return new TypeReference<HandlerRequest<ResourceModel, CallbackContext>>() {
+        };
+    }
+
+    @Override
+    public List<HandlerOperation> operations(final int pollsUntilStable) {
+        return List.of(
+                operation("Create", new CreateHandler(), HandlerScenario::newModel, Map.of(
+                        // Not there yet for the pre-existence check, there for the read that follows the create.
+                        "getGroupProfile", List.of(
+                                StubDataZoneService.notFound("GroupProfile not found"), getResponse(GroupProfileStatus.ASSIGNED)),
+                        "createGroupProfile", List.of(CreateGroupProfileResponse.builder()
+                                .id(GROUP_PROFILE_ID)
+                                .domainId(BenchmarkData.DOMAIN_ID)
+                                .groupName(GROUP_NAME)
+                                .status(GroupProfileStatus.ASSIGNED)
+                                .build()))),
+                operation("Read", new ReadHandler(), HandlerScenario::existingModel, Map.of(
+                        "getGroupProfile", List.of(getResponse(GroupProfileStatus.ASSIGNED)))),
+                operation("Update", new UpdateHandler(), HandlerScenario::existingModel, Map.of(
+                        "updateGroupProfile", List.of(updateResponse(GroupProfileStatus.ASSIGNED)),
+                        "getGroupProfile", List.of(getResponse(GroupProfileStatus.ASSIGNED)))),
+                // Deleting a group profile unassigns it.
+                operation("Delete", new DeleteHandler(), HandlerScenario::existingModel, Map.of(
+                        "getGroupProfile", List.of(getResponse(GroupProfileStatus.ASSIGNED)),
+                        "updateGroupProfile", List.of(updateResponse(GroupProfileStatus.NOT_ASSIGNED)))),
+                operation("List", new ListHandler(), HandlerScenario::newModel, Map.of(
+                        "searchGroupProfiles", List.of(SearchGroupProfilesResponse.builder()
+                                .items(IntStream.range(0, 50)
+                                        .mapToObj(index -> GroupProfileSummary.builder()
+                                                .id(BenchmarkData.id(index))
+                                                .domainId(BenchmarkData.DOMAIN_ID)
+                                                .groupName("group-" + index)
+                                                .status(GroupProfileStatus.ASSIGNED)
+                                                .build())
+                                        .collect(Collectors.toList()))
+                                .build()))));
+    }
+
+    private static HandlerOperation operation(final String name,
+                                              final BaseHandlerStd handler,
+                                              final Supplier<ResourceModel> resourceModel,
+                                              final Map<String, List<Object>> script) {
+        return new HandlerOperation(name, script, resourceModel, (proxy, model, callbackContext, logger) ->
+                handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder()
+                                .awsAccountId(BenchmarkData.ACCOUNT_ID)
+                                .region(BenchmarkData.REGION)
+                                .logicalResourceIdentifier("GroupProfile")
+                                .clientRequestToken("benchmark")
+                                .desiredResourceState((ResourceModel) model)
+                                .previousResourceState(existingModel())
+                                .build(),
+                        (CallbackContext) callbackContext, logger));
+    }
+
+    private static ResourceModel newModel() {
+        return ResourceModel.builder()
+                .domainIdentifier(BenchmarkData.DOMAIN_ID)
+                .groupIdentifier(GROUP_IDENTIFIER)
+                .status(GroupProfileStatus.ASSIGNED.toString())
+                .build();
+    }
+
+    private static ResourceModel existingModel() {
+        final ResourceModel model = newModel();
+        model.setId(GROUP_PROFILE_ID);
+        model.setDomainId(BenchmarkData.DOMAIN_ID);
+        model.setGroupName(GROUP_NAME);
+        return model;
+    }
+
+    private static UpdateGroupProfileResponse updateResponse(final GroupProfileStatus status) {
+        return UpdateGroupProfileResponse.builder()
+                .id(GROUP_PROFILE_ID)
+                .domainId(BenchmarkData.DOMAIN_ID)
+                .groupName(GROUP_NAME)
+                .status(status)
+                .build();
+    }
+
+    private static GetGroupProfileResponse getResponse(final GroupProfileStatus status) {
+        return GetGroupProfileResponse.builder()
+                .id(GROUP_PROFILE_ID)
+                .domainId(BenchmarkData.DOMAIN_ID)
+                .groupName(GROUP_NAME)
+                .status(status)
+                .build();
+    }
+}
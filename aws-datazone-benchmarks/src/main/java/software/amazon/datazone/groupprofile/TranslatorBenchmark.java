@@ -0,0 +1,89 @@
+package software.amazon.datazone.groupprofile;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.datazone.model.CreateGroupProfileRequest;
+import software.amazon.awssdk.services.datazone.model.GetGroupProfileResponse;
+import software.amazon.awssdk.services.datazone.model.GroupProfileStatus;
+import software.amazon.awssdk.services.datazone.model.GroupProfileSummary;
+import software.amazon.awssdk.services.datazone.model.UpdateGroupProfileRequest;
+import software.amazon.datazone.benchmarks.BenchmarkData;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Throughput of the group profile {@link Translator} in each direction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    // A full page of SearchGroupProfiles.
+    @Param({"50"})
+    int listSize;
+
+    private ResourceModel model;
+    private GetGroupProfileResponse getGroupProfileResponse;
+    private List<GroupProfileSummary> groupProfileSummaries;
+
+    @Setup
+    public void setUp() {
+        model = ResourceModel.builder()
+                .domainIdentifier(BenchmarkData.DOMAIN_ID)
+                .groupIdentifier("a1b2c3d4-5678-90ab-cdef-EXAMPLE11111")
+                .status(GroupProfileStatus.ASSIGNED.toString())
+                .build();
+        getGroupProfileResponse = GetGroupProfileResponse.builder()
+                .id(BenchmarkData.id(1))
+                .domainId(BenchmarkData.DOMAIN_ID)
+                .groupName("benchmark-group")
+                .status(GroupProfileStatus.ASSIGNED)
+                .build();
+        groupProfileSummaries = IntStream.range(0, listSize)
+                .mapToObj(index -> GroupProfileSummary.builder()
+                        .id(BenchmarkData.id(index))
+                        .domainId(BenchmarkData.DOMAIN_ID)
+                        .groupName("group-" + index)
+                        .status(GroupProfileStatus.ASSIGNED)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public CreateGroupProfileRequest toCreateRequest() {
+        return Translator.translateToCreateRequest(model, "benchmark-client-token");
+    }
+
+    @Benchmark
+    public UpdateGroupProfileRequest toUpdateRequest() {
+        return Translator.translateToUpdateRequest(model);
+    }
+
+    @Benchmark
+    public ResourceModel fromGetResponse() {
+        return Translator.translateFromReadResponse(getGroupProfileResponse);
+    }
+
+    @Benchmark
+    public List<ResourceModel> fromListSummaries() {
+        return groupProfileSummaries.stream()
+                .map(summary -> Translator.getResourceModelFromSummary(summary, BenchmarkData.DOMAIN_ID))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,130 @@
+package software.amazon.datazone.project;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.services.datazone.model.CreateProjectResponse;
+import software.amazon.awssdk.services.datazone.model.DeleteProjectResponse;
+import software.amazon.awssdk.services.datazone.model.GetProjectResponse;
+import software.amazon.awssdk.services.datazone.model.ListProjectsResponse;
+import software.amazon.awssdk.services.datazone.model.ProjectSummary;
+import software.amazon.awssdk.services.datazone.model.UpdateProjectResponse;
+import software.amazon.cloudformation.proxy.HandlerRequest;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.datazone.benchmarks.BenchmarkData;
+import software.amazon.datazone.benchmarks.HandlerOperation;
+import software.amazon.datazone.benchmarks.ResourceScenario;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The project handlers against a stubbed DataZone. A project is usable as soon as it is created, none of the
+ * operations has to wait for it to settle, so the polls do not apply.
+ */
+public class HandlerScenario implements ResourceScenario {
+    private static final String NAME = "benchmark-project";
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public Duration prime() {
+        return Priming.prime(System.err::println);
+    }
+
+    @Override
+    public TypeReference<?> handlerRequestType() {
+        return new TypeReference<HandlerRequest<ResourceModel, CallbackContext>>() {
+        };
+    }
+
+    @Override
+    public List<HandlerOperation> operations(final int pollsUntilStable) {
+        return List.of(
+                operation("Create", new CreateHandler(), HandlerScenario::newModel, Map.of(
+                        "createProject", List.of(CreateProjectResponse.builder()
+                                .id(BenchmarkData.PROJECT_ID)
+                                .domainId(BenchmarkData.DOMAIN_ID)
+                                .name(NAME)
+                                .build()),
+                        "getProject", List.of(getResponse()))),
+                operation("Read", new ReadHandler(), HandlerScenario::existingModel, Map.of(
+                        "getProject", List.of(getResponse()))),
+                operation("Update", new UpdateHandler(), HandlerScenario::existingModel, Map.of(
+                        "updateProject", List.of(UpdateProjectResponse.builder()
+                                .id(BenchmarkData.PROJECT_ID)
+                                .domainId(BenchmarkData.DOMAIN_ID)
+                                .name(NAME)
+                                .build()),
+                        "getProject", List.of(getResponse()))),
+                // The handler checks the http status of the delete response.
+                operation("Delete", new DeleteHandler(), HandlerScenario::existingModel, Map.of(
+                        "deleteProject", List.of(DeleteProjectResponse.builder()
+                                .sdkHttpResponse(SdkHttpResponse.builder().statusCode(204).build())
+                                .build()))),
+                operation("List", new ListHandler(), HandlerScenario::newModel, Map.of(
+                        "listProjects", List.of(ListProjectsResponse.builder()
+                                .items(IntStream.range(0, 50)
+                                        .mapToObj(index -> ProjectSummary.builder()
+                                                .createdAt(BenchmarkData.CREATED_AT)
+                                                .createdBy(BenchmarkData.id(2))
+                                                .domainId(BenchmarkData.DOMAIN_ID)
+                                                .id(BenchmarkData.id(index))
+                                                .name("project-" + index)
+                                                .updatedAt(BenchmarkData.UPDATED_AT)
+                                                .build())
+                                        .collect(Collectors.toList()))
+                                .build()))));
+    }
+
+    private static HandlerOperation operation(final String name,
+                                              final BaseHandlerStd handler,
+                                              final Supplier<ResourceModel> resourceModel,
+                                              final Map<String, List<Object>> script) {
+        return new HandlerOperation(name, script, resourceModel, (proxy, model, callbackContext, logger) ->
+                handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder()
+                                .awsAccountId(BenchmarkData.ACCOUNT_ID)
+                                .region(BenchmarkData.REGION)
+                                .logicalResourceIdentifier("Project")
+                                .clientRequestToken("benchmark")
+                                .desiredResourceState((ResourceModel) model)
+                                .previousResourceState(existingModel())
+                                .build(),
+                        (CallbackContext) callbackContext, logger));
+    }
+
+    private static ResourceModel newModel() {
+        return ResourceModel.builder()
+                .domainIdentifier(BenchmarkData.DOMAIN_ID)
+                .name(NAME)
+                .description(BenchmarkData.text(256))
+                .glossaryTerms(BenchmarkData.names("term", 5))
+                .build();
+    }
+
+    private static ResourceModel existingModel() {
+        final ResourceModel model = newModel();
+        model.setId(BenchmarkData.PROJECT_ID);
+        model.setDomainId(BenchmarkData.DOMAIN_ID);
+        return model;
+    }
+
+    private static GetProjectResponse getResponse() {
+        return GetProjectResponse.builder()
+                .domainId(BenchmarkData.DOMAIN_ID)
+                .id(BenchmarkData.PROJECT_ID)
+                .createdAt(BenchmarkData.CREATED_AT)
+                .createdBy(BenchmarkData.id(2))
+                .description(BenchmarkData.text(256))
+                .name(NAME)
+                .lastUpdatedAt(BenchmarkData.UPDATED_AT)
+                .glossaryTerms(BenchmarkData.names("term", 5))
+                .build();
+    }
+}
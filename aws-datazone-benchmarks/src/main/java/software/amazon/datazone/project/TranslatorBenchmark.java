@@ -0,0 +1,102 @@
+package software.amazon.datazone.project;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.datazone.model.CreateProjectRequest;
+import software.amazon.awssdk.services.datazone.model.GetProjectResponse;
+import software.amazon.awssdk.services.datazone.model.ListProjectsResponse;
+import software.amazon.awssdk.services.datazone.model.ProjectSummary;
+import software.amazon.awssdk.services.datazone.model.UpdateProjectRequest;
+import software.amazon.datazone.benchmarks.BenchmarkData;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Throughput of the project {@link Translator} in each direction, for a growing number of glossary terms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    // The schema allows at most 20 glossary terms.
+    @Param({"1", "20"})
+    int glossaryTermCount;
+
+    // A full page of ListProjects.
+    @Param({"50"})
+    int listSize;
+
+    private ResourceModel model;
+    private GetProjectResponse getProjectResponse;
+    private ListProjectsResponse listProjectsResponse;
+
+    @Setup
+    public void setUp() {
+        model = ResourceModel.builder()
+                .domainIdentifier(BenchmarkData.DOMAIN_ID)
+                .id(BenchmarkData.PROJECT_ID)
+                .name("benchmark-project")
+                .description(BenchmarkData.text(2048))
+                .glossaryTerms(BenchmarkData.names("term", glossaryTermCount))
+                .build();
+        getProjectResponse = GetProjectResponse.builder()
+                .domainId(BenchmarkData.DOMAIN_ID)
+                .id(BenchmarkData.PROJECT_ID)
+                .createdAt(BenchmarkData.CREATED_AT)
+                .createdBy(BenchmarkData.id(2))
+                .description(BenchmarkData.text(2048))
+                .name("benchmark-project")
+                .lastUpdatedAt(BenchmarkData.UPDATED_AT)
+                .glossaryTerms(BenchmarkData.names("term", glossaryTermCount))
+                .build();
+        listProjectsResponse = ListProjectsResponse.builder()
+                .items(IntStream.range(0, listSize)
+                        .mapToObj(index -> ProjectSummary.builder()
+                                .createdAt(BenchmarkData.CREATED_AT)
+                                .createdBy(BenchmarkData.id(2))
+                                .description(BenchmarkData.text(256))
+                                .domainId(BenchmarkData.DOMAIN_ID)
+                                .id(BenchmarkData.id(index))
+                                .name("project-" + index)
+                                .updatedAt(BenchmarkData.UPDATED_AT)
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    @Benchmark
+    public CreateProjectRequest toCreateRequest() {
+        return Translator.translateToCreateRequest(model);
+    }
+
+    @Benchmark
+    public UpdateProjectRequest toUpdateRequest() {
+        return Translator.translateToFirstUpdateRequest(model);
+    }
+
+    @Benchmark
+    public ResourceModel fromGetResponse() {
+        return Translator.translateFromReadResponse(getProjectResponse);
+    }
+
+    @Benchmark
+    public List<ResourceModel> fromListSummaries() {
+        return Translator.translateFromListRequest(listProjectsResponse);
+    }
+}
@@ -0,0 +1,126 @@
+package software.amazon.datazone.projectmembership;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.services.datazone.model.CreateProjectMembershipResponse;
+import software.amazon.awssdk.services.datazone.model.DeleteProjectMembershipResponse;
+import software.amazon.awssdk.services.datazone.model.GetUserProfileResponse;
+import software.amazon.awssdk.services.datazone.model.ListProjectMembershipsResponse;
+import software.amazon.awssdk.services.datazone.model.MemberDetails;
+import software.amazon.awssdk.services.datazone.model.ProjectMember;
+import software.amazon.awssdk.services.datazone.model.UserDetails;
+import software.amazon.awssdk.services.datazone.model.UserProfileStatus;
+import software.amazon.awssdk.services.datazone.model.UserProfileType;
+import software.amazon.cloudformation.proxy.HandlerRequest;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.datazone.benchmarks.BenchmarkData;
+import software.amazon.datazone.benchmarks.HandlerOperation;
+import software.amazon.datazone.benchmarks.ResourceScenario;
+import software.amazon.datazone.projectmembership.helper.Constants;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The project membership handlers against a stubbed DataZone. A membership is added and removed in a single call,
+ * none of the operations has to wait for it to settle, so the polls do not apply. Reading a membership scans the
+ * members of the project, so the member sits at the end of the listing.
+ */
+public class HandlerScenario implements ResourceScenario {
+    private static final String DESIGNATION = "PROJECT_CONTRIBUTOR";
+    private static final String USER_ARN = "arn:aws:iam::123456789012:role/BenchmarkUser";
+    private static final int MEMBERS = 50;
+    private static final String USER_PROFILE_ID = BenchmarkData.id(MEMBERS - 1);
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public Duration prime() {
+        return Priming.prime(System.err::println);
+    }
+
+    @Override
+    public TypeReference<?> handlerRequestType() {
+        return new TypeReference<HandlerRequest<ResourceModel, CallbackContext>>() {
+        };
+    }
+
+    @Override
+    public List<HandlerOperation> operations(final int pollsUntilStable) {
+        return List.of(
+                operation("Create", new CreateHandler(), HandlerScenario::newModel, Map.of(
+                        "createProjectMembership", List.of(CreateProjectMembershipResponse.builder().build()),
+                        "getUserProfile", List.of(getUserProfileResponse()))),
+                operation("Read", new ReadHandler(), HandlerScenario::existingModel, Map.of(
+                        "listProjectMemberships", List.of(listResponse()))),
+                // The update replaces the membership.
+                operation("Update", new UpdateHandler(), HandlerScenario::existingModel, Map.of(
+                        "deleteProjectMembership", List.of(DeleteProjectMembershipResponse.builder().build()),
+                        "createProjectMembership", List.of(CreateProjectMembershipResponse.builder().build()),
+                        "getUserProfile", List.of(getUserProfileResponse()))),
+                operation("Delete", new DeleteHandler(), HandlerScenario::existingModel, Map.of(
+                        "deleteProjectMembership", List.of(DeleteProjectMembershipResponse.builder().build()))),
+                operation("List", new ListHandler(), HandlerScenario::newModel, Map.of(
+                        "listProjectMemberships", List.of(listResponse()))));
+    }
+
+    private static HandlerOperation operation(final String name,
+                                              final BaseHandlerStd handler,
+                                              final Supplier<ResourceModel> resourceModel,
+                                              final Map<String, List<Object>> script) {
+        return new HandlerOperation(name, script, resourceModel, (proxy, model, callbackContext, logger) ->
+                handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder()
+                                .awsAccountId(BenchmarkData.ACCOUNT_ID)
+                                .region(BenchmarkData.REGION)
+                                .logicalResourceIdentifier("ProjectMembership")
+                                .clientRequestToken("benchmark")
+                                .desiredResourceState((ResourceModel) model)
+                                .previousResourceState(existingModel())
+                                .build(),
+                        (CallbackContext) callbackContext, logger));
+    }
+
+    private static ResourceModel newModel() {
+        return ResourceModel.builder()
+                .domainIdentifier(BenchmarkData.DOMAIN_ID)
+                .projectIdentifier(BenchmarkData.PROJECT_ID)
+                .designation(DESIGNATION)
+                .member(Member.builder().userIdentifier(USER_ARN).build())
+                .build();
+    }
+
+    private static ResourceModel existingModel() {
+        final ResourceModel model = newModel();
+        model.setMemberIdentifier(USER_PROFILE_ID);
+        model.setMemberIdentifierType(Constants.USER_IDENTIFIER);
+        return model;
+    }
+
+    private static GetUserProfileResponse getUserProfileResponse() {
+        return GetUserProfileResponse.builder()
+                .id(USER_PROFILE_ID)
+                .domainId(BenchmarkData.DOMAIN_ID)
+                .type(UserProfileType.IAM)
+                .status(UserProfileStatus.ACTIVATED)
+                .build();
+    }
+
+    private static ListProjectMembershipsResponse listResponse() {
+        return ListProjectMembershipsResponse.builder()
+                .members(IntStream.range(0, MEMBERS)
+                        .mapToObj(index -> ProjectMember.builder()
+                                .designation(index == 0 ? "PROJECT_OWNER" : DESIGNATION)
+                                .memberDetails(MemberDetails.fromUser(UserDetails.builder()
+                                        .userId(BenchmarkData.id(index))
+                                        .build()))
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package software.amazon.datazone.projectmembership;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.datazone.model.CreateProjectMembershipRequest;
+import software.amazon.awssdk.services.datazone.model.DeleteProjectMembershipRequest;
+import software.amazon.awssdk.services.datazone.model.UserDesignation;
+import software.amazon.datazone.benchmarks.BenchmarkData;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the project membership {@link Translator}. Memberships are never read back through a translator,
+ * so only the request directions are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorBenchmark {
+    private ResourceModel model;
+
+    @Setup
+    public void setUp() {
+        model = ResourceModel.builder()
+                .domainIdentifier(BenchmarkData.DOMAIN_ID)
+                .projectIdentifier(BenchmarkData.PROJECT_ID)
+                .designation(UserDesignation.PROJECT_CONTRIBUTOR.toString())
+                .member(Member.builder().userIdentifier(BenchmarkData.ROLE_ARN).build())
+                .memberIdentifier(BenchmarkData.ROLE_ARN)
+                .memberIdentifierType("USER_IDENTIFIER")
+                .build();
+    }
+
+    @Benchmark
+    public CreateProjectMembershipRequest toCreateRequest() {
+        return Translator.translateToCreateRequest(model);
+    }
+
+    @Benchmark
+    public DeleteProjectMembershipRequest toDeleteRequest() {
+        return Translator.translateToDeleteRequest(model);
+    }
+}
@@ -0,0 +1,163 @@
+package software.amazon.datazone.subscriptiontarget;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.services.datazone.model.CreateSubscriptionTargetResponse;
+import software.amazon.awssdk.services.datazone.model.DeleteSubscriptionTargetResponse;
+import software.amazon.awssdk.services.datazone.model.GetSubscriptionTargetResponse;
+import software.amazon.awssdk.services.datazone.model.ListSubscriptionTargetsResponse;
+import software.amazon.awssdk.services.datazone.model.SubscriptionTargetSummary;
+import software.amazon.awssdk.services.datazone.model.UpdateSubscriptionTargetResponse;
+import software.amazon.cloudformation.proxy.HandlerRequest;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.datazone.benchmarks.BenchmarkData;
+import software.amazon.datazone.benchmarks.HandlerOperation;
+import software.amazon.datazone.benchmarks.ResourceScenario;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The subscription target handlers against a stubbed DataZone. A subscription target is usable as soon as it is
+ * created, none of the operations has to wait for it to settle, so the polls do not apply.
+ */
+public class HandlerScenario implements ResourceScenario {
+    private static final String NAME = "benchmark-subscription-target";
+    private static final String SUBSCRIPTION_TARGET_ID = BenchmarkData.id(1);
+    private static final String TYPE = "GlueSubscriptionTargetType";
+    private static final List<String> ASSET_TYPES = List.of("GlueTableAssetType", "GlueViewAssetType");
+    private static final List<String> AUTHORIZED_PRINCIPALS = List.of("arn:aws:iam::123456789012:role/BenchmarkConsumer");
+    private static final String FORM_CONTENT = BenchmarkData.formContent(5);
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public Duration prime() {
+        return Priming.prime(System.err::println);
+    }
+
+    @Override
+    public TypeReference<?> handlerRequestType() {
+        return new TypeReference<HandlerRequest<ResourceModel, CallbackContext>>() {
+        };
+    }
+
+    @Override
+    public List<HandlerOperation> operations(final int pollsUntilStable) {
+        return List.of(
+                operation("Create", new CreateHandler(), HandlerScenario::newModel, Map.of(
+                        "createSubscriptionTarget", List.of(CreateSubscriptionTargetResponse.builder()
+                                .id(SUBSCRIPTION_TARGET_ID)
+                                .domainId(BenchmarkData.DOMAIN_ID)
+                                .environmentId(BenchmarkData.ENVIRONMENT_ID)
+                                .name(NAME)
+                                .build()),
+                        "getSubscriptionTarget", List.of(getResponse()))),
+                operation("Read", new ReadHandler(), HandlerScenario::existingModel, Map.of(
+                        "getSubscriptionTarget", List.of(getResponse()))),
+                operation("Update", new UpdateHandler(), HandlerScenario::existingModel, Map.of(
+                        "updateSubscriptionTarget", List.of(UpdateSubscriptionTargetResponse.builder()
+                                .id(SUBSCRIPTION_TARGET_ID)
+                                .domainId(BenchmarkData.DOMAIN_ID)
+                                .environmentId(BenchmarkData.ENVIRONMENT_ID)
+                                .name(NAME)
+                                .build()),
+                        "getSubscriptionTarget", List.of(getResponse()))),
+                operation("Delete", new DeleteHandler(), HandlerScenario::existingModel, Map.of(
+                        "deleteSubscriptionTarget", List.of(DeleteSubscriptionTargetResponse.builder().build()))),
+                operation("List", new ListHandler(), HandlerScenario::newModel, Map.of(
+                        "listSubscriptionTargets", List.of(ListSubscriptionTargetsResponse.builder()
+                                .items(IntStream.range(0, 50)
+                                        .mapToObj(index -> SubscriptionTargetSummary.builder()
+                                                .id(BenchmarkData.id(index))
+                                                .domainId(BenchmarkData.DOMAIN_ID)
+                                                .environmentId(BenchmarkData.ENVIRONMENT_ID)
+                                                .projectId(BenchmarkData.PROJECT_ID)
+                                                .name("subscription-target-" + index)
+                                                .type(TYPE)
+                                                .provider("Amazon DataZone")
+                                                .manageAccessRole(BenchmarkData.ROLE_ARN)
+                                                .applicableAssetTypes(ASSET_TYPES)
+                                                .authorizedPrincipals(AUTHORIZED_PRINCIPALS)
+                                                .subscriptionTargetConfig(configForms())
+                                                .createdAt(BenchmarkData.CREATED_AT)
+                                                .createdBy(BenchmarkData.id(2))
+                                                .build())
+                                        .collect(Collectors.toList()))
+                                .build()))));
+    }
+
+    private static HandlerOperation operation(final String name,
+                                              final BaseHandlerStd handler,
+                                              final Supplier<ResourceModel> resourceModel,
+                                              final Map<String, List<Object>> script) {
+        return new HandlerOperation(name, script, resourceModel, (proxy, model, callbackContext, logger) ->
+                handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder()
+                                .awsAccountId(BenchmarkData.ACCOUNT_ID)
+                                .region(BenchmarkData.REGION)
+                                .logicalResourceIdentifier("SubscriptionTarget")
+                                .clientRequestToken("benchmark")
+                                .desiredResourceState((ResourceModel) model)
+                                .previousResourceState(existingModel())
+                                .build(),
+                        (CallbackContext) callbackContext, logger));
+    }
+
+    private static ResourceModel newModel() {
+        return ResourceModel.builder()
+                .domainIdentifier(BenchmarkData.DOMAIN_ID)
+                .environmentIdentifier(BenchmarkData.ENVIRONMENT_ID)
+                .name(NAME)
+                .type(TYPE)
+                .provider("Amazon DataZone")
+                .manageAccessRole(BenchmarkData.ROLE_ARN)
+                .applicableAssetTypes(ASSET_TYPES)
+                .authorizedPrincipals(AUTHORIZED_PRINCIPALS)
+                .subscriptionTargetConfig(List.of(SubscriptionTargetForm.builder()
+                        .formName("GlueSubscriptionTargetConfigForm")
+                        .content(FORM_CONTENT)
+                        .build()))
+                .build();
+    }
+
+    private static ResourceModel existingModel() {
+        final ResourceModel model = newModel();
+        model.setId(SUBSCRIPTION_TARGET_ID);
+        model.setDomainId(BenchmarkData.DOMAIN_ID);
+        model.setEnvironmentId(BenchmarkData.ENVIRONMENT_ID);
+        return model;
+    }
+
+    private static List<software.amazon.awssdk.services.datazone.model.SubscriptionTargetForm> configForms() {
+        return List.of(software.amazon.awssdk.services.datazone.model.SubscriptionTargetForm.builder()
+                .formName("GlueSubscriptionTargetConfigForm")
+                .content(FORM_CONTENT)
+                .build());
+    }
+
+    private static GetSubscriptionTargetResponse getResponse() {
+        return GetSubscriptionTargetResponse.builder()
+                .id(SUBSCRIPTION_TARGET_ID)
+                .domainId(BenchmarkData.DOMAIN_ID)
+                .environmentId(BenchmarkData.ENVIRONMENT_ID)
+                .projectId(BenchmarkData.PROJECT_ID)
+                .name(NAME)
+                .type(TYPE)
+                .provider("Amazon DataZone")
+                .manageAccessRole(BenchmarkData.ROLE_ARN)
+                .applicableAssetTypes(ASSET_TYPES)
+                .authorizedPrincipals(AUTHORIZED_PRINCIPALS)
+                .subscriptionTargetConfig(configForms())
+                .createdAt(BenchmarkData.CREATED_AT)
+                .createdBy(BenchmarkData.id(2))
+                .updatedAt(BenchmarkData.UPDATED_AT)
+                .updatedBy(BenchmarkData.id(2))
+                .build();
+    }
+}
@@ -0,0 +1,139 @@
+package software.amazon.datazone.subscriptiontarget;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.datazone.model.CreateSubscriptionTargetRequest;
+import software.amazon.awssdk.services.datazone.model.GetSubscriptionTargetResponse;
+import software.amazon.awssdk.services.datazone.model.SubscriptionTargetSummary;
+import software.amazon.awssdk.services.datazone.model.UpdateSubscriptionTargetRequest;
+import software.amazon.datazone.benchmarks.BenchmarkData;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Throughput of the subscription target {@link Translator} in each direction, for a growing number of subscription
+ * target config forms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    @Param({"1", "20"})
+    int configFormCount;
+
+    // A full page of ListSubscriptionTargets.
+    @Param({"50"})
+    int listSize;
+
+    private ResourceModel model;
+    private GetSubscriptionTargetResponse getSubscriptionTargetResponse;
+    private List<SubscriptionTargetSummary> subscriptionTargetSummaries;
+
+    @Setup
+    public void setUp() {
+        final List<String> formNames = BenchmarkData.names("Form", configFormCount);
+        final List<software.amazon.awssdk.services.datazone.model.SubscriptionTargetForm> configForms = formNames.stream()
+                .map(formName -> software.amazon.awssdk.services.datazone.model.SubscriptionTargetForm.builder()
+                        .formName(formName)
+                        .content(BenchmarkData.formContent(20))
+                        .build())
+                .collect(Collectors.toList());
+        // The schema allows at most 10 authorized principals.
+        final List<String> authorizedPrincipals = IntStream.range(0, 10)
+                .mapToObj(index -> "arn:aws:iam::123456789012:role/BenchmarkConsumer" + index)
+                .collect(Collectors.toList());
+        final List<String> assetTypes = List.of("GlueTableAssetType", "GlueViewAssetType", "RedshiftTableAssetType");
+
+        model = ResourceModel.builder()
+                .domainIdentifier(BenchmarkData.DOMAIN_ID)
+                .environmentIdentifier(BenchmarkData.ENVIRONMENT_ID)
+                .id(BenchmarkData.id(1))
+                .name("benchmark-subscription-target")
+                .type("GlueSubscriptionTargetType")
+                .provider("Amazon DataZone")
+                .manageAccessRole(BenchmarkData.ROLE_ARN)
+                .applicableAssetTypes(assetTypes)
+                .authorizedPrincipals(authorizedPrincipals)
+                .subscriptionTargetConfig(formNames.stream()
+                        .map(formName -> SubscriptionTargetForm.builder()
+                                .formName(formName)
+                                .content(BenchmarkData.formContent(20))
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+        getSubscriptionTargetResponse = GetSubscriptionTargetResponse.builder()
+                .id(BenchmarkData.id(1))
+                .domainId(BenchmarkData.DOMAIN_ID)
+                .environmentId(BenchmarkData.ENVIRONMENT_ID)
+                .projectId(BenchmarkData.PROJECT_ID)
+                .name("benchmark-subscription-target")
+                .type("GlueSubscriptionTargetType")
+                .provider("Amazon DataZone")
+                .manageAccessRole(BenchmarkData.ROLE_ARN)
+                .applicableAssetTypes(assetTypes)
+                .authorizedPrincipals(authorizedPrincipals)
+                .subscriptionTargetConfig(configForms)
+                .createdAt(BenchmarkData.CREATED_AT)
+                .createdBy(BenchmarkData.id(2))
+                .updatedAt(BenchmarkData.UPDATED_AT)
+                .updatedBy(BenchmarkData.id(2))
+                .build();
+        subscriptionTargetSummaries = IntStream.range(0, listSize)
+                .mapToObj(index -> SubscriptionTargetSummary.builder()
+                        .id(BenchmarkData.id(index))
+                        .domainId(BenchmarkData.DOMAIN_ID)
+                        .environmentId(BenchmarkData.ENVIRONMENT_ID)
+                        .projectId(BenchmarkData.PROJECT_ID)
+                        .name("subscription-target-" + index)
+                        .type("GlueSubscriptionTargetType")
+                        .provider("Amazon DataZone")
+                        .manageAccessRole(BenchmarkData.ROLE_ARN)
+                        .applicableAssetTypes(assetTypes)
+                        .authorizedPrincipals(authorizedPrincipals)
+                        .subscriptionTargetConfig(configForms)
+                        .createdAt(BenchmarkData.CREATED_AT)
+                        .createdBy(BenchmarkData.id(2))
+                        .updatedAt(BenchmarkData.UPDATED_AT)
+                        .updatedBy(BenchmarkData.id(2))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public CreateSubscriptionTargetRequest toCreateRequest() {
+        return Translator.translateToCreateRequest(model, "benchmark-client-token");
+    }
+
+    @Benchmark
+    public UpdateSubscriptionTargetRequest toUpdateRequest() {
+        return Translator.translateToUpdateRequest(model);
+    }
+
+    @Benchmark
+    public ResourceModel fromGetResponse() {
+        return Translator.translateFromReadResponse(getSubscriptionTargetResponse);
+    }
+
+    @Benchmark
+    public List<ResourceModel> fromListSummaries() {
+        return subscriptionTargetSummaries.stream()
+                .map(Translator::getResourceModelFromSummary)
+                .collect(Collectors.toList());
+    }
+}
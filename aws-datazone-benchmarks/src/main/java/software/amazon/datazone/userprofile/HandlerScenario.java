@@ -0,0 +1,158 @@
+package software.amazon.datazone.userprofile;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.services.datazone.model.AuthType;
+import software.amazon.awssdk.services.datazone.model.CreateUserProfileResponse;
+import software.amazon.awssdk.services.datazone.model.DomainStatus;
+import software.amazon.awssdk.services.datazone.model.GetDomainResponse;
+import software.amazon.awssdk.services.datazone.model.GetUserProfileResponse;
+import software.amazon.awssdk.services.datazone.model.SearchUserProfilesResponse;
+import software.amazon.awssdk.services.datazone.model.SingleSignOn;
+import software.amazon.awssdk.services.datazone.model.UpdateUserProfileResponse;
+import software.amazon.awssdk.services.datazone.model.UserAssignment;
+import software.amazon.awssdk.services.datazone.model.UserProfileStatus;
+import software.amazon.awssdk.services.datazone.model.UserProfileSummary;
+import software.amazon.awssdk.services.datazone.model.UserProfileType;
+import software.amazon.cloudformation.proxy.HandlerRequest;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.datazone.benchmarks.BenchmarkData;
+import software.amazon.datazone.benchmarks.HandlerOperation;
+import software.amazon.datazone.benchmarks.ResourceScenario;
+import software.amazon.datazone.benchmarks.StubDataZoneService;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The user profile handlers against a stubbed DataZone. A user profile is activated and deactivated in a single
+ * call, none of the operations has to wait for it to settle, so the polls do not apply. The create handler reads the
+ * domain and the existing profile through the async client, so it also covers that path.
+ */
+public class HandlerScenario implements ResourceScenario {
+    private static final String USER_PROFILE_ID = BenchmarkData.id(1);
+    private static final String USER_ARN = "arn:aws:iam::123456789012:role/BenchmarkUser";
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public Duration prime() {
+        return Priming.prime(System.err::println);
+    }
+
+    @Override
+    public TypeReference<?> handlerRequestType() {
+        return new TypeReference<HandlerRequest<ResourceModel, CallbackContext>>() {
+        };
+    }
+
+    @Override
+    public List<HandlerOperation> operations(final int pollsUntilStable) {
+        return List.of(
+                operation("Create", new CreateHandler(), HandlerScenario::newModel, Map.of(
+                        "getDomain", List.of(GetDomainResponse.builder()
+                                .id(BenchmarkData.DOMAIN_ID)
+                                .name("benchmark-domain")
+                                .status(DomainStatus.AVAILABLE)
+                                .singleSignOn(SingleSignOn.builder()
+                                        .type(AuthType.IAM_IDC)
+                                        .userAssignment(UserAssignment.MANUAL)
+                                        .build())
+                                .build()),
+                        // Not there yet for the pre-existence check, there for the read that follows the create.
+                        "getUserProfile", List.of(
+                                StubDataZoneService.notFound("UserProfile not found"), getResponse(UserProfileStatus.ACTIVATED)),
+                        "createUserProfile", List.of(CreateUserProfileResponse.builder()
+                                .id(USER_PROFILE_ID)
+                                .domainId(BenchmarkData.DOMAIN_ID)
+                                .type(UserProfileType.IAM)
+                                .status(UserProfileStatus.ACTIVATED)
+                                .details(details())
+                                .build()))),
+                operation("Read", new ReadHandler(), HandlerScenario::existingModel, Map.of(
+                        "getUserProfile", List.of(getResponse(UserProfileStatus.ACTIVATED)))),
+                operation("Update", new UpdateHandler(), HandlerScenario::existingModel, Map.of(
+                        "updateUserProfile", List.of(updateResponse(UserProfileStatus.ACTIVATED)),
+                        "getUserProfile", List.of(getResponse(UserProfileStatus.ACTIVATED)))),
+                // Deleting a user profile deactivates it.
+                operation("Delete", new DeleteHandler(), HandlerScenario::existingModel, Map.of(
+                        "getUserProfile", List.of(getResponse(UserProfileStatus.ACTIVATED)),
+                        "updateUserProfile", List.of(updateResponse(UserProfileStatus.DEACTIVATED)))),
+                operation("List", new ListHandler(), HandlerScenario::newModel, Map.of(
+                        "searchUserProfiles", List.of(SearchUserProfilesResponse.builder()
+                                .items(IntStream.range(0, 50)
+                                        .mapToObj(index -> UserProfileSummary.builder()
+                                                .id(BenchmarkData.id(index))
+                                                .domainId(BenchmarkData.DOMAIN_ID)
+                                                .type(UserProfileType.IAM)
+                                                .status(UserProfileStatus.ACTIVATED)
+                                                .details(details())
+                                                .build())
+                                        .collect(Collectors.toList()))
+                                .build()))));
+    }
+
+    private static HandlerOperation operation(final String name,
+                                              final BaseHandlerStd handler,
+                                              final Supplier<ResourceModel> resourceModel,
+                                              final Map<String, List<Object>> script) {
+        return new HandlerOperation(name, script, resourceModel, (proxy, model, callbackContext, logger) ->
+                handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder()
+                                .awsAccountId(BenchmarkData.ACCOUNT_ID)
+                                .region(BenchmarkData.REGION)
+                                .logicalResourceIdentifier("UserProfile")
+                                .clientRequestToken("benchmark")
+                                .desiredResourceState((ResourceModel) model)
+                                .previousResourceState(existingModel())
+                                .build(),
+                        (CallbackContext) callbackContext, logger));
+    }
+
+    private static ResourceModel newModel() {
+        return ResourceModel.builder()
+                .domainIdentifier(BenchmarkData.DOMAIN_ID)
+                .userIdentifier(USER_ARN)
+                .userType("IAM_USER")
+                .status(UserProfileStatus.ACTIVATED.toString())
+                .build();
+    }
+
+    private static ResourceModel existingModel() {
+        final ResourceModel model = newModel();
+        model.setId(USER_PROFILE_ID);
+        model.setDomainId(BenchmarkData.DOMAIN_ID);
+        return model;
+    }
+
+    private static software.amazon.awssdk.services.datazone.model.UserProfileDetails details() {
+        return software.amazon.awssdk.services.datazone.model.UserProfileDetails.builder()
+                .iam(software.amazon.awssdk.services.datazone.model.IamUserProfileDetails.builder().arn(USER_ARN).build())
+                .build();
+    }
+
+    private static UpdateUserProfileResponse updateResponse(final UserProfileStatus status) {
+        return UpdateUserProfileResponse.builder()
+                .id(USER_PROFILE_ID)
+                .domainId(BenchmarkData.DOMAIN_ID)
+                .type(UserProfileType.IAM)
+                .status(status)
+                .details(details())
+                .build();
+    }
+
+    private static GetUserProfileResponse getResponse(final UserProfileStatus status) {
+        return GetUserProfileResponse.builder()
+                .id(USER_PROFILE_ID)
+                .domainId(BenchmarkData.DOMAIN_ID)
+                .type(UserProfileType.IAM)
+                .status(status)
+                .details(details())
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package software.amazon.datazone.userprofile;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.datazone.model.CreateUserProfileRequest;
+import software.amazon.awssdk.services.datazone.model.GetUserProfileResponse;
+import software.amazon.awssdk.services.datazone.model.UpdateUserProfileRequest;
+import software.amazon.awssdk.services.datazone.model.UserProfileStatus;
+import software.amazon.awssdk.services.datazone.model.UserProfileSummary;
+import software.amazon.awssdk.services.datazone.model.UserProfileType;
+import software.amazon.datazone.benchmarks.BenchmarkData;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Throughput of the user profile {@link Translator} in each direction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorBenchmark {
+    private static final software.amazon.awssdk.services.datazone.model.UserProfileDetails DETAILS =
+            software.amazon.awssdk.services.datazone.model.UserProfileDetails.builder()
+                    .sso(software.amazon.awssdk.services.datazone.model.SsoUserProfileDetails.builder()
+                            .firstName("Jane")
+                            .lastName("Doe")
+                            .username("jane.doe@example.com")
+                            .build())
+                    .build();
+
+    // A full page of SearchUserProfiles.
+    @Param({"50"})
+    int listSize;
+
+    private ResourceModel model;
+    private GetUserProfileResponse getUserProfileResponse;
+    private List<UserProfileSummary> userProfileSummaries;
+
+    @Setup
+    public void setUp() {
+        model = ResourceModel.builder()
+                .domainIdentifier(BenchmarkData.DOMAIN_ID)
+                .userIdentifier("a1b2c3d4-5678-90ab-cdef-EXAMPLE11111")
+                .userType("SSO_USER")
+                .status(UserProfileStatus.ACTIVATED.toString())
+                .build();
+        getUserProfileResponse = GetUserProfileResponse.builder()
+                .id(BenchmarkData.id(1))
+                .domainId(BenchmarkData.DOMAIN_ID)
+                .type(UserProfileType.SSO)
+                .status(UserProfileStatus.ACTIVATED)
+                .details(DETAILS)
+                .build();
+        userProfileSummaries = IntStream.range(0, listSize)
+                .mapToObj(index -> UserProfileSummary.builder()
+                        .id(BenchmarkData.id(index))
+                        .domainId(BenchmarkData.DOMAIN_ID)
+                        .type(UserProfileType.SSO)
+                        .status(UserProfileStatus.ACTIVATED)
+                        .details(DETAILS)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public CreateUserProfileRequest toCreateRequest() {
+        return Translator.translateToCreateRequest(model, "benchmark-client-token");
+    }
+
+    @Benchmark
+    public UpdateUserProfileRequest toUpdateRequest() {
+        return Translator.translateToUpdateRequest(model);
+    }
+
+    @Benchmark
+    public ResourceModel fromGetResponse() {
+        return Translator.translateFromReadResponse(getUserProfileResponse);
+    }
+
+    @Benchmark
+    public List<ResourceModel> fromListSummaries() {
+        return userProfileSummaries.stream()
+                .map(summary -> Translator.getResourceModelFromSummary(summary, BenchmarkData.DOMAIN_ID))
+                .collect(Collectors.toList());
+    }
+}
@@ -6,49 +6,100 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.datazone.datasource.client.DataZoneClientBuilder;
-import software.amazon.datazone.datasource.client.DataZoneClientWrapper;
 import software.amazon.datazone.datasource.helper.Constants;
-import software.amazon.datazone.datasource.helper.LoggerWrapper;
-import software.amazon.datazone.datasource.helper.ResourceStabilizer;
+import software.amazon.datazone.datasource.helper.TimeBudget;
+import software.amazon.datazone.datasource.helper.Tracing;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.UUID;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
-
-    protected LoggerWrapper logger;
-    protected DataZoneClientWrapper dataZoneClientWrapper;
-    protected ResourceStabilizer stabilizer;
-
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(DataZoneClientBuilder::getClient),
-                logger
-        );
+        Tracing.start(ResourceModel.TYPE_NAME, getClass().getSimpleName(), Map.of(
+                "cfn.logicalResourceId", String.valueOf(request.getLogicalResourceIdentifier()),
+                "cfn.clientRequestToken", String.valueOf(request.getClientRequestToken())));
+        final InvocationContext context = InvocationContext.create(proxy, logger, TimeBudget.forInvocation());
+        ProgressEvent<ResourceModel, CallbackContext> progressEvent = null;
+        try {
+            if (callbackContext == null && validatesDesiredResourceState()) {
+                // Rejects invalid input, with all of its violations, before the first call to DataZone.
+                ResourceModelValidator.getInstance().validate(request.getDesiredResourceState());
+            }
+            progressEvent = handleRequest(
+                    proxy,
+                    request,
+                    callbackContext != null ? callbackContext : new CallbackContext(),
+                    context
+            );
+            return progressEvent;
+        } finally {
+            Tracing.finish(progressEvent, logger::log);
+            // Export the retries and timeouts of the calls made during this invocation, and log what they cost.
+            context.getOperationMetrics().flush(logger::log);
+            context.getLogger().info("DataZone calls of this invocation: " + context.getInvocationCost().summarize());
+        }
     }
 
-    protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    /**
+     * Handles an invocation with a context of the given client and logger.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final ProxyClient<DataZoneClient> proxyClient,
-            final Logger logger);
+            final Logger logger) {
+        return handleRequest(proxy, request, callbackContext, InvocationContext.create(proxyClient, logger));
+    }
+
+    /**
+     * Handles an invocation with what it works with in the given context. Implementations keep no state in fields, a
+     * handler instance serves concurrent invocations.
+     */
+    protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final InvocationContext context);
+
+    /**
+     * Whether the desired resource state is validated against the resource schema on the first invocation, before the
+     * handler runs. Only the handlers that take it as input do.
+     */
+    protected boolean validatesDesiredResourceState() {
+        return false;
+    }
 
     /**
-     * Helper function to return a unique token for the request.
+     * Helper function to return the client token of the call that creates or deletes the resource. It is derived from
+     * the client request token and logical id CloudFormation sends again when it re-invokes the handler, e.g. after a
+     * timeout, so that a retried call is the same idempotent request to DataZone. It is kept in the callback context
+     * for the invocations that follow.
      *
-     * @return A unique token for the request.
+     * @return The same token for every invocation of the operation.
      */
-    protected String getNewClientToken() {
-        return UUID.randomUUID().toString();
+    protected String getClientToken(final ResourceHandlerRequest<ResourceModel> request, final CallbackContext callbackContext) {
+        if (callbackContext.getClientToken() == null) {
+            callbackContext.setClientToken(newClientToken(request));
+        }
+        return callbackContext.getClientToken();
+    }
+
+    private String newClientToken(final ResourceHandlerRequest<ResourceModel> request) {
+        if (request.getClientRequestToken() == null) {
+            // Not a CloudFormation request, there is no retry to be idempotent with.
+            return UUID.randomUUID().toString();
+        }
+        // The handler is part of the name, a create and a delete never share their token.
+        final String name = String.join("/", ResourceModel.TYPE_NAME, getClass().getSimpleName(),
+                request.getClientRequestToken(), String.valueOf(request.getLogicalResourceIdentifier()));
+        return UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)).toString();
     }
 
     protected CallbackContext getCallbackContext(CallbackContext callbackContext) {
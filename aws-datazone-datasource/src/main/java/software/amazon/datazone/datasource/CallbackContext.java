@@ -14,5 +14,25 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
     private Integer stabilizationRetriesRemaining;
-    private DataSourceSummary dataSourceSummary;
+    // Set once the data source was created, updated or deleted, the next invocations only wait for it to stabilize.
+    private String dataSourceId;
+    private String domainId;
+    // Derived on the first call that needs it, the re-invocations of the operation send the same token.
+    private String clientToken;
+
+    /**
+     * Contexts serialized before the ids replaced the summary still carry it, e.g. those of operations that were in
+     * flight while the handlers were updated. Mapping it onto the ids lets them wait for the data source they already
+     * started, instead of starting it again.
+     *
+     * @deprecated Only read from legacy contexts, set the ids instead.
+     */
+    @Deprecated
+    public void setDataSourceSummary(final DataSourceSummary dataSourceSummary) {
+        if (dataSourceSummary == null) {
+            return;
+        }
+        this.dataSourceId = dataSourceSummary.dataSourceId();
+        this.domainId = dataSourceSummary.domainId();
+    }
 }
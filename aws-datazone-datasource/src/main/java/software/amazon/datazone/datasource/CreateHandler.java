@@ -1,83 +1,75 @@
 package software.amazon.datazone.datasource;
 
 import com.amazonaws.util.StringUtils;
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.CreateDataSourceRequest;
 import software.amazon.awssdk.services.datazone.model.CreateDataSourceResponse;
-import software.amazon.awssdk.services.datazone.model.DataSourceSummary;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.datazone.datasource.client.DataZoneClientWrapper;
-import software.amazon.datazone.datasource.helper.LoggerWrapper;
-import software.amazon.datazone.datasource.helper.ResourceStabilizer;
+import software.amazon.datazone.datasource.helper.Tracing;
 
 import java.util.Objects;
 
 public class CreateHandler extends BaseHandlerStd {
+    private final ReadHandler readHandler = new ReadHandler();
+
+    @Override
+    protected boolean validatesDesiredResourceState() {
+        return true;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-
-        // Initialize
-        this.logger = new LoggerWrapper(externalLogger);
-        this.dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
-        this.stabilizer = new ResourceStabilizer(dataZoneClientWrapper, logger);
-
+            final InvocationContext context) {
         // Create the context
         // This would be used for retrying when the resource is in TRANSIENT states, and we need to retry again.
         final CallbackContext currentContext = getCallbackContext(callbackContext);
 
         return ProgressEvent.progress(request.getDesiredResourceState(), currentContext)
                 // Make create call
-                .then(progress -> createDataSource(proxy, proxyClient, progress))
+                .then(Tracing.stage("createDataSource", progress -> createDataSource(proxy, request, context, progress)))
                 // stabilize the resource i.e. wait till the resource is in the expected state.
-                .then(progress -> stabilizer.stabilizeResource(progress.getResourceModel(), progress.getCallbackContext()))
+                .then(Tracing.stage("stabilizeResource", progress -> context.getStabilizer().stabilizeResource(progress.getResourceModel(), progress.getCallbackContext())))
                 // read the resource
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, progress.getCallbackContext(), proxyClient, externalLogger));
+                .then(Tracing.stage("read", progress -> readHandler.handleRequest(proxy, request, progress.getCallbackContext(), context)));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> createDataSource(AmazonWebServicesClientProxy proxy,
-                                                                           ProxyClient<DataZoneClient> proxyClient,
+                                                                           ResourceHandlerRequest<ResourceModel> request,
+                                                                           InvocationContext context,
                                                                            ProgressEvent<ResourceModel, CallbackContext> progress) {
         this.validateRequiredInputs(progress.getResourceModel());
-        final DataSourceSummary dataSourceSummary = progress.getCallbackContext().getDataSourceSummary();
-        // If the dataSource Summary is not null then this implies that we created the dataSource in the previous stabilization
+        final String dataSourceId = progress.getCallbackContext().getDataSourceId();
+        // If the dataSourceId is not null then this implies that we created the dataSource in the previous stabilization
         // attempt and this attempt we just need to wait till dataSource gets stabilized.
-        if (!Objects.isNull(dataSourceSummary)) {
+        if (!Objects.isNull(dataSourceId)) {
             return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
         }
 
         // Else we need to call DataZone Control Plane to create the resource.
-        return proxy.initiate("AWS-DataZone-DataSource::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                .translateToServiceRequest(model -> Translator.translateToCreateRequest(model, getNewClientToken()))
-                .makeServiceCall((createDomainRequest, client) -> dataZoneClientWrapper.createDataSource(createDomainRequest))
+        return Tracing.callChain("AWS-DataZone-DataSource::Create", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), progress.getResourceModel(), progress.getCallbackContext())
+                .translateToServiceRequest(model -> Translator.translateToCreateRequest(model, getClientToken(request, progress.getCallbackContext())))
+                .makeServiceCall((createDomainRequest, client) -> context.getDataZoneClientWrapper().createDataSource(createDomainRequest))
                 // and update the model fields and context
-                .done(this::updateModelFieldsAndContext);
+                .done((createDataSourceRequest, createDataSourceResponse, client, resourceModel, callbackContext) ->
+                        updateModelFieldsAndContext(createDataSourceRequest, createDataSourceResponse, resourceModel, callbackContext, context)));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> updateModelFieldsAndContext(CreateDataSourceRequest createDataSourceRequest,
                                                                                       CreateDataSourceResponse createDataSourceResponse,
-                                                                                      ProxyClient<DataZoneClient> dataZoneClientProxyClient,
                                                                                       ResourceModel resourceModel,
-                                                                                      CallbackContext callbackContext) {
-        logger.info("Successfully created DataSource with name %s and id %s", createDataSourceRequest.name(), createDataSourceResponse.id());
+                                                                                      CallbackContext callbackContext,
+                                                                                      InvocationContext context) {
+        context.getLogger().info("Successfully created DataSource with name %s and id %s", createDataSourceRequest.name(), createDataSourceResponse.id());
         resourceModel.setId(createDataSourceResponse.id());
         resourceModel.setDomainId(createDataSourceRequest.domainIdentifier());
 
-        CallbackContext updatedContext = CallbackContext.builder()
-                .dataSourceSummary(DataSourceSummary.builder()
-                        .dataSourceId(resourceModel.getId())
-                        .domainId(resourceModel.getDomainId())
-                        .build())
-                .stabilizationRetriesRemaining(callbackContext.getStabilizationRetriesRemaining())
+        CallbackContext updatedContext = callbackContext.toBuilder()
+                .dataSourceId(resourceModel.getId())
+                .domainId(resourceModel.getDomainId())
                 .build();
 
         return ProgressEvent.progress(resourceModel, updatedContext);
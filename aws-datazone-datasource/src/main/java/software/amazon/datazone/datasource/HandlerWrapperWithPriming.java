@@ -0,0 +1,35 @@
+package software.amazon.datazone.datasource;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaRuntime;
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+import software.amazon.datazone.datasource.helper.TimeBudget;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * The Lambda entrypoint of the provider: the generated {@link HandlerWrapper}, with {@link Priming} registered when
+ * the entrypoint is constructed, in the init phase of the container. This is the only place priming is registered, the
+ * handlers and what else loads them, the tests and the benchmarks among them, do not prime.
+ */
+public final class HandlerWrapperWithPriming implements RequestStreamHandler {
+    private final HandlerWrapper handlerWrapper = new HandlerWrapper();
+
+    public HandlerWrapperWithPriming() {
+        Priming.register(LambdaRuntime.getLogger()::log);
+    }
+
+    @Override
+    public void handleRequest(final InputStream inputStream, final OutputStream outputStream, final Context context)
+            throws IOException {
+        // The wrapper runs the handler on this thread, its time budget is taken from what the invocation has left.
+        TimeBudget.startInvocation(context::getRemainingTimeInMillis);
+        try {
+            handlerWrapper.handleRequest(inputStream, outputStream, context);
+        } finally {
+            TimeBudget.finishInvocation();
+        }
+    }
+}
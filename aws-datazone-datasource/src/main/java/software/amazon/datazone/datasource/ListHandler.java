@@ -1,15 +1,10 @@
 package software.amazon.datazone.datasource;
 
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.ListDataSourcesResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.datazone.datasource.client.DataZoneClientWrapper;
-import software.amazon.datazone.datasource.helper.LoggerWrapper;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -20,14 +15,9 @@ public class ListHandler extends BaseHandlerStd {
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(AmazonWebServicesClientProxy proxy,
                                                                           ResourceHandlerRequest<ResourceModel> request,
                                                                           CallbackContext callbackContext,
-                                                                          ProxyClient<DataZoneClient> proxyClient,
-                                                                          Logger externalLogger) {
-        // Initialise
-        this.logger = new LoggerWrapper(externalLogger);
-        this.dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
-
+                                                                          InvocationContext context) {
         // Call the API and get response
-        ListDataSourcesResponse response = dataZoneClientWrapper.listDataSources(Translator.translateToListRequest(request.getDesiredResourceState(), request.getNextToken()));
+        ListDataSourcesResponse response = context.getDataZoneClientWrapper().listDataSources(Translator.translateToListRequest(request.getDesiredResourceState(), request.getNextToken()));
         String nextToken = response.nextToken();
 
         // Convert received DataSourceSummary to Resource Model.
@@ -1,13 +1,9 @@
 package software.amazon.datazone.datasource;
 
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.datazone.datasource.client.DataZoneClientWrapper;
-import software.amazon.datazone.datasource.helper.LoggerWrapper;
+import software.amazon.datazone.datasource.helper.Tracing;
 
 public class ReadHandler extends BaseHandlerStd {
 
@@ -15,16 +11,10 @@ public class ReadHandler extends BaseHandlerStd {
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-
-        // Initialize
-        this.logger = new LoggerWrapper(externalLogger);
-        this.dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
-
-        return proxy.initiate("AWS-DataZone-DataSource::Read", proxyClient, request.getDesiredResourceState(), callbackContext)
+            final InvocationContext context) {
+        return Tracing.callChain("AWS-DataZone-DataSource::Read", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), request.getDesiredResourceState(), callbackContext)
                 .translateToServiceRequest(Translator::translateToReadRequest)
-                .makeServiceCall((getDataSourceRequest, client) -> dataZoneClientWrapper.getDataSource(getDataSourceRequest))
-                .done(awsResponse -> ProgressEvent.defaultSuccessHandler(ResponseTranslator.translateFromReadResponse(awsResponse)));
+                .makeServiceCall((getDataSourceRequest, client) -> context.getDataZoneClientWrapper().getDataSource(getDataSourceRequest))
+                .done(awsResponse -> ProgressEvent.defaultSuccessHandler(ResponseTranslator.translateFromReadResponse(awsResponse))));
     }
 }
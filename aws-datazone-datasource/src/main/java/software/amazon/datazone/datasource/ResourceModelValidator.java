@@ -0,0 +1,86 @@
+package software.amazon.datazone.datasource;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.ValidationException;
+import org.everit.json.schema.loader.SchemaLoader;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Validates resource models against the resource schema of the provider, before any call to DataZone: the required
+ * properties, patterns, lengths and enums of the schema are checked locally, and all the violations of a model are
+ * reported at once.
+ * <p>
+ * CloudFormation validates the templates against the same schema, so this only short-circuits, without a call, what
+ * it already rejects, e.g. for callers that skip its validation. It adds nothing to that validation, and its cost per
+ * invocation is kept to validating against the compiled schema, compiled once per container on first use.
+ * <p>
+ * Read-only properties are not input, they are left out of the validation.
+ */
+final class ResourceModelValidator {
+    private static final ResourceModelValidator INSTANCE =
+            new ResourceModelValidator(new Configuration().resourceSchemaJSONObject());
+
+    private final Schema schema;
+    private final Set<String> readOnlyProperties = new HashSet<>();
+    private final Serializer serializer = new Serializer();
+
+    ResourceModelValidator(final JSONObject resourceSchema) {
+        this.schema = SchemaLoader.builder()
+                .schemaJson(resourceSchema)
+                .draftV7Support()
+                .build()
+                .load()
+                .build();
+        final JSONArray pointers = resourceSchema.optJSONArray("readOnlyProperties");
+        for (int index = 0; pointers != null && index < pointers.length(); index++) {
+            // Only whole properties, e.g. /properties/Id, are left out. What is nested in an input property is input.
+            final String[] segments = pointers.getString(index).split("/");
+            if (segments.length == 3 && "properties".equals(segments[1])) {
+                readOnlyProperties.add(segments[2]);
+            }
+        }
+    }
+
+    static ResourceModelValidator getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @throws CfnInvalidRequestException With all the violations of the model, if it does not match the schema.
+     */
+    void validate(final ResourceModel model) {
+        final List<String> violations = violations(model);
+        if (!violations.isEmpty()) {
+            throw new CfnInvalidRequestException(String.format("%d schema violation(s): %s", violations.size(),
+                    String.join("; ", violations)));
+        }
+    }
+
+    /**
+     * @return The violations of the model, e.g. {@code #: required key [Name] not found}, none if it matches the schema.
+     */
+    List<String> violations(final ResourceModel model) {
+        final JSONObject properties;
+        try {
+            properties = model == null ? new JSONObject() : new JSONObject(serializer.serialize(model));
+        } catch (final JsonProcessingException exception) {
+            throw new CfnInternalFailureException(exception);
+        }
+        readOnlyProperties.forEach(properties::remove);
+        try {
+            schema.validate(properties);
+            return List.of();
+        } catch (final ValidationException exception) {
+            return exception.getAllMessages();
+        }
+    }
+}
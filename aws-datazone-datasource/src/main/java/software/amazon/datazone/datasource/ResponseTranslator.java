@@ -16,7 +16,7 @@ public class ResponseTranslator {
      * @param getDataSourceResponse The GetDataSourceResponse for the DataSource.
      * @return model Resource model.
      */
-    static ResourceModel translateFromReadResponse(final GetDataSourceResponse getDataSourceResponse) {
+    public static ResourceModel translateFromReadResponse(final GetDataSourceResponse getDataSourceResponse) {
         final Double lastRunAssetCount = Objects.isNull(getDataSourceResponse.lastRunAssetCount()) ? null : Double.valueOf(getDataSourceResponse.lastRunAssetCount());
 
         return ResourceModel.builder()
@@ -46,7 +46,7 @@ public class ResponseTranslator {
      * @param dataSourceSummary DataSourceSummary for the data source.
      * @return model Resource model
      */
-    static ResourceModel getResourceModelFromDataSourceSummary(DataSourceSummary dataSourceSummary) {
+    public static ResourceModel getResourceModelFromDataSourceSummary(DataSourceSummary dataSourceSummary) {
         Double lastRunAssetCount = Objects.isNull(dataSourceSummary.lastRunAssetCount()) ? null : Double.valueOf(dataSourceSummary.lastRunAssetCount());
         return ResourceModel.builder()
                 .id(dataSourceSummary.dataSourceId())
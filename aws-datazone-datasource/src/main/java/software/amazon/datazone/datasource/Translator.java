@@ -126,7 +126,7 @@ public class Translator {
      * @param nextToken token passed to the aws service list resources request
      * @return awsRequest the aws service request to list resources within aws account
      */
-    static ListDataSourcesRequest translateToListRequest(final @NonNull ResourceModel model,
+    public static ListDataSourcesRequest translateToListRequest(final @NonNull ResourceModel model,
                                                          final String nextToken) {
         return ListDataSourcesRequest.builder()
                 .domainIdentifier(getDomainId(model))
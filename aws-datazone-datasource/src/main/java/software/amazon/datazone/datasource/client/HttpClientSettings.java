@@ -0,0 +1,208 @@
+package software.amazon.datazone.datasource.client;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.crt.AwsCrtHttpClient;
+import software.amazon.awssdk.http.crt.TcpKeepAliveConfiguration;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.cloudformation.LambdaWrapper;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Transport and connection settings of the DataZone client. Every setting is optional, unset settings keep the
+ * defaults of the chosen transport. The settings are read once per container from the environment, see
+ * {@link #fromEnvironment()}.
+ * <p>
+ * Only the default Apache transport ships in the handler jar. The CRT and URLConnection clients are only packaged by
+ * the http-transports Maven profile, so that the jar does not carry their native libraries and classes for a setting
+ * it is not deployed with; they are built in classes of their own, which are only loaded when selected.
+ */
+@Value
+@Builder(toBuilder = true)
+public class HttpClientSettings {
+    public static final String TRANSPORT = "DATAZONE_HTTP_TRANSPORT";
+    public static final String MAX_CONNECTIONS = "DATAZONE_HTTP_MAX_CONNECTIONS";
+    public static final String TCP_KEEP_ALIVE = "DATAZONE_HTTP_TCP_KEEP_ALIVE";
+    public static final String CONNECTION_TTL_MILLIS = "DATAZONE_HTTP_CONNECTION_TTL_MILLIS";
+    public static final String CONNECTION_TIMEOUT_MILLIS = "DATAZONE_HTTP_CONNECTION_TIMEOUT_MILLIS";
+    public static final String SOCKET_TIMEOUT_MILLIS = "DATAZONE_HTTP_SOCKET_TIMEOUT_MILLIS";
+    public static final String API_CALL_ATTEMPT_TIMEOUT_MILLIS = "DATAZONE_API_CALL_ATTEMPT_TIMEOUT_MILLIS";
+    public static final String ENDPOINT_OVERRIDE = "DATAZONE_ENDPOINT_OVERRIDE";
+    public static final String RECORD_FILE = "DATAZONE_HTTP_RECORD_FILE";
+    public static final String REPLAY_FILE = "DATAZONE_HTTP_REPLAY_FILE";
+
+    @NonNull
+    @Builder.Default
+    HttpTransport transport = HttpTransport.DEFAULT;
+    Integer maxConnections;
+    Boolean tcpKeepAlive;
+    Duration connectionTimeToLive;
+    Duration connectionTimeout;
+    Duration socketTimeout;
+    Duration apiCallAttemptTimeout;
+    URI endpointOverride;
+    // Records every request and response to this file, see RecordingHttpClient.
+    Path recordFile;
+    // Serves the requests from this recording instead of calling DataZone, see ReplayHttpClient.
+    Path replayFile;
+
+    public static HttpClientSettings fromEnvironment() {
+        return fromEnvironment(System::getenv);
+    }
+
+    /**
+     * Reads the settings from the given variables, a misconfigured value fails fast instead of silently falling back
+     * to the defaults.
+     *
+     * @param environment Lookup of the variable values, returns null for unset variables.
+     * @return The settings.
+     */
+    public static HttpClientSettings fromEnvironment(final @NonNull Function<String, String> environment) {
+        final HttpClientSettingsBuilder builder = HttpClientSettings.builder();
+        parse(environment, TRANSPORT, value -> HttpTransport.valueOf(value.toUpperCase(Locale.ROOT)), builder::transport);
+        parse(environment, MAX_CONNECTIONS, Integer::valueOf, builder::maxConnections);
+        parse(environment, TCP_KEEP_ALIVE, HttpClientSettings::parseBoolean, builder::tcpKeepAlive);
+        parse(environment, CONNECTION_TTL_MILLIS, HttpClientSettings::parseMillis, builder::connectionTimeToLive);
+        parse(environment, CONNECTION_TIMEOUT_MILLIS, HttpClientSettings::parseMillis, builder::connectionTimeout);
+        parse(environment, SOCKET_TIMEOUT_MILLIS, HttpClientSettings::parseMillis, builder::socketTimeout);
+        parse(environment, API_CALL_ATTEMPT_TIMEOUT_MILLIS, HttpClientSettings::parseMillis, builder::apiCallAttemptTimeout);
+        parse(environment, ENDPOINT_OVERRIDE, URI::create, builder::endpointOverride);
+        parse(environment, RECORD_FILE, Path::of, builder::recordFile);
+        parse(environment, REPLAY_FILE, Path::of, builder::replayFile);
+        final HttpClientSettings settings = builder.build();
+        if (settings.getRecordFile() != null && settings.getReplayFile() != null) {
+            throw new IllegalArgumentException(String.format("Set either %s or %s, not both", RECORD_FILE, REPLAY_FILE));
+        }
+        return settings;
+    }
+
+    /**
+     * Creates the http client for the chosen transport. Without any connection setting the default transport returns
+     * the client shared by the CloudFormation plugin, otherwise a dedicated client is created, which the caller owns.
+     * Settings a transport has no equivalent for are ignored: URLConnection pools through the JDK and has no pool
+     * size, TTL or keep-alive, and CRT has no socket timeout and treats the TTL as the maximum idle time.
+     * <p>
+     * With a replay file, the client serves the recorded responses and no transport is created. With a record file,
+     * the client of the transport is wrapped to record its requests and responses.
+     *
+     * @return The http client.
+     */
+    public SdkHttpClient createHttpClient() {
+        if (replayFile != null) {
+            return ReplayHttpClient.load(replayFile);
+        }
+        if (!transport.isAvailable(HttpClientSettings.class.getClassLoader())) {
+            throw new IllegalStateException(String.format("%s is %s, but its http client is not packaged, build the "
+                    + "handler with the http-transports Maven profile: mvn -Phttp-transports package", TRANSPORT, transport));
+        }
+        final SdkHttpClient httpClient = createTransportHttpClient();
+        return recordFile == null ? httpClient : new RecordingHttpClient(httpClient, HttpInteractionLog.appendingTo(recordFile));
+    }
+
+    private SdkHttpClient createTransportHttpClient() {
+        switch (transport) {
+            case CRT:
+                return CrtTransport.create(this);
+            case URL_CONNECTION:
+                return UrlConnectionTransport.create(this);
+            default:
+                if (!hasConnectionSettings()) {
+                    return LambdaWrapper.HTTP_CLIENT;
+                }
+                final ApacheHttpClient.Builder apacheBuilder = ApacheHttpClient.builder();
+                setIfPresent(maxConnections, apacheBuilder::maxConnections);
+                setIfPresent(tcpKeepAlive, apacheBuilder::tcpKeepAlive);
+                setIfPresent(connectionTimeToLive, apacheBuilder::connectionTimeToLive);
+                setIfPresent(connectionTimeout, apacheBuilder::connectionTimeout);
+                setIfPresent(socketTimeout, apacheBuilder::socketTimeout);
+                return apacheBuilder.build();
+        }
+    }
+
+    public ClientOverrideConfiguration overrideConfiguration() {
+        final ClientOverrideConfiguration.Builder builder = ClientOverrideConfiguration.builder();
+        setIfPresent(apiCallAttemptTimeout, builder::apiCallAttemptTimeout);
+        return builder.build();
+    }
+
+    public boolean hasConnectionSettings() {
+        return Stream.of(maxConnections, tcpKeepAlive, connectionTimeToLive, connectionTimeout, socketTimeout)
+                .anyMatch(Objects::nonNull);
+    }
+
+    private static <T> void parse(final Function<String, String> environment,
+                                  final String name,
+                                  final Function<String, T> parser,
+                                  final Consumer<T> setter) {
+        final String value = environment.apply(name);
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        try {
+            setter.accept(parser.apply(value.trim()));
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Invalid value %s for %s", value, name), e);
+        }
+    }
+
+    private static Boolean parseBoolean(final String value) {
+        if (!"true".equalsIgnoreCase(value) && !"false".equalsIgnoreCase(value)) {
+            throw new IllegalArgumentException("Expected true or false");
+        }
+        return Boolean.valueOf(value);
+    }
+
+    private static Duration parseMillis(final String value) {
+        final Duration duration = Duration.ofMillis(Long.parseLong(value));
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Expected a positive number of milliseconds");
+        }
+        return duration;
+    }
+
+    private static <T> void setIfPresent(final T value, final Consumer<T> setter) {
+        if (value != null) {
+            setter.accept(value);
+        }
+    }
+
+    private static final class CrtTransport {
+        private static final Duration KEEP_ALIVE_INTERVAL = Duration.ofSeconds(30);
+        private static final Duration KEEP_ALIVE_TIMEOUT = Duration.ofSeconds(10);
+
+        private static SdkHttpClient create(final HttpClientSettings settings) {
+            final AwsCrtHttpClient.Builder builder = AwsCrtHttpClient.builder();
+            setIfPresent(settings.maxConnections, builder::maxConcurrency);
+            setIfPresent(settings.connectionTimeout, builder::connectionTimeout);
+            setIfPresent(settings.connectionTimeToLive, builder::connectionMaxIdleTime);
+            if (Boolean.TRUE.equals(settings.tcpKeepAlive)) {
+                builder.tcpKeepAliveConfiguration(TcpKeepAliveConfiguration.builder()
+                        .keepAliveInterval(KEEP_ALIVE_INTERVAL)
+                        .keepAliveTimeout(KEEP_ALIVE_TIMEOUT)
+                        .build());
+            }
+            return builder.build();
+        }
+    }
+
+    private static final class UrlConnectionTransport {
+        private static SdkHttpClient create(final HttpClientSettings settings) {
+            final UrlConnectionHttpClient.Builder builder = UrlConnectionHttpClient.builder();
+            setIfPresent(settings.connectionTimeout, builder::connectionTimeout);
+            setIfPresent(settings.socketTimeout, builder::socketTimeout);
+            return builder.build();
+        }
+    }
+}
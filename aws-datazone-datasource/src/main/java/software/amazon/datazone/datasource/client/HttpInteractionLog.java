@@ -0,0 +1,71 @@
+package software.amazon.datazone.datasource.client;
+
+import lombok.NonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A file of recorded {@link HttpInteraction}s, one JSON line each, gzip compressed when its name ends with .gz. Every
+ * interaction is appended on its own, as a gzip member of its own when compressed, so that the recording stays
+ * readable when the container is frozen or stopped in the middle of an invocation.
+ */
+public final class HttpInteractionLog {
+    private static final Map<Path, HttpInteractionLog> LOGS = new ConcurrentHashMap<>();
+
+    private final Path file;
+    private final boolean compressed;
+
+    private HttpInteractionLog(final Path file) {
+        this.file = file;
+        this.compressed = file.getFileName().toString().endsWith(".gz");
+    }
+
+    /**
+     * @return The log of the file, shared by all clients recording to it.
+     */
+    public static HttpInteractionLog appendingTo(final @NonNull Path file) {
+        return LOGS.computeIfAbsent(file.toAbsolutePath(), HttpInteractionLog::new);
+    }
+
+    public synchronized void append(final @NonNull HttpInteraction interaction) {
+        final byte[] line = (interaction.toJson() + "\n").getBytes(StandardCharsets.UTF_8);
+        try (OutputStream file = Files.newOutputStream(this.file, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+             OutputStream output = compressed ? new GZIPOutputStream(file) : file) {
+            output.write(line);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return The interactions of the file, in the order they were recorded.
+     */
+    public static List<HttpInteraction> read(final @NonNull Path file) {
+        try (InputStream input = Files.newInputStream(file);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(
+                     file.getFileName().toString().endsWith(".gz") ? new GZIPInputStream(input) : input,
+                     StandardCharsets.UTF_8))) {
+            return reader.lines()
+                    .filter(line -> !line.isBlank())
+                    .map(HttpInteraction::fromJson)
+                    .collect(Collectors.toList());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package software.amazon.datazone.datasource.client;
+
+/**
+ * The HTTP implementations the DataZone client can be built on. Only the default one ships in the handler jar, the
+ * others are packaged by the http-transports Maven profile.
+ */
+public enum HttpTransport {
+    // Apache client shipped with the CloudFormation plugin, shared through LambdaWrapper.HTTP_CLIENT unless tuned.
+    DEFAULT("software.amazon.awssdk.http.apache.ApacheHttpClient"),
+    // AWS CRT based client, smallest cold start and footprint of the three, needs the native aws-crt library.
+    CRT("software.amazon.awssdk.http.crt.AwsCrtHttpClient", "software.amazon.awssdk.crt.CRT"),
+    // JDK HttpURLConnection based client, no connection pool of its own.
+    URL_CONNECTION("software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient");
+
+    private final String[] requiredClassNames;
+
+    HttpTransport(final String... requiredClassNames) {
+        this.requiredClassNames = requiredClassNames;
+    }
+
+    /**
+     * @return Whether the classes of the transport can be loaded, without initializing them.
+     */
+    boolean isAvailable(final ClassLoader classLoader) {
+        for (final String className : requiredClassNames) {
+            try {
+                Class.forName(className, false, classLoader);
+            } catch (final ClassNotFoundException | LinkageError e) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,7 +1,13 @@
 package software.amazon.datazone.datasource.helper;
 
+import java.time.Duration;
+
 public class Constants {
     public static final Integer CALLBACK_DELAY_SECONDS = 5;
     public static final Integer MAXIMUM_STABILIZATION_ATTEMPTS = 10;
+    public static final Duration INLINE_STABILIZATION_BUDGET = Duration.ofSeconds(30);
+    public static final Duration INVOCATION_SAFETY_MARGIN = Duration.ofSeconds(10);
+    public static final Duration FIRST_INLINE_POLL_DELAY = Duration.ofSeconds(1);
+    public static final Duration MAXIMUM_INLINE_POLL_DELAY = Duration.ofSeconds(5);
     public static final String INVALID_STATUS_ERROR = "Received invalid status for datasource %s, status %s";
 }
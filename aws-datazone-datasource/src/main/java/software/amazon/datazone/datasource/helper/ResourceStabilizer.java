@@ -12,6 +12,8 @@ import software.amazon.datazone.datasource.ResourceModel;
 import software.amazon.datazone.datasource.Translator;
 import software.amazon.datazone.datasource.client.DataZoneClientWrapper;
 
+import java.time.Duration;
+
 import static software.amazon.datazone.datasource.helper.Constants.INVALID_STATUS_ERROR;
 import static software.amazon.datazone.datasource.helper.Constants.MAXIMUM_STABILIZATION_ATTEMPTS;
 
@@ -20,6 +22,7 @@ import static software.amazon.datazone.datasource.helper.Constants.MAXIMUM_STABI
 public class ResourceStabilizer {
     private final DataZoneClientWrapper dataZoneClientWrapper;
     private final LoggerWrapper logger;
+    private final TimeBudget timeBudget;
 
     public ProgressEvent<ResourceModel, CallbackContext> stabilizeResource(final @NonNull ResourceModel model,
                                                                            final @NonNull CallbackContext callbackContext) {
@@ -28,6 +31,15 @@ public class ResourceStabilizer {
 
         // Get the datasource using getDataSourceResponse call
         GetDataSourceResponse getDataSourceResponse = dataZoneClientWrapper.getDataSource(Translator.translateToReadRequest(model));
+        // Wait in-process while the status is transient and the invocation has time left, a callback to
+        // CloudFormation costs a full re-invocation.
+        Duration pollDelay = Constants.FIRST_INLINE_POLL_DELAY;
+        while (DataZoneClientWrapper.TRANSIENT_DATASOURCE_STATUS.contains(getDataSourceResponse.status()) && timeBudget.waitFor(pollDelay)) {
+            getDataSourceResponse = dataZoneClientWrapper.getDataSource(Translator.translateToReadRequest(model));
+            logger.info("Datasource with name %s and id %s is %s after waiting %s ms in-process.", dataSourceName, model.getId(),
+                    getDataSourceResponse.status(), pollDelay.toMillis());
+            pollDelay = TimeBudget.nextPollDelay(pollDelay);
+        }
 
         // Validate the current status for the data source
         DataSourceStatus status = getDataSourceResponse.status();
@@ -43,9 +55,8 @@ public class ResourceStabilizer {
                         dataSourceName, getDataSourceResponse.errorMessage());
                 return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotStabilized, errorMessage);
             }
-            return ProgressEvent.defaultInProgressHandler(CallbackContext.builder()
+            return ProgressEvent.defaultInProgressHandler(callbackContext.toBuilder()
                             .stabilizationRetriesRemaining(stabilizationRetriesRemaining)
-                            .dataSourceSummary(callbackContext.getDataSourceSummary())
                             .build(),
                     Constants.CALLBACK_DELAY_SECONDS, model);
         } else if (DataZoneClientWrapper.FAILED_DATASOURCE_STATUS.contains(status)) {
@@ -0,0 +1,145 @@
+package software.amazon.datazone.datasource.helper;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * The time an invocation may spend waiting in-process for its resource to stabilize, before it hands back to
+ * CloudFormation. Each callback costs a full re-invocation: the request is deserialized again, the clients are built
+ * again and CloudFormation schedules it after the callback delay. Resources that stabilize in seconds finish within one
+ * invocation instead.
+ * <p>
+ * An invocation only has the time its Lambda function has left, CloudFormation gives each about 60 seconds. So its
+ * budget is what it actually has left when it starts, less {@link Constants#INVOCATION_SAFETY_MARGIN} for the poll,
+ * the response and the callback that follow the last wait. The Lambda entrypoint makes the time left known; where it
+ * is not, e.g. in the tests and the benchmarks, the cap alone applies.
+ * <p>
+ * The cap keeps an invocation from spending more than half of its 60 seconds waiting. It is read once per container
+ * from {@value #INLINE_STABILIZATION_MILLIS}, 0 turns in-process waiting off. A value that is negative or not a number
+ * is rejected with an error that names the variable, it is not clamped to 0.
+ */
+public final class TimeBudget {
+    public static final String INLINE_STABILIZATION_MILLIS = "DATAZONE_INLINE_STABILIZATION_MILLIS";
+
+    private static final Duration INVOCATION_BUDGET = invocationBudget(System::getenv);
+    // The time left of the Lambda invocation running on this thread, set by the entrypoint for the length of it.
+    private static final ThreadLocal<LongSupplier> REMAINING_MILLIS = new ThreadLocal<>();
+    private static final TimeBudget NONE = new TimeBudget(Duration.ZERO, System::nanoTime, Thread::sleep);
+
+    private final LongSupplier nanoTime;
+    private final Sleeper sleeper;
+    private final long deadline;
+
+    TimeBudget(final Duration budget, final LongSupplier nanoTime, final Sleeper sleeper) {
+        this.nanoTime = nanoTime;
+        this.sleeper = sleeper;
+        this.deadline = nanoTime.getAsLong() + budget.toNanos();
+    }
+
+    /**
+     * @return A budget that never waits, every poll hands back to CloudFormation.
+     */
+    public static TimeBudget none() {
+        return NONE;
+    }
+
+    /**
+     * Makes the time left of the invocation that runs on this thread known, until {@link #finishInvocation()}.
+     *
+     * @param remainingMillis The milliseconds the invocation has left, e.g. from its Lambda context.
+     */
+    public static void startInvocation(final LongSupplier remainingMillis) {
+        REMAINING_MILLIS.set(remainingMillis);
+    }
+
+    public static void finishInvocation() {
+        REMAINING_MILLIS.remove();
+    }
+
+    /**
+     * @return The budget of an invocation from CloudFormation, from now on.
+     */
+    public static TimeBudget forInvocation() {
+        return of(invocationBudget(INVOCATION_BUDGET, REMAINING_MILLIS.get()));
+    }
+
+    /**
+     * @return A budget of the given time, from now on.
+     */
+    public static TimeBudget of(final Duration budget) {
+        return new TimeBudget(budget, System::nanoTime, Thread::sleep);
+    }
+
+    /**
+     * @return The delay before the poll after one that waited for the given delay: twice as long, up to the maximum.
+     */
+    public static Duration nextPollDelay(final Duration pollDelay) {
+        final Duration doubled = pollDelay.multipliedBy(2);
+        return doubled.compareTo(Constants.MAXIMUM_INLINE_POLL_DELAY) < 0 ? doubled : Constants.MAXIMUM_INLINE_POLL_DELAY;
+    }
+
+    /**
+     * Waits for the given delay, if the budget has room for it.
+     *
+     * @return Whether it waited. False when the budget is spent or the thread was interrupted, the caller then hands
+     * back to CloudFormation.
+     */
+    public boolean waitFor(final Duration delay) {
+        if (nanoTime.getAsLong() + delay.toNanos() > deadline) {
+            return false;
+        }
+        try {
+            sleeper.sleep(delay.toMillis());
+            return true;
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Reads the budget of an invocation from the given variables, a misconfigured value fails fast instead of silently
+     * falling back to the default.
+     *
+     * @throws IllegalArgumentException When the value is not a whole number of milliseconds or is negative.
+     */
+    static Duration invocationBudget(final Function<String, String> environment) {
+        final String value = environment.apply(INLINE_STABILIZATION_MILLIS);
+        if (value == null) {
+            return Constants.INLINE_STABILIZATION_BUDGET;
+        }
+        final long millis;
+        try {
+            millis = Long.parseLong(value.trim());
+        } catch (final NumberFormatException exception) {
+            throw new IllegalArgumentException(String.format("Invalid value %s for %s, expected a number of milliseconds",
+                    value, INLINE_STABILIZATION_MILLIS), exception);
+        }
+        if (millis < 0) {
+            throw new IllegalArgumentException(String.format("Invalid value %s for %s, expected 0 or more milliseconds",
+                    value, INLINE_STABILIZATION_MILLIS));
+        }
+        return Duration.ofMillis(millis);
+    }
+
+    /**
+     * @param remainingMillis The time the invocation has left, null when it is not known.
+     * @return The cap, or less when the invocation does not have the cap and the safety margin left.
+     */
+    static Duration invocationBudget(final Duration cap, final LongSupplier remainingMillis) {
+        if (remainingMillis == null) {
+            return cap;
+        }
+        final Duration available = Duration.ofMillis(remainingMillis.getAsLong()).minus(Constants.INVOCATION_SAFETY_MARGIN);
+        if (available.isNegative()) {
+            return Duration.ZERO;
+        }
+        return available.compareTo(cap) < 0 ? available : cap;
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+}
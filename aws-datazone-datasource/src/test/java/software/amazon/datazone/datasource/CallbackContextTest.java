@@ -0,0 +1,45 @@
+package software.amazon.datazone.datasource;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.resource.Serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CallbackContextTest extends AbstractTestBase {
+
+    @Test
+    public void testSerialize_StabilizationContext_RoundTripsWithIdsOnly() throws Exception {
+        final Serializer serializer = new Serializer();
+        final CallbackContext callbackContext = CallbackContext.builder()
+                .dataSourceId(DATA_SOURCE_IDENTIFIER)
+                .domainId(DOMAIN_IDENTIFIER)
+                .stabilizationRetriesRemaining(10)
+                .build();
+
+        final String json = serializer.serialize(callbackContext);
+
+        assertThat(json).doesNotContain("Summary");
+        assertThat(serializer.deserialize(json, new TypeReference<CallbackContext>() {
+        })).isEqualTo(callbackContext);
+    }
+
+    @Test
+    public void testDeserialize_LegacyContextWithDataSourceSummary_MapsOntoIds() throws Exception {
+        final Serializer serializer = new Serializer();
+        // As serialized while the context carried the whole DataSourceSummary.
+        final String legacyJson = "{\"stabilizationRetriesRemaining\":10,\"dataSourceSummary\":{\"dataSourceId\":\""
+                + DATA_SOURCE_IDENTIFIER + "\",\"domainId\":\"" + DOMAIN_IDENTIFIER + "\",\"name\":\"" + DATA_SOURCE_NAME
+                + "\",\"status\":\"CREATING\"}}";
+
+        final CallbackContext callbackContext = serializer.deserialize(legacyJson, new TypeReference<CallbackContext>() {
+        });
+
+        assertThat(callbackContext).isEqualTo(CallbackContext.builder()
+                .dataSourceId(DATA_SOURCE_IDENTIFIER)
+                .domainId(DOMAIN_IDENTIFIER)
+                .stabilizationRetriesRemaining(10)
+                .build());
+        assertThat(serializer.serialize(callbackContext)).doesNotContain("Summary");
+    }
+}
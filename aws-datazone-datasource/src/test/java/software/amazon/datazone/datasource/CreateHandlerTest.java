@@ -11,7 +11,6 @@ import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.ConflictException;
 import software.amazon.awssdk.services.datazone.model.CreateDataSourceRequest;
 import software.amazon.awssdk.services.datazone.model.DataSourceStatus;
-import software.amazon.awssdk.services.datazone.model.DataSourceSummary;
 import software.amazon.awssdk.services.datazone.model.GetDataSourceRequest;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -110,7 +109,8 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .thenReturn(getGetDataSourceResponse(DataSourceStatus.CREATING));
 
         CallbackContext callbackContext = CallbackContext.builder()
-                .dataSourceSummary(DataSourceSummary.builder().dataSourceId(DATA_SOURCE_IDENTIFIER).domainId(DOMAIN_IDENTIFIER).build())
+                .dataSourceId(DATA_SOURCE_IDENTIFIER)
+                .domainId(DOMAIN_IDENTIFIER)
                 .stabilizationRetriesRemaining(1)
                 .build();
 
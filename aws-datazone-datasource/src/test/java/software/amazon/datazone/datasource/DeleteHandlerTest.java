@@ -10,7 +10,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.AccessDeniedException;
 import software.amazon.awssdk.services.datazone.model.DataSourceStatus;
-import software.amazon.awssdk.services.datazone.model.DataSourceSummary;
 import software.amazon.awssdk.services.datazone.model.DeleteDataSourceRequest;
 import software.amazon.awssdk.services.datazone.model.GetDataSourceRequest;
 import software.amazon.awssdk.services.datazone.model.ResourceNotFoundException;
@@ -118,7 +117,8 @@ public class DeleteHandlerTest extends AbstractTestBase {
                 .thenReturn(getGetDataSourceResponse(DataSourceStatus.DELETING));
 
         CallbackContext callbackContext = CallbackContext.builder()
-                .dataSourceSummary(DataSourceSummary.builder().dataSourceId(DATA_SOURCE_IDENTIFIER).domainId(DOMAIN_IDENTIFIER).build())
+                .dataSourceId(DATA_SOURCE_IDENTIFIER)
+                .domainId(DOMAIN_IDENTIFIER)
                 .stabilizationRetriesRemaining(1)
                 .build();
 
@@ -0,0 +1,115 @@
+package software.amazon.datazone.datasource;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.http.SdkHttpRequest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrimingTest {
+    private final List<String> messages = new ArrayList<>();
+
+    @Test
+    public void testMode_NotSet_PrimesBeforeCheckpoint() {
+        assertThat(Priming.mode(null, messages::add)).isEqualTo("checkpoint");
+        assertThat(messages).isEmpty();
+    }
+
+    @Test
+    public void testMode_IgnoresCase() {
+        assertThat(Priming.mode("INIT", messages::add)).isEqualTo("init");
+        assertThat(Priming.mode("Off", messages::add)).isEqualTo("off");
+        assertThat(messages).isEmpty();
+    }
+
+    @Test
+    public void testMode_InvalidValue_IsLoggedAndPrimesBeforeCheckpoint() {
+        assertThat(Priming.mode("always", messages::add)).isEqualTo("checkpoint");
+        assertThat(messages).singleElement().satisfies(message -> assertThat(message)
+                .startsWith("[ERROR]")
+                .contains("always")
+                .contains(Priming.PRIMING));
+    }
+
+    @Test
+    public void testPrime_RunsEveryStep() {
+        final ScriptedHttpClient httpClient = new ScriptedHttpClient(404, "ResourceNotFoundException");
+
+        final Duration elapsed = Priming.prime(messages::add, httpClient);
+
+        assertThat(elapsed.isNegative()).isFalse();
+        // No step was skipped, and the read went through the handler and the SDK down to the http client.
+        assertThat(messages).isEmpty();
+        assertThat(httpClient.requests).isNotEmpty();
+    }
+
+    @Test
+    public void testPrime_StepFails_IsSkippedAndReportedThroughTheLogger() {
+        // The read fails other than with the not found it expects, the steps after it still run.
+        final ScriptedHttpClient httpClient = new ScriptedHttpClient(400, "ValidationException");
+
+        Priming.prime(messages::add, httpClient);
+
+        assertThat(messages).singleElement().satisfies(message -> assertThat(message)
+                .startsWith("[ERROR] Skipped priming the read of " + ResourceModel.TYPE_NAME));
+        assertThat(httpClient.requests).isNotEmpty();
+    }
+
+    /**
+     * Answers every request with the given error of DataZone, without a connection, and records the requests.
+     */
+    private static final class ScriptedHttpClient implements SdkHttpClient {
+        private final List<SdkHttpRequest> requests = new CopyOnWriteArrayList<>();
+        private final int statusCode;
+        private final String errorType;
+
+        private ScriptedHttpClient(final int statusCode, final String errorType) {
+            this.statusCode = statusCode;
+            this.errorType = errorType;
+        }
+
+        @Override
+        public ExecutableHttpRequest prepareRequest(final HttpExecuteRequest request) {
+            requests.add(request.httpRequest());
+            return new ExecutableHttpRequest() {
+                @Override
+                public HttpExecuteResponse call() {
+                    return HttpExecuteResponse.builder()
+                            .response(SdkHttpFullResponse.builder()
+                                    .statusCode(statusCode)
+                                    .putHeader("Content-Type", "application/json")
+                                    .putHeader("x-amzn-ErrorType", errorType)
+                                    .build())
+                            .responseBody(AbortableInputStream.create(new ByteArrayInputStream(
+                                    "{\"message\":\"Priming test\"}".getBytes(StandardCharsets.UTF_8))))
+                            .build();
+                }
+
+                @Override
+                public void abort() {
+                }
+            };
+        }
+
+        @Override
+        public String clientName() {
+            return "PrimingTest";
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package software.amazon.datazone.datasource;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ResourceModelValidatorTest extends AbstractTestBase {
+    private final ResourceModelValidator validator = ResourceModelValidator.getInstance();
+
+    @Test
+    public void testValidate_ValidModel_WithReadOnlyProperties_Passes() {
+        final ResourceModel model = ResourceModel.builder()
+                .name(DATA_SOURCE_NAME)
+                .domainIdentifier(DOMAIN_IDENTIFIER)
+                .projectIdentifier(PROJECT_IDENTIFIER)
+                .environmentIdentifier(ENVIRONMENT_IDENTIFIER)
+                .type("GLUE")
+                // Read-only, they are not input and not validated.
+                .id("not a data source id")
+                .domainId("domain1")
+                .build();
+
+        assertThat(validator.violations(model)).isEmpty();
+        validator.validate(model);
+    }
+
+    @Test
+    public void testValidate_InvalidModel_ReportsAllViolations() {
+        final ResourceModel model = ResourceModel.builder()
+                .name("")
+                .domainIdentifier("domain1")
+                .projectIdentifier(PROJECT_IDENTIFIER)
+                .description("d".repeat(2049))
+                .build();
+
+        assertThat(validator.violations(model))
+                .hasSize(5)
+                .anySatisfy(violation -> assertThat(violation).contains("EnvironmentIdentifier"))
+                .anySatisfy(violation -> assertThat(violation).contains("Type"))
+                .anySatisfy(violation -> assertThat(violation).startsWith("#/Name"))
+                .anySatisfy(violation -> assertThat(violation).startsWith("#/DomainIdentifier"))
+                .anySatisfy(violation -> assertThat(violation).startsWith("#/Description"));
+        assertThatThrownBy(() -> validator.validate(model))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("5 schema violation(s)");
+    }
+}
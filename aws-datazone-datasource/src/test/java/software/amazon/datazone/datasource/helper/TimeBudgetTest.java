@@ -0,0 +1,42 @@
+package software.amazon.datazone.datasource.helper;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TimeBudgetTest {
+    @Test
+    public void testInvocationBudget_ReadFromEnvironment() {
+        assertThat(TimeBudget.invocationBudget(Map.<String, String>of()::get)).isEqualTo(Constants.INLINE_STABILIZATION_BUDGET);
+        assertThat(TimeBudget.invocationBudget(Map.of(TimeBudget.INLINE_STABILIZATION_MILLIS, "0")::get)).isZero();
+        assertThat(TimeBudget.invocationBudget(Map.of(TimeBudget.INLINE_STABILIZATION_MILLIS, " 1500 ")::get))
+                .isEqualTo(Duration.ofMillis(1500));
+    }
+
+    @Test
+    public void testInvocationBudget_InvalidValue_IsRejected() {
+        assertThatThrownBy(() -> TimeBudget.invocationBudget(Map.of(TimeBudget.INLINE_STABILIZATION_MILLIS, "-1")::get))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(TimeBudget.INLINE_STABILIZATION_MILLIS)
+                .hasMessageContaining("-1");
+        assertThatThrownBy(() -> TimeBudget.invocationBudget(Map.of(TimeBudget.INLINE_STABILIZATION_MILLIS, "1.5s")::get))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(TimeBudget.INLINE_STABILIZATION_MILLIS)
+                .hasMessageContaining("1.5s");
+    }
+
+    @Test
+    public void testWaitFor_BudgetSpent_DoesNotWait() {
+        final long[] nanoTime = {0};
+        final TimeBudget timeBudget = new TimeBudget(Duration.ofSeconds(1), () -> nanoTime[0],
+                millis -> nanoTime[0] += Duration.ofMillis(millis).toNanos());
+
+        assertThat(timeBudget.waitFor(Duration.ofMillis(600))).isTrue();
+        assertThat(timeBudget.waitFor(Duration.ofMillis(600))).isFalse();
+        assertThat(TimeBudget.none().waitFor(Duration.ofMillis(1))).isFalse();
+    }
+}
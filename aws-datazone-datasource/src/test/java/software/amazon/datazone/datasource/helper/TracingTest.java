@@ -0,0 +1,100 @@
+package software.amazon.datazone.datasource.helper;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TracingTest {
+    private static final Pattern SPAN_ID = Pattern.compile("\"spanId\":\"(\\w+)\"");
+
+    @Test
+    public void testNotStarted_RunsStagesWithoutRecording() {
+        final Function<String, String> stage = Tracing.stage("stage", input -> input + "-done");
+
+        assertThat(stage.apply("input")).isEqualTo("input-done");
+        assertThat(Tracing.callChain("AWS-DataZone-DataSource::Read", callGraph -> callGraph)).isEqualTo("AWS-DataZone-DataSource::Read");
+        Tracing.finish(ProgressEvent.success(null, null), message -> Assertions.fail(message));
+    }
+
+    @Test
+    public void testFinish_NestedSpans_ExportsOneTrace() {
+        final List<String> exported = new ArrayList<>();
+        Tracing.start("AWS::DataZone::DataSource", "CreateHandler", Map.of("cfn.logicalResourceId", "DataSource"), exported::add);
+
+        final ProgressEvent<String, String> progressEvent = Tracing.stage("createDataSource",
+                (ProgressEvent<String, String> progress) -> Tracing.callChain("AWS-DataZone-DataSource::Create",
+                        callGraph -> ProgressEvent.<String, String>progress("model", "context")))
+                .apply(ProgressEvent.progress("model", "context"));
+        Tracing.finish(progressEvent, message -> Assertions.fail(message));
+
+        assertThat(exported).hasSize(1);
+        final String trace = exported.get(0);
+        assertThat(trace).contains("{\"key\":\"service.name\",\"value\":{\"stringValue\":\"AWS::DataZone::DataSource\"}}");
+        assertThat(trace).contains("{\"key\":\"cfn.logicalResourceId\",\"value\":{\"stringValue\":\"Environment\"}}");
+        assertThat(trace).contains("{\"key\":\"cfn.status\",\"value\":{\"stringValue\":\"IN_PROGRESS\"}}");
+
+        // Spans are exported in the order they were opened, each one a child of the one before.
+        final List<String> spanIds = new ArrayList<>();
+        final Matcher matcher = SPAN_ID.matcher(trace);
+        while (matcher.find()) {
+            spanIds.add(matcher.group(1));
+        }
+        assertThat(spanIds).hasSize(3);
+        assertThat(trace).contains("\"parentSpanId\":\"" + spanIds.get(0) + "\",\"name\":\"createDataSource\"");
+        assertThat(trace).contains("\"parentSpanId\":\"" + spanIds.get(1) + "\",\"name\":\"AWS-DataZone-DataSource::Create\"");
+        assertThat(trace).contains("\"name\":\"CreateHandler\"");
+        assertThat(trace).doesNotContain("\"code\":2");
+    }
+
+    @Test
+    public void testFinish_StageThrows_MarksSpansAsError() {
+        final List<String> exported = new ArrayList<>();
+        Tracing.start("AWS::DataZone::DataSource", "DeleteHandler", Map.of(), exported::add);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> Tracing.stage("deleteDataSource", input -> {
+            throw new IllegalStateException("failed");
+        }).apply("input"));
+        Tracing.finish(null, message -> Assertions.fail(message));
+
+        assertThat(exported).hasSize(1);
+        assertThat(exported.get(0))
+                .contains("{\"key\":\"exception.type\",\"value\":{\"stringValue\":\"java.lang.IllegalStateException\"}}")
+                .contains("\"status\":{\"code\":2}");
+    }
+
+    @Test
+    public void testFinish_FailedProgressEvent_RecordsErrorCode() {
+        final List<String> exported = new ArrayList<>();
+        Tracing.start("AWS::DataZone::DataSource", "ReadHandler", Map.of(), exported::add);
+
+        Tracing.finish(ProgressEvent.failed(null, null, HandlerErrorCode.NotFound, "not found"), message -> Assertions.fail(message));
+
+        assertThat(exported.get(0))
+                .contains("{\"key\":\"cfn.errorCode\",\"value\":{\"stringValue\":\"NotFound\"}}")
+                .contains("\"status\":{\"code\":2}");
+    }
+
+    @Test
+    public void testFinish_ExportFails_LogsError() {
+        final List<String> errors = new ArrayList<>();
+        Tracing.start("AWS::DataZone::DataSource", "ReadHandler", Map.of(), line -> {
+            throw new IOException("disk full");
+        });
+
+        Tracing.finish(null, errors::add);
+
+        assertThat(errors).hasSize(1);
+        assertThat(errors.get(0)).contains("ReadHandler").contains("disk full");
+    }
+}
@@ -0,0 +1,77 @@
+package software.amazon.datazone.domain;
+
+import lombok.NonNull;
+import lombok.Value;
+import software.amazon.awssdk.services.datazone.DataZoneAsyncClient;
+import software.amazon.awssdk.services.datazone.DataZoneClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.datazone.domain.client.DataZoneClientBuilder;
+import software.amazon.datazone.domain.client.DataZoneClientWrapper;
+import software.amazon.datazone.domain.client.InvocationCost;
+import software.amazon.datazone.domain.client.OperationMetricsPublisher;
+import software.amazon.datazone.domain.helper.LoggerWrapper;
+import software.amazon.datazone.domain.helper.ResourceStabilizer;
+import software.amazon.datazone.domain.helper.TimeBudget;
+
+/**
+ * What the handlers work with during one invocation. It is created once per invocation and passed along, the handlers
+ * keep no state of their own, so that one handler instance can serve concurrent invocations.
+ */
+@Value
+class InvocationContext {
+    ProxyClient<DataZoneClient> proxyClient;
+    // Only set for invocations coming from CloudFormation, handlers fall back to blocking calls when it is null.
+    ProxyClient<DataZoneAsyncClient> asyncProxyClient;
+    LoggerWrapper logger;
+    DataZoneClientWrapper dataZoneClientWrapper;
+    ResourceStabilizer stabilizer;
+    // What the calls of the invocation cost, logged and exported when it ends.
+    InvocationCost invocationCost;
+    OperationMetricsPublisher operationMetrics;
+
+    static InvocationContext create(final @NonNull ProxyClient<DataZoneClient> proxyClient,
+                                    final ProxyClient<DataZoneAsyncClient> asyncProxyClient,
+                                    final @NonNull Logger logger) {
+        return create(proxyClient, asyncProxyClient, logger, TimeBudget.none());
+    }
+
+    /**
+     * @param timeBudget The time the stabilizer may wait in-process, before it hands back to CloudFormation.
+     */
+    static InvocationContext create(final @NonNull ProxyClient<DataZoneClient> proxyClient,
+                                    final ProxyClient<DataZoneAsyncClient> asyncProxyClient,
+                                    final @NonNull Logger logger,
+                                    final @NonNull TimeBudget timeBudget) {
+        final InvocationCost invocationCost = new InvocationCost();
+        return create(proxyClient, asyncProxyClient, logger, timeBudget, invocationCost,
+                new OperationMetricsPublisher(invocationCost));
+    }
+
+    /**
+     * Creates the context of an invocation from CloudFormation, with clients that record their calls into the cost and
+     * the metrics of this invocation only.
+     */
+    static InvocationContext create(final @NonNull AmazonWebServicesClientProxy proxy,
+                                    final @NonNull Logger logger,
+                                    final @NonNull TimeBudget timeBudget) {
+        final InvocationCost invocationCost = new InvocationCost();
+        final OperationMetricsPublisher operationMetrics = new OperationMetricsPublisher(invocationCost);
+        return create(proxy.newProxy(() -> DataZoneClientBuilder.getClient(invocationCost, operationMetrics)),
+                proxy.newProxy(() -> DataZoneClientBuilder.getAsyncClient(invocationCost, operationMetrics)),
+                logger, timeBudget, invocationCost, operationMetrics);
+    }
+
+    private static InvocationContext create(final @NonNull ProxyClient<DataZoneClient> proxyClient,
+                                            final ProxyClient<DataZoneAsyncClient> asyncProxyClient,
+                                            final @NonNull Logger logger,
+                                            final @NonNull TimeBudget timeBudget,
+                                            final InvocationCost invocationCost,
+                                            final OperationMetricsPublisher operationMetrics) {
+        final LoggerWrapper loggerWrapper = new LoggerWrapper(logger);
+        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, loggerWrapper);
+        return new InvocationContext(proxyClient, asyncProxyClient, loggerWrapper, dataZoneClientWrapper,
+                new ResourceStabilizer(dataZoneClientWrapper, loggerWrapper, timeBudget), invocationCost, operationMetrics);
+    }
+}
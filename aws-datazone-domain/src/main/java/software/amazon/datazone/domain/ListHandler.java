@@ -1,15 +1,10 @@
 package software.amazon.datazone.domain;
 
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.ListDomainsResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.datazone.domain.client.DataZoneClientWrapper;
-import software.amazon.datazone.domain.helper.LoggerWrapper;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -21,15 +16,10 @@ public class ListHandler extends BaseHandlerStd {
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-
-        // Initialise
-        this.logger = new LoggerWrapper(externalLogger);
-        this.dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
+            final InvocationContext context) {
 
         // Call the API and get response
-        ListDomainsResponse response = dataZoneClientWrapper.listDomains(Translator.translateToListRequest(request.getNextToken()));
+        ListDomainsResponse response = context.getDataZoneClientWrapper().listDomains(Translator.translateToListRequest(request.getNextToken()));
         String nextToken = response.nextToken();
 
         // Convert received DomainSummary to Resource Model.
@@ -3,14 +3,10 @@ package software.amazon.datazone.domain;
 // TODO: replace all usage of SdkClient with your service client type, e.g; YourServiceAsyncClient
 // import software.amazon.awssdk.services.yourservice.YourServiceAsyncClient;
 
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.datazone.domain.client.DataZoneClientWrapper;
-import software.amazon.datazone.domain.helper.LoggerWrapper;
+import software.amazon.datazone.domain.helper.Tracing;
 
 public class ReadHandler extends BaseHandlerStd {
 
@@ -18,15 +14,11 @@ public class ReadHandler extends BaseHandlerStd {
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
+            final InvocationContext context) {
 
-        this.logger = new LoggerWrapper(externalLogger);
-        this.dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
-
-        return proxy.initiate("AWS-DataZone-Domain::Read", proxyClient, request.getDesiredResourceState(), callbackContext)
+        return Tracing.callChain("AWS-DataZone-Domain::Read", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), request.getDesiredResourceState(), callbackContext)
                 .translateToServiceRequest(Translator::translateToReadRequest)
-                .makeServiceCall((getDomainRequest, client) -> dataZoneClientWrapper.getDomain(getDomainRequest))
-                .done(awsResponse -> ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(awsResponse)));
+                .makeServiceCall((getDomainRequest, client) -> context.getDataZoneClientWrapper().getDomain(getDomainRequest))
+                .done(awsResponse -> ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(awsResponse))));
     }
 }
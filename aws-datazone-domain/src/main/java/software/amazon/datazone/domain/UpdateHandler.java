@@ -1,41 +1,39 @@
 package software.amazon.datazone.domain;
 
 import org.apache.commons.collections.CollectionUtils;
-import software.amazon.awssdk.services.datazone.DataZoneClient;
-import software.amazon.awssdk.services.datazone.model.DomainSummary;
-import software.amazon.awssdk.services.datazone.model.UpdateDomainRequest;
-import software.amazon.awssdk.services.datazone.model.UpdateDomainResponse;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.datazone.domain.client.DataZoneAsyncClientWrapper;
 import software.amazon.datazone.domain.client.DataZoneClientWrapper;
 import software.amazon.datazone.domain.helper.Constants;
 import software.amazon.datazone.domain.helper.LoggerWrapper;
-import software.amazon.datazone.domain.helper.ResourceStabilizer;
 import software.amazon.datazone.domain.helper.TagHelper;
+import software.amazon.datazone.domain.helper.Tracing;
 
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public class UpdateHandler extends BaseHandlerStd {
 
     public static final String SIGN_ON_ERROR_STATUS = "SingleSignOn status can not be modified after enabled.";
     public static final String DISABLED_SIGN_ON_TYPE = "DISABLED";
 
+    private final ReadHandler readHandler = new ReadHandler();
+
+    @Override
+    protected boolean validatesDesiredResourceState() {
+        return true;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-
-        this.logger = new LoggerWrapper(externalLogger);
-        this.dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
-        this.stabilizer = new ResourceStabilizer(dataZoneClientWrapper, logger);
+            final InvocationContext context) {
 
         // Create the context
         // This would be used for retrying when the resource is in TRANSIENT states, and we need to retry again.
@@ -43,19 +41,20 @@ public class UpdateHandler extends BaseHandlerStd {
                 CallbackContext.builder().stabilizationRetriesRemaining(Constants.MAXIMUM_STABILIZATION_ATTEMPTS).build() :
                 callbackContext;
 
-        Boolean isSingleSignOnUpdateRequired = this.isSingleSignOnUpdateRequired(request.getDesiredResourceState(), request.getPreviousResourceState());
+        Boolean isSingleSignOnUpdateRequired = this.isSingleSignOnUpdateRequired(request.getDesiredResourceState(), request.getPreviousResourceState(), context.getLogger());
 
         return ProgressEvent.progress(request.getDesiredResourceState(), currentContext)
                 // Make update call
-                .then(progress -> updateDomain(proxy, proxyClient, progress, isSingleSignOnUpdateRequired, request))
+                .then(Tracing.stage("updateDomain", progress -> updateDomain(proxy, context, progress, isSingleSignOnUpdateRequired, request)))
                 // stabilize the resource i.e. wait till the resource is in the expected state (AVAILABLE)
-                .then(progress -> stabilizer.stabilizeResource(progress.getResourceModel(), progress.getCallbackContext(), DataZoneClientWrapper.STABILIZED_DOMAIN_STATUS))
+                .then(Tracing.stage("stabilizeResource", progress -> context.getStabilizer().stabilizeResource(progress.getResourceModel(), progress.getCallbackContext(), DataZoneClientWrapper.STABILIZED_DOMAIN_STATUS)))
                 // read the resource
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, progress.getCallbackContext(), proxyClient, externalLogger));
+                .then(Tracing.stage("read", progress -> readHandler.handleRequest(proxy, request, progress.getCallbackContext(), context)));
     }
 
     private Boolean isSingleSignOnUpdateRequired(ResourceModel desiredResourceState,
-                                                 ResourceModel previousResourceState) {
+                                                 ResourceModel previousResourceState,
+                                                 LoggerWrapper logger) {
         SingleSignOn previousSignOn = previousResourceState.getSingleSignOn();
         SingleSignOn newSignOn = desiredResourceState.getSingleSignOn();
 
@@ -81,40 +80,34 @@ public class UpdateHandler extends BaseHandlerStd {
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> updateDomain(AmazonWebServicesClientProxy proxy,
-                                                                       ProxyClient<DataZoneClient> proxyClient,
+                                                                       InvocationContext context,
                                                                        ProgressEvent<ResourceModel, CallbackContext> progress,
                                                                        Boolean isSingleSignOnUpdateRequired,
                                                                        ResourceHandlerRequest<ResourceModel> request) {
-        final DomainSummary domainSummary = progress.getCallbackContext().getDomainSummary();
-        // If the domain summary is not null then this implies that we created the domain in the previous stabilization
+        final String domainId = progress.getCallbackContext().getDomainId();
+        // If the domain id is not null then this implies that we created the domain in the previous stabilization
         // attempt and this attempt we just need to wait till domain gets stabilized.
-        if (!Objects.isNull(domainSummary)) {
+        if (!Objects.isNull(domainId)) {
             return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
         }
 
         // Else we need to call DataZone Control Plane to create the resource.
-        return proxy.initiate("AWS-DataZone-Domain::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+        return Tracing.callChain("AWS-DataZone-Domain::Update", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(model -> Translator.translateToUpdateRequest(model, isSingleSignOnUpdateRequired))
-                .makeServiceCall((updateDomainRequest, client) -> dataZoneClientWrapper.updateDomain(updateDomainRequest))
+                .makeServiceCall((updateDomainRequest, client) -> context.getDataZoneClientWrapper().updateDomain(updateDomainRequest))
                 // and update the model fields and context
-                .done(this::updateModelFieldsAndContext)
+                .done((updateDomainRequest, updateDomainResponse, client, model, callbackContext) ->
+                        updateModelFieldsAndContext(model, callbackContext, context.getLogger()))
                 // finally update tags if required
-                .then(progress1 -> updateTags(proxy, proxyClient, progress, request));
+                .then(Tracing.stage("updateTags", progress1 -> updateTags(proxy, context, progress, request))));
     }
 
-    private ProgressEvent<ResourceModel, CallbackContext> updateModelFieldsAndContext(UpdateDomainRequest updateDomainRequest,
-                                                                                      UpdateDomainResponse updateDomainResponse,
-                                                                                      ProxyClient<DataZoneClient> dataZoneClientProxyClient,
-                                                                                      ResourceModel resourceModel,
-                                                                                      CallbackContext callbackContext) {
+    private ProgressEvent<ResourceModel, CallbackContext> updateModelFieldsAndContext(ResourceModel resourceModel,
+                                                                                      CallbackContext callbackContext,
+                                                                                      LoggerWrapper logger) {
         logger.info("Successfully updated Domain with name %s and id %s", resourceModel.getName(), resourceModel.getId());
-        callbackContext = CallbackContext.builder()
-                .domainSummary(DomainSummary.builder()
-                        .id(resourceModel.getId())
-                        .arn(resourceModel.getArn())
-                        .name(resourceModel.getName())
-                        .build())
-                .stabilizationRetriesRemaining(callbackContext.getStabilizationRetriesRemaining())
+        callbackContext = callbackContext.toBuilder()
+                .domainId(resourceModel.getId())
                 .build();
 
         return ProgressEvent.progress(resourceModel, callbackContext);
@@ -122,9 +115,10 @@ public class UpdateHandler extends BaseHandlerStd {
 
     private ProgressEvent<ResourceModel, CallbackContext> updateTags(
             AmazonWebServicesClientProxy proxy,
-            ProxyClient<DataZoneClient> proxyClient,
+            InvocationContext context,
             ProgressEvent<ResourceModel, CallbackContext> progressEvent,
             ResourceHandlerRequest<ResourceModel> request) {
+        final LoggerWrapper logger = context.getLogger();
         ResourceModel model = progressEvent.getResourceModel();
         CallbackContext callbackContext = progressEvent.getCallbackContext();
 
@@ -134,7 +128,7 @@ public class UpdateHandler extends BaseHandlerStd {
 
         logger.info("Fetching domainArn to update tags...");
         ResourceModel receivedResourceModel =
-                new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, this.logger.logger).getResourceModel();
+                readHandler.handleRequest(proxy, request, callbackContext, context).getResourceModel();
 
         // Update ARN as CFn doesn't pass the same.
         model.setArn(receivedResourceModel.getArn());
@@ -145,13 +139,41 @@ public class UpdateHandler extends BaseHandlerStd {
         Map<String, String> addedTags = TagHelper.generateTagsToAdd(previousTags, desiredTags);
         Set<String> removedTags = TagHelper.generateTagsToRemove(previousTags, desiredTags);
 
-        return this.untagResource(proxy, proxyClient, model, request, callbackContext, removedTags)
-                .then(progressEvent1 -> this.tagResource(proxy, proxyClient, model, request, callbackContext, addedTags));
+        if (!Objects.isNull(context.getAsyncProxyClient())) {
+            return this.updateTagsConcurrently(context, model, request, callbackContext, removedTags, addedTags);
+        }
+
+        return this.untagResource(proxy, context, model, request, callbackContext, removedTags)
+                .then(Tracing.stage("tagResource", progressEvent1 -> this.tagResource(proxy, context, model, request, callbackContext, addedTags)));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> updateTagsConcurrently(
+            final InvocationContext context,
+            final ResourceModel resourceModel,
+            final ResourceHandlerRequest<ResourceModel> handlerRequest,
+            final CallbackContext callbackContext,
+            final Set<String> removedTags,
+            final Map<String, String> addedTags) {
+        final LoggerWrapper logger = context.getLogger();
+        final DataZoneAsyncClientWrapper dataZoneAsyncClientWrapper = new DataZoneAsyncClientWrapper(context.getAsyncProxyClient(), logger);
+        logger.info("[UPDATE][IN PROGRESS] Going to update tags for resource: %s with AccountId: %s, removed tags %s, added tags %s",
+                resourceModel.getName(), handlerRequest.getAwsAccountId(), removedTags, addedTags);
+
+        // Removed and added tags never share a key, so both calls can be in flight at the same time.
+        final CompletableFuture<?> untagResponse = CollectionUtils.isEmpty(removedTags) ?
+                CompletableFuture.completedFuture(null) :
+                dataZoneAsyncClientWrapper.deleteTagsFromDomain(Translator.untagResourceRequest(resourceModel, removedTags));
+        final CompletableFuture<?> tagResponse = Objects.isNull(addedTags) || addedTags.isEmpty() ?
+                CompletableFuture.completedFuture(null) :
+                dataZoneAsyncClientWrapper.addTagsToDomain(Translator.tagResourceRequest(resourceModel, addedTags));
+
+        DataZoneAsyncClientWrapper.join(CompletableFuture.allOf(untagResponse, tagResponse));
+        return ProgressEvent.progress(resourceModel, callbackContext);
     }
 
     private ProgressEvent<ResourceModel, CallbackContext>
     untagResource(final AmazonWebServicesClientProxy proxy,
-                  final ProxyClient<DataZoneClient> serviceClient,
+                  final InvocationContext context,
                   final ResourceModel resourceModel,
                   final ResourceHandlerRequest<ResourceModel> handlerRequest,
                   final CallbackContext callbackContext,
@@ -160,18 +182,18 @@ public class UpdateHandler extends BaseHandlerStd {
             return ProgressEvent.progress(resourceModel, callbackContext);
         }
 
-        logger.info("[UPDATE][IN PROGRESS] Going to remove tags for resource: %s with AccountId: %s, removed tags %s",
+        context.getLogger().info("[UPDATE][IN PROGRESS] Going to remove tags for resource: %s with AccountId: %s, removed tags %s",
                 resourceModel.getName(), handlerRequest.getAwsAccountId(), removedTags);
 
-        return proxy.initiate("AWS-DataZone-Domain::DeleteTags", serviceClient, resourceModel, callbackContext)
+        return Tracing.callChain("AWS-DataZone-Domain::DeleteTags", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), resourceModel, callbackContext)
                 .translateToServiceRequest(model -> Translator.untagResourceRequest(model, removedTags))
-                .makeServiceCall((request, client) -> dataZoneClientWrapper.deleteTagsFromDomain(request))
-                .progress();
+                .makeServiceCall((request, client) -> context.getDataZoneClientWrapper().deleteTagsFromDomain(request))
+                .progress());
     }
 
     private ProgressEvent<ResourceModel, CallbackContext>
     tagResource(final AmazonWebServicesClientProxy proxy,
-                final ProxyClient<DataZoneClient> serviceClient,
+                final InvocationContext context,
                 final ResourceModel resourceModel,
                 final ResourceHandlerRequest<ResourceModel> handlerRequest,
                 final CallbackContext callbackContext,
@@ -180,12 +202,12 @@ public class UpdateHandler extends BaseHandlerStd {
             return ProgressEvent.progress(resourceModel, callbackContext);
         }
 
-        logger.info("[UPDATE][IN PROGRESS] Going to add tags for resource: %s with AccountId: %s, tags %s",
+        context.getLogger().info("[UPDATE][IN PROGRESS] Going to add tags for resource: %s with AccountId: %s, tags %s",
                 resourceModel.getName(), handlerRequest.getAwsAccountId(), addedTags);
 
-        return proxy.initiate("AWS-DataZone-Domain::AddTags", serviceClient, resourceModel, callbackContext)
+        return Tracing.callChain("AWS-DataZone-Domain::AddTags", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), resourceModel, callbackContext)
                 .translateToServiceRequest(model -> Translator.tagResourceRequest(model, addedTags))
-                .makeServiceCall((request, client) -> dataZoneClientWrapper.addTagsToDomain(request))
-                .progress();
+                .makeServiceCall((request, client) -> context.getDataZoneClientWrapper().addTagsToDomain(request))
+                .progress());
     }
 }
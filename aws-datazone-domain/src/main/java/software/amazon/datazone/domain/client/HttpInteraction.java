@@ -0,0 +1,164 @@
+package software.amazon.datazone.domain.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * One DataZone request and the response it got, as {@link RecordingHttpClient} records it and {@link ReplayHttpClient}
+ * serves it back. Interactions are sanitized before they are recorded: no request header is kept, so no credentials
+ * or signatures, client tokens and account ids are masked, and only the response headers the client reads are kept.
+ * The same sanitizing applies to the requests being replayed, so that they still match their recording.
+ */
+@Value
+@Builder
+public class HttpInteraction {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Pattern CLIENT_TOKEN = Pattern.compile("(\"clientToken\"\\s*:\\s*\")[^\"]*\"");
+    private static final Pattern ACCOUNT_ID = Pattern.compile("(?<![\\d.])\\d{12}(?![\\d.])");
+    private static final String MASKED_ACCOUNT_ID = "123456789012";
+    private static final Set<String> RECORDED_HEADERS = Set.of("content-type", "x-amzn-errortype");
+
+    @NonNull
+    String method;
+    // Encoded path and query of the request, without the endpoint, so that a recording replays against any endpoint.
+    @NonNull
+    String uri;
+    @NonNull
+    String requestBody;
+    int statusCode;
+    @NonNull
+    Map<String, List<String>> responseHeaders;
+    @NonNull
+    String responseBody;
+
+    /**
+     * @return The sanitized interaction.
+     */
+    public static HttpInteraction of(final @NonNull SdkHttpRequest request,
+                                     final byte[] requestBody,
+                                     final @NonNull SdkHttpResponse response,
+                                     final byte[] responseBody) {
+        final Map<String, List<String>> responseHeaders = new TreeMap<>();
+        response.headers().forEach((name, values) -> {
+            if (RECORDED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                responseHeaders.put(name, values);
+            }
+        });
+        return HttpInteraction.builder()
+                .method(request.method().name())
+                .uri(uri(request))
+                .requestBody(sanitize(requestBody))
+                .statusCode(response.statusCode())
+                .responseHeaders(responseHeaders)
+                .responseBody(sanitize(responseBody))
+                .build();
+    }
+
+    /**
+     * @return The key a request is matched to its recordings with: its method, sanitized uri and sanitized body.
+     */
+    public static String requestKey(final @NonNull SdkHttpRequest request, final byte[] requestBody) {
+        return requestKey(request.method().name(), uri(request), sanitize(requestBody));
+    }
+
+    public String requestKey() {
+        return requestKey(method, uri, requestBody);
+    }
+
+    public SdkHttpFullResponse toResponse() {
+        return SdkHttpFullResponse.builder()
+                .statusCode(statusCode)
+                .headers(responseHeaders)
+                .build();
+    }
+
+    public byte[] responseBodyBytes() {
+        return responseBody.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public String toJson() {
+        final ObjectNode node = MAPPER.createObjectNode()
+                .put("method", method)
+                .put("uri", uri)
+                .put("requestBody", requestBody)
+                .put("statusCode", statusCode);
+        node.set("responseHeaders", MAPPER.valueToTree(responseHeaders));
+        node.put("responseBody", responseBody);
+        try {
+            return MAPPER.writeValueAsString(node);
+        } catch (final JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static HttpInteraction fromJson(final @NonNull String json) {
+        try {
+            final JsonNode node = MAPPER.readTree(json);
+            return HttpInteraction.builder()
+                    .method(node.path("method").asText())
+                    .uri(node.path("uri").asText())
+                    .requestBody(node.path("requestBody").asText())
+                    .statusCode(node.path("statusCode").asInt())
+                    .responseHeaders(MAPPER.convertValue(node.path("responseHeaders"),
+                            new TypeReference<Map<String, List<String>>>() { }))
+                    .responseBody(node.path("responseBody").asText())
+                    .build();
+        } catch (final JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the whole body of a request, the provider hands out a new stream on every call.
+     */
+    static byte[] readBody(final Optional<ContentStreamProvider> contentStreamProvider) {
+        if (contentStreamProvider.isEmpty()) {
+            return new byte[0];
+        }
+        try (InputStream body = contentStreamProvider.get().newStream()) {
+            return body.readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String requestKey(final String method, final String uri, final String requestBody) {
+        return method + " " + uri + " " + requestBody;
+    }
+
+    private static String uri(final SdkHttpRequest request) {
+        final String query = request.getUri().getRawQuery();
+        return sanitize(query == null ? request.encodedPath() : request.encodedPath() + "?" + query);
+    }
+
+    private static String sanitize(final byte[] body) {
+        return body == null ? "" : sanitize(new String(body, StandardCharsets.UTF_8));
+    }
+
+    private static String sanitize(final String text) {
+        final String withoutClientTokens = CLIENT_TOKEN.matcher(text).replaceAll("$1REDACTED\"");
+        return ACCOUNT_ID.matcher(withoutClientTokens).replaceAll(MASKED_ACCOUNT_ID);
+    }
+}
@@ -0,0 +1,78 @@
+package software.amazon.datazone.domain.client;
+
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * What the DataZone calls of one handler invocation cost, per operation: calls, attempts, payload bytes, connection
+ * acquire time and service latency. Each invocation has its own, so that concurrent invocations in a container do not
+ * report each other's calls. It is recorded by {@link InvocationCostInterceptor} and {@link OperationMetricsPublisher}
+ * for the calls of the clients built for the invocation, and summarized once, at its end, by {@link #summarize()}.
+ */
+public final class InvocationCost {
+    /**
+     * The cost of the invocation a call is made for, set on the clients built for it by {@link DataZoneClientBuilder}.
+     */
+    public static final ExecutionAttribute<InvocationCost> INVOCATION_COST = new ExecutionAttribute<>("DataZoneInvocationCost");
+
+    private final Map<String, OperationCost> costs = new ConcurrentHashMap<>();
+
+    void recordCall(final String operation) {
+        costOf(operation).calls.increment();
+    }
+
+    void recordAttempt(final String operation, final long requestBytes) {
+        final OperationCost cost = costOf(operation);
+        cost.attempts.increment();
+        cost.requestBytes.add(requestBytes);
+    }
+
+    void recordResponse(final String operation, final long responseBytes, final Duration serviceLatency) {
+        final OperationCost cost = costOf(operation);
+        cost.responseBytes.add(responseBytes);
+        cost.serviceLatencyNanos.add(serviceLatency.toNanos());
+    }
+
+    void recordConnectionAcquire(final String operation, final Duration connectionAcquireTime) {
+        costOf(operation).connectionAcquireNanos.add(connectionAcquireTime.toNanos());
+    }
+
+    /**
+     * Summarizes the cost recorded since the last summary on a single line, and resets it.
+     *
+     * @return The summary, e.g. {@code GetEnvironment: 1 calls, 2 attempts, 120 bytes sent, 900 bytes received,
+     * 3 ms connection acquire, 180 ms service latency}.
+     */
+    public String summarize() {
+        final StringJoiner summary = new StringJoiner("; ");
+        for (final String operation : costs.keySet()) {
+            final OperationCost cost = costs.remove(operation);
+            if (cost != null) {
+                summary.add(String.format("%s: %d calls, %d attempts, %d bytes sent, %d bytes received, " +
+                                "%d ms connection acquire, %d ms service latency", operation, cost.calls.sum(),
+                        cost.attempts.sum(), cost.requestBytes.sum(), cost.responseBytes.sum(),
+                        Duration.ofNanos(cost.connectionAcquireNanos.sum()).toMillis(),
+                        Duration.ofNanos(cost.serviceLatencyNanos.sum()).toMillis()));
+            }
+        }
+        return summary.length() == 0 ? "no calls" : summary.toString();
+    }
+
+    private OperationCost costOf(final String operation) {
+        return costs.computeIfAbsent(operation == null ? "Unknown" : operation, key -> new OperationCost());
+    }
+
+    private static class OperationCost {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder requestBytes = new LongAdder();
+        private final LongAdder responseBytes = new LongAdder();
+        private final LongAdder connectionAcquireNanos = new LongAdder();
+        private final LongAdder serviceLatencyNanos = new LongAdder();
+    }
+}
@@ -0,0 +1,104 @@
+package software.amazon.datazone.domain.client;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The async counterpart of {@link RecordingHttpClient}: sends the requests through another async http client and
+ * records each request and its response to the {@link HttpInteractionLog} once the response body has been read.
+ */
+@RequiredArgsConstructor
+public class RecordingAsyncHttpClient implements SdkAsyncHttpClient {
+    @NonNull
+    private final SdkAsyncHttpClient delegate;
+    @NonNull
+    private final HttpInteractionLog log;
+
+    @Override
+    public CompletableFuture<Void> execute(final AsyncExecuteRequest request) {
+        final RecordingContentPublisher requestBody = new RecordingContentPublisher(request.requestContentPublisher());
+        final SdkAsyncHttpResponseHandler responseHandler = request.responseHandler();
+        final AsyncExecuteRequest.Builder recordingRequest = AsyncExecuteRequest.builder()
+                .request(request.request())
+                .requestContentPublisher(requestBody)
+                .fullDuplex(request.fullDuplex())
+                .httpExecutionAttributes(request.httpExecutionAttributes())
+                .responseHandler(new SdkAsyncHttpResponseHandler() {
+                    private volatile SdkHttpResponse response;
+
+                    @Override
+                    public void onHeaders(final SdkHttpResponse headers) {
+                        response = headers;
+                        responseHandler.onHeaders(headers);
+                    }
+
+                    @Override
+                    public void onStream(final Publisher<ByteBuffer> stream) {
+                        responseHandler.onStream(subscriber -> {
+                            final ByteBufferCollector responseBody = new ByteBufferCollector(subscriber);
+                            responseBody.getBody().thenAccept(body -> log.append(
+                                    HttpInteraction.of(request.request(), requestBody.bytes(), response, body)));
+                            stream.subscribe(responseBody);
+                        });
+                    }
+
+                    @Override
+                    public void onError(final Throwable error) {
+                        responseHandler.onError(error);
+                    }
+                });
+        request.metricCollector().ifPresent(recordingRequest::metricCollector);
+        return delegate.execute(recordingRequest.build());
+    }
+
+    @Override
+    public String clientName() {
+        return delegate.clientName();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    /**
+     * Passes the request body on to the client, keeping a copy of the bytes of its last subscription, the body is
+     * sent again on every retry.
+     */
+    private static final class RecordingContentPublisher implements SdkHttpContentPublisher {
+        private final SdkHttpContentPublisher delegate;
+        private volatile ByteBufferCollector lastBody;
+
+        private RecordingContentPublisher(final SdkHttpContentPublisher delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Optional<Long> contentLength() {
+            return delegate.contentLength();
+        }
+
+        @Override
+        public void subscribe(final Subscriber<? super ByteBuffer> subscriber) {
+            final ByteBufferCollector body = new ByteBufferCollector(subscriber);
+            lastBody = body;
+            delegate.subscribe(body);
+        }
+
+        private byte[] bytes() {
+            final ByteBufferCollector body = lastBody;
+            return body == null ? new byte[0] : body.getBody().getNow(new byte[0]);
+        }
+    }
+}
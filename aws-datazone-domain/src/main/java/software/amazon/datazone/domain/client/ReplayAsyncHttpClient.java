@@ -0,0 +1,64 @@
+package software.amazon.datazone.domain.client;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The async counterpart of {@link ReplayHttpClient}. It serves from the same recordings as the sync client it is
+ * built on, so that the calls of an invocation are answered in the order they were recorded whichever client makes
+ * them.
+ */
+@RequiredArgsConstructor
+public class ReplayAsyncHttpClient implements SdkAsyncHttpClient {
+    @NonNull
+    private final ReplayHttpClient recordings;
+
+    @Override
+    public CompletableFuture<Void> execute(final AsyncExecuteRequest request) {
+        final CompletableFuture<Void> exchange = new CompletableFuture<>();
+        final SdkAsyncHttpResponseHandler responseHandler = request.responseHandler();
+        final ByteBufferCollector requestBody = new ByteBufferCollector(null);
+        requestBody.getBody().whenComplete((body, bodyError) -> {
+            final HttpInteraction interaction;
+            try {
+                if (bodyError != null) {
+                    throw bodyError;
+                }
+                interaction = recordings.next(HttpInteraction.requestKey(request.request(), body));
+            } catch (final Throwable error) {
+                responseHandler.onError(error);
+                exchange.completeExceptionally(error);
+                return;
+            }
+            responseHandler.onHeaders(interaction.toResponse());
+            responseHandler.onStream(subscriber -> {
+                final ByteBufferCollector responseBody = new ByteBufferCollector(subscriber);
+                responseBody.getBody().whenComplete((ignored, error) -> {
+                    if (error == null) {
+                        exchange.complete(null);
+                    } else {
+                        exchange.completeExceptionally(error);
+                    }
+                });
+                AsyncRequestBody.fromBytes(interaction.responseBodyBytes()).subscribe(responseBody);
+            });
+        });
+        request.requestContentPublisher().subscribe(requestBody);
+        return exchange;
+    }
+
+    @Override
+    public String clientName() {
+        return recordings.clientName();
+    }
+
+    @Override
+    public void close() {
+    }
+}
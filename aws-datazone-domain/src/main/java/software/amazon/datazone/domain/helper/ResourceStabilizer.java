@@ -12,6 +12,7 @@ import software.amazon.datazone.domain.ResourceModel;
 import software.amazon.datazone.domain.Translator;
 import software.amazon.datazone.domain.client.DataZoneClientWrapper;
 
+import java.time.Duration;
 import java.util.Set;
 
 import static software.amazon.datazone.domain.helper.Constants.INVALID_STATUS_ERROR;
@@ -21,6 +22,7 @@ import static software.amazon.datazone.domain.helper.Constants.MAXIMUM_STABILIZA
 public class ResourceStabilizer {
     private final DataZoneClientWrapper dataZoneClientWrapper;
     private final LoggerWrapper logger;
+    private final TimeBudget timeBudget;
 
     public ProgressEvent<ResourceModel, CallbackContext> stabilizeResource(final @NonNull ResourceModel model,
                                                                            final @NonNull CallbackContext callbackContext,
@@ -30,6 +32,15 @@ public class ResourceStabilizer {
 
         // Get the domain using getDomain call
         GetDomainResponse getDomainResponse = dataZoneClientWrapper.getDomain(Translator.translateToReadRequest(model));
+        // Wait in-process while the status is transient and the invocation has time left, a callback to
+        // CloudFormation costs a full re-invocation.
+        Duration pollDelay = Constants.FIRST_INLINE_POLL_DELAY;
+        while (DataZoneClientWrapper.TRANSIENT_DOMAIN_STATUS.contains(getDomainResponse.status()) && timeBudget.waitFor(pollDelay)) {
+            getDomainResponse = dataZoneClientWrapper.getDomain(Translator.translateToReadRequest(model));
+            logger.info("Domain with name %s and id %s is %s after waiting %s ms in-process.", domainName, model.getId(),
+                    getDomainResponse.status(), pollDelay.toMillis());
+            pollDelay = TimeBudget.nextPollDelay(pollDelay);
+        }
 
         // Validate the current status for the domain
         DomainStatus status = getDomainResponse.status();
@@ -44,9 +55,8 @@ public class ResourceStabilizer {
                 String errorMessage = String.format("Domain %s failed to stabilize after all attempts", domainName);
                 return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotStabilized, errorMessage);
             }
-            return ProgressEvent.defaultInProgressHandler(CallbackContext.builder()
+            return ProgressEvent.defaultInProgressHandler(callbackContext.toBuilder()
                             .stabilizationRetriesRemaining(stabilizationRetriesRemaining)
-                            .domainSummary(callbackContext.getDomainSummary())
                             .build(),
                     Constants.CALLBACK_DELAY_SECONDS, model);
         } else if (DataZoneClientWrapper.FAILED_DOMAIN_STATUS.contains(status)) {
@@ -6,6 +6,7 @@ import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.datazone.DataZoneAsyncClient;
 import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.CreateDomainResponse;
 import software.amazon.awssdk.services.datazone.model.DomainStatus;
@@ -52,10 +53,18 @@ public class AbstractTestBase {
     static ProxyClient<DataZoneClient> MOCK_PROXY(
             final AmazonWebServicesClientProxy proxy,
             final DataZoneClient sdkClient) {
+        return MOCK_PROXY(proxy, sdkClient, new ApiCallCounter());
+    }
+
+    static ProxyClient<DataZoneClient> MOCK_PROXY(
+            final AmazonWebServicesClientProxy proxy,
+            final DataZoneClient sdkClient,
+            final ApiCallCounter apiCalls) {
         return new ProxyClient<DataZoneClient>() {
             @Override
             public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
             injectCredentialsAndInvokeV2(RequestT request, Function<RequestT, ResponseT> requestFunction) {
+                apiCalls.record(request);
                 return proxy.injectCredentialsAndInvokeV2(request, requestFunction);
             }
 
@@ -70,6 +79,7 @@ public class AbstractTestBase {
             public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>>
             IterableT
             injectCredentialsAndInvokeIterableV2(RequestT request, Function<RequestT, IterableT> requestFunction) {
+                apiCalls.record(request);
                 return proxy.injectCredentialsAndInvokeIterableV2(request, requestFunction);
             }
 
@@ -92,6 +102,57 @@ public class AbstractTestBase {
         };
     }
 
+    static ProxyClient<DataZoneAsyncClient> MOCK_ASYNC_PROXY(
+            final AmazonWebServicesClientProxy proxy,
+            final DataZoneAsyncClient sdkClient) {
+        return MOCK_ASYNC_PROXY(proxy, sdkClient, new ApiCallCounter());
+    }
+
+    static ProxyClient<DataZoneAsyncClient> MOCK_ASYNC_PROXY(
+            final AmazonWebServicesClientProxy proxy,
+            final DataZoneAsyncClient sdkClient,
+            final ApiCallCounter apiCalls) {
+        return new ProxyClient<DataZoneAsyncClient>() {
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+            injectCredentialsAndInvokeV2(RequestT request, Function<RequestT, ResponseT> requestFunction) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse>
+            CompletableFuture<ResponseT>
+            injectCredentialsAndInvokeV2Async(RequestT request, Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+                apiCalls.record(request);
+                return proxy.injectCredentialsAndInvokeV2Async(request, requestFunction);
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>>
+            IterableT
+            injectCredentialsAndInvokeIterableV2(RequestT request, Function<RequestT, IterableT> requestFunction) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+            injectCredentialsAndInvokeV2InputStream(RequestT requestT, Function<RequestT, ResponseInputStream<ResponseT>> function) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+            injectCredentialsAndInvokeV2Bytes(RequestT requestT, Function<RequestT, ResponseBytes<ResponseT>> function) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public DataZoneAsyncClient client() {
+                return sdkClient;
+            }
+        };
+    }
+
     protected static ResourceModel getResourceModel() {
         final ResourceModel model = ResourceModel.builder()
                 .description(DOMAIN_DESCRIPTION)
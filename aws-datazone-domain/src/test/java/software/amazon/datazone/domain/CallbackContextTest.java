@@ -0,0 +1,42 @@
+package software.amazon.datazone.domain;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.resource.Serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CallbackContextTest extends AbstractTestBase {
+
+    @Test
+    public void testSerialize_StabilizationContext_RoundTripsWithIdsOnly() throws Exception {
+        final Serializer serializer = new Serializer();
+        final CallbackContext callbackContext = CallbackContext.builder()
+                .domainId(DOMAIN_ID)
+                .stabilizationRetriesRemaining(10)
+                .build();
+
+        final String json = serializer.serialize(callbackContext);
+
+        assertThat(json).doesNotContain("Summary");
+        assertThat(serializer.deserialize(json, new TypeReference<CallbackContext>() {
+        })).isEqualTo(callbackContext);
+    }
+
+    @Test
+    public void testDeserialize_LegacyContextWithDomainSummary_MapsOntoDomainId() throws Exception {
+        final Serializer serializer = new Serializer();
+        // As serialized while the context carried the whole DomainSummary.
+        final String legacyJson = "{\"stabilizationRetriesRemaining\":10,\"domainSummary\":{\"arn\":\"" + DOMAIN_ARN
+                + "\",\"id\":\"" + DOMAIN_ID + "\",\"name\":\"" + DOMAIN_NAME + "\"}}";
+
+        final CallbackContext callbackContext = serializer.deserialize(legacyJson, new TypeReference<CallbackContext>() {
+        });
+
+        assertThat(callbackContext).isEqualTo(CallbackContext.builder()
+                .domainId(DOMAIN_ID)
+                .stabilizationRetriesRemaining(10)
+                .build());
+        assertThat(serializer.serialize(callbackContext)).doesNotContain("Summary");
+    }
+}
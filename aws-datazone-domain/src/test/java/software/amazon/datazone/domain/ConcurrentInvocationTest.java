@@ -0,0 +1,137 @@
+package software.amazon.datazone.domain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.datazone.DataZoneClient;
+import software.amazon.awssdk.services.datazone.model.CreateDomainRequest;
+import software.amazon.awssdk.services.datazone.model.CreateDomainResponse;
+import software.amazon.awssdk.services.datazone.model.DomainStatus;
+import software.amazon.awssdk.services.datazone.model.GetDomainRequest;
+import software.amazon.awssdk.services.datazone.model.GetDomainResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs many invocations on one handler instance at the same time, each with a client of its own that only knows its
+ * own domain, so that an invocation picking up the client, logger or stabilizer of another one shows in its result.
+ */
+public class ConcurrentInvocationTest extends AbstractTestBase {
+    private static final int THREADS = 16;
+    private static final int INVOCATIONS = 400;
+
+    private AmazonWebServicesClientProxy proxy;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    public void tear_down() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testHandleRequest_ConcurrentCreates_OnOneHandler_EachGetsItsOwnDomain() throws Exception {
+        final CreateHandler createHandler = new CreateHandler();
+        final CyclicBarrier start = new CyclicBarrier(THREADS);
+
+        final List<ProxyClient<DataZoneClient>> proxyClients = new ArrayList<>();
+        for (int index = 0; index < INVOCATIONS; index++) {
+            proxyClients.add(MOCK_PROXY(proxy, clientFor(index)));
+        }
+
+        final List<Future<ProgressEvent<ResourceModel, CallbackContext>>> responses = new ArrayList<>();
+        for (int index = 0; index < INVOCATIONS; index++) {
+            final int invocation = index;
+            responses.add(executor.submit(() -> {
+                if (invocation < THREADS) {
+                    // Lines the first invocations up, so that they all run through the handler at once.
+                    start.await(10, TimeUnit.SECONDS);
+                }
+                final ResourceModel model = getResourceModel();
+                model.setId(null);
+                model.setName(name(invocation));
+                return createHandler.handleRequest(proxy, getResourceHandlerRequest(model), new CallbackContext(),
+                        proxyClients.get(invocation), logger);
+            }));
+        }
+
+        for (int index = 0; index < INVOCATIONS; index++) {
+            final ProgressEvent<ResourceModel, CallbackContext> response = responses.get(index).get(30, TimeUnit.SECONDS);
+            assertCfnResponse(response, OperationStatus.SUCCESS);
+            assertThat(response.getResourceModel().getId()).isEqualTo(id(index));
+            assertThat(response.getResourceModel().getName()).isEqualTo(name(index));
+        }
+    }
+
+    @Test
+    public void testHandleRequest_ConcurrentReads_OnOneHandler_EachGetsItsOwnDomain() throws Exception {
+        final ReadHandler readHandler = new ReadHandler();
+
+        final List<Future<ProgressEvent<ResourceModel, CallbackContext>>> responses = new ArrayList<>();
+        for (int index = 0; index < INVOCATIONS; index++) {
+            final ProxyClient<DataZoneClient> proxyClient = MOCK_PROXY(proxy, clientFor(index));
+            final ResourceHandlerRequest<ResourceModel> request =
+                    getResourceHandlerRequest(ResourceModel.builder().id(id(index)).build());
+            responses.add(executor.submit(() ->
+                    readHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger)));
+        }
+
+        for (int index = 0; index < INVOCATIONS; index++) {
+            final ProgressEvent<ResourceModel, CallbackContext> response = responses.get(index).get(30, TimeUnit.SECONDS);
+            assertCfnResponse(response, OperationStatus.SUCCESS);
+            assertThat(response.getResourceModel().getId()).isEqualTo(id(index));
+            assertThat(response.getResourceModel().getName()).isEqualTo(name(index));
+        }
+    }
+
+    /**
+     * @return A client that creates and reads only the domain of the given invocation. Stubbed up front, mocks are not
+     * safe to stub while other threads call them.
+     */
+    private static DataZoneClient clientFor(final int index) {
+        final DataZoneClient dataZoneClient = mock(DataZoneClient.class);
+        final CreateDomainResponse createDomainResponse = getCreateDomainResponse(DomainStatus.AVAILABLE).toBuilder()
+                .id(id(index))
+                .name(name(index))
+                .build();
+        final GetDomainResponse getDomainResponse = getGetDomainResponse(DomainStatus.AVAILABLE).toBuilder()
+                .id(id(index))
+                .name(name(index))
+                .build();
+        Mockito.when(dataZoneClient.createDomain(Mockito.any(CreateDomainRequest.class)))
+                .thenReturn(createDomainResponse);
+        Mockito.when(dataZoneClient.getDomain(Mockito.argThat((GetDomainRequest request) ->
+                        request != null && id(index).equals(request.identifier()))))
+                .thenReturn(getDomainResponse);
+        return dataZoneClient;
+    }
+
+    private static String id(final int index) {
+        return String.format("dzd_%013d", index);
+    }
+
+    private static String name(final int index) {
+        return "CFN-TEST-" + index;
+    }
+}
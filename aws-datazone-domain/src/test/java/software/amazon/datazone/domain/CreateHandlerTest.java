@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -11,7 +12,6 @@ import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.ConflictException;
 import software.amazon.awssdk.services.datazone.model.CreateDomainRequest;
 import software.amazon.awssdk.services.datazone.model.DomainStatus;
-import software.amazon.awssdk.services.datazone.model.DomainSummary;
 import software.amazon.awssdk.services.datazone.model.GetDomainRequest;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -26,6 +26,7 @@ import java.time.Duration;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,13 +41,16 @@ public class CreateHandlerTest extends AbstractTestBase {
     @Mock
     DataZoneClient dataZoneClient;
 
+    ApiCallCounter apiCalls;
+
     CreateHandler createHandler;
 
     @BeforeEach
     public void setup() {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(6000).toMillis());
         dataZoneClient = mock(DataZoneClient.class);
-        proxyClient = MOCK_PROXY(proxy, dataZoneClient);
+        apiCalls = new ApiCallCounter();
+        proxyClient = MOCK_PROXY(proxy, dataZoneClient, apiCalls);
         createHandler = new CreateHandler();
     }
 
@@ -68,6 +72,10 @@ public class CreateHandlerTest extends AbstractTestBase {
 
         // assertions
         assertCfnResponse(response, OperationStatus.IN_PROGRESS);
+        // The domain is created once and checked once for stabilization.
+        apiCalls.assertAtMost("CreateDomain", 1);
+        apiCalls.assertAtMost(2);
+        apiCalls.reset();
 
         // Make second call with the context that was received from the previous response
         response = createHandler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient, logger);
@@ -77,6 +85,49 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertCfnResponse(response, OperationStatus.SUCCESS);
         assertResponseModel(response.getResourceModel(), model);
         verify(dataZoneClient, atLeastOnce()).serviceName();
+        // The domain is not created again, it is checked for stabilization and read.
+        apiCalls.assertAtMost("CreateDomain", 0);
+        apiCalls.assertAtMost(2);
+    }
+
+    @Test
+    public void testHandleRequest_RetriedCreate_SendsTheSameClientToken() {
+        // setup
+        Mockito.when(dataZoneClient.createDomain(Mockito.any(CreateDomainRequest.class)))
+                .thenReturn(getCreateDomainResponse(DomainStatus.CREATING));
+        Mockito.when(dataZoneClient.getDomain(Mockito.any(GetDomainRequest.class)))
+                .thenReturn(getGetDomainResponse(DomainStatus.CREATING));
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(getResourceModel())
+                .clientRequestToken("4b90a7e4-b790-456b-a937-0cfdfa211dfe")
+                .logicalResourceIdentifier("Domain")
+                .build();
+        final ResourceHandlerRequest<ResourceModel> otherRequest = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(getResourceModel())
+                .clientRequestToken("0f6c2b8e-3a3f-4a54-9d0e-6a1c5f0d2e11")
+                .logicalResourceIdentifier("Domain")
+                .build();
+
+        // make calls, the first invocation timed out and CloudFormation invokes the handler again with the same request
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> retryResponse = createHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> otherResponse = createHandler.handleRequest(proxy, otherRequest, new CallbackContext(), proxyClient, logger);
+
+        // assertions
+        final String clientToken = response.getCallbackContext().getClientToken();
+        assertThat(clientToken).isNotNull();
+        assertThat(retryResponse.getCallbackContext().getClientToken()).isEqualTo(clientToken);
+        assertThat(otherResponse.getCallbackContext().getClientToken()).isNotEqualTo(clientToken);
+        final ArgumentCaptor<CreateDomainRequest> createDomainRequests = ArgumentCaptor.forClass(CreateDomainRequest.class);
+        verify(dataZoneClient, times(3)).createDomain(createDomainRequests.capture());
+        assertThat(createDomainRequests.getAllValues()).extracting(CreateDomainRequest::clientToken)
+                .containsExactly(clientToken, clientToken, otherResponse.getCallbackContext().getClientToken());
+
+        // The token is kept through the callbacks of the stabilization as well, while the domain is still creating.
+        final ProgressEvent<ResourceModel, CallbackContext> callbackResponse = createHandler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient, logger);
+        assertCfnResponse(callbackResponse, OperationStatus.IN_PROGRESS);
+        assertThat(callbackResponse.getCallbackContext().getClientToken()).isEqualTo(clientToken);
+        verify(dataZoneClient, times(3)).createDomain(Mockito.any(CreateDomainRequest.class));
     }
 
     @Test
@@ -89,7 +140,7 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .thenReturn(getGetDomainResponse(DomainStatus.CREATING));
 
         CallbackContext callbackContext = CallbackContext.builder()
-                .domainSummary(DomainSummary.builder().id(DOMAIN_ID).build())
+                .domainId(DOMAIN_ID)
                 .stabilizationRetriesRemaining(1)
                 .build();
 
@@ -111,7 +162,7 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .thenReturn(getGetDomainResponse(DomainStatus.CREATION_FAILED));
 
         CallbackContext callbackContext = CallbackContext.builder()
-                .domainSummary(DomainSummary.builder().id(DOMAIN_ID).build())
+                .domainId(DOMAIN_ID)
                 .stabilizationRetriesRemaining(1)
                 .build();
 
@@ -10,7 +10,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.DeleteDomainRequest;
 import software.amazon.awssdk.services.datazone.model.DomainStatus;
-import software.amazon.awssdk.services.datazone.model.DomainSummary;
 import software.amazon.awssdk.services.datazone.model.GetDomainRequest;
 import software.amazon.awssdk.services.datazone.model.ResourceNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
@@ -118,7 +117,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
                 .thenReturn(getGetDomainResponse(DomainStatus.DELETING));
 
         CallbackContext callbackContext = CallbackContext.builder()
-                .domainSummary(DomainSummary.builder().id(DOMAIN_ID).build())
+                .domainId(DOMAIN_ID)
                 .stabilizationRetriesRemaining(1)
                 .build();
 
@@ -0,0 +1,51 @@
+package software.amazon.datazone.domain;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ResourceModelValidatorTest extends AbstractTestBase {
+    private final ResourceModelValidator validator = ResourceModelValidator.getInstance();
+
+    @Test
+    public void testValidate_ValidModel_WithReadOnlyProperties_Passes() {
+        final ResourceModel model = ResourceModel.builder()
+                .name(DOMAIN_NAME)
+                .domainExecutionRole("arn:aws:iam::123456789012:role/service-role/AmazonDataZoneDomainExecution")
+                .kmsKeyIdentifier("arn:aws:kms:us-east-1:123456789012:key/0a1b2c3d-eadb-4d6a-b6c1-fa51900fde9f")
+                // Read-only, they are not input and not validated.
+                .id("not a domain id")
+                .arn("not an arn")
+                .build();
+
+        assertThat(validator.violations(model)).isEmpty();
+        validator.validate(model);
+    }
+
+    @Test
+    public void testValidate_InvalidModel_ReportsAllViolations() {
+        final ResourceModel model = ResourceModel.builder()
+                .domainExecutionRole("AmazonDataZoneDomainExecution")
+                .kmsKeyIdentifier("alias/my-key")
+                .build();
+
+        assertThat(validator.violations(model))
+                .hasSize(3)
+                .anySatisfy(violation -> assertThat(violation).contains("Name"))
+                .anySatisfy(violation -> assertThat(violation).startsWith("#/DomainExecutionRole"))
+                .anySatisfy(violation -> assertThat(violation).startsWith("#/KmsKeyIdentifier"));
+        assertThatThrownBy(() -> validator.validate(model))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("3 schema violation(s)");
+    }
+
+    @Test
+    public void testValidate_NoModel_ReportsRequiredProperties() {
+        assertThat(validator.violations(null))
+                .hasSize(2)
+                .anySatisfy(violation -> assertThat(violation).contains("Name"))
+                .anySatisfy(violation -> assertThat(violation).contains("DomainExecutionRole"));
+    }
+}
@@ -7,12 +7,19 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.datazone.DataZoneAsyncClient;
 import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.DomainStatus;
 import software.amazon.awssdk.services.datazone.model.GetDomainRequest;
 import software.amazon.awssdk.services.datazone.model.GetDomainResponse;
+import software.amazon.awssdk.services.datazone.model.TagResourceRequest;
+import software.amazon.awssdk.services.datazone.model.TagResourceResponse;
+import software.amazon.awssdk.services.datazone.model.ThrottlingException;
+import software.amazon.awssdk.services.datazone.model.UntagResourceRequest;
+import software.amazon.awssdk.services.datazone.model.UntagResourceResponse;
 import software.amazon.awssdk.services.datazone.model.UpdateDomainRequest;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -21,6 +28,9 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -43,15 +53,22 @@ public class UpdateHandlerTest extends AbstractTestBase {
     @Mock
     DataZoneClient dataZoneClient;
 
+    @Mock
+    DataZoneAsyncClient dataZoneAsyncClient;
+
     ArgumentCaptor<UpdateDomainRequest> updateDomainRequestArgumentCaptor = ArgumentCaptor.forClass(UpdateDomainRequest.class);
 
+    ApiCallCounter apiCalls;
+
     UpdateHandler updateHandler;
 
     @BeforeEach
     public void setup() {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         dataZoneClient = mock(DataZoneClient.class);
-        proxyClient = MOCK_PROXY(proxy, dataZoneClient);
+        dataZoneAsyncClient = mock(DataZoneAsyncClient.class);
+        apiCalls = new ApiCallCounter();
+        proxyClient = MOCK_PROXY(proxy, dataZoneClient, apiCalls);
         updateHandler = new UpdateHandler();
     }
 
@@ -85,6 +102,9 @@ public class UpdateHandlerTest extends AbstractTestBase {
         Mockito.verify(dataZoneClient, Mockito.times(1)).updateDomain(updateDomainRequestArgumentCaptor.capture());
         UpdateDomainRequest updateDomainRequest = updateDomainRequestArgumentCaptor.getValue();
         assertThat(updateDomainRequest.singleSignOn()).isNull();
+        // Without a tag change the domain is updated, checked for stabilization and read.
+        apiCalls.assertAtMost("UpdateDomain", 1);
+        apiCalls.assertAtMost(3);
     }
 
     @Test
@@ -176,6 +196,72 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .hasMessageContaining(SIGN_ON_ERROR_STATUS);
     }
 
+    @Test
+    public void testHandleRequest_TagsUpdatedInAsyncMode_UpdatesTagsConcurrently() {
+        // setup
+        final ResourceModel oldResourceModel = getResourceModel();
+        final ResourceModel newResourceModel = getResourceModel();
+        newResourceModel.setTags(Set.of(Tag.builder().key("TAG2").value("VALUE2").build()));
+
+        Mockito.when(dataZoneClient.getDomain(Mockito.any(GetDomainRequest.class)))
+                .thenReturn(getAvailableDomainResponse(DOMAIN_DESCRIPTION).build());
+        Mockito.when(dataZoneAsyncClient.untagResource(Mockito.any(UntagResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(UntagResourceResponse.builder().build()));
+        Mockito.when(dataZoneAsyncClient.tagResource(Mockito.any(TagResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(TagResourceResponse.builder().build()));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(oldResourceModel)
+                .desiredResourceState(newResourceModel)
+                .build();
+        final InvocationContext context = InvocationContext.create(proxyClient, MOCK_ASYNC_PROXY(proxy, dataZoneAsyncClient, apiCalls), logger);
+
+        // make call
+        final ProgressEvent<ResourceModel, CallbackContext> response = updateHandler.handleRequest(proxy, request, new CallbackContext(), context);
+
+        // assert that the event received is in SUCCESSFUL
+        assertCfnResponse(response, OperationStatus.SUCCESS);
+        // The tag update reads the domain for its ARN on top of the stabilization check and the final read.
+        apiCalls.assertAtMost("GetDomain", 3);
+        apiCalls.assertAtMost("UntagResource", 1);
+        apiCalls.assertAtMost("TagResource", 1);
+        apiCalls.assertAtMost(6);
+
+        // Verify that the tags were updated through the async client only
+        final ArgumentCaptor<UntagResourceRequest> untagResourceRequestArgumentCaptor = ArgumentCaptor.forClass(UntagResourceRequest.class);
+        final ArgumentCaptor<TagResourceRequest> tagResourceRequestArgumentCaptor = ArgumentCaptor.forClass(TagResourceRequest.class);
+        Mockito.verify(dataZoneAsyncClient, Mockito.times(1)).untagResource(untagResourceRequestArgumentCaptor.capture());
+        Mockito.verify(dataZoneAsyncClient, Mockito.times(1)).tagResource(tagResourceRequestArgumentCaptor.capture());
+        Mockito.verify(dataZoneClient, Mockito.never()).untagResource(Mockito.any(UntagResourceRequest.class));
+        Mockito.verify(dataZoneClient, Mockito.never()).tagResource(Mockito.any(TagResourceRequest.class));
+        assertThat(untagResourceRequestArgumentCaptor.getValue().tagKeys()).containsExactly("TAG1");
+        assertThat(tagResourceRequestArgumentCaptor.getValue().tags()).isEqualTo(Map.of("TAG2", "VALUE2"));
+    }
+
+    @Test
+    public void testHandleRequest_TagsUpdateFailsInAsyncMode_ShouldThrowException() {
+        // setup
+        final ResourceModel oldResourceModel = getResourceModel();
+        final ResourceModel newResourceModel = getResourceModel();
+        newResourceModel.setTags(Set.of(Tag.builder().key("TAG2").value("VALUE2").build()));
+
+        Mockito.when(dataZoneClient.getDomain(Mockito.any(GetDomainRequest.class)))
+                .thenReturn(getAvailableDomainResponse(DOMAIN_DESCRIPTION).build());
+        Mockito.when(dataZoneAsyncClient.untagResource(Mockito.any(UntagResourceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(UntagResourceResponse.builder().build()));
+        Mockito.when(dataZoneAsyncClient.tagResource(Mockito.any(TagResourceRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(ThrottlingException.builder().message("Rate exceeded").build()));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(oldResourceModel)
+                .desiredResourceState(newResourceModel)
+                .build();
+        final InvocationContext context = InvocationContext.create(proxyClient, MOCK_ASYNC_PROXY(proxy, dataZoneAsyncClient), logger);
+
+        // make call and assert that the async failure is surfaced as the matching Cfn exception
+        assertThatThrownBy(() -> updateHandler.handleRequest(proxy, request, new CallbackContext(), context))
+                .isInstanceOf(CfnThrottlingException.class);
+    }
 
     private GetDomainResponse.Builder getAvailableDomainResponse(String updatedDescription) {
         return GetDomainResponse.builder()
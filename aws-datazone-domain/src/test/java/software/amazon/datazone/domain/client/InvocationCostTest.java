@@ -0,0 +1,87 @@
+package software.amazon.datazone.domain.client;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.http.SdkHttpRequest;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InvocationCostTest {
+
+    @Test
+    public void testSummarize_RecordedByInterceptor_SummarizesPerOperationAndResets() {
+        final InvocationCost invocationCost = new InvocationCost();
+        final InvocationCostInterceptor interceptor = new InvocationCostInterceptor();
+        final ExecutionAttributes executionAttributes = executionAttributes("GetEnvironment", invocationCost);
+
+        // Two attempts of a single call, the first one without a response.
+        interceptor.beforeTransmission(beforeTransmission(40), executionAttributes);
+        interceptor.beforeTransmission(beforeTransmission(40), executionAttributes);
+        interceptor.afterTransmission(afterTransmission("900"), executionAttributes);
+        interceptor.afterExecution(Mockito.mock(Context.AfterExecution.class), executionAttributes);
+        invocationCost.recordConnectionAcquire("GetEnvironment", Duration.ofMillis(3));
+
+        assertThat(invocationCost.summarize())
+                .startsWith("GetEnvironment: 1 calls, 2 attempts, 80 bytes sent, 900 bytes received, 3 ms connection acquire");
+        assertThat(invocationCost.summarize()).isEqualTo("no calls");
+    }
+
+    @Test
+    public void testAfterTransmission_InvalidContentLength_CountsNoBytes() {
+        final InvocationCost invocationCost = new InvocationCost();
+        final InvocationCostInterceptor interceptor = new InvocationCostInterceptor();
+        final ExecutionAttributes executionAttributes = executionAttributes("DeleteEnvironment", invocationCost);
+
+        interceptor.afterTransmission(afterTransmission("chunked"), executionAttributes);
+        interceptor.onExecutionFailure(Mockito.mock(Context.FailedExecution.class), executionAttributes);
+
+        assertThat(invocationCost.summarize())
+                .startsWith("DeleteEnvironment: 1 calls, 0 attempts, 0 bytes sent, 0 bytes received");
+    }
+
+    @Test
+    public void testInterceptor_CallsOfTwoInvocations_AreRecordedApart() {
+        final InvocationCost first = new InvocationCost();
+        final InvocationCost second = new InvocationCost();
+        final InvocationCostInterceptor interceptor = new InvocationCostInterceptor();
+
+        interceptor.afterExecution(Mockito.mock(Context.AfterExecution.class), executionAttributes("GetEnvironment", first));
+        interceptor.afterExecution(Mockito.mock(Context.AfterExecution.class), executionAttributes("GetEnvironment", first));
+        interceptor.afterExecution(Mockito.mock(Context.AfterExecution.class), executionAttributes("ListEnvironments", second));
+        // A client built for no invocation, e.g. while priming.
+        interceptor.afterExecution(Mockito.mock(Context.AfterExecution.class), new ExecutionAttributes()
+                .putAttribute(SdkExecutionAttribute.OPERATION_NAME, "GetEnvironment"));
+
+        assertThat(first.summarize()).startsWith("GetEnvironment: 2 calls");
+        assertThat(second.summarize()).startsWith("ListEnvironments: 1 calls");
+    }
+
+    private static ExecutionAttributes executionAttributes(final String operationName, final InvocationCost invocationCost) {
+        return new ExecutionAttributes()
+                .putAttribute(SdkExecutionAttribute.OPERATION_NAME, operationName)
+                .putAttribute(InvocationCost.INVOCATION_COST, invocationCost);
+    }
+
+    private static Context.BeforeTransmission beforeTransmission(final int requestBytes) {
+        final Context.BeforeTransmission context = Mockito.mock(Context.BeforeTransmission.class);
+        Mockito.when(context.requestBody()).thenReturn(Optional.of(RequestBody.fromBytes(new byte[requestBytes])));
+        return context;
+    }
+
+    private static Context.AfterTransmission afterTransmission(final String contentLength) {
+        final Context.AfterTransmission context = Mockito.mock(Context.AfterTransmission.class);
+        Mockito.when(context.httpResponse()).thenReturn(SdkHttpFullResponse.builder()
+                .statusCode(200)
+                .putHeader("Content-Length", contentLength)
+                .build());
+        return context;
+    }
+}
@@ -0,0 +1,150 @@
+package software.amazon.datazone.domain.helper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.datazone.model.DomainStatus;
+import software.amazon.awssdk.services.datazone.model.GetDomainRequest;
+import software.amazon.awssdk.services.datazone.model.GetDomainResponse;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.datazone.domain.CallbackContext;
+import software.amazon.datazone.domain.ResourceModel;
+import software.amazon.datazone.domain.client.DataZoneClientWrapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ResourceStabilizerTest {
+    private static final ResourceModel MODEL = ResourceModel.builder().id("dzd_2334up2ahl2wg4n").name("CFN-TEST").build();
+
+    private DataZoneClientWrapper dataZoneClientWrapper;
+    private long nanoTime;
+    private List<Long> sleeps;
+
+    @BeforeEach
+    public void setup() {
+        dataZoneClientWrapper = mock(DataZoneClientWrapper.class);
+        nanoTime = 0;
+        sleeps = new ArrayList<>();
+    }
+
+    @Test
+    public void testStabilizeResource_StabilizesWithinBudget_CompletesInOneInvocation() {
+        Mockito.when(dataZoneClientWrapper.getDomain(Mockito.any(GetDomainRequest.class)))
+                .thenReturn(domain(DomainStatus.CREATING), domain(DomainStatus.CREATING), domain(DomainStatus.CREATING),
+                        domain(DomainStatus.AVAILABLE));
+
+        final ProgressEvent<ResourceModel, CallbackContext> progressEvent = stabilizer(Duration.ofSeconds(30))
+                .stabilizeResource(MODEL, callbackContext(), DataZoneClientWrapper.STABILIZED_DOMAIN_STATUS);
+
+        assertThat(progressEvent.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(progressEvent.getCallbackDelaySeconds()).isZero();
+        // The polls back off, from one second up.
+        assertThat(sleeps).containsExactly(1000L, 2000L, 4000L);
+        verify(dataZoneClientWrapper, times(4)).getDomain(Mockito.any(GetDomainRequest.class));
+    }
+
+    @Test
+    public void testStabilizeResource_BudgetSpent_HandsBackToCloudFormation() {
+        Mockito.when(dataZoneClientWrapper.getDomain(Mockito.any(GetDomainRequest.class)))
+                .thenReturn(domain(DomainStatus.CREATING));
+
+        final ProgressEvent<ResourceModel, CallbackContext> progressEvent = stabilizer(Duration.ofSeconds(10))
+                .stabilizeResource(MODEL, callbackContext(), DataZoneClientWrapper.STABILIZED_DOMAIN_STATUS);
+
+        assertThat(progressEvent.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(progressEvent.getCallbackDelaySeconds()).isEqualTo(Constants.CALLBACK_DELAY_SECONDS);
+        // Only the hand back to CloudFormation counts as a stabilization attempt.
+        assertThat(progressEvent.getCallbackContext().getStabilizationRetriesRemaining())
+                .isEqualTo(Constants.MAXIMUM_STABILIZATION_ATTEMPTS - 1);
+        assertThat(progressEvent.getCallbackContext().getDomainId()).isEqualTo(MODEL.getId());
+        assertThat(sleeps).containsExactly(1000L, 2000L, 4000L);
+    }
+
+    @Test
+    public void testStabilizeResource_NoBudget_PollsOnce() {
+        Mockito.when(dataZoneClientWrapper.getDomain(Mockito.any(GetDomainRequest.class)))
+                .thenReturn(domain(DomainStatus.CREATING));
+
+        final ProgressEvent<ResourceModel, CallbackContext> progressEvent = new ResourceStabilizer(dataZoneClientWrapper,
+                new LoggerWrapper(new LoggerProxy()), TimeBudget.none())
+                .stabilizeResource(MODEL, callbackContext(), DataZoneClientWrapper.STABILIZED_DOMAIN_STATUS);
+
+        assertThat(progressEvent.getCallbackDelaySeconds()).isEqualTo(Constants.CALLBACK_DELAY_SECONDS);
+        verify(dataZoneClientWrapper, times(1)).getDomain(Mockito.any(GetDomainRequest.class));
+    }
+
+    @Test
+    public void testInvocationBudget_ReadFromEnvironment() {
+        assertThat(TimeBudget.invocationBudget(Map.<String, String>of()::get)).isEqualTo(Constants.INLINE_STABILIZATION_BUDGET);
+        assertThat(TimeBudget.invocationBudget(Map.of(TimeBudget.INLINE_STABILIZATION_MILLIS, "0")::get)).isZero();
+        assertThat(TimeBudget.invocationBudget(Map.of(TimeBudget.INLINE_STABILIZATION_MILLIS, "1500")::get))
+                .isEqualTo(Duration.ofMillis(1500));
+    }
+
+    @Test
+    public void testInvocationBudget_InvalidValue_IsRejected() {
+        assertThatThrownBy(() -> TimeBudget.invocationBudget(Map.of(TimeBudget.INLINE_STABILIZATION_MILLIS, "-1")::get))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(TimeBudget.INLINE_STABILIZATION_MILLIS)
+                .hasMessageContaining("-1");
+        assertThatThrownBy(() -> TimeBudget.invocationBudget(Map.of(TimeBudget.INLINE_STABILIZATION_MILLIS, "1.5s")::get))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(TimeBudget.INLINE_STABILIZATION_MILLIS)
+                .hasMessageContaining("1.5s");
+    }
+
+    @Test
+    public void testInvocationBudget_BoundedByTheTimeTheInvocationHasLeft() {
+        final Duration cap = Constants.INLINE_STABILIZATION_BUDGET;
+        final Duration margin = Constants.INVOCATION_SAFETY_MARGIN;
+
+        // Off Lambda the time left is not known, the cap alone applies.
+        assertThat(TimeBudget.invocationBudget(cap, null)).isEqualTo(cap);
+        assertThat(TimeBudget.invocationBudget(cap, () -> cap.plus(margin).plusSeconds(5).toMillis())).isEqualTo(cap);
+        assertThat(TimeBudget.invocationBudget(cap, () -> margin.plusSeconds(5).toMillis())).isEqualTo(Duration.ofSeconds(5));
+        assertThat(TimeBudget.invocationBudget(cap, () -> margin.minusSeconds(5).toMillis())).isZero();
+    }
+
+    @Test
+    public void testForInvocation_TimeLeftWithinTheMargin_DoesNotWait() {
+        TimeBudget.startInvocation(() -> Constants.INVOCATION_SAFETY_MARGIN.toMillis());
+        try {
+            assertThat(TimeBudget.forInvocation().waitFor(Duration.ofMillis(1))).isFalse();
+        } finally {
+            TimeBudget.finishInvocation();
+        }
+    }
+
+    /**
+     * @return A stabilizer whose budget runs on a clock that only its sleeps move forward.
+     */
+    private ResourceStabilizer stabilizer(final Duration budget) {
+        final TimeBudget timeBudget = new TimeBudget(budget, () -> nanoTime, millis -> {
+            sleeps.add(millis);
+            nanoTime += Duration.ofMillis(millis).toNanos();
+        });
+        return new ResourceStabilizer(dataZoneClientWrapper, new LoggerWrapper(new LoggerProxy()), timeBudget);
+    }
+
+    private static CallbackContext callbackContext() {
+        return CallbackContext.builder()
+                .stabilizationRetriesRemaining(Constants.MAXIMUM_STABILIZATION_ATTEMPTS)
+                .domainId(MODEL.getId())
+                .build();
+    }
+
+    private static GetDomainResponse domain(final DomainStatus status) {
+        return GetDomainResponse.builder().id(MODEL.getId()).name(MODEL.getName()).status(status).build();
+    }
+}
@@ -1,44 +1,98 @@
 package software.amazon.datazone.environment;
 
 import software.amazon.awssdk.services.datazone.DataZoneClient;
+import software.amazon.awssdk.services.datazone.model.Deployment;
+import software.amazon.awssdk.services.datazone.model.ResourceNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.datazone.environment.client.DataZoneClientBuilder;
-import software.amazon.datazone.environment.client.DataZoneClientWrapper;
 import software.amazon.datazone.environment.helper.Constants;
-import software.amazon.datazone.environment.helper.LoggerWrapper;
-import software.amazon.datazone.environment.helper.ResourceStabilizer;
+import software.amazon.datazone.environment.helper.TimeBudget;
+import software.amazon.datazone.environment.helper.Tracing;
 
-public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
-
-    protected LoggerWrapper logger;
-    protected DataZoneClientWrapper dataZoneClientWrapper;
-    protected ResourceStabilizer stabilizer;
+import java.util.Map;
 
+public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(DataZoneClientBuilder::getClient),
-                logger
-        );
+        Tracing.start(ResourceModel.TYPE_NAME, getClass().getSimpleName(), Map.of(
+                "cfn.logicalResourceId", String.valueOf(request.getLogicalResourceIdentifier()),
+                "cfn.clientRequestToken", String.valueOf(request.getClientRequestToken())));
+        final InvocationContext context = InvocationContext.create(proxy, logger, TimeBudget.forInvocation());
+        ProgressEvent<ResourceModel, CallbackContext> progressEvent = null;
+        try {
+            if (callbackContext == null && validatesDesiredResourceState()) {
+                // Rejects invalid input, with all of its violations, before the first call to DataZone.
+                ResourceModelValidator.getInstance().validate(request.getDesiredResourceState());
+            }
+            progressEvent = handleRequest(
+                    proxy,
+                    request,
+                    callbackContext != null ? callbackContext : new CallbackContext(),
+                    context
+            );
+            return progressEvent;
+        } finally {
+            Tracing.finish(progressEvent, logger::log);
+            // Export the retries and timeouts of the calls made during this invocation, and log what they cost.
+            context.getOperationMetrics().flush(logger::log);
+            context.getLogger().info("DataZone calls of this invocation: " + context.getInvocationCost().summarize());
+        }
     }
 
-    protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    /**
+     * Handles an invocation with a context of the given client and logger.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final ProxyClient<DataZoneClient> proxyClient,
-            final Logger logger);
+            final Logger logger) {
+        return handleRequest(proxy, request, callbackContext, InvocationContext.create(proxyClient, logger));
+    }
+
+    /**
+     * Handles an invocation with what it works with in the given context. Implementations keep no state in fields, a
+     * handler instance serves concurrent invocations.
+     */
+    protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final InvocationContext context);
+
+    /**
+     * Whether the desired resource state is validated against the resource schema on the first invocation, before the
+     * handler runs. Only the handlers that take it as input do.
+     */
+    protected boolean validatesDesiredResourceState() {
+        return false;
+    }
+
+    /**
+     * Reads the environment before the operation changes it, a failure of the deployment it already has is one of an
+     * earlier operation and is not taken for a failure of this one.
+     *
+     * @return The id of the last deployment of the environment, null if it has none or does not exist.
+     */
+    protected static String getPreviousDeploymentId(final InvocationContext context, final ResourceModel model) {
+        try {
+            final Deployment lastDeployment = context.getDataZoneClientWrapper()
+                    .getEnvironment(Translator.translateToReadRequest(model)).lastDeployment();
+            return lastDeployment == null ? null : lastDeployment.deploymentId();
+        } catch (ResourceNotFoundException | CfnNotFoundException e) {
+            // The call that follows reports it, as it did before.
+            return null;
+        }
+    }
 
     protected static CallbackContext getCallbackContext(CallbackContext callbackContext) {
         // Create the context
@@ -15,5 +15,28 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 public class CallbackContext extends StdCallbackContext {
     private Integer stabilizationRetriesRemaining;
     private Integer timeOutRetriesRemaining;
-    private EnvironmentSummary environmentSummary;
+    // Set once the environment was created, updated or deleted, the next invocations only wait for it to stabilize.
+    private String environmentId;
+    private String domainId;
+    // Epoch millis of the first poll of the current deployment, to tell how far along it is.
+    private Long stabilizationStartedAt;
+    // The last deployment of the environment before it was updated or deleted, null for a create. A failure of it is
+    // one of an earlier operation.
+    private String initialDeploymentId;
+
+    /**
+     * Contexts serialized before the ids replaced the summary still carry it, e.g. those of operations that were in
+     * flight while the handlers were updated. Mapping it onto the ids lets them wait for the environment they already
+     * started, instead of starting it again.
+     *
+     * @deprecated Only read from legacy contexts, set the ids instead.
+     */
+    @Deprecated
+    public void setEnvironmentSummary(final EnvironmentSummary environmentSummary) {
+        if (environmentSummary == null) {
+            return;
+        }
+        this.environmentId = environmentSummary.id();
+        this.domainId = environmentSummary.domainId();
+    }
 }
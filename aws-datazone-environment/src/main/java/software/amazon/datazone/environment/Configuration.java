@@ -1,6 +1,6 @@
 package software.amazon.datazone.environment;
 
-class Configuration extends BaseConfiguration {
+public class Configuration extends BaseConfiguration {
 
     public Configuration() {
         super("aws-datazone-environment.json");
@@ -1,72 +1,65 @@
 package software.amazon.datazone.environment;
 
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.DeleteEnvironmentRequest;
 import software.amazon.awssdk.services.datazone.model.DeleteEnvironmentResponse;
-import software.amazon.awssdk.services.datazone.model.EnvironmentStatus;
-import software.amazon.awssdk.services.datazone.model.EnvironmentSummary;
 import software.amazon.awssdk.services.datazone.model.GetEnvironmentResponse;
 import software.amazon.awssdk.services.datazone.model.ResourceNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.datazone.environment.client.DataZoneClientWrapper;
 import software.amazon.datazone.environment.helper.Constants;
 import software.amazon.datazone.environment.helper.LoggerWrapper;
-import software.amazon.datazone.environment.helper.ResourceStabilizer;
+import software.amazon.datazone.environment.helper.Tracing;
 
+import java.time.Duration;
 import java.util.Objects;
 
 import static software.amazon.datazone.environment.helper.Constants.MAXIMUM_TIMEOUT_ATTEMPTS;
 
 public class DeleteHandler extends BaseHandlerStd {
+    private final ReadHandler readHandler = new ReadHandler();
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-
-        // Initialize
-        this.logger = new LoggerWrapper(externalLogger);
-        this.dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
-        this.stabilizer = new ResourceStabilizer(dataZoneClientWrapper, logger);
-
+            final InvocationContext context) {
         final CallbackContext currentContext = getCallbackContext(callbackContext);
 
         return ProgressEvent.progress(request.getDesiredResourceState(), currentContext)
-                .then(progress -> deleteEnvironment(proxy, proxyClient, progress))
-                .then(progress -> this.stabilizeEnvironmentForDeletion(progress))
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, progress.getCallbackContext(), proxyClient, externalLogger));
+                .then(Tracing.stage("deleteEnvironment", progress -> deleteEnvironment(proxy, context, progress)))
+                .then(Tracing.stage("stabilizeEnvironmentForDeletion", progress -> this.stabilizeEnvironmentForDeletion(proxy, progress, context)))
+                .then(Tracing.stage("read", progress -> readHandler.handleRequest(proxy, request, progress.getCallbackContext(), context)));
     }
 
     public ProgressEvent<ResourceModel, CallbackContext> deleteEnvironment(AmazonWebServicesClientProxy proxy,
-                                                                           ProxyClient<DataZoneClient> proxyClient,
+                                                                           InvocationContext context,
                                                                            ProgressEvent<ResourceModel, CallbackContext> progress) {
         final ResourceModel resourceModel = progress.getResourceModel();
         final CallbackContext callbackContext = progress.getCallbackContext();
-        final EnvironmentSummary environmentSummary = progress.getCallbackContext().getEnvironmentSummary();
-        // If the environmentSummary is not null then this implies that we deleted the environment in the previous stabilization
+        final String environmentId = progress.getCallbackContext().getEnvironmentId();
+        // If the environmentId is not null then this implies that we deleted the environment in the previous stabilization
         // attempt and this attempt we just need to wait till environment gets stabilized.
-        if (!Objects.isNull(environmentSummary)) {
+        if (!Objects.isNull(environmentId)) {
             return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
         }
 
+        if (callbackContext.getInitialDeploymentId() == null) {
+            // A retried deletion already knows the deployment that timed out.
+            callbackContext.setInitialDeploymentId(getPreviousDeploymentId(context, resourceModel));
+        }
         // Else we need to call DataZone Control Plane to delete the resource.
         try {
-            return proxy.initiate("AWS-DataZone-Environment::Delete", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            return Tracing.callChain("AWS-DataZone-Environment::Delete", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), progress.getResourceModel(), progress.getCallbackContext())
                     .translateToServiceRequest(Translator::translateToDeleteRequest)
-                    .makeServiceCall((deleteEnvironmentRequest, client) -> dataZoneClientWrapper.deleteEnvironment(deleteEnvironmentRequest))
+                    .makeServiceCall((deleteEnvironmentRequest, client) -> context.getDataZoneClientWrapper().deleteEnvironment(deleteEnvironmentRequest))
                     // and update the model fields and context
-                    .done(this::updateContext);
+                    .done((deleteEnvironmentRequest, deleteEnvironmentResponse, client, model, currentCallbackContext) ->
+                            updateContext(deleteEnvironmentRequest, deleteEnvironmentResponse, model, currentCallbackContext, context)));
         } catch (ResourceNotFoundException | CfnNotFoundException e) {
-            logger.info("Environment with id %s and domainId %s does not exist, skipping deletion...",
+            context.getLogger().info("Environment with id %s and domainId %s does not exist, skipping deletion...",
                     resourceModel.getId(), resourceModel.getDomainIdentifier());
             if (progress.getCallbackContext().getTimeOutRetriesRemaining().equals(MAXIMUM_TIMEOUT_ATTEMPTS)) {
                 // This indicates that no deletion call was previously made and hence Not found should be thrown.
@@ -80,44 +73,44 @@ public class DeleteHandler extends BaseHandlerStd {
 
     private ProgressEvent<ResourceModel, CallbackContext> updateContext(DeleteEnvironmentRequest deleteEnvironmentRequest,
                                                                         DeleteEnvironmentResponse deleteEnvironmentResponse,
-                                                                        ProxyClient<DataZoneClient> dataZoneClientProxyClient,
                                                                         ResourceModel resourceModel,
-                                                                        CallbackContext callbackContext) {
-        logger.info("Successfully Deleted Environment with id %s and domain id %s",
+                                                                        CallbackContext callbackContext,
+                                                                        InvocationContext context) {
+        context.getLogger().info("Successfully Deleted Environment with id %s and domain id %s",
                 deleteEnvironmentRequest.identifier(), deleteEnvironmentRequest.domainIdentifier());
-        EnvironmentSummary environmentSummary = EnvironmentSummary.builder()
-                .id(deleteEnvironmentRequest.identifier())
-                .domainId(deleteEnvironmentRequest.domainIdentifier())
-                .build();
-
         CallbackContext updatedContext = CallbackContext.builder()
-                .environmentSummary(environmentSummary)
+                .environmentId(deleteEnvironmentRequest.identifier())
+                .domainId(deleteEnvironmentRequest.domainIdentifier())
                 .timeOutRetriesRemaining(callbackContext.getTimeOutRetriesRemaining())
                 .stabilizationRetriesRemaining(callbackContext.getStabilizationRetriesRemaining())
+                .stabilizationStartedAt(callbackContext.getStabilizationStartedAt())
+                .initialDeploymentId(callbackContext.getInitialDeploymentId())
                 .build();
 
         return ProgressEvent.progress(resourceModel, updatedContext);
     }
 
-    private ProgressEvent<ResourceModel, CallbackContext> stabilizeEnvironmentForDeletion(ProgressEvent<ResourceModel, CallbackContext> progress) {
+    private ProgressEvent<ResourceModel, CallbackContext> stabilizeEnvironmentForDeletion(AmazonWebServicesClientProxy proxy,
+                                                                                          ProgressEvent<ResourceModel, CallbackContext> progress,
+                                                                                          InvocationContext context) {
         ResourceModel resourceModel = progress.getResourceModel();
         CallbackContext callbackContext = progress.getCallbackContext();
         try {
-            return stabilizer.stabilizeResource(resourceModel, callbackContext);
+            // A deletion whose deployment timed out is retried on the poll that sees the environment fail to delete.
+            return context.getStabilizer().stabilizeResource(resourceModel, callbackContext, getEnvironmentResponse ->
+                    retryDeletionForEnvironment(proxy, resourceModel, getEnvironmentResponse, callbackContext, context));
         } catch (ResourceNotFoundException | CfnNotFoundException exception) {
-            logger.info("Environment with name %s and id %s is deleted...", resourceModel.getName(), resourceModel.getId());
+            context.getLogger().info("Environment with name %s and id %s is deleted...", resourceModel.getName(), resourceModel.getId());
             return ProgressEvent.success(resourceModel, callbackContext);
-        } catch (CfnNotStabilizedException exception) {
-            GetEnvironmentResponse getEnvironmentResponse = dataZoneClientWrapper.getEnvironment(Translator.translateToReadRequest(resourceModel));
-            if (getEnvironmentResponse.status().equals(EnvironmentStatus.DELETE_FAILED) && isDeploymentTimedOut(getEnvironmentResponse)) {
-                return retryDeletionForEnvironment(resourceModel, getEnvironmentResponse, callbackContext);
-            } else {
-                throw exception;
-            }
         }
     }
 
-    private ProgressEvent<ResourceModel, CallbackContext> retryDeletionForEnvironment(ResourceModel resourceModel, GetEnvironmentResponse getEnvironmentResponse, CallbackContext callbackContext) {
+    private ProgressEvent<ResourceModel, CallbackContext> retryDeletionForEnvironment(AmazonWebServicesClientProxy proxy,
+                                                                                      ResourceModel resourceModel,
+                                                                                      GetEnvironmentResponse getEnvironmentResponse,
+                                                                                      CallbackContext callbackContext,
+                                                                                      InvocationContext context) {
+        final LoggerWrapper logger = context.getLogger();
         String environmentName = resourceModel.getName();
         String environmentId = resourceModel.getId();
         String domainId = resourceModel.getDomainIdentifier();
@@ -132,17 +125,33 @@ public class DeleteHandler extends BaseHandlerStd {
             String errorMessage = String.format("Environment %s with id %s and domain id %s failed to stabilize after all attempts, %s",
                     environmentName, environmentId, domainId, getEnvironmentResponse.lastDeployment());
             return ProgressEvent.failed(resourceModel, callbackContext, HandlerErrorCode.NotStabilized, errorMessage);
-        } else {
-            return ProgressEvent.defaultInProgressHandler(CallbackContext.builder()
-                            .stabilizationRetriesRemaining(callbackContext.getStabilizationRetriesRemaining() - 1)
-                            .timeOutRetriesRemaining(timedOutRetriesRemaining)
-                            .environmentSummary(null) // A null here indicates that the next retry attempt should make another deletion call
-                            .build(),
-                    Constants.CALLBACK_DELAY_SECONDS, resourceModel);
         }
+
+        // Delete again right away rather than a callback later. The time spent stabilizing carries on, the timed out
+        // deployment is one the new deletion does not wait for.
+        final CallbackContext retryContext = CallbackContext.builder()
+                .stabilizationRetriesRemaining(callbackContext.getStabilizationRetriesRemaining() - 1)
+                .timeOutRetriesRemaining(timedOutRetriesRemaining)
+                .stabilizationStartedAt(callbackContext.getStabilizationStartedAt())
+                .initialDeploymentId(getEnvironmentResponse.lastDeployment().deploymentId())
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> deleted =
+                deleteEnvironment(proxy, context, ProgressEvent.progress(resourceModel, retryContext));
+        if (!deleted.isInProgress()) {
+            return deleted;
+        }
+        final Duration retryDelay = retryDelay(MAXIMUM_TIMEOUT_ATTEMPTS - timedOutRetriesRemaining);
+        logger.info("Deleted environment with name %s and id %s and with domain id %s again, polling it in %s s.",
+                environmentName, environmentId, domainId, retryDelay.toSeconds());
+        return ProgressEvent.defaultInProgressHandler(deleted.getCallbackContext(), (int) retryDelay.toSeconds(), resourceModel);
     }
 
-    private static boolean isDeploymentTimedOut(GetEnvironmentResponse getEnvironmentResponse) {
-        return getEnvironmentResponse.lastDeployment().failureReason().code().toString().equals("408");
+    /**
+     * @return The delay before the first poll after the given retry of a deletion: doubled from the fast poll delay on
+     * every retry, up to the slow one, as a deployment that timed out again is likely to take a while.
+     */
+    private static Duration retryDelay(final int retry) {
+        final Duration retryDelay = Constants.FAST_POLL_DELAY.multipliedBy(1L << (retry - 1));
+        return retryDelay.compareTo(Constants.SLOW_POLL_DELAY) < 0 ? retryDelay : Constants.SLOW_POLL_DELAY;
     }
 }
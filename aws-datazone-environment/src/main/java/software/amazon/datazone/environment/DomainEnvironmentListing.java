@@ -0,0 +1,189 @@
+package software.amazon.datazone.environment;
+
+import lombok.NonNull;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import software.amazon.awssdk.services.datazone.model.ListEnvironmentsResponse;
+import software.amazon.awssdk.services.datazone.model.ListProjectsResponse;
+import software.amazon.awssdk.services.datazone.model.ProjectSummary;
+import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.datazone.environment.client.DataZoneClientWrapper;
+import software.amazon.datazone.environment.helper.Constants;
+import software.amazon.datazone.environment.helper.LoggerWrapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Lists the environments of every project of a domain, ListEnvironments only lists those of one project. The projects
+ * are enumerated with ListProjects, and a page of environments is listed for up to {@link #parallelism} of them at
+ * once. Each invocation returns those pages, and a continuation token with the projects left to list and where each
+ * project that is not done yet stands.
+ */
+final class DomainEnvironmentListing {
+    private final DataZoneClientWrapper dataZoneClientWrapper;
+    private final LoggerWrapper logger;
+    private final int parallelism;
+
+    DomainEnvironmentListing(final @NonNull InvocationContext context) {
+        this(context.getDataZoneClientWrapper(), context.getLogger(), Constants.DOMAIN_LIST_PARALLELISM);
+    }
+
+    DomainEnvironmentListing(final @NonNull DataZoneClientWrapper dataZoneClientWrapper,
+                             final @NonNull LoggerWrapper logger,
+                             final int parallelism) {
+        this.dataZoneClientWrapper = dataZoneClientWrapper;
+        this.logger = logger;
+        this.parallelism = parallelism;
+    }
+
+    ProgressEvent<ResourceModel, CallbackContext> list(final @NonNull ResourceModel model, final String nextToken) {
+        final ListToken token = ListToken.decode(nextToken);
+
+        // Enough projects to keep every listing busy, as long as the domain has more.
+        while (token.cursors.size() < parallelism && token.moreProjects) {
+            final ListProjectsResponse listProjectsResponse = dataZoneClientWrapper.listProjects(
+                    Translator.translateToListProjectsRequest(model, token.projectsNextToken));
+            for (final ProjectSummary project : listProjectsResponse.items()) {
+                token.cursors.addLast(new Cursor(project.id(), null));
+            }
+            token.projectsNextToken = listProjectsResponse.nextToken();
+            token.moreProjects = token.projectsNextToken != null;
+        }
+
+        final List<Cursor> batch = new ArrayList<>();
+        while (batch.size() < parallelism && !token.cursors.isEmpty()) {
+            batch.add(token.cursors.pollFirst());
+        }
+        final List<ListEnvironmentsResponse> pages = listEnvironments(model, batch);
+
+        final List<ResourceModel> models = new ArrayList<>();
+        // Projects with more pages are listed again first, in the order they were listed in.
+        for (int index = batch.size() - 1; index >= 0; index--) {
+            final String projectNextToken = pages.get(index).nextToken();
+            if (projectNextToken != null) {
+                token.cursors.addFirst(new Cursor(batch.get(index).projectId, projectNextToken));
+            }
+        }
+        for (final ListEnvironmentsResponse page : pages) {
+            models.addAll(Translator.translateFromListRequest(page));
+        }
+        logger.info("Listed %d environments of %d projects, %d projects left%s.", models.size(), batch.size(),
+                token.cursors.size(), token.moreProjects ? " and more to enumerate" : "");
+
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .resourceModels(models)
+                .nextToken(token.encode())
+                .status(OperationStatus.SUCCESS)
+                .build();
+    }
+
+    /**
+     * @return A page of environments of every project of the batch, in the order of the batch.
+     */
+    private List<ListEnvironmentsResponse> listEnvironments(final ResourceModel model, final List<Cursor> batch) {
+        if (batch.isEmpty()) {
+            return List.of();
+        }
+        final List<Callable<ListEnvironmentsResponse>> calls = new ArrayList<>();
+        for (final Cursor cursor : batch) {
+            calls.add(() -> dataZoneClientWrapper.listEnvironment(
+                    Translator.translateToListRequest(model, cursor.projectId, cursor.nextToken)));
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(batch.size());
+        try {
+            final List<ListEnvironmentsResponse> pages = new ArrayList<>();
+            for (final Future<ListEnvironmentsResponse> page : executor.invokeAll(calls)) {
+                pages.add(page.get());
+            }
+            return pages;
+        } catch (final ExecutionException e) {
+            // Rethrows the Cfn exception the wrapper failed with, the same as a listing of one project.
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new CfnInternalFailureException(e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CfnInternalFailureException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Where a domain-wide listing stands: the projects to list environments of, and whether ListProjects has more.
+     */
+    static final class ListToken {
+        private String projectsNextToken;
+        private boolean moreProjects;
+        private final Deque<Cursor> cursors = new ArrayDeque<>();
+
+        /**
+         * @param nextToken The token of the previous response, null for the first one.
+         */
+        static ListToken decode(final String nextToken) {
+            final ListToken token = new ListToken();
+            if (nextToken == null) {
+                token.moreProjects = true;
+                return token;
+            }
+            try {
+                final JSONObject json = new JSONObject(new String(Base64.getUrlDecoder().decode(nextToken), StandardCharsets.UTF_8));
+                token.projectsNextToken = json.optString("projects", null);
+                token.moreProjects = token.projectsNextToken != null;
+                final JSONArray cursors = json.getJSONArray("cursors");
+                for (int index = 0; index < cursors.length(); index++) {
+                    final JSONObject cursor = cursors.getJSONObject(index);
+                    token.cursors.addLast(new Cursor(cursor.getString("projectId"), cursor.optString("nextToken", null)));
+                }
+                return token;
+            } catch (final IllegalArgumentException | JSONException e) {
+                throw new CfnInvalidRequestException(String.format("Invalid next token %s", nextToken), e);
+            }
+        }
+
+        /**
+         * @return The token of the rest of the listing, null when it is done.
+         */
+        String encode() {
+            if (cursors.isEmpty() && !moreProjects) {
+                return null;
+            }
+            final JSONArray json = new JSONArray();
+            for (final Cursor cursor : cursors) {
+                json.put(new JSONObject()
+                        .put("projectId", cursor.projectId)
+                        .putOpt("nextToken", cursor.nextToken));
+            }
+            final String encoded = new JSONObject()
+                    .putOpt("projects", projectsNextToken)
+                    .put("cursors", json)
+                    .toString();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(encoded.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static final class Cursor {
+        private final String projectId;
+        private final String nextToken;
+
+        private Cursor(final String projectId, final String nextToken) {
+            this.projectId = projectId;
+            this.nextToken = nextToken;
+        }
+    }
+}
@@ -1,16 +1,11 @@
 package software.amazon.datazone.environment;
 
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.ListEnvironmentsRequest;
 import software.amazon.awssdk.services.datazone.model.ListEnvironmentsResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.datazone.environment.client.DataZoneClientWrapper;
-import software.amazon.datazone.environment.helper.LoggerWrapper;
 
 import java.util.List;
 
@@ -21,15 +16,13 @@ public class ListHandler extends BaseHandlerStd {
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-
-        // Initialize
-        this.logger = new LoggerWrapper(externalLogger);
-        this.dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
+            final InvocationContext context) {
+        if (Translator.isDomainWideList(request.getDesiredResourceState())) {
+            return new DomainEnvironmentListing(context).list(request.getDesiredResourceState(), request.getNextToken());
+        }
 
         final ListEnvironmentsRequest listEnvironmentsRequest = Translator.translateToListRequest(request.getDesiredResourceState(), request.getNextToken());
-        ListEnvironmentsResponse listEnvironmentsResponse = dataZoneClientWrapper.listEnvironment(listEnvironmentsRequest);
+        ListEnvironmentsResponse listEnvironmentsResponse = context.getDataZoneClientWrapper().listEnvironment(listEnvironmentsRequest);
         String nextToken = listEnvironmentsResponse.nextToken();
 
         final List<ResourceModel> models = Translator.translateFromListRequest(listEnvironmentsResponse);
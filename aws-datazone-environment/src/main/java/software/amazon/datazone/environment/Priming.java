@@ -0,0 +1,230 @@
+package software.amazon.datazone.environment;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.services.datazone.DataZoneClient;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.HandlerRequest;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.datazone.environment.client.DataZoneClientBuilder;
+import software.amazon.datazone.environment.client.HttpClientSettings;
+import software.amazon.datazone.environment.helper.LoggerWrapper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Warms what the first invocation of a cold container would otherwise pay for, ahead of it: it builds the DataZone
+ * client and its http client, runs a read through the handler, the SDK marshalling, signing and error unmarshalling
+ * included, round trips a request and a response through the serializer of the wrapper, and loads and validates
+ * against the resource schema.
+ * <p>
+ * Priming makes no call to DataZone and opens no connection: the read is answered with a not found by an http client
+ * in memory, and the calls are signed with placeholder credentials. Nothing a snapshot of the primed container holds
+ * goes stale by the time it is restored, which makes it safe to prime before a checkpoint, e.g. the one of Lambda
+ * SnapStart. Priming is registered by the Lambda entrypoint of the provider, {@link HandlerWrapperWithPriming}, and
+ * {@value #PRIMING} selects when it primes: {@code checkpoint}, the default, only before a checkpoint, {@code init} also
+ * when the entrypoint is loaded, i.e. in the init phase of a regular cold start, and {@code off} never.
+ */
+public final class Priming implements Resource {
+    public static final String PRIMING = "DATAZONE_PRIMING";
+
+    private static final String DOMAIN_ID = "dzd_priming";
+    private static final String PRIMING_ID = "priming";
+    private static final String CHECKPOINT = "checkpoint";
+    private static final Logger DISCARDING_LOGGER = message -> {
+    };
+
+    // The global context only holds on to the resource weakly, this reference keeps it registered.
+    private static Priming registered;
+
+    private final Logger logger;
+
+    private Priming(final Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Registers the priming with the checkpoint of the container, once, and primes right away when asked to prime on
+     * init.
+     *
+     * @param logger Where priming reports the time it took and the steps it skipped.
+     */
+    public static synchronized void register(final Logger logger) {
+        if (registered != null) {
+            return;
+        }
+        registered = new Priming(logger);
+        final String mode = mode(System.getenv(PRIMING), logger);
+        if ("off".equals(mode)) {
+            return;
+        } else if ("init".equals(mode)) {
+            registered.primeAndLog();
+        }
+        Core.getGlobalContext().register(registered);
+    }
+
+    /**
+     * @param value The value of {@value #PRIMING}, null when it is not set.
+     * @param logger Where an invalid value is reported.
+     * @return The priming mode, {@code checkpoint} when the value is not set or not valid. An invalid value is logged
+     * rather than thrown: it must not keep the handlers from loading.
+     */
+    static String mode(final String value, final Logger logger) {
+        if (value == null) {
+            return CHECKPOINT;
+        }
+        final String mode = value.toLowerCase(Locale.ROOT);
+        switch (mode) {
+            case "off":
+            case "init":
+            case CHECKPOINT:
+                return mode;
+            default:
+                new LoggerWrapper(logger).error("Invalid value %s for %s, expected checkpoint, init or off, priming before a checkpoint",
+                        value, PRIMING);
+                return CHECKPOINT;
+        }
+    }
+
+    /**
+     * Primes the handlers. A step that fails is skipped, priming only ever makes the first invocation faster.
+     *
+     * @param logger Where the steps that were skipped are reported.
+     * @return The time priming took.
+     */
+    public static Duration prime(final Logger logger) {
+        return prime(logger, new NotFoundHttpClient());
+    }
+
+    /**
+     * @param httpClient Answers the calls of the read, without a connection.
+     */
+    static Duration prime(final Logger logger, final SdkHttpClient httpClient) {
+        final long start = System.nanoTime();
+        final ResourceModel model = ResourceModel.builder()
+                .id(PRIMING_ID)
+                .domainId(DOMAIN_ID)
+                .build();
+        primeStep(logger, "http client", () -> DataZoneClientBuilder.getClient().close());
+        primeStep(logger, "read", () -> primeRead(model, httpClient));
+        primeStep(logger, "serializer", () -> primeSerializer(model));
+        primeStep(logger, "schema", () -> primeSchema(model));
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    @Override
+    public void beforeCheckpoint(final Context<? extends Resource> context) {
+        primeAndLog();
+    }
+
+    @Override
+    public void afterRestore(final Context<? extends Resource> context) {
+        // Nothing to refresh: priming keeps no connection, credentials or time of its own across the checkpoint.
+    }
+
+    private static void primeRead(final ResourceModel model, final SdkHttpClient httpClient) {
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+                new Credentials("priming", "priming", "priming"), () -> Duration.ofMinutes(1).toMillis());
+        try (DataZoneClient client = DataZoneClientBuilder.getClient(HttpClientSettings.fromEnvironment(), httpClient)) {
+            new ReadHandler().handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder()
+                            .desiredResourceState(model)
+                            .build(),
+                    new CallbackContext(), proxy.newProxy(() -> client), DISCARDING_LOGGER);
+        } catch (final CfnNotFoundException expected) {
+            // The read ends in the not found, what it loaded on the way there is what priming is after. Any other
+            // failure is one of the path the read takes, and the step is skipped.
+        }
+    }
+
+    private static void primeSerializer(final ResourceModel model) throws Exception {
+        final Serializer serializer = new Serializer();
+        // The context of a stabilization callback, so that its (de)serializer is built too.
+        final CallbackContext callbackContext = CallbackContext.builder()
+                .environmentId(PRIMING_ID)
+                .domainId(PRIMING_ID)
+                .stabilizationRetriesRemaining(1)
+                .build();
+        final String request = String.format("{\"action\":\"READ\",\"requestData\":{\"resourceProperties\":%s},\"callbackContext\":%s}",
+                serializer.serialize(model), serializer.serialize(callbackContext));
+        serializer.deserialize(request, new TypeReference<HandlerRequest<ResourceModel, CallbackContext>>() {
+        });
+        serializer.serialize(ProgressEvent.progress(model, callbackContext));
+        serializer.serialize(ProgressEvent.defaultSuccessHandler(model));
+    }
+
+    private static void primeSchema(final ResourceModel model) {
+        // Compiles the schema the desired state of the first invocations is validated against.
+        ResourceModelValidator.getInstance().violations(model);
+    }
+
+    private static void primeStep(final Logger logger, final String step, final Step primer) {
+        try {
+            primer.run();
+        } catch (final Exception | LinkageError exception) {
+            new LoggerWrapper(logger).error("Skipped priming the %s of %s: %s", step, ResourceModel.TYPE_NAME, exception);
+        }
+    }
+
+    private void primeAndLog() {
+        new LoggerWrapper(logger).info("Primed the %s handlers in %d ms", ResourceModel.TYPE_NAME, prime(logger).toMillis());
+    }
+
+    @FunctionalInterface
+    private interface Step {
+        void run() throws Exception;
+    }
+
+    /**
+     * Answers every request with the not found of DataZone, without a connection.
+     */
+    private static final class NotFoundHttpClient implements SdkHttpClient {
+        private static final byte[] BODY = "{\"message\":\"Priming\"}".getBytes(StandardCharsets.UTF_8);
+
+        @Override
+        public ExecutableHttpRequest prepareRequest(final HttpExecuteRequest request) {
+            return new ExecutableHttpRequest() {
+                @Override
+                public HttpExecuteResponse call() {
+                    return HttpExecuteResponse.builder()
+                            .response(SdkHttpFullResponse.builder()
+                                    .statusCode(404)
+                                    .putHeader("Content-Type", "application/json")
+                                    .putHeader("x-amzn-ErrorType", "ResourceNotFoundException")
+                                    .build())
+                            .responseBody(AbortableInputStream.create(new ByteArrayInputStream(BODY)))
+                            .build();
+                }
+
+                @Override
+                public void abort() {
+                }
+            };
+        }
+
+        @Override
+        public String clientName() {
+            return "Priming";
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
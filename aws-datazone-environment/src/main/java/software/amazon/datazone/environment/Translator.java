@@ -8,6 +8,7 @@ import software.amazon.awssdk.services.datazone.model.GetEnvironmentRequest;
 import software.amazon.awssdk.services.datazone.model.GetEnvironmentResponse;
 import software.amazon.awssdk.services.datazone.model.ListEnvironmentsRequest;
 import software.amazon.awssdk.services.datazone.model.ListEnvironmentsResponse;
+import software.amazon.awssdk.services.datazone.model.ListProjectsRequest;
 import software.amazon.awssdk.services.datazone.model.UpdateEnvironmentRequest;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 
@@ -67,7 +68,7 @@ public class Translator {
      * @param getEnvironmentResponse the aws service describe resource response
      * @return model resource model
      */
-    static ResourceModel translateFromReadResponse(final GetEnvironmentResponse getEnvironmentResponse) {
+    public static ResourceModel translateFromReadResponse(final GetEnvironmentResponse getEnvironmentResponse) {
         return ResourceModel.builder()
                 .awsAccountId(getEnvironmentResponse.awsAccountId())
                 .awsAccountRegion(getEnvironmentResponse.awsAccountRegion())
@@ -131,21 +132,58 @@ public class Translator {
      * @param nextToken token passed to the aws service list resources request
      * @return ListEnvironmentsRequest the aws DataZone request to list resources within aws account
      */
-    static ListEnvironmentsRequest translateToListRequest(final ResourceModel model, final String nextToken) {
+    public static ListEnvironmentsRequest translateToListRequest(final ResourceModel model, final String nextToken) {
         return ListEnvironmentsRequest.builder()
                 .domainIdentifier(getDomainId(model))
-                .projectIdentifier(model.getProjectIdentifier())
+                .projectIdentifier(getProjectId(model))
+                .nextToken(nextToken)
+                .build();
+    }
+
+    /**
+     * Request to list the environments of one project of a domain-wide listing
+     *
+     * @param model     resource model
+     * @param projectId the project to list the environments of
+     * @param nextToken token passed to the aws service list resources request
+     * @return ListEnvironmentsRequest the aws DataZone request to list the environments of the project
+     */
+    public static ListEnvironmentsRequest translateToListRequest(final ResourceModel model, final String projectId, final String nextToken) {
+        return ListEnvironmentsRequest.builder()
+                .domainIdentifier(getDomainId(model))
+                .projectIdentifier(projectId)
                 .nextToken(nextToken)
                 .build();
     }
 
+    /**
+     * Request to list the projects of the domain, for a domain-wide listing
+     *
+     * @param model     resource model
+     * @param nextToken token passed to the aws service list projects request
+     * @return ListProjectsRequest the aws DataZone request to list the projects of the domain
+     */
+    static ListProjectsRequest translateToListProjectsRequest(final ResourceModel model, final String nextToken) {
+        return ListProjectsRequest.builder()
+                .domainIdentifier(getDomainId(model))
+                .nextToken(nextToken)
+                .build();
+    }
+
+    /**
+     * @return Whether the model lists the environments of every project of its domain, it names no project.
+     */
+    static boolean isDomainWideList(final ResourceModel model) {
+        return StringUtils.isNullOrEmpty(getProjectId(model));
+    }
+
     /**
      * Translates resource objects from sdk into a resource model (primary identifier only)
      *
      * @param listEnvironmentsResponse the aws service describe resource response
      * @return list of resource models
      */
-    static List<ResourceModel> translateFromListRequest(final ListEnvironmentsResponse listEnvironmentsResponse) {
+    public static List<ResourceModel> translateFromListRequest(final ListEnvironmentsResponse listEnvironmentsResponse) {
         return streamOfOrEmpty(listEnvironmentsResponse.items())
                 .map(environmentSummary -> ResourceModel.builder()
                         .awsAccountId(environmentSummary.awsAccountId())
@@ -175,6 +213,10 @@ public class Translator {
         return Optional.ofNullable(model.getDomainIdentifier()).orElse(model.getDomainId());
     }
 
+    private static String getProjectId(ResourceModel model) {
+        return Optional.ofNullable(model.getProjectIdentifier()).orElse(model.getProjectId());
+    }
+
     private static void validateRequiredInputs(ResourceModel desiredResourceState) {
 
         if (StringUtils.isNullOrEmpty(desiredResourceState.getDomainIdentifier())) {
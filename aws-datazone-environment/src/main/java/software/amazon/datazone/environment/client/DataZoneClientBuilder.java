@@ -1,13 +1,72 @@
 package software.amazon.datazone.environment.client;
 
+import lombok.NonNull;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.cloudformation.LambdaWrapper;
 
 public class DataZoneClientBuilder {
 
     public static DataZoneClient getClient() {
-        return DataZoneClient.builder()
-                .httpClient(LambdaWrapper.HTTP_CLIENT)
+        return getClient(HttpClientHolder.SETTINGS, HttpClientHolder.HTTP_CLIENT);
+    }
+
+    /**
+     * @return A client whose calls are recorded into the cost and the metrics of one handler invocation.
+     */
+    public static DataZoneClient getClient(final @NonNull InvocationCost invocationCost,
+                                           final @NonNull OperationMetricsPublisher operationMetrics) {
+        return getClient(HttpClientHolder.SETTINGS, HttpClientHolder.HTTP_CLIENT,
+                recordingInto(overrideConfiguration(HttpClientHolder.SETTINGS), invocationCost, operationMetrics));
+    }
+
+    public static DataZoneClient getClient(final @NonNull HttpClientSettings settings, final @NonNull SdkHttpClient httpClient) {
+        return getClient(settings, httpClient, overrideConfiguration(settings));
+    }
+
+    private static DataZoneClient getClient(final HttpClientSettings settings, final SdkHttpClient httpClient,
+                                            final ClientOverrideConfiguration overrideConfiguration) {
+        final var builder = DataZoneClient.builder()
+                .httpClient(httpClient)
+                .overrideConfiguration(overrideConfiguration);
+        if (settings.getEndpointOverride() != null) {
+            builder.endpointOverride(settings.getEndpointOverride());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Adds the timeouts and retries of the {@link OperationProfile}s and the recording of the {@link InvocationCost} to
+     * the configuration from the settings.
+     */
+    static ClientOverrideConfiguration overrideConfiguration(final HttpClientSettings settings) {
+        return settings.overrideConfiguration().toBuilder()
+                .retryPolicy(OperationProfile.RETRY_POLICY)
+                .addExecutionInterceptor(new OperationProfileInterceptor(settings.getApiCallAttemptTimeout()))
+                .addExecutionInterceptor(new InvocationCostInterceptor())
+                .build();
+    }
+
+    /**
+     * Records the calls made with the configuration into the cost and the metrics of one invocation, and of no other
+     * invocation the container runs at the same time.
+     */
+    private static ClientOverrideConfiguration recordingInto(final ClientOverrideConfiguration overrideConfiguration,
+                                                             final InvocationCost invocationCost,
+                                                             final OperationMetricsPublisher operationMetrics) {
+        return overrideConfiguration.toBuilder()
+                .putExecutionAttribute(InvocationCost.INVOCATION_COST, invocationCost)
+                .addMetricPublisher(operationMetrics)
                 .build();
     }
+
+    /**
+     * Holds the settings and the http client built from them, so that both are only created once per container and
+     * reused across invocations, the same way as {@link LambdaWrapper#HTTP_CLIENT}.
+     */
+    private static class HttpClientHolder {
+        private static final HttpClientSettings SETTINGS = HttpClientSettings.fromEnvironment();
+        private static final SdkHttpClient HTTP_CLIENT = SETTINGS.createHttpClient();
+    }
 }
@@ -17,6 +17,8 @@ import software.amazon.awssdk.services.datazone.model.GetEnvironmentResponse;
 import software.amazon.awssdk.services.datazone.model.InternalServerException;
 import software.amazon.awssdk.services.datazone.model.ListEnvironmentsRequest;
 import software.amazon.awssdk.services.datazone.model.ListEnvironmentsResponse;
+import software.amazon.awssdk.services.datazone.model.ListProjectsRequest;
+import software.amazon.awssdk.services.datazone.model.ListProjectsResponse;
 import software.amazon.awssdk.services.datazone.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.datazone.model.ServiceQuotaExceededException;
 import software.amazon.awssdk.services.datazone.model.ThrottlingException;
@@ -96,6 +98,12 @@ public class DataZoneClientWrapper {
         }
     }
 
+    public ListProjectsResponse listProjects(ListProjectsRequest listProjectsRequest) {
+        try (final var client = proxyClient.client()) {
+            return executeCall(EnvironmentOperation.LIST_PROJECTS, listProjectsRequest, client::listProjects, listProjectsRequest.domainIdentifier(), proxyClient);
+        }
+    }
+
     private <Request extends AwsRequest, Response extends AwsResponse> Response executeCall(
             final EnvironmentOperation operation,
             final Request request,
@@ -0,0 +1,31 @@
+package software.amazon.datazone.environment.client;
+
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+
+/**
+ * Retries what the SDK retries by default, but no more often than the {@link OperationProfile} of the operation allows,
+ * and never a create that has no client token.
+ */
+public class OperationProfileRetryCondition implements RetryCondition {
+    private final RetryCondition defaultRetryCondition = RetryCondition.defaultRetryCondition();
+
+    @Override
+    public boolean shouldRetry(final RetryPolicyContext context) {
+        final OperationProfile profile = OperationProfile.forRequest(
+                context.executionAttributes().getAttribute(SdkExecutionAttribute.OPERATION_NAME),
+                context.originalRequest());
+        return context.retriesAttempted() < profile.getMaxRetries() && defaultRetryCondition.shouldRetry(context);
+    }
+
+    @Override
+    public void requestWillNotBeRetried(final RetryPolicyContext context) {
+        defaultRetryCondition.requestWillNotBeRetried(context);
+    }
+
+    @Override
+    public void requestSucceeded(final RetryPolicyContext context) {
+        defaultRetryCondition.requestSucceeded(context);
+    }
+}
@@ -1,8 +1,20 @@
 package software.amazon.datazone.environment.helper;
 
+import java.time.Duration;
+
 public class Constants {
     public static final Integer CALLBACK_DELAY_SECONDS = 60;
-    public static final Integer MAXIMUM_STABILIZATION_ATTEMPTS = 20;
+    // Polls are as short as FAST_POLL_DELAY near the expected completion, MAXIMUM_STABILIZATION_TIME bounds the wait.
+    public static final Integer MAXIMUM_STABILIZATION_ATTEMPTS = 120;
+    public static final Duration MAXIMUM_STABILIZATION_TIME = Duration.ofMinutes(20);
     public static final Integer MAXIMUM_TIMEOUT_ATTEMPTS = 5;
+    public static final Duration INLINE_STABILIZATION_BUDGET = Duration.ofSeconds(30);
+    public static final Duration INVOCATION_SAFETY_MARGIN = Duration.ofSeconds(10);
+    public static final Duration FAST_POLL_DELAY = Duration.ofSeconds(10);
+    public static final Duration SLOW_POLL_DELAY = Duration.ofSeconds(60);
+    // Until a deployment of the same blueprint completed in this container.
+    public static final Duration EXPECTED_DEPLOYMENT_TIME = Duration.ofMinutes(3);
+    // Projects whose environments a domain-wide listing lists at once, and per invocation.
+    public static final int DOMAIN_LIST_PARALLELISM = 4;
     public static final String INVALID_STATUS_ERROR = "Received invalid status for environment %s, status %s";
 }
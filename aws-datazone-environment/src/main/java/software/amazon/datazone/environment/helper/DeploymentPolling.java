@@ -0,0 +1,131 @@
+package software.amazon.datazone.environment.helper;
+
+import lombok.NonNull;
+import software.amazon.awssdk.services.datazone.model.Deployment;
+import software.amazon.awssdk.services.datazone.model.DeploymentStatus;
+import software.amazon.awssdk.services.datazone.model.GetEnvironmentResponse;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides when to poll an environment in a transient status again, from what its last deployment reports: slowly while
+ * the deployment is pending or far from its expected completion, quickly once it is near. The expected completion is
+ * the mean completion time of the deployments of the same blueprint and type this container saw, or
+ * {@link Constants#EXPECTED_DEPLOYMENT_TIME} until it saw one.
+ * <p>
+ * The completion time of every deployment is logged with the statistics of its blueprint, so that the polling can be
+ * tuned.
+ */
+public final class DeploymentPolling {
+    // The failure code of a deployment that did not complete in time.
+    private static final String DEPLOYMENT_TIMED_OUT = "408";
+    private static final DeploymentPolling INSTANCE = new DeploymentPolling();
+
+    private final Map<String, CompletionTimes> completionTimes = new ConcurrentHashMap<>();
+
+    DeploymentPolling() {
+    }
+
+    public static DeploymentPolling getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param initialDeploymentId The last deployment of the environment before the operation, null for a create.
+     * @return Whether the deployment is one of the operation the handler waits for, and ended in a failure. The status
+     * of the environment may not show it yet, there is nothing left to wait for. The deployment the environment had
+     * before the operation may be the failed one of an earlier operation, it does not fail this one.
+     */
+    public static boolean isTerminalFailure(final Deployment deployment, final String initialDeploymentId) {
+        return deployment != null && !Objects.equals(deployment.deploymentId(), initialDeploymentId)
+                && (deployment.deploymentStatus() == DeploymentStatus.FAILED
+                || Boolean.TRUE.equals(deployment.isDeploymentComplete()) && deployment.failureReason() != null);
+    }
+
+    /**
+     * @return Whether the deployment failed because it timed out, it may succeed when run again.
+     */
+    public static boolean isTimedOut(final Deployment deployment) {
+        return deployment != null && deployment.failureReason() != null
+                && DEPLOYMENT_TIMED_OUT.equals(deployment.failureReason().code());
+    }
+
+    /**
+     * @param elapsed The time since the handler started waiting for the environment.
+     * @return The delay before the next poll of the environment.
+     */
+    public Duration nextPollDelay(final @NonNull GetEnvironmentResponse environment, final @NonNull Duration elapsed) {
+        final Deployment deployment = environment.lastDeployment();
+        if (deployment == null || deployment.deploymentStatus() != DeploymentStatus.IN_PROGRESS) {
+            // Pending, or no deployment to go by: provisioning has not started yet.
+            return Constants.SLOW_POLL_DELAY;
+        }
+        final Duration remaining = expectedCompletionTime(environment).minus(elapsed);
+        final Duration delay = remaining.dividedBy(2);
+        if (delay.compareTo(Constants.FAST_POLL_DELAY) < 0) {
+            return Constants.FAST_POLL_DELAY;
+        }
+        return delay.compareTo(Constants.SLOW_POLL_DELAY) < 0 ? delay : Constants.SLOW_POLL_DELAY;
+    }
+
+    /**
+     * @return The mean completion time of the deployments of the blueprint and type of the environment seen so far.
+     */
+    public Duration expectedCompletionTime(final @NonNull GetEnvironmentResponse environment) {
+        final CompletionTimes times = completionTimes.get(key(environment));
+        return times == null ? Constants.EXPECTED_DEPLOYMENT_TIME : times.mean();
+    }
+
+    /**
+     * Records the completion time of the last deployment of the environment, and logs it with the statistics of its
+     * blueprint.
+     */
+    public void recordCompletion(final @NonNull GetEnvironmentResponse environment,
+                                 final @NonNull Duration elapsed,
+                                 final @NonNull LoggerWrapper logger) {
+        final String key = key(environment);
+        final CompletionTimes times = completionTimes.merge(key, CompletionTimes.of(elapsed), CompletionTimes::plus);
+        final Deployment deployment = environment.lastDeployment();
+        logger.info("Deployment %s of environment %s completed in %d s, deployments of %s: count %d, mean %d s, "
+                        + "min %d s, max %d s", deployment == null ? null : deployment.deploymentId(), environment.id(),
+                elapsed.toSeconds(), key, times.count, times.mean().toSeconds(), times.min.toSeconds(),
+                times.max.toSeconds());
+    }
+
+    private static String key(final GetEnvironmentResponse environment) {
+        final Deployment deployment = environment.lastDeployment();
+        return String.format("blueprint %s %s", environment.environmentBlueprintId(),
+                deployment == null ? null : deployment.deploymentTypeAsString());
+    }
+
+    private static final class CompletionTimes {
+        private final long count;
+        private final Duration total;
+        private final Duration min;
+        private final Duration max;
+
+        private CompletionTimes(final long count, final Duration total, final Duration min, final Duration max) {
+            this.count = count;
+            this.total = total;
+            this.min = min;
+            this.max = max;
+        }
+
+        private static CompletionTimes of(final Duration completionTime) {
+            return new CompletionTimes(1, completionTime, completionTime, completionTime);
+        }
+
+        private CompletionTimes plus(final CompletionTimes other) {
+            return new CompletionTimes(count + other.count, total.plus(other.total),
+                    min.compareTo(other.min) < 0 ? min : other.min,
+                    max.compareTo(other.max) > 0 ? max : other.max);
+        }
+
+        private Duration mean() {
+            return total.dividedBy(count);
+        }
+    }
+}
@@ -8,7 +8,8 @@ public enum EnvironmentOperation {
     GET_ENVIRONMENT("GetEnvironment"),
     UPDATE_ENVIRONMENT("UpdateEnvironment"),
     DELETE_ENVIRONMENT("DeleteEnvironment"),
-    LIST_ENVIRONMENTS("ListEnvironments");
+    LIST_ENVIRONMENTS("ListEnvironments"),
+    LIST_PROJECTS("ListProjects");
 
     private final String name;
 
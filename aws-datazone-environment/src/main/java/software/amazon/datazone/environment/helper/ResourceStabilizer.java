@@ -13,16 +13,34 @@ import software.amazon.datazone.environment.ResourceModel;
 import software.amazon.datazone.environment.Translator;
 import software.amazon.datazone.environment.client.DataZoneClientWrapper;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
 import static software.amazon.datazone.environment.helper.Constants.INVALID_STATUS_ERROR;
 import static software.amazon.datazone.environment.helper.Constants.MAXIMUM_STABILIZATION_ATTEMPTS;
+import static software.amazon.datazone.environment.helper.Constants.MAXIMUM_STABILIZATION_TIME;
 
 @AllArgsConstructor
 public class ResourceStabilizer {
     private final DataZoneClientWrapper dataZoneClientWrapper;
     private final LoggerWrapper logger;
+    private final TimeBudget timeBudget;
+    private final DeploymentPolling deploymentPolling = DeploymentPolling.getInstance();
 
     public ProgressEvent<ResourceModel, CallbackContext> stabilizeResource(final @NonNull ResourceModel model,
                                                                            final @NonNull CallbackContext callbackContext) {
+        return stabilizeResource(model, callbackContext, null);
+    }
+
+    /**
+     * @param onDeploymentTimedOut Called with the environment when its deployment failed with a time out, instead of
+     *                             failing the stabilization. Null to fail it as any other deployment failure.
+     */
+    public ProgressEvent<ResourceModel, CallbackContext> stabilizeResource(
+            final @NonNull ResourceModel model,
+            final @NonNull CallbackContext callbackContext,
+            final Function<GetEnvironmentResponse, ProgressEvent<ResourceModel, CallbackContext>> onDeploymentTimedOut) {
         String environmentName = model.getName();
         String environmentId = model.getId();
         String domainId = model.getDomainIdentifier();
@@ -31,16 +49,34 @@ public class ResourceStabilizer {
 
         // Get the environment using getEnvironment call
         GetEnvironmentResponse getEnvironmentResponse = dataZoneClientWrapper.getEnvironment(Translator.translateToReadRequest(model));
+        // Only a deployment the handler waited for says how long deployments take.
+        boolean waited = callbackContext.getStabilizationStartedAt() != null;
+        if (!waited) {
+            callbackContext.setStabilizationStartedAt(Instant.now().toEpochMilli());
+        }
+        // Wait in-process while the status is transient and the invocation has time left, a callback to
+        // CloudFormation costs a full re-invocation. How long to wait follows the progress of the last deployment.
+        Duration pollDelay = deploymentPolling.nextPollDelay(getEnvironmentResponse, elapsed(callbackContext));
+        while (isInProgress(getEnvironmentResponse, callbackContext) && timeBudget.waitFor(pollDelay)) {
+            waited = true;
+            getEnvironmentResponse = dataZoneClientWrapper.getEnvironment(Translator.translateToReadRequest(model));
+            logger.info("Environment with name %s and id %s is %s after waiting %s ms in-process.", environmentName, environmentId,
+                    getEnvironmentResponse.status(), pollDelay.toMillis());
+            pollDelay = deploymentPolling.nextPollDelay(getEnvironmentResponse, elapsed(callbackContext));
+        }
 
         // Validate the current status for the environment
         EnvironmentStatus status = getEnvironmentResponse.status();
         if (DataZoneClientWrapper.STABILIZED_ENVIRONMENT_STATUS.contains(status)) {
+            if (waited) {
+                deploymentPolling.recordCompletion(getEnvironmentResponse, elapsed(callbackContext), logger);
+            }
             logger.info("Environment with name %s and id %s and with domain id %s is stabilized.",
                     environmentName, environmentId, domainId);
             return ProgressEvent.progress(model, callbackContext);
-        } else if (DataZoneClientWrapper.TRANSIENT_ENVIRONMENT_STATUS.contains(status)) {
+        } else if (isInProgress(getEnvironmentResponse, callbackContext)) {
             final Integer stabilizationRetriesRemaining = callbackContext.getStabilizationRetriesRemaining() - 1;
-            if (stabilizationRetriesRemaining == 0) {
+            if (stabilizationRetriesRemaining == 0 || elapsed(callbackContext).compareTo(MAXIMUM_STABILIZATION_TIME) >= 0) {
                 logger.info("Failed to stabilize environment with name %s, id %s and with domain id %s, status %s after %s retries.",
                         environmentName, environmentId, domainId, status, MAXIMUM_STABILIZATION_ATTEMPTS);
                 String errorMessage = String.format("Environment %s with id %s and domain id %s failed to stabilize after all attempts, error %s",
@@ -50,10 +86,23 @@ public class ResourceStabilizer {
             return ProgressEvent.defaultInProgressHandler(CallbackContext.builder()
                             .stabilizationRetriesRemaining(stabilizationRetriesRemaining)
                             .timeOutRetriesRemaining(callbackContext.getTimeOutRetriesRemaining())
-                            .environmentSummary(callbackContext.getEnvironmentSummary())
+                            .environmentId(callbackContext.getEnvironmentId())
+                            .domainId(callbackContext.getDomainId())
+                            .stabilizationStartedAt(callbackContext.getStabilizationStartedAt())
+                            .initialDeploymentId(callbackContext.getInitialDeploymentId())
                             .build(),
-                    Constants.CALLBACK_DELAY_SECONDS, model);
-        } else if (DataZoneClientWrapper.FAILED_ENVIRONMENT_STATUS.contains(status)) {
+                    (int) pollDelay.toSeconds(), model);
+        } else if (DataZoneClientWrapper.FAILED_ENVIRONMENT_STATUS.contains(status)
+                || failedAheadOfStatus(getEnvironmentResponse, callbackContext)) {
+            // A failed deployment of this operation may show before the status of the environment does, there is
+            // nothing to wait for. A timed out one is left to the caller once the environment has failed only, it may
+            // still be working on it until then.
+            if (onDeploymentTimedOut != null && DataZoneClientWrapper.FAILED_ENVIRONMENT_STATUS.contains(status)
+                    && DeploymentPolling.isTimedOut(getEnvironmentResponse.lastDeployment())) {
+                logger.info("Deployment of environment with name %s and id %s and with domain id %s timed out, status %s.",
+                        environmentName, environmentId, domainId, status);
+                return onDeploymentTimedOut.apply(getEnvironmentResponse);
+            }
             logger.info("Failed to stabilize environment with name %s and id %s and with domain id %s, status %s, deployment status",
                     environmentName, environmentId, domainId, status, getEnvironmentResponse.lastDeployment());
             String errorMessage = String.format("Environment %s with id %s and domain id %s failed to stabilize due to internal failure, last deployment status %s",
@@ -66,4 +115,20 @@ public class ResourceStabilizer {
         String invalidStatusErrorMessage = String.format(INVALID_STATUS_ERROR, environmentName, status.toString());
         throw new CfnInternalFailureException(new RuntimeException(invalidStatusErrorMessage));
     }
+
+    private static boolean isInProgress(final GetEnvironmentResponse getEnvironmentResponse,
+                                        final CallbackContext callbackContext) {
+        return DataZoneClientWrapper.TRANSIENT_ENVIRONMENT_STATUS.contains(getEnvironmentResponse.status())
+                && !failedAheadOfStatus(getEnvironmentResponse, callbackContext);
+    }
+
+    private static boolean failedAheadOfStatus(final GetEnvironmentResponse getEnvironmentResponse,
+                                               final CallbackContext callbackContext) {
+        return DeploymentPolling.isTerminalFailure(getEnvironmentResponse.lastDeployment(), callbackContext.getInitialDeploymentId())
+                && !DeploymentPolling.isTimedOut(getEnvironmentResponse.lastDeployment());
+    }
+
+    private static Duration elapsed(final CallbackContext callbackContext) {
+        return Duration.ofMillis(Instant.now().toEpochMilli() - callbackContext.getStabilizationStartedAt());
+    }
 }
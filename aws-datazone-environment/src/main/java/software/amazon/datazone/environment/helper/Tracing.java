@@ -0,0 +1,241 @@
+package software.amazon.datazone.environment.helper;
+
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Stage level tracing of the handler chains. Every handler invocation is a trace, with a span per {@code .then} stage
+ * and per {@code proxy.initiate} call chain, nested the way they were called. Traces are only recorded when
+ * {@value #TRACE_FILE} is set, and are then appended to that file, one OTLP/JSON export request per line, so slow
+ * invocations can be analysed offline with any OpenTelemetry compatible tool.
+ */
+public final class Tracing {
+    public static final String TRACE_FILE = "DATAZONE_TRACE_FILE";
+    private static final String TRACE_FILE_PATH = System.getenv(TRACE_FILE);
+    private static final ThreadLocal<Trace> CURRENT_TRACE = new ThreadLocal<>();
+
+    private Tracing() {
+    }
+
+    /**
+     * Starts the trace of a handler invocation, and its root span.
+     *
+     * @param serviceName The resource type, e.g. AWS::DataZone::Environment.
+     * @param name        The name of the root span, e.g. the handler.
+     * @param attributes  The attributes of the root span.
+     */
+    public static void start(final String serviceName, final String name, final Map<String, String> attributes) {
+        if (TRACE_FILE_PATH != null && !TRACE_FILE_PATH.isBlank()) {
+            start(serviceName, name, attributes, line -> appendToTraceFile(Paths.get(TRACE_FILE_PATH), line));
+        }
+    }
+
+    static void start(final String serviceName,
+                      final String name,
+                      final Map<String, String> attributes,
+                      final ExportFunction exporter) {
+        final Trace trace = new Trace(serviceName, exporter);
+        trace.open(name).attributes.putAll(attributes);
+        CURRENT_TRACE.set(trace);
+    }
+
+    /**
+     * Ends the root span with the outcome of the invocation and exports the trace.
+     *
+     * @param progressEvent The result of the invocation, null when it failed with an exception.
+     * @param errorLog      Receives the reason when the trace cannot be exported.
+     */
+    public static void finish(final ProgressEvent<?, ?> progressEvent, final Consumer<String> errorLog) {
+        final Trace trace = CURRENT_TRACE.get();
+        if (trace == null) {
+            return;
+        }
+        CURRENT_TRACE.remove();
+        final Span root = trace.openSpans.peekLast();
+        while (trace.openSpans.size() > 1) {
+            trace.close(trace.openSpans.peek(), null);
+        }
+        trace.close(root, progressEvent);
+        try {
+            trace.exporter.export(trace.toOtlpJson());
+        } catch (final IOException e) {
+            errorLog.accept(String.format("Failed to export the trace of %s, error %s", root.name, e));
+        }
+    }
+
+    /**
+     * Wraps a {@code .then} stage in a span.
+     *
+     * @param name  The name of the stage.
+     * @param stage The stage.
+     * @return The stage, traced.
+     */
+    public static <T, R> Function<T, R> stage(final String name, final Function<T, R> stage) {
+        return input -> span(name, () -> stage.apply(input));
+    }
+
+    /**
+     * Wraps a {@code proxy.initiate} call chain in a span named after its call graph.
+     *
+     * @param callGraph The call graph passed to {@code proxy.initiate}, e.g. AWS-DataZone-Environment::Create.
+     * @param callChain The call chain, given the call graph.
+     * @return The result of the call chain.
+     */
+    public static <T> T callChain(final String callGraph, final Function<String, T> callChain) {
+        return span(callGraph, () -> callChain.apply(callGraph));
+    }
+
+    public static <T> T span(final String name, final Supplier<T> body) {
+        final Trace trace = CURRENT_TRACE.get();
+        if (trace == null) {
+            return body.get();
+        }
+        final Span span = trace.open(name);
+        try {
+            final T result = body.get();
+            trace.close(span, result);
+            return result;
+        } catch (final RuntimeException e) {
+            span.error = true;
+            span.attributes.put("exception.type", e.getClass().getName());
+            trace.close(span, null);
+            throw e;
+        }
+    }
+
+    private static void appendToTraceFile(final Path path, final String line) throws IOException {
+        Files.write(path, (line + System.lineSeparator()).getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @FunctionalInterface
+    interface ExportFunction {
+        void export(String otlpJson) throws IOException;
+    }
+
+    private static class Trace {
+        private final String traceId = randomHex(16);
+        private final String serviceName;
+        private final ExportFunction exporter;
+        private final Deque<Span> openSpans = new ArrayDeque<>();
+        private final List<Span> spans = new ArrayList<>();
+        // Monotonic clock anchored to the wall clock once, so that span durations are immune to clock adjustments.
+        private final long epochNanosAtStart;
+        private final long nanoTimeAtStart = System.nanoTime();
+
+        private Trace(final String serviceName, final ExportFunction exporter) {
+            final Instant now = Instant.now();
+            this.epochNanosAtStart = now.getEpochSecond() * 1_000_000_000L + now.getNano();
+            this.serviceName = serviceName;
+            this.exporter = exporter;
+        }
+
+        private Span open(final String name) {
+            final Span parent = openSpans.peek();
+            final Span span = new Span(randomHex(8), parent == null ? null : parent.spanId, name, now());
+            openSpans.push(span);
+            spans.add(span);
+            return span;
+        }
+
+        private void close(final Span span, final Object result) {
+            openSpans.remove(span);
+            span.endEpochNanos = now();
+            if (result instanceof ProgressEvent) {
+                final ProgressEvent<?, ?> progressEvent = (ProgressEvent<?, ?>) result;
+                span.attributes.put("cfn.status", String.valueOf(progressEvent.getStatus()));
+                span.attributes.put("cfn.callbackDelaySeconds", String.valueOf(progressEvent.getCallbackDelaySeconds()));
+                if (progressEvent.getErrorCode() != null) {
+                    span.error = true;
+                    span.attributes.put("cfn.errorCode", progressEvent.getErrorCode().toString());
+                }
+            }
+        }
+
+        private long now() {
+            return epochNanosAtStart + System.nanoTime() - nanoTimeAtStart;
+        }
+
+        private String toOtlpJson() {
+            final StringJoiner spanJson = new StringJoiner(",");
+            for (final Span span : spans) {
+                spanJson.add(span.toOtlpJson(traceId));
+            }
+            return "{\"resourceSpans\":[{\"resource\":{\"attributes\":[" + attribute("service.name", serviceName) +
+                    "]},\"scopeSpans\":[{\"scope\":{\"name\":\"" + Tracing.class.getName() + "\"},\"spans\":[" +
+                    spanJson + "]}]}]}";
+        }
+    }
+
+    private static class Span {
+        private final String spanId;
+        private final String parentSpanId;
+        private final String name;
+        private final long startEpochNanos;
+        private final Map<String, String> attributes = new LinkedHashMap<>();
+        private long endEpochNanos;
+        private boolean error;
+
+        private Span(final String spanId, final String parentSpanId, final String name, final long startEpochNanos) {
+            this.spanId = spanId;
+            this.parentSpanId = parentSpanId;
+            this.name = name;
+            this.startEpochNanos = startEpochNanos;
+        }
+
+        private String toOtlpJson(final String traceId) {
+            final StringJoiner attributeJson = new StringJoiner(",");
+            attributes.forEach((key, value) -> attributeJson.add(attribute(key, value)));
+            // Span kind 1 is INTERNAL, status code 1 is OK and 2 is ERROR.
+            return "{\"traceId\":\"" + traceId + "\",\"spanId\":\"" + spanId + "\"," +
+                    (parentSpanId == null ? "" : "\"parentSpanId\":\"" + parentSpanId + "\",") +
+                    "\"name\":" + quote(name) + ",\"kind\":1," +
+                    "\"startTimeUnixNano\":\"" + startEpochNanos + "\",\"endTimeUnixNano\":\"" + endEpochNanos + "\"," +
+                    "\"attributes\":[" + attributeJson + "],\"status\":{\"code\":" + (error ? 2 : 1) + "}}";
+        }
+    }
+
+    private static String attribute(final String key, final String value) {
+        return "{\"key\":" + quote(key) + ",\"value\":{\"stringValue\":" + quote(value) + "}}";
+    }
+
+    private static String quote(final String value) {
+        final StringBuilder quoted = new StringBuilder("\"");
+        for (final char c : String.valueOf(value).toCharArray()) {
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < 0x20) {
+                quoted.append(String.format("\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    private static String randomHex(final int bytes) {
+        final StringBuilder hex = new StringBuilder();
+        for (int i = 0; i < bytes; i++) {
+            hex.append(String.format("%02x", ThreadLocalRandom.current().nextInt(256)));
+        }
+        return hex.toString();
+    }
+}
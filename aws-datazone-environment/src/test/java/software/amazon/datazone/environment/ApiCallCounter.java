@@ -0,0 +1,57 @@
+package software.amazon.datazone.environment;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the DataZone calls the handlers make through the proxy clients of {@link AbstractTestBase}, per operation,
+ * so that a test can hold a handler chain to its call budget and an extra Get or List call added to the chain fails
+ * it. A call is counted when it is made, whether it succeeds or not.
+ */
+public class ApiCallCounter {
+    private final Map<String, Integer> calls = new ConcurrentSkipListMap<>();
+
+    void record(final AwsRequest request) {
+        calls.merge(operation(request), 1, Integer::sum);
+    }
+
+    /**
+     * @return The number of calls made to the operation, e.g. {@code GetEnvironment}.
+     */
+    public int count(final String operation) {
+        return calls.getOrDefault(operation, 0);
+    }
+
+    /**
+     * @return The number of calls made to all operations.
+     */
+    public int count() {
+        return calls.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Forgets the calls counted so far, to count the calls of the next handler invocation on their own.
+     */
+    public void reset() {
+        calls.clear();
+    }
+
+    public void assertAtMost(final int budget) {
+        assertThat(count()).as("DataZone calls %s", new TreeMap<>(calls)).isLessThanOrEqualTo(budget);
+    }
+
+    public void assertAtMost(final String operation, final int budget) {
+        assertThat(count(operation)).as("%s calls of DataZone calls %s", operation, new TreeMap<>(calls))
+                .isLessThanOrEqualTo(budget);
+    }
+
+    private static String operation(final AwsRequest request) {
+        final String requestName = request.getClass().getSimpleName();
+        return requestName.endsWith("Request") ? requestName.substring(0, requestName.length() - "Request".length()) : requestName;
+    }
+}
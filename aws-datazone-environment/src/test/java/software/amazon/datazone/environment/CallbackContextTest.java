@@ -0,0 +1,46 @@
+package software.amazon.datazone.environment;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.resource.Serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CallbackContextTest extends AbstractTestBase {
+
+    @Test
+    public void testSerialize_StabilizationContext_RoundTripsWithIdsOnly() throws Exception {
+        final Serializer serializer = new Serializer();
+        final CallbackContext callbackContext = CallbackContext.builder()
+                .environmentId("envId1")
+                .domainId("domain1")
+                .timeOutRetriesRemaining(3)
+                .stabilizationRetriesRemaining(10)
+                .build();
+
+        final String json = serializer.serialize(callbackContext);
+
+        assertThat(json).doesNotContain("Summary");
+        assertThat(serializer.deserialize(json, new TypeReference<CallbackContext>() {
+        })).isEqualTo(callbackContext);
+    }
+
+    @Test
+    public void testDeserialize_LegacyContextWithEnvironmentSummary_MapsOntoIds() throws Exception {
+        final Serializer serializer = new Serializer();
+        // As serialized while the context carried the whole EnvironmentSummary.
+        final String legacyJson = "{\"stabilizationRetriesRemaining\":10,\"timeOutRetriesRemaining\":3,\"environmentSummary\":"
+                + "{\"domainId\":\"domain1\",\"id\":\"envId1\",\"name\":\"env1\",\"status\":\"CREATING\"}}";
+
+        final CallbackContext callbackContext = serializer.deserialize(legacyJson, new TypeReference<CallbackContext>() {
+        });
+
+        assertThat(callbackContext).isEqualTo(CallbackContext.builder()
+                .environmentId("envId1")
+                .domainId("domain1")
+                .timeOutRetriesRemaining(3)
+                .stabilizationRetriesRemaining(10)
+                .build());
+        assertThat(serializer.serialize(callbackContext)).doesNotContain("Summary");
+    }
+}
@@ -22,10 +22,15 @@ import java.time.Instant;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static software.amazon.datazone.environment.helper.Constants.MAXIMUM_TIMEOUT_ATTEMPTS;
 
 @ExtendWith(MockitoExtension.class)
 public class DeleteHandlerTest extends AbstractTestBase {
+    // The deployment of the deletion, the environment had another one before it.
+    private static final String DEPLOYMENT_ID = "6a2pu3t0xc7qvb";
+
 
     @Mock
     private AmazonWebServicesClientProxy proxy;
@@ -56,6 +61,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
 
         Mockito.when(sdkClient.deleteEnvironment(Mockito.any(DeleteEnvironmentRequest.class))).thenReturn(getDeleteEnvironmentResponse());
         Mockito.when(sdkClient.getEnvironment(Mockito.any(GetEnvironmentRequest.class)))
+                .thenReturn(getGetEnvironmentResponse(EnvironmentStatus.ACTIVE, currTime))
                 .thenReturn(getGetEnvironmentResponse(EnvironmentStatus.DELETING, currTime))
                 .thenReturn(getGetEnvironmentResponse(EnvironmentStatus.DELETED, currTime));
 
@@ -75,7 +81,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
     }
 
     @Test
-    public void testHandleRequest_ValidRequest_DeploymentTimesOut_ShouldRetry() {
+    public void testHandleRequest_ValidRequest_DeleteFailedAsDeploymentTimesOut_ShouldDeleteAgain() {
         final DeleteHandler handler = new DeleteHandler();
         final ResourceModel model = getResourceModelForDelete();
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
@@ -83,13 +89,54 @@ public class DeleteHandlerTest extends AbstractTestBase {
                 .build();
         Instant currTime = Instant.now();
 
-        // First we would return DELETING and then throw RNF since the resource would be deleted.
+        // First we would return DELETE_FAILED as the deployment timed out and then DELETED once deleted again.
         Mockito.when(sdkClient.deleteEnvironment(Mockito.any(DeleteEnvironmentRequest.class))).thenReturn(getDeleteEnvironmentResponse());
         Mockito.when(sdkClient.getEnvironment(Mockito.any(GetEnvironmentRequest.class)))
+                .thenReturn(getGetEnvironmentResponse(EnvironmentStatus.ACTIVE, currTime))
                 .thenReturn(getGetEnvironmentResponseBuilder(EnvironmentStatus.DELETE_FAILED, currTime)
                         .lastDeployment(getLastDeployment("408"))
                         .build())
-                .thenReturn(getGetEnvironmentResponseBuilder(EnvironmentStatus.DELETE_FAILED, currTime)
+                .thenReturn(getGetEnvironmentResponse(EnvironmentStatus.DELETED, currTime));
+
+        // make call
+        ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // assertions
+        // The timed out deletion is retried on the poll that saw it, and the new deployment is polled shortly after.
+        assertCfnResponse(response, OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(10);
+        assertThat(response.getCallbackContext().getTimeOutRetriesRemaining()).isEqualTo(MAXIMUM_TIMEOUT_ATTEMPTS - 1);
+        // The time spent stabilizing carries on through the retry rather than starting over.
+        assertThat(response.getCallbackContext().getStabilizationStartedAt()).isNotNull();
+        assertThat(response.getCallbackContext().getInitialDeploymentId()).isEqualTo(DEPLOYMENT_ID);
+        verify(sdkClient, times(2)).deleteEnvironment(Mockito.any(DeleteEnvironmentRequest.class));
+        // Read once before the first deletion and polled once, the retry already knows the deployment that timed out.
+        verify(sdkClient, times(2)).getEnvironment(Mockito.any(GetEnvironmentRequest.class));
+
+        // Make second call with the context that was received from the previous response
+        response = handler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient, logger);
+
+        // assertions
+        // This time response should be SUCCESS as the getEnvironment would have returned DELETED.
+        assertCfnResponse(response, OperationStatus.SUCCESS);
+        verify(sdkClient, times(2)).deleteEnvironment(Mockito.any(DeleteEnvironmentRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void testHandleRequest_ValidRequest_DeletingAsDeploymentTimesOut_ShouldKeepPolling() {
+        final DeleteHandler handler = new DeleteHandler();
+        final ResourceModel model = getResourceModelForDelete();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        Instant currTime = Instant.now();
+
+        // First we would return DELETING with a timed out deployment and then DELETED as the deletion went through.
+        Mockito.when(sdkClient.deleteEnvironment(Mockito.any(DeleteEnvironmentRequest.class))).thenReturn(getDeleteEnvironmentResponse());
+        Mockito.when(sdkClient.getEnvironment(Mockito.any(GetEnvironmentRequest.class)))
+                .thenReturn(getGetEnvironmentResponse(EnvironmentStatus.ACTIVE, currTime))
+                .thenReturn(getGetEnvironmentResponseBuilder(EnvironmentStatus.DELETING, currTime)
                         .lastDeployment(getLastDeployment("408"))
                         .build())
                 .thenReturn(getGetEnvironmentResponse(EnvironmentStatus.DELETED, currTime));
@@ -98,14 +145,18 @@ public class DeleteHandlerTest extends AbstractTestBase {
         ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
         // assertions
+        // The environment is still deleting, it is polled again rather than deleted again.
         assertCfnResponse(response, OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().getTimeOutRetriesRemaining()).isEqualTo(MAXIMUM_TIMEOUT_ATTEMPTS);
+        verify(sdkClient, times(1)).deleteEnvironment(Mockito.any(DeleteEnvironmentRequest.class));
+        verify(sdkClient, times(2)).getEnvironment(Mockito.any(GetEnvironmentRequest.class));
 
         // Make second call with the context that was received from the previous response
         response = handler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient, logger);
 
         // assertions
-        // This time response should be SUCCESS as the getDomain would have returned AVAILABLE.
         assertCfnResponse(response, OperationStatus.SUCCESS);
+        verify(sdkClient, times(1)).deleteEnvironment(Mockito.any(DeleteEnvironmentRequest.class));
         verify(sdkClient, atLeastOnce()).serviceName();
     }
 
@@ -121,6 +172,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
         // First we would return DELETING and then throw RNF since the resource would be deleted.
         Mockito.when(sdkClient.deleteEnvironment(Mockito.any(DeleteEnvironmentRequest.class))).thenReturn(getDeleteEnvironmentResponse());
         Mockito.when(sdkClient.getEnvironment(Mockito.any(GetEnvironmentRequest.class)))
+                .thenReturn(getGetEnvironmentResponse(EnvironmentStatus.ACTIVE, currTime))
                 .thenReturn(getGetEnvironmentResponseBuilder(EnvironmentStatus.DELETE_FAILED, currTime)
                         .lastDeployment(getLastDeployment("408"))
                         .build())
@@ -138,7 +190,11 @@ public class DeleteHandlerTest extends AbstractTestBase {
     }
 
     private static software.amazon.awssdk.services.datazone.model.Deployment getLastDeployment(String errorCode) {
-        return software.amazon.awssdk.services.datazone.model.Deployment.builder().failureReason(
+        return software.amazon.awssdk.services.datazone.model.Deployment.builder()
+                .deploymentId(DEPLOYMENT_ID)
+                .deploymentStatus(software.amazon.awssdk.services.datazone.model.DeploymentStatus.FAILED)
+                .isDeploymentComplete(true)
+                .failureReason(
                         software.amazon.awssdk.services.datazone.model.EnvironmentError.builder()
                                 .code(errorCode)
                                 .message("Environment deployment for environment timed out")
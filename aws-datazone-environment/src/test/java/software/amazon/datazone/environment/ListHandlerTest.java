@@ -8,17 +8,28 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.ListEnvironmentsRequest;
+import software.amazon.awssdk.services.datazone.model.ListEnvironmentsResponse;
+import software.amazon.awssdk.services.datazone.model.ListProjectsRequest;
+import software.amazon.awssdk.services.datazone.model.ListProjectsResponse;
+import software.amazon.awssdk.services.datazone.model.ProjectSummary;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.datazone.environment.helper.Constants;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class ListHandlerTest extends AbstractTestBase {
@@ -63,4 +74,68 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_NoProject_ListsEnvironmentsOfEveryProjectOfTheDomain() {
+        final ListHandler handler = new ListHandler();
+        final Instant currTime = Instant.now();
+        final ResourceModel model = ResourceModel.builder().domainIdentifier("domain1").build();
+
+        Mockito.when(sdkClient.listProjects(Mockito.any(ListProjectsRequest.class)))
+                .thenReturn(ListProjectsResponse.builder().items(project("project1"), project("project2"), project("project3"))
+                        .nextToken("projects2").build())
+                .thenReturn(ListProjectsResponse.builder().items(project("project4"), project("project5")).build());
+        // Two pages of environments for the second project, one for the others.
+        Mockito.when(sdkClient.listEnvironments(Mockito.any(ListEnvironmentsRequest.class))).thenAnswer(invocation -> {
+            final ListEnvironmentsRequest listEnvironmentsRequest = invocation.getArgument(0);
+            final String projectId = listEnvironmentsRequest.projectIdentifier();
+            final boolean firstPage = listEnvironmentsRequest.nextToken() == null;
+            return ListEnvironmentsResponse.builder()
+                    .items(getListEnvironmentsResponse(currTime).items().get(0).toBuilder()
+                            .id(projectId + (firstPage ? "-env1" : "-env2"))
+                            .projectId(projectId)
+                            .build())
+                    .nextToken(firstPage && "project2".equals(projectId) ? "environments2" : null)
+                    .build();
+        });
+
+        final List<String> environmentIds = new ArrayList<>();
+        ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build(),
+                new CallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isNotNull();
+        response.getResourceModels().forEach(resourceModel -> environmentIds.add(resourceModel.getId()));
+        // The first invocation lists as many projects at once as it may.
+        assertThat(environmentIds).hasSize(Constants.DOMAIN_LIST_PARALLELISM);
+
+        response = handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(model)
+                        .nextToken(response.getNextToken())
+                        .build(),
+                new CallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isNull();
+        response.getResourceModels().forEach(resourceModel -> environmentIds.add(resourceModel.getId()));
+
+        assertThat(environmentIds).containsExactly("project1-env1", "project2-env1", "project3-env1", "project4-env1",
+                "project2-env2", "project5-env1");
+        verify(sdkClient, times(2)).listProjects(Mockito.any(ListProjectsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_NoProject_InvalidNextToken_Fails() {
+        final ListHandler handler = new ListHandler();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().domainIdentifier("domain1").build())
+                .nextToken("not a token")
+                .build();
+
+        assertThrows(CfnInvalidRequestException.class,
+                () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+    }
+
+    private static ProjectSummary project(final String projectId) {
+        return ProjectSummary.builder().id(projectId).name(projectId).domainId("domain1").build();
+    }
 }
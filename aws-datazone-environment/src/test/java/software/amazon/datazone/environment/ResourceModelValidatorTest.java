@@ -0,0 +1,44 @@
+package software.amazon.datazone.environment;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ResourceModelValidatorTest extends AbstractTestBase {
+    private final ResourceModelValidator validator = ResourceModelValidator.getInstance();
+
+    @Test
+    public void testValidate_ValidModel_WithReadOnlyProperties_Passes() {
+        final ResourceModel model = ResourceModel.builder()
+                .domainIdentifier("dzd_66zup2ahl2wg4n")
+                .environmentProfileIdentifier("envProfile1")
+                .name("envName")
+                .projectIdentifier("project1")
+                // Read-only, they are not input and not validated.
+                .domainId("domain1")
+                .awsAccountId("1234")
+                .build();
+
+        assertThat(validator.violations(model)).isEmpty();
+        validator.validate(model);
+    }
+
+    @Test
+    public void testValidate_InvalidModel_ReportsAllViolations() {
+        final ResourceModel model = getResourceModelForHandlerRequest();
+        model.setName("env/name");
+        model.setProjectIdentifier(null);
+
+        // The domain identifier of the test model is not a domain id either.
+        assertThat(validator.violations(model))
+                .hasSize(3)
+                .anySatisfy(violation -> assertThat(violation).contains("ProjectIdentifier"))
+                .anySatisfy(violation -> assertThat(violation).startsWith("#/Name"))
+                .anySatisfy(violation -> assertThat(violation).startsWith("#/DomainIdentifier"));
+        assertThatThrownBy(() -> validator.validate(model))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("3 schema violation(s)");
+    }
+}
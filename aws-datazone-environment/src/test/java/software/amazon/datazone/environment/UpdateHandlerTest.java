@@ -7,9 +7,12 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.datazone.DataZoneClient;
+import software.amazon.awssdk.services.datazone.model.Deployment;
+import software.amazon.awssdk.services.datazone.model.DeploymentStatus;
 import software.amazon.awssdk.services.datazone.model.EnvironmentStatus;
 import software.amazon.awssdk.services.datazone.model.GetEnvironmentRequest;
 import software.amazon.awssdk.services.datazone.model.UpdateEnvironmentRequest;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -20,7 +23,10 @@ import java.time.Duration;
 import java.time.Instant;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateHandlerTest extends AbstractTestBase {
@@ -53,7 +59,9 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .build();
 
         Mockito.when(sdkClient.updateEnvironment(Mockito.any(UpdateEnvironmentRequest.class))).thenReturn(getUpdateEnvironmentResponse(EnvironmentStatus.UPDATING));
+        // The environment is read before the update, then polled.
         Mockito.when(sdkClient.getEnvironment(Mockito.any(GetEnvironmentRequest.class)))
+                .thenReturn(getGetEnvironmentResponse(EnvironmentStatus.ACTIVE, currTime))
                 .thenReturn(getGetEnvironmentResponse(EnvironmentStatus.UPDATING, currTime))
                 .thenReturn(getGetEnvironmentResponse(EnvironmentStatus.ACTIVE, currTime));
         ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
@@ -69,4 +77,34 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void testHandleRequest_DeploymentOfTheUpdateFailed_FailsOnTheFirstPoll() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        Instant currTime = Instant.now();
+        final ResourceModel model = getResourceModelForHandlerRequest();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        // The deployment of the update failed already, while the status still shows the environment updating.
+        Mockito.when(sdkClient.updateEnvironment(Mockito.any(UpdateEnvironmentRequest.class))).thenReturn(getUpdateEnvironmentResponse(EnvironmentStatus.UPDATING));
+        Mockito.when(sdkClient.getEnvironment(Mockito.any(GetEnvironmentRequest.class)))
+                .thenReturn(getGetEnvironmentResponse(EnvironmentStatus.ACTIVE, currTime))
+                .thenReturn(getGetEnvironmentResponseBuilder(EnvironmentStatus.UPDATING, currTime)
+                        .lastDeployment(Deployment.builder()
+                                .deploymentId("6a2pu3t0xc7qvb")
+                                .deploymentType("UPDATE")
+                                .deploymentStatus(DeploymentStatus.FAILED)
+                                .isDeploymentComplete(true)
+                                .build())
+                        .build());
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
+                .isInstanceOf(CfnNotStabilizedException.class);
+        verify(sdkClient, times(1)).updateEnvironment(Mockito.any(UpdateEnvironmentRequest.class));
+        verify(sdkClient, times(2)).getEnvironment(Mockito.any(GetEnvironmentRequest.class));
+    }
 }
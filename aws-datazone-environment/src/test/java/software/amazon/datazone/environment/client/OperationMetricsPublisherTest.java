@@ -0,0 +1,47 @@
+package software.amazon.datazone.environment.client;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OperationMetricsPublisherTest {
+
+    @Test
+    public void testFlush_ExportsCountsPerOperationAndResets() {
+        final OperationMetricsPublisher publisher = new OperationMetricsPublisher(new InvocationCost());
+
+        publisher.publish(apiCall("GetEnvironment", 2, "ConfiguredTimeout", "ConfiguredTimeout", null));
+        publisher.publish(apiCall("GetEnvironment", 0, (String) null));
+
+        final List<String> lines = new ArrayList<>();
+        publisher.flush(lines::add);
+
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0))
+                .contains("\"Namespace\":\"" + OperationMetricsPublisher.NAMESPACE + "\"")
+                .contains("\"Operation\":\"GetEnvironment\",\"Calls\":2,\"Retries\":2,\"Timeouts\":2");
+
+        final List<String> afterReset = new ArrayList<>();
+        publisher.flush(afterReset::add);
+        assertThat(afterReset).isEmpty();
+    }
+
+    private static MetricCollection apiCall(final String operationName, final int retryCount, final String... attemptErrorTypes) {
+        final MetricCollector apiCall = MetricCollector.create("ApiCall");
+        apiCall.reportMetric(CoreMetric.OPERATION_NAME, operationName);
+        apiCall.reportMetric(CoreMetric.RETRY_COUNT, retryCount);
+        for (final String errorType : attemptErrorTypes) {
+            final MetricCollector attempt = apiCall.createChild("ApiCallAttempt");
+            if (errorType != null) {
+                attempt.reportMetric(CoreMetric.ERROR_TYPE, errorType);
+            }
+        }
+        return apiCall.collect();
+    }
+}
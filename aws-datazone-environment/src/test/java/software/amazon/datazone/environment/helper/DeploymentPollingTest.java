@@ -0,0 +1,99 @@
+package software.amazon.datazone.environment.helper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.datazone.model.Deployment;
+import software.amazon.awssdk.services.datazone.model.DeploymentStatus;
+import software.amazon.awssdk.services.datazone.model.EnvironmentError;
+import software.amazon.awssdk.services.datazone.model.EnvironmentStatus;
+import software.amazon.awssdk.services.datazone.model.GetEnvironmentResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DeploymentPollingTest {
+    private DeploymentPolling deploymentPolling;
+    private List<String> logs;
+    private LoggerWrapper logger;
+
+    @BeforeEach
+    public void setup() {
+        deploymentPolling = new DeploymentPolling();
+        logs = new ArrayList<>();
+        logger = new LoggerWrapper(logs::add);
+    }
+
+    @Test
+    public void testNextPollDelay_NotProvisioningYet_PollsSlowly() {
+        assertThat(deploymentPolling.nextPollDelay(environment(null), Duration.ZERO))
+                .isEqualTo(Constants.SLOW_POLL_DELAY);
+        assertThat(deploymentPolling.nextPollDelay(environment(deployment(DeploymentStatus.PENDING_DEPLOYMENT)),
+                Duration.ofMinutes(2))).isEqualTo(Constants.SLOW_POLL_DELAY);
+    }
+
+    @Test
+    public void testNextPollDelay_InProgress_PollsFasterNearExpectedCompletion() {
+        final GetEnvironmentResponse environment = environment(deployment(DeploymentStatus.IN_PROGRESS));
+
+        assertThat(deploymentPolling.nextPollDelay(environment, Duration.ZERO)).isEqualTo(Constants.SLOW_POLL_DELAY);
+        assertThat(deploymentPolling.nextPollDelay(environment, Duration.ofSeconds(120))).isEqualTo(Duration.ofSeconds(30));
+        assertThat(deploymentPolling.nextPollDelay(environment, Duration.ofSeconds(170))).isEqualTo(Constants.FAST_POLL_DELAY);
+        // Overdue, the deployment may complete at any poll.
+        assertThat(deploymentPolling.nextPollDelay(environment, Duration.ofMinutes(10))).isEqualTo(Constants.FAST_POLL_DELAY);
+    }
+
+    @Test
+    public void testRecordCompletion_TunesExpectedCompletionPerBlueprint() {
+        final GetEnvironmentResponse environment = environment(deployment(DeploymentStatus.SUCCESSFUL));
+
+        deploymentPolling.recordCompletion(environment, Duration.ofSeconds(60), logger);
+        deploymentPolling.recordCompletion(environment, Duration.ofSeconds(100), logger);
+
+        assertThat(deploymentPolling.expectedCompletionTime(environment)).isEqualTo(Duration.ofSeconds(80));
+        assertThat(deploymentPolling.expectedCompletionTime(environment.toBuilder().environmentBlueprintId("other").build()))
+                .isEqualTo(Constants.EXPECTED_DEPLOYMENT_TIME);
+        assertThat(deploymentPolling.nextPollDelay(environment(deployment(DeploymentStatus.IN_PROGRESS)), Duration.ofSeconds(20)))
+                .isEqualTo(Duration.ofSeconds(30));
+        assertThat(logs).hasSize(2);
+        assertThat(logs.get(1)).contains("completed in 100 s", "blueprint envBlueprintId1 CREATE", "count 2", "mean 80 s",
+                "min 60 s", "max 100 s");
+    }
+
+    @Test
+    public void testIsTerminalFailure() {
+        assertThat(DeploymentPolling.isTerminalFailure(null, null)).isFalse();
+        assertThat(DeploymentPolling.isTerminalFailure(deployment(DeploymentStatus.IN_PROGRESS), null)).isFalse();
+        assertThat(DeploymentPolling.isTerminalFailure(deployment(DeploymentStatus.SUCCESSFUL), null)).isFalse();
+        assertThat(DeploymentPolling.isTerminalFailure(deployment(DeploymentStatus.FAILED), null)).isTrue();
+        assertThat(DeploymentPolling.isTerminalFailure(deployment(DeploymentStatus.IN_PROGRESS).toBuilder()
+                .isDeploymentComplete(true)
+                .failureReason(EnvironmentError.builder().code("408").message("Deployment timed out").build())
+                .build(), "previousDeploymentId")).isTrue();
+    }
+
+    @Test
+    public void testIsTerminalFailure_DeploymentOfAnEarlierOperation_IsNotAFailure() {
+        assertThat(DeploymentPolling.isTerminalFailure(deployment(DeploymentStatus.FAILED), "5157krc2f3big7")).isFalse();
+    }
+
+    private static GetEnvironmentResponse environment(final Deployment deployment) {
+        return GetEnvironmentResponse.builder()
+                .id("envId1")
+                .environmentBlueprintId("envBlueprintId1")
+                .status(EnvironmentStatus.CREATING)
+                .lastDeployment(deployment)
+                .build();
+    }
+
+    private static Deployment deployment(final DeploymentStatus deploymentStatus) {
+        return Deployment.builder()
+                .deploymentId("5157krc2f3big7")
+                .deploymentType("CREATE")
+                .deploymentStatus(deploymentStatus)
+                .isDeploymentComplete(deploymentStatus == DeploymentStatus.SUCCESSFUL || deploymentStatus == DeploymentStatus.FAILED)
+                .build();
+    }
+}
@@ -0,0 +1,237 @@
+package software.amazon.datazone.environment.helper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.datazone.model.Deployment;
+import software.amazon.awssdk.services.datazone.model.DeploymentStatus;
+import software.amazon.awssdk.services.datazone.model.EnvironmentError;
+import software.amazon.awssdk.services.datazone.model.EnvironmentStatus;
+import software.amazon.awssdk.services.datazone.model.GetEnvironmentRequest;
+import software.amazon.awssdk.services.datazone.model.GetEnvironmentResponse;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.datazone.environment.CallbackContext;
+import software.amazon.datazone.environment.ResourceModel;
+import software.amazon.datazone.environment.client.DataZoneClientWrapper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ResourceStabilizerTest {
+    private static final ResourceModel MODEL = ResourceModel.builder().id("envId1").name("envName").domainId("domain1").build();
+
+    private DataZoneClientWrapper dataZoneClientWrapper;
+    private long nanoTime;
+    private List<Long> sleeps;
+
+    @BeforeEach
+    public void setup() {
+        dataZoneClientWrapper = mock(DataZoneClientWrapper.class);
+        nanoTime = 0;
+        sleeps = new ArrayList<>();
+    }
+
+    @Test
+    public void testStabilizeResource_DeploymentPending_HandsBackWithSlowPoll() {
+        Mockito.when(dataZoneClientWrapper.getEnvironment(Mockito.any(GetEnvironmentRequest.class)))
+                .thenReturn(environment(EnvironmentStatus.CREATING, DeploymentStatus.PENDING_DEPLOYMENT));
+
+        final ProgressEvent<ResourceModel, CallbackContext> progressEvent = stabilizer(Duration.ofSeconds(30))
+                .stabilizeResource(MODEL, callbackContext(null));
+
+        assertThat(progressEvent.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(progressEvent.getCallbackDelaySeconds()).isEqualTo((int) Constants.SLOW_POLL_DELAY.toSeconds());
+        // The first poll starts the clock of the deployment, the next invocations carry it along.
+        assertThat(progressEvent.getCallbackContext().getStabilizationStartedAt()).isNotNull();
+        assertThat(sleeps).isEmpty();
+        verify(dataZoneClientWrapper, times(1)).getEnvironment(Mockito.any(GetEnvironmentRequest.class));
+    }
+
+    @Test
+    public void testStabilizeResource_DeploymentNearCompletion_PollsFastInProcess() {
+        Mockito.when(dataZoneClientWrapper.getEnvironment(Mockito.any(GetEnvironmentRequest.class)))
+                .thenReturn(environment(EnvironmentStatus.CREATING, DeploymentStatus.IN_PROGRESS),
+                        environment(EnvironmentStatus.CREATING, DeploymentStatus.IN_PROGRESS),
+                        environment(EnvironmentStatus.ACTIVE, DeploymentStatus.SUCCESSFUL));
+
+        final ProgressEvent<ResourceModel, CallbackContext> progressEvent = stabilizer(Duration.ofSeconds(30))
+                .stabilizeResource(MODEL, callbackContext(Instant.now().minus(Duration.ofMinutes(5))));
+
+        assertThat(progressEvent.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(progressEvent.getCallbackDelaySeconds()).isZero();
+        assertThat(sleeps).containsExactly(10000L, 10000L);
+    }
+
+    @Test
+    public void testStabilizeResource_DeploymentFailedAheadOfStatus_FailsWithoutWaiting() {
+        Mockito.when(dataZoneClientWrapper.getEnvironment(Mockito.any(GetEnvironmentRequest.class)))
+                .thenReturn(environment(EnvironmentStatus.UPDATING, DeploymentStatus.FAILED));
+
+        // A deployment other than the one the environment had before the update is one of the update.
+        assertThatThrownBy(() -> stabilizer(Duration.ofSeconds(30)).stabilizeResource(MODEL,
+                callbackContext(Instant.now().minus(Duration.ofMinutes(5)), "previousDeploymentId")))
+                .isInstanceOf(CfnNotStabilizedException.class);
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    public void testStabilizeResource_DeploymentFailedOnTheFirstPoll_FailsWithoutWaiting() {
+        Mockito.when(dataZoneClientWrapper.getEnvironment(Mockito.any(GetEnvironmentRequest.class)))
+                .thenReturn(environment(EnvironmentStatus.CREATING, DeploymentStatus.FAILED));
+
+        // The deployment of a create already failed by the time of its first poll, the status still shows it creating.
+        assertThatThrownBy(() -> stabilizer(Duration.ofSeconds(30)).stabilizeResource(MODEL, callbackContext(null)))
+                .isInstanceOf(CfnNotStabilizedException.class);
+        assertThat(sleeps).isEmpty();
+        verify(dataZoneClientWrapper, times(1)).getEnvironment(Mockito.any(GetEnvironmentRequest.class));
+    }
+
+    @Test
+    public void testStabilizeResource_StaleFailedDeployment_KeepsPolling() {
+        Mockito.when(dataZoneClientWrapper.getEnvironment(Mockito.any(GetEnvironmentRequest.class)))
+                .thenReturn(environment(EnvironmentStatus.UPDATING, DeploymentStatus.FAILED));
+
+        // The failed deployment the environment had before the update shows until the update starts one of its own.
+        final ProgressEvent<ResourceModel, CallbackContext> firstPoll = stabilizer(Duration.ZERO)
+                .stabilizeResource(MODEL, callbackContext(null, "5157krc2f3big7"));
+        final ProgressEvent<ResourceModel, CallbackContext> laterPoll = stabilizer(Duration.ZERO)
+                .stabilizeResource(MODEL, firstPoll.getCallbackContext());
+
+        assertThat(firstPoll.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(laterPoll.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(laterPoll.getCallbackContext().getInitialDeploymentId()).isEqualTo("5157krc2f3big7");
+    }
+
+    @Test
+    public void testStabilizeResource_DeploymentTimedOut_HandsTheEnvironmentToTheCaller() {
+        final GetEnvironmentResponse timedOut = environment(EnvironmentStatus.DELETE_FAILED, DeploymentStatus.FAILED).toBuilder()
+                .lastDeployment(environment(EnvironmentStatus.DELETE_FAILED, DeploymentStatus.FAILED).lastDeployment().toBuilder()
+                        .failureReason(EnvironmentError.builder().code("408").message("Deployment timed out").build())
+                        .build())
+                .build();
+        Mockito.when(dataZoneClientWrapper.getEnvironment(Mockito.any(GetEnvironmentRequest.class))).thenReturn(timedOut);
+        final ProgressEvent<ResourceModel, CallbackContext> retried = ProgressEvent.defaultInProgressHandler(null, 10, MODEL);
+
+        final ProgressEvent<ResourceModel, CallbackContext> progressEvent = stabilizer(Duration.ofSeconds(30))
+                .stabilizeResource(MODEL, callbackContext(null), environment -> {
+                    assertThat(environment).isSameAs(timedOut);
+                    return retried;
+                });
+
+        assertThat(progressEvent).isSameAs(retried);
+        // Without a caller to retry, a time out fails the stabilization as any other failure.
+        assertThatThrownBy(() -> stabilizer(Duration.ofSeconds(30)).stabilizeResource(MODEL, callbackContext(null)))
+                .isInstanceOf(CfnNotStabilizedException.class);
+        verify(dataZoneClientWrapper, times(2)).getEnvironment(Mockito.any(GetEnvironmentRequest.class));
+    }
+
+    @Test
+    public void testStabilizeResource_StabilizationTimeSpent_Fails() {
+        Mockito.when(dataZoneClientWrapper.getEnvironment(Mockito.any(GetEnvironmentRequest.class)))
+                .thenReturn(environment(EnvironmentStatus.CREATING, DeploymentStatus.IN_PROGRESS));
+
+        final ProgressEvent<ResourceModel, CallbackContext> progressEvent = stabilizer(Duration.ZERO)
+                .stabilizeResource(MODEL, callbackContext(Instant.now().minus(Constants.MAXIMUM_STABILIZATION_TIME)));
+
+        assertThat(progressEvent.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(progressEvent.getErrorCode()).isEqualTo(HandlerErrorCode.NotStabilized);
+    }
+
+    @Test
+    public void testInvocationBudget_ReadFromEnvironment() {
+        assertThat(TimeBudget.invocationBudget(Map.<String, String>of()::get)).isEqualTo(Constants.INLINE_STABILIZATION_BUDGET);
+        assertThat(TimeBudget.invocationBudget(Map.of(TimeBudget.INLINE_STABILIZATION_MILLIS, "0")::get)).isZero();
+        assertThat(TimeBudget.invocationBudget(Map.of(TimeBudget.INLINE_STABILIZATION_MILLIS, "1500")::get))
+                .isEqualTo(Duration.ofMillis(1500));
+    }
+
+    @Test
+    public void testInvocationBudget_InvalidValue_IsRejected() {
+        assertThatThrownBy(() -> TimeBudget.invocationBudget(Map.of(TimeBudget.INLINE_STABILIZATION_MILLIS, "-1")::get))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(TimeBudget.INLINE_STABILIZATION_MILLIS)
+                .hasMessageContaining("-1");
+        assertThatThrownBy(() -> TimeBudget.invocationBudget(Map.of(TimeBudget.INLINE_STABILIZATION_MILLIS, "1.5s")::get))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(TimeBudget.INLINE_STABILIZATION_MILLIS)
+                .hasMessageContaining("1.5s");
+    }
+
+    @Test
+    public void testInvocationBudget_BoundedByTheTimeTheInvocationHasLeft() {
+        final Duration cap = Constants.INLINE_STABILIZATION_BUDGET;
+        final Duration margin = Constants.INVOCATION_SAFETY_MARGIN;
+
+        // Off Lambda the time left is not known, the cap alone applies.
+        assertThat(TimeBudget.invocationBudget(cap, null)).isEqualTo(cap);
+        assertThat(TimeBudget.invocationBudget(cap, () -> cap.plus(margin).plusSeconds(5).toMillis())).isEqualTo(cap);
+        assertThat(TimeBudget.invocationBudget(cap, () -> margin.plusSeconds(5).toMillis())).isEqualTo(Duration.ofSeconds(5));
+        assertThat(TimeBudget.invocationBudget(cap, () -> margin.minusSeconds(5).toMillis())).isZero();
+    }
+
+    @Test
+    public void testForInvocation_TimeLeftWithinTheMargin_DoesNotWait() {
+        TimeBudget.startInvocation(() -> Constants.INVOCATION_SAFETY_MARGIN.toMillis());
+        try {
+            assertThat(TimeBudget.forInvocation().waitFor(Duration.ofMillis(1))).isFalse();
+        } finally {
+            TimeBudget.finishInvocation();
+        }
+    }
+
+    /**
+     * @return A stabilizer whose budget runs on a clock that only its sleeps move forward.
+     */
+    private ResourceStabilizer stabilizer(final Duration budget) {
+        final TimeBudget timeBudget = new TimeBudget(budget, () -> nanoTime, millis -> {
+            sleeps.add(millis);
+            nanoTime += Duration.ofMillis(millis).toNanos();
+        });
+        return new ResourceStabilizer(dataZoneClientWrapper, new LoggerWrapper(new LoggerProxy()), timeBudget);
+    }
+
+    private static CallbackContext callbackContext(final Instant stabilizationStartedAt) {
+        return callbackContext(stabilizationStartedAt, null);
+    }
+
+    private static CallbackContext callbackContext(final Instant stabilizationStartedAt, final String initialDeploymentId) {
+        return CallbackContext.builder()
+                .stabilizationRetriesRemaining(Constants.MAXIMUM_STABILIZATION_ATTEMPTS)
+                .timeOutRetriesRemaining(Constants.MAXIMUM_TIMEOUT_ATTEMPTS)
+                .environmentId(MODEL.getId())
+                .domainId(MODEL.getDomainId())
+                .stabilizationStartedAt(stabilizationStartedAt == null ? null : stabilizationStartedAt.toEpochMilli())
+                .initialDeploymentId(initialDeploymentId)
+                .build();
+    }
+
+    private static GetEnvironmentResponse environment(final EnvironmentStatus status, final DeploymentStatus deploymentStatus) {
+        return GetEnvironmentResponse.builder()
+                .id(MODEL.getId())
+                .name(MODEL.getName())
+                .domainId(MODEL.getDomainId())
+                .environmentBlueprintId("envBlueprintId1")
+                .status(status)
+                .lastDeployment(Deployment.builder()
+                        .deploymentId("5157krc2f3big7")
+                        .deploymentType("CREATE")
+                        .deploymentStatus(deploymentStatus)
+                        .isDeploymentComplete(deploymentStatus != DeploymentStatus.IN_PROGRESS
+                                && deploymentStatus != DeploymentStatus.PENDING_DEPLOYMENT)
+                        .build())
+                .build();
+    }
+}
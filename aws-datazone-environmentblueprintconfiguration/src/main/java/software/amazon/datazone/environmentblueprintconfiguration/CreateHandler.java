@@ -1,6 +1,5 @@
 package software.amazon.datazone.environmentblueprintconfiguration;
 
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.GetEnvironmentBlueprintConfigurationRequest;
 import software.amazon.awssdk.services.datazone.model.GetEnvironmentBlueprintConfigurationResponse;
 import software.amazon.awssdk.services.datazone.model.ListEnvironmentBlueprintsRequest;
@@ -10,35 +9,31 @@ import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.datazone.environmentblueprintconfiguration.client.DataZoneClientWrapper;
-import software.amazon.datazone.environmentblueprintconfiguration.helper.LoggerWrapper;
+import software.amazon.datazone.environmentblueprintconfiguration.helper.Tracing;
 
 import java.util.Objects;
 
-
 public class CreateHandler extends BaseHandlerStd {
+    private final ReadHandler readHandler = new ReadHandler();
+
+    @Override
+    protected boolean validatesDesiredResourceState() {
+        return true;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-
-        // Initialize
-        this.logger = new LoggerWrapper(externalLogger);
-        this.dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
-
+            final InvocationContext context) {
         ResourceModel desiredResourceState = request.getDesiredResourceState();
-        this.validateInputs(desiredResourceState);
+        this.validateInputs(desiredResourceState, context);
 
         String envBluePrintId = null;
         if (desiredResourceState.getManaged()) {
-            envBluePrintId = this.getEnvironmentBlueprintIdentifier(desiredResourceState);
+            envBluePrintId = this.getEnvironmentBlueprintIdentifier(desiredResourceState, context);
         }
 
         desiredResourceState.setDomainId(desiredResourceState.getDomainIdentifier());
@@ -46,14 +41,14 @@ public class CreateHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(desiredResourceState, callbackContext)
                 // Make create call
-                .then(progress -> validateEnvironmentBlueprintConfiguration(proxy, proxyClient, progress))
-                .then(progress -> putEnvironmentBlueprintConfiguration("Create", proxy, proxyClient, progress))
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, progress.getCallbackContext(), proxyClient, externalLogger));
+                .then(Tracing.stage("validateEnvironmentBlueprintConfiguration", progress -> validateEnvironmentBlueprintConfiguration(proxy, context, progress)))
+                .then(Tracing.stage("putEnvironmentBlueprintConfiguration", progress -> putEnvironmentBlueprintConfiguration("Create", proxy, context, progress)))
+                .then(Tracing.stage("read", progress -> readHandler.handleRequest(proxy, request, progress.getCallbackContext(), context)));
     }
 
-    private void validateInputs(ResourceModel desiredResourceState) {
+    private void validateInputs(ResourceModel desiredResourceState, InvocationContext context) {
         if (Objects.isNull(desiredResourceState.getManaged())) {
-            logger.info("Managed is not specified for creating blueprint configuration, defaulting to True");
+            context.getLogger().info("Managed is not specified for creating blueprint configuration, defaulting to True");
             desiredResourceState.setManaged(Boolean.TRUE);
         }
 
@@ -72,16 +67,17 @@ public class CreateHandler extends BaseHandlerStd {
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> validateEnvironmentBlueprintConfiguration(AmazonWebServicesClientProxy proxy,
-                                                                                                    ProxyClient<DataZoneClient> proxyClient,
+                                                                                                    InvocationContext context,
                                                                                                     ProgressEvent<ResourceModel, CallbackContext> progress) {
         // Call DataZone Control Plane to create the resource.
         try {
-            return proxy.initiate("AWS-DataZone-EnvironmentBlueprintConfiguration::Create::PreExistenceCheck", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            return Tracing.callChain("AWS-DataZone-EnvironmentBlueprintConfiguration::Create::PreExistenceCheck", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), progress.getResourceModel(), progress.getCallbackContext())
                     .translateToServiceRequest(model -> Translator.translateToReadRequest(model))
-                    .makeServiceCall((getEnvironmentBlueprintConfigurationRequest, client) -> dataZoneClientWrapper.getEnvironmentBlueprintConfiguration(getEnvironmentBlueprintConfigurationRequest))
-                    .done(this::validateIsEnvironmentBlueprintConfigurationCreatable);
+                    .makeServiceCall((getEnvironmentBlueprintConfigurationRequest, client) -> context.getDataZoneClientWrapper().getEnvironmentBlueprintConfiguration(getEnvironmentBlueprintConfigurationRequest))
+                    .done((getEnvironmentBlueprintConfigurationRequest, getEnvironmentBlueprintConfigurationResponse, client, resourceModel, callbackContext) ->
+                            validateIsEnvironmentBlueprintConfigurationCreatable(getEnvironmentBlueprintConfigurationRequest, getEnvironmentBlueprintConfigurationResponse, resourceModel, callbackContext, context)));
         } catch (CfnNotFoundException | ResourceNotFoundException e) {
-            logger.info("Create::PreExistenceCheck passed for default blueprint %s in domain %s",
+            context.getLogger().info("Create::PreExistenceCheck passed for default blueprint %s in domain %s",
                     progress.getResourceModel().getEnvironmentBlueprintIdentifier(), progress.getResourceModel().getDomainIdentifier());
             return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
         }
@@ -90,26 +86,26 @@ public class CreateHandler extends BaseHandlerStd {
     private ProgressEvent<ResourceModel, CallbackContext> validateIsEnvironmentBlueprintConfigurationCreatable(
             GetEnvironmentBlueprintConfigurationRequest getEnvironmentBlueprintConfigurationRequest,
             GetEnvironmentBlueprintConfigurationResponse getEnvironmentBlueprintConfigurationResponse,
-            ProxyClient<DataZoneClient> dataZoneClientProxyClient,
             ResourceModel resourceModel,
-            CallbackContext callbackContext) {
+            CallbackContext callbackContext,
+            InvocationContext context) {
         if (getEnvironmentBlueprintConfigurationResponse.domainId().equals(resourceModel.getDomainIdentifier())) {
             String errorMessage = String.format("Configuration for default blueprint %s in domain %s already exists.",
                     resourceModel.getEnvironmentBlueprintIdentifier(), resourceModel.getDomainIdentifier());
-            logger.error(errorMessage);
+            context.getLogger().error(errorMessage);
             throw new CfnAlreadyExistsException(new Exception(errorMessage));
         }
 
         return ProgressEvent.progress(resourceModel, callbackContext);
     }
 
-    private String getEnvironmentBlueprintIdentifier(ResourceModel desiredResourceState) {
+    private String getEnvironmentBlueprintIdentifier(ResourceModel desiredResourceState, InvocationContext context) {
         ListEnvironmentBlueprintsRequest request = ListEnvironmentBlueprintsRequest.builder()
                 .domainIdentifier(desiredResourceState.getDomainIdentifier())
                 .managed(Boolean.TRUE)
                 .build();
 
-        ListEnvironmentBlueprintsResponse response = dataZoneClientWrapper.listEnvironmentBlueprints(request);
+        ListEnvironmentBlueprintsResponse response = context.getDataZoneClientWrapper().listEnvironmentBlueprints(request);
         return response.items().stream()
                 .filter(environmentBlueprintSummary -> environmentBlueprintSummary.name().equals(desiredResourceState.getEnvironmentBlueprintIdentifier()))
                 .map(environmentBlueprintSummary -> environmentBlueprintSummary.id())
@@ -1,13 +1,9 @@
 package software.amazon.datazone.environmentblueprintconfiguration;
 
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.datazone.environmentblueprintconfiguration.client.DataZoneClientWrapper;
-import software.amazon.datazone.environmentblueprintconfiguration.helper.LoggerWrapper;
+import software.amazon.datazone.environmentblueprintconfiguration.helper.Tracing;
 
 public class DeleteHandler extends BaseHandlerStd {
 
@@ -15,37 +11,33 @@ public class DeleteHandler extends BaseHandlerStd {
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-        this.logger = new LoggerWrapper(externalLogger);
-        this.dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
-
+            final InvocationContext context) {
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(progress -> validateEnvironmentBlueprintConfigurationExists(proxy, proxyClient, progress))
-                .then(progress -> deleteEnvironmentBlueprintConfiguration(proxy, proxyClient, progress))
+                .then(Tracing.stage("validateEnvironmentBlueprintConfigurationExists", progress -> validateEnvironmentBlueprintConfigurationExists(proxy, context, progress)))
+                .then(Tracing.stage("deleteEnvironmentBlueprintConfiguration", progress -> deleteEnvironmentBlueprintConfiguration(proxy, context, progress)))
                 .then(progress -> ProgressEvent.defaultSuccessHandler(null));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> deleteEnvironmentBlueprintConfiguration(
             AmazonWebServicesClientProxy proxy,
-            ProxyClient<DataZoneClient> proxyClient,
+            InvocationContext context,
             ProgressEvent<ResourceModel,
                     CallbackContext> progress) {
-        return proxy.initiate("AWS-DataZone-EnvironmentBlueprintConfiguration::Delete", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+        return Tracing.callChain("AWS-DataZone-EnvironmentBlueprintConfiguration::Delete", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(model -> Translator.translateToDeleteRequest(model))
-                .makeServiceCall((deleteEnvironmentBlueprintConfigurationRequest, client) -> dataZoneClientWrapper.deleteEnvironmentBlueprintConfiguration(deleteEnvironmentBlueprintConfigurationRequest))
-                .progress();
+                .makeServiceCall((deleteEnvironmentBlueprintConfigurationRequest, client) -> context.getDataZoneClientWrapper().deleteEnvironmentBlueprintConfiguration(deleteEnvironmentBlueprintConfigurationRequest))
+                .progress());
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> validateEnvironmentBlueprintConfigurationExists(
             AmazonWebServicesClientProxy proxy,
-            ProxyClient<DataZoneClient> proxyClient,
+            InvocationContext context,
             ProgressEvent<ResourceModel,
                     CallbackContext> progress) {
-        return proxy.initiate("AWS-DataZone-EnvironmentBlueprintConfiguration::Delete::PreExistenceCheck", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+        return Tracing.callChain("AWS-DataZone-EnvironmentBlueprintConfiguration::Delete::PreExistenceCheck", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(model -> Translator.translateToReadRequest(model))
-                .makeServiceCall((getEnvironmentBlueprintConfigurationRequest, client) -> dataZoneClientWrapper.getEnvironmentBlueprintConfiguration(getEnvironmentBlueprintConfigurationRequest))
-                .progress();
+                .makeServiceCall((getEnvironmentBlueprintConfigurationRequest, client) -> context.getDataZoneClientWrapper().getEnvironmentBlueprintConfiguration(getEnvironmentBlueprintConfigurationRequest))
+                .progress());
     }
 
 }
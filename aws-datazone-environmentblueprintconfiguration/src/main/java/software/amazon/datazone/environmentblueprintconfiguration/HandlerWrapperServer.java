@@ -0,0 +1,170 @@
+package software.amazon.datazone.environmentblueprintconfiguration;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Handles a stream of handler requests in one long-running process, where {@link HandlerWrapperExecutable} starts a
+ * process per request. The DataZone clients, their connections, the loaded classes and the compiled code are kept
+ * from one request to the next, so that bulk local testing and self-hosted execution run at warm speed.
+ * <p>
+ * Requests are read one per line, as the JSON the executable entrypoint takes as its argument, from the standard input
+ * or, with {@code --port}, from the connections to a socket on the loopback interface. Each request goes through a new
+ * {@link HandlerWrapperExecutable}, the way it would in its own process; the wrapper keeps per instance state, its log
+ * publishers, that must not pile up across requests. Responses are written in the order of the requests: between the
+ * markers of the executable entrypoint on the standard output, or one per line on the socket. Requests are handled one
+ * at a time; the DataZone calls, their metrics and their cost are accounted per invocation, as they would be in a
+ * process of its own.
+ * <p>
+ * The latency of each request is reported on the standard error, and its distribution at the end of each stream.
+ * <p>
+ * Usage: {@code HandlerWrapperServer [--port 9000] [--prime] < requests.ndjson}
+ */
+public final class HandlerWrapperServer {
+    private static final String START_RESPONSE = "__CFN_RESOURCE_START_RESPONSE__";
+    private static final String END_RESPONSE = "__CFN_RESOURCE_END_RESPONSE__";
+
+    private final PrintStream report;
+
+    HandlerWrapperServer(final PrintStream report) {
+        this.report = report;
+    }
+
+    public static void main(final String[] args) throws IOException {
+        Integer port = null;
+        boolean prime = false;
+        for (int index = 0; index < args.length; index++) {
+            switch (args[index]) {
+                case "--port":
+                    port = Integer.parseInt(args[++index]);
+                    break;
+                case "--prime":
+                    prime = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException(String.format("Unknown argument %s", args[index]));
+            }
+        }
+
+        final HandlerWrapperServer server = new HandlerWrapperServer(System.err);
+        if (prime) {
+            System.err.printf("Primed the %s handlers in %d ms%n", ResourceModel.TYPE_NAME, Priming.prime(System.err::println).toMillis());
+        }
+        if (port == null) {
+            final PrintStream out = System.out;
+            server.serve(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)), response -> {
+                out.println(START_RESPONSE);
+                out.println(response);
+                out.println(END_RESPONSE);
+                out.flush();
+            });
+            return;
+        }
+        try (ServerSocket serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress())) {
+            System.err.printf("Listening on %s%n", serverSocket.getLocalSocketAddress());
+            while (true) {
+                try (Socket socket = serverSocket.accept()) {
+                    final BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+                    server.serve(new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8)), response -> {
+                        writer.write(response);
+                        writer.newLine();
+                        writer.flush();
+                    });
+                } catch (final IOException exception) {
+                    // A client that goes away only ends its own stream.
+                    System.err.printf("Connection failed: %s%n", exception);
+                }
+            }
+        }
+    }
+
+    /**
+     * Handles the requests of a stream until it ends, and reports their latency.
+     */
+    void serve(final BufferedReader requests, final ResponseWriter responses) throws IOException {
+        final List<Long> latencies = new ArrayList<>();
+        final long start = System.nanoTime();
+        String request;
+        while ((request = requests.readLine()) != null) {
+            if (request.isBlank()) {
+                continue;
+            }
+            final long requestStart = System.nanoTime();
+            final String response = handle(request);
+            final long latency = System.nanoTime() - requestStart;
+            latencies.add(latency);
+            report.printf("request %d %s %s %s ms%n", latencies.size(), field(request, "action"),
+                    field(response, "status"), millis(latency));
+            responses.write(response);
+        }
+        if (!latencies.isEmpty()) {
+            printSummary(latencies, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @return The response to the request, on a single line. A request the wrapper fails on gets a failed response,
+     * so that one bad request does not end the stream.
+     */
+    String handle(final String request) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (InputStream input = new ByteArrayInputStream(request.getBytes(StandardCharsets.UTF_8))) {
+            new HandlerWrapperExecutable().handleRequest(input, output);
+            return new JSONObject(output.toString(StandardCharsets.UTF_8)).toString();
+        } catch (final IOException | RuntimeException exception) {
+            return new JSONObject()
+                    .put("status", "FAILED")
+                    .put("errorCode", "InternalFailure")
+                    .put("message", exception.toString())
+                    .toString();
+        }
+    }
+
+    private void printSummary(final List<Long> latencies, final long elapsedNanos) {
+        final List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        report.printf("%d requests, %s requests/s, p50 %s ms, p90 %s ms, p99 %s ms, max %s ms%n", sorted.size(),
+                String.format(Locale.ROOT, "%.2f", sorted.size() / (elapsedNanos / 1e9)),
+                millis(percentile(sorted, 0.5)), millis(percentile(sorted, 0.9)), millis(percentile(sorted, 0.99)),
+                millis(sorted.get(sorted.size() - 1)));
+    }
+
+    private static String field(final String json, final String name) {
+        try {
+            return new JSONObject(json).optString(name, "-");
+        } catch (final JSONException exception) {
+            return "-";
+        }
+    }
+
+    private static long percentile(final List<Long> sorted, final double percentile) {
+        return sorted.get((int) Math.ceil(percentile * sorted.size()) - 1);
+    }
+
+    private static String millis(final long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1e6);
+    }
+
+    @FunctionalInterface
+    interface ResponseWriter {
+        void write(String response) throws IOException;
+    }
+}
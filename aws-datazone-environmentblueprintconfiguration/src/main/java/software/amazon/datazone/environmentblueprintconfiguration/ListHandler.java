@@ -1,16 +1,11 @@
 package software.amazon.datazone.environmentblueprintconfiguration;
 
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.ListEnvironmentBlueprintConfigurationsRequest;
 import software.amazon.awssdk.services.datazone.model.ListEnvironmentBlueprintConfigurationsResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.datazone.environmentblueprintconfiguration.client.DataZoneClientWrapper;
-import software.amazon.datazone.environmentblueprintconfiguration.helper.LoggerWrapper;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -21,16 +16,12 @@ public class ListHandler extends BaseHandlerStd {
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(AmazonWebServicesClientProxy proxy,
                                                                           ResourceHandlerRequest<ResourceModel> request,
                                                                           CallbackContext callbackContext,
-                                                                          ProxyClient<DataZoneClient> proxyClient,
-                                                                          Logger externalLogger) {
-        this.logger = new LoggerWrapper(externalLogger);
-        this.dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
-
+                                                                          InvocationContext context) {
         final ListEnvironmentBlueprintConfigurationsRequest listRequest =
                 Translator.translateToListRequest(request.getDesiredResourceState(), request.getNextToken());
 
         ListEnvironmentBlueprintConfigurationsResponse listEnvironmentBlueprintConfigurationsResponse =
-                dataZoneClientWrapper.listEnvironmentBlueprintConfigurations(listRequest);
+                context.getDataZoneClientWrapper().listEnvironmentBlueprintConfigurations(listRequest);
 
         final List<ResourceModel> models = listEnvironmentBlueprintConfigurationsResponse.items().stream()
                 .map(environmentBlueprintConfigurationItem -> Translator.getResourceModelFromItem(environmentBlueprintConfigurationItem))
@@ -30,14 +30,14 @@ public class Translator {
                 .build();
     }
 
-    static GetEnvironmentBlueprintConfigurationRequest translateToReadRequest(final @NonNull ResourceModel model) {
+    public static GetEnvironmentBlueprintConfigurationRequest translateToReadRequest(final @NonNull ResourceModel model) {
         return GetEnvironmentBlueprintConfigurationRequest.builder()
                 .environmentBlueprintIdentifier(model.getEnvironmentBlueprintId())
                 .domainIdentifier(getDomainId(model))
                 .build();
     }
 
-    static ResourceModel translateFromReadResponse(final @NonNull GetEnvironmentBlueprintConfigurationResponse response) {
+    public static ResourceModel translateFromReadResponse(final @NonNull GetEnvironmentBlueprintConfigurationResponse response) {
         return ResourceModel.builder()
                 .environmentBlueprintId(response.environmentBlueprintId())
                 .domainIdentifier(response.domainId())
@@ -65,7 +65,7 @@ public class Translator {
      * @param nextToken token passed to the aws service list resources request
      * @return awsRequest the aws service request to list resources within aws account
      */
-    static ListEnvironmentBlueprintConfigurationsRequest translateToListRequest(
+    public static ListEnvironmentBlueprintConfigurationsRequest translateToListRequest(
             final @NonNull ResourceModel model,
             final String nextToken) {
         return ListEnvironmentBlueprintConfigurationsRequest.builder()
@@ -1,41 +1,37 @@
 package software.amazon.datazone.environmentblueprintconfiguration;
 
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.datazone.environmentblueprintconfiguration.client.DataZoneClientWrapper;
-import software.amazon.datazone.environmentblueprintconfiguration.helper.LoggerWrapper;
+import software.amazon.datazone.environmentblueprintconfiguration.helper.Tracing;
 
 public class UpdateHandler extends BaseHandlerStd {
+    private final ReadHandler readHandler = new ReadHandler();
+
+    @Override
+    protected boolean validatesDesiredResourceState() {
+        return true;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-
-        // Initialize
-        this.logger = new LoggerWrapper(externalLogger);
-        this.dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
-
+            final InvocationContext context) {
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(progress -> validateEnvironmentBlueprintConfigurationForUpdate(proxy, proxyClient, progress))
-                .then(progress -> putEnvironmentBlueprintConfiguration("Update", proxy, proxyClient, progress))
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, progress.getCallbackContext(), proxyClient, externalLogger));
+                .then(Tracing.stage("validateEnvironmentBlueprintConfigurationForUpdate", progress -> validateEnvironmentBlueprintConfigurationForUpdate(proxy, context, progress)))
+                .then(Tracing.stage("putEnvironmentBlueprintConfiguration", progress -> putEnvironmentBlueprintConfiguration("Update", proxy, context, progress)))
+                .then(Tracing.stage("read", progress -> readHandler.handleRequest(proxy, request, progress.getCallbackContext(), context)));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> validateEnvironmentBlueprintConfigurationForUpdate(
             AmazonWebServicesClientProxy proxy,
-            ProxyClient<DataZoneClient> proxyClient,
+            InvocationContext context,
             ProgressEvent<ResourceModel,
                     CallbackContext> progress) {
-        return proxy.initiate("AWS-DataZone-EnvironmentBlueprintConfiguration::Update::PreExistenceCheck", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+        return Tracing.callChain("AWS-DataZone-EnvironmentBlueprintConfiguration::Update::PreExistenceCheck", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(model -> Translator.translateToReadRequest(model))
-                .makeServiceCall((getEnvironmentBlueprintConfigurationRequest, client) -> dataZoneClientWrapper.getEnvironmentBlueprintConfiguration(getEnvironmentBlueprintConfigurationRequest))
-                .progress();
+                .makeServiceCall((getEnvironmentBlueprintConfigurationRequest, client) -> context.getDataZoneClientWrapper().getEnvironmentBlueprintConfiguration(getEnvironmentBlueprintConfigurationRequest))
+                .progress());
     }
 }
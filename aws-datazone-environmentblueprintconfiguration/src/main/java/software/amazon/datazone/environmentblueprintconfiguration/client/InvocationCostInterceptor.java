@@ -0,0 +1,71 @@
+package software.amazon.datazone.environmentblueprintconfiguration.client;
+
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.sync.RequestBody;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Records the attempts, payload sizes and service latency of every DataZone call into the {@link InvocationCost} of
+ * the invocation it is made for, {@link InvocationCost#INVOCATION_COST}. The calls of clients built for no invocation,
+ * e.g. while priming, are not recorded. The service latency is the round trip of each attempt, including the
+ * connection acquire time, which the SDK only exposes as a metric and is recorded by {@link OperationMetricsPublisher}.
+ */
+public class InvocationCostInterceptor implements ExecutionInterceptor {
+    private static final String CONTENT_LENGTH = "Content-Length";
+    private static final ExecutionAttribute<Long> TRANSMISSION_START = new ExecutionAttribute<>("DataZoneTransmissionStart");
+
+    @Override
+    public void beforeTransmission(final Context.BeforeTransmission context, final ExecutionAttributes executionAttributes) {
+        final long requestBytes = context.requestBody()
+                .map(RequestBody::contentLength)
+                .or(() -> context.asyncRequestBody().flatMap(AsyncRequestBody::contentLength))
+                .or(() -> contentLength(context.httpRequest().firstMatchingHeader(CONTENT_LENGTH)))
+                .orElse(0L);
+        invocationCost(executionAttributes).ifPresent(invocationCost ->
+                invocationCost.recordAttempt(operationName(executionAttributes), requestBytes));
+        executionAttributes.putAttribute(TRANSMISSION_START, System.nanoTime());
+    }
+
+    @Override
+    public void afterTransmission(final Context.AfterTransmission context, final ExecutionAttributes executionAttributes) {
+        final Long transmissionStart = executionAttributes.getAttribute(TRANSMISSION_START);
+        final Duration serviceLatency = transmissionStart == null ? Duration.ZERO :
+                Duration.ofNanos(System.nanoTime() - transmissionStart);
+        final long responseBytes = contentLength(context.httpResponse().firstMatchingHeader(CONTENT_LENGTH)).orElse(0L);
+        invocationCost(executionAttributes).ifPresent(invocationCost ->
+                invocationCost.recordResponse(operationName(executionAttributes), responseBytes, serviceLatency));
+    }
+
+    @Override
+    public void afterExecution(final Context.AfterExecution context, final ExecutionAttributes executionAttributes) {
+        invocationCost(executionAttributes).ifPresent(invocationCost -> invocationCost.recordCall(operationName(executionAttributes)));
+    }
+
+    @Override
+    public void onExecutionFailure(final Context.FailedExecution context, final ExecutionAttributes executionAttributes) {
+        invocationCost(executionAttributes).ifPresent(invocationCost -> invocationCost.recordCall(operationName(executionAttributes)));
+    }
+
+    private static Optional<InvocationCost> invocationCost(final ExecutionAttributes executionAttributes) {
+        return Optional.ofNullable(executionAttributes.getAttribute(InvocationCost.INVOCATION_COST));
+    }
+
+    private static String operationName(final ExecutionAttributes executionAttributes) {
+        return executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+    }
+
+    private static Optional<Long> contentLength(final Optional<String> header) {
+        try {
+            return header.map(Long::parseLong);
+        } catch (final NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
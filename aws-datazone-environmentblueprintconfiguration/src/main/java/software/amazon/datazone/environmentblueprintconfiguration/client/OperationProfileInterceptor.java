@@ -0,0 +1,44 @@
+package software.amazon.datazone.environmentblueprintconfiguration.client;
+
+import lombok.AllArgsConstructor;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+import java.time.Duration;
+
+/**
+ * Sets the timeouts of the {@link OperationProfile} on every request. The override configuration the request already
+ * has, such as the credentials injected by the CloudFormation proxy, is kept, and timeouts set on the request itself
+ * take precedence over the profile.
+ */
+@AllArgsConstructor
+public class OperationProfileInterceptor implements ExecutionInterceptor {
+    // Attempt timeout configured for the whole container, replaces the one of the profile when set.
+    private final Duration apiCallAttemptTimeout;
+
+    @Override
+    public SdkRequest modifyRequest(final Context.ModifyRequest context, final ExecutionAttributes executionAttributes) {
+        if (!(context.request() instanceof AwsRequest)) {
+            return context.request();
+        }
+        final AwsRequest request = (AwsRequest) context.request();
+        final OperationProfile profile = OperationProfile.forRequest(
+                executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME), request);
+        final AwsRequestOverrideConfiguration.Builder overrideConfiguration = request.overrideConfiguration()
+                .map(AwsRequestOverrideConfiguration::toBuilder)
+                .orElseGet(AwsRequestOverrideConfiguration::builder);
+        if (overrideConfiguration.apiCallTimeout() == null) {
+            overrideConfiguration.apiCallTimeout(profile.getApiCallTimeout());
+        }
+        if (overrideConfiguration.apiCallAttemptTimeout() == null) {
+            overrideConfiguration.apiCallAttemptTimeout(apiCallAttemptTimeout != null ? apiCallAttemptTimeout :
+                    profile.getApiCallAttemptTimeout());
+        }
+        return request.toBuilder().overrideConfiguration(overrideConfiguration.build()).build();
+    }
+}
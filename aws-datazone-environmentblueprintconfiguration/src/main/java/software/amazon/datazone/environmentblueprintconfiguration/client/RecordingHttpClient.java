@@ -0,0 +1,66 @@
+package software.amazon.datazone.environmentblueprintconfiguration.client;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Sends the DataZone requests through another http client and records each request together with its response to an
+ * {@link HttpInteractionLog}, for {@link ReplayHttpClient} to serve back later. The response body is read in full
+ * before it is handed on, which DataZone responses are small enough for.
+ */
+@RequiredArgsConstructor
+public class RecordingHttpClient implements SdkHttpClient {
+    @NonNull
+    private final SdkHttpClient delegate;
+    @NonNull
+    private final HttpInteractionLog log;
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(final HttpExecuteRequest request) {
+        final byte[] requestBody = HttpInteraction.readBody(request.contentStreamProvider());
+        final ExecutableHttpRequest executableRequest = delegate.prepareRequest(request);
+        return new ExecutableHttpRequest() {
+            @Override
+            public HttpExecuteResponse call() throws IOException {
+                final HttpExecuteResponse response = executableRequest.call();
+                final byte[] responseBody;
+                if (response.responseBody().isPresent()) {
+                    try (InputStream body = response.responseBody().get()) {
+                        responseBody = body.readAllBytes();
+                    }
+                } else {
+                    responseBody = new byte[0];
+                }
+                log.append(HttpInteraction.of(request.httpRequest(), requestBody, response.httpResponse(), responseBody));
+                return HttpExecuteResponse.builder()
+                        .response(response.httpResponse())
+                        .responseBody(AbortableInputStream.create(new ByteArrayInputStream(responseBody)))
+                        .build();
+            }
+
+            @Override
+            public void abort() {
+                executableRequest.abort();
+            }
+        };
+    }
+
+    @Override
+    public String clientName() {
+        return delegate.clientName();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
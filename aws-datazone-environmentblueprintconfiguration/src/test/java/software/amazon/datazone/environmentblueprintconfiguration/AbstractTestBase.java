@@ -44,10 +44,18 @@ public class AbstractTestBase {
     static ProxyClient<DataZoneClient> MOCK_PROXY(
             final AmazonWebServicesClientProxy proxy,
             final DataZoneClient sdkClient) {
+        return MOCK_PROXY(proxy, sdkClient, new ApiCallCounter());
+    }
+
+    static ProxyClient<DataZoneClient> MOCK_PROXY(
+            final AmazonWebServicesClientProxy proxy,
+            final DataZoneClient sdkClient,
+            final ApiCallCounter apiCalls) {
         return new ProxyClient<DataZoneClient>() {
             @Override
             public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
             injectCredentialsAndInvokeV2(RequestT request, Function<RequestT, ResponseT> requestFunction) {
+                apiCalls.record(request);
                 return proxy.injectCredentialsAndInvokeV2(request, requestFunction);
             }
 
@@ -62,6 +70,7 @@ public class AbstractTestBase {
             public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>>
             IterableT
             injectCredentialsAndInvokeIterableV2(RequestT request, Function<RequestT, IterableT> requestFunction) {
+                apiCalls.record(request);
                 return proxy.injectCredentialsAndInvokeIterableV2(request, requestFunction);
             }
 
@@ -0,0 +1,48 @@
+package software.amazon.datazone.environmentblueprintconfiguration;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HandlerWrapperServerTest {
+
+    @Test
+    public void testServe_MalformedRequests_RespondsToEachAndReportsLatency() throws Exception {
+        final ByteArrayOutputStream report = new ByteArrayOutputStream();
+        final HandlerWrapperServer server = new HandlerWrapperServer(new PrintStream(report, true, StandardCharsets.UTF_8));
+        final List<String> responses = new ArrayList<>();
+
+        server.serve(new BufferedReader(new StringReader("not a request\n\n[]\n")), responses::add);
+
+        assertThat(responses).hasSize(2);
+        for (final String response : responses) {
+            assertThat(response).doesNotContain("\n");
+            assertThat(new JSONObject(response).getString("status")).isEqualTo("FAILED");
+        }
+        assertThat(report.toString(StandardCharsets.UTF_8))
+                .contains("request 1 - FAILED")
+                .contains("request 2 - FAILED")
+                .contains("2 requests");
+    }
+
+    @Test
+    public void testServe_NoRequests_ReportsNothing() throws Exception {
+        final ByteArrayOutputStream report = new ByteArrayOutputStream();
+        final HandlerWrapperServer server = new HandlerWrapperServer(new PrintStream(report, true, StandardCharsets.UTF_8));
+        final List<String> responses = new ArrayList<>();
+
+        server.serve(new BufferedReader(new StringReader("")), responses::add);
+
+        assertThat(responses).isEmpty();
+        assertThat(report.toString(StandardCharsets.UTF_8)).isEmpty();
+    }
+}
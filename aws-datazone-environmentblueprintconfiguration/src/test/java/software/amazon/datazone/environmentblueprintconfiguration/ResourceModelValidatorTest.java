@@ -0,0 +1,58 @@
+package software.amazon.datazone.environmentblueprintconfiguration;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ResourceModelValidatorTest extends AbstractTestBase {
+    private final ResourceModelValidator validator = ResourceModelValidator.getInstance();
+
+    @Test
+    public void testValidate_ValidModel_WithReadOnlyProperties_Passes() {
+        final ResourceModel model = ResourceModel.builder()
+                .domainIdentifier(DOMAIN_IDENTIFIER)
+                .environmentBlueprintIdentifier(DATA_LAKE_ENV_BLUEPRINT_IDENTIFIER)
+                .enabledRegions(ENABLED_REGIONS)
+                .manageAccessRoleArn(MANAGE_ACCESS_ROLE_ARN)
+                .provisioningRoleArn(PROVISIONING_ROLE_ARN)
+                // Read-only, they are not input and not validated.
+                .domainId("not a domain id")
+                .environmentBlueprintId("not a blueprint id")
+                .build();
+
+        assertThat(validator.violations(model)).isEmpty();
+        validator.validate(model);
+    }
+
+    @Test
+    public void testValidate_InvalidModel_ReportsAllViolations() {
+        final ResourceModel model = ResourceModel.builder()
+                .domainIdentifier("66zup2ahl2wg4n")
+                .enabledRegions(List.of("us-east-1", "useast"))
+                .provisioningRoleArn("AmazonDataZoneProvisioning")
+                .build();
+
+        assertThat(validator.violations(model))
+                .hasSize(4)
+                .anySatisfy(violation -> assertThat(violation).contains("EnvironmentBlueprintIdentifier"))
+                .anySatisfy(violation -> assertThat(violation).startsWith("#/DomainIdentifier"))
+                .anySatisfy(violation -> assertThat(violation).startsWith("#/EnabledRegions/1"))
+                .anySatisfy(violation -> assertThat(violation).startsWith("#/ProvisioningRoleArn"));
+        assertThatThrownBy(() -> validator.validate(model))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("4 schema violation(s)");
+    }
+
+    @Test
+    public void testValidate_NoModel_ReportsRequiredProperties() {
+        assertThat(validator.violations(null))
+                .hasSize(3)
+                .anySatisfy(violation -> assertThat(violation).contains("DomainIdentifier"))
+                .anySatisfy(violation -> assertThat(violation).contains("EnvironmentBlueprintIdentifier"))
+                .anySatisfy(violation -> assertThat(violation).contains("EnabledRegions"));
+    }
+}
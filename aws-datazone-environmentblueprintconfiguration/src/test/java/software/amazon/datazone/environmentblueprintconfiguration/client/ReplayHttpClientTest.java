@@ -0,0 +1,132 @@
+package software.amazon.datazone.environmentblueprintconfiguration.client;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.http.SdkHttpMethod;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class ReplayHttpClientTest {
+    private static final String CREATE_BODY = "{\"clientToken\":\"4f1c2a\",\"name\":\"blueprint\",\"environmentAccountIdentifier\":\"210987654321\"}";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testRecordAndReplay_ServesSanitizedResponsesInRecordedOrder() throws IOException {
+        final Path file = directory.resolve("environmentblueprintconfiguration.ndjson");
+        final SdkHttpClient transport = Mockito.mock(SdkHttpClient.class);
+        final ExecutableHttpRequest creating = executable(200, "{\"id\":\"blueprint-id\",\"status\":\"CREATING\"}");
+        final ExecutableHttpRequest active = executable(200, "{\"id\":\"blueprint-id\",\"status\":\"ACTIVE\"}");
+        when(transport.prepareRequest(any())).thenReturn(creating, active);
+
+        try (SdkHttpClient recording = new RecordingHttpClient(transport, HttpInteractionLog.appendingTo(file))) {
+            assertThat(body(recording.prepareRequest(request(SdkHttpMethod.POST, CREATE_BODY)).call())).contains("CREATING");
+            assertThat(body(recording.prepareRequest(request(SdkHttpMethod.POST, CREATE_BODY)).call())).contains("ACTIVE");
+        }
+
+        final List<HttpInteraction> interactions = HttpInteractionLog.read(file);
+        assertThat(interactions).hasSize(2);
+        assertThat(interactions.get(0).getUri()).isEqualTo("/v2/domains/dzd_1234/environment-blueprint-configurations?maxResults=50");
+        assertThat(interactions.get(0).getRequestBody())
+                .contains("\"clientToken\":\"REDACTED\"")
+                .contains("123456789012")
+                .doesNotContain("4f1c2a", "210987654321");
+        assertThat(interactions.get(0).getResponseHeaders()).containsOnlyKeys("Content-Type");
+
+        final ReplayHttpClient replay = ReplayHttpClient.load(file);
+        final String otherClientToken = CREATE_BODY.replace("4f1c2a", "9d8e7f");
+        final HttpExecuteResponse first = replay.prepareRequest(request(SdkHttpMethod.POST, otherClientToken)).call();
+        assertThat(first.httpResponse().statusCode()).isEqualTo(200);
+        assertThat(body(first)).contains("CREATING");
+        assertThat(body(replay.prepareRequest(request(SdkHttpMethod.POST, otherClientToken)).call())).contains("ACTIVE");
+        Assertions.assertThrows(IllegalStateException.class, () ->
+                replay.prepareRequest(request(SdkHttpMethod.POST, otherClientToken)).call());
+    }
+
+    @Test
+    public void testReplay_DifferentRequest_ShouldThrowException() {
+        final ReplayHttpClient replay = new ReplayHttpClient(List.of(HttpInteraction.builder()
+                .method("GET")
+                .uri("/v2/domains/dzd_1234/environment-blueprint-configurations/blueprint-id")
+                .requestBody("")
+                .statusCode(200)
+                .responseHeaders(Map.of())
+                .responseBody("{}")
+                .build()));
+
+        Assertions.assertThrows(IllegalStateException.class, () ->
+                replay.prepareRequest(request(SdkHttpMethod.DELETE, null)).call());
+    }
+
+    @Test
+    public void testHttpInteractionLog_CompressedFile_ReadsBackAllInteractions() {
+        final Path file = directory.resolve("environmentblueprintconfiguration.ndjson.gz");
+        final HttpInteractionLog log = HttpInteractionLog.appendingTo(file);
+        for (int page = 0; page < 40; page++) {
+            log.append(HttpInteraction.builder()
+                    .method("GET")
+                    .uri("/v2/domains/dzd_1234/environment-blueprint-configurations?nextToken=" + page)
+                    .requestBody("")
+                    .statusCode(200)
+                    .responseHeaders(Map.of("Content-Type", List.of("application/json")))
+                    .responseBody("{\"items\":[],\"nextToken\":\"" + (page + 1) + "\"}")
+                    .build());
+        }
+
+        final List<HttpInteraction> interactions = HttpInteractionLog.read(file);
+
+        assertThat(interactions).hasSize(40);
+        assertThat(interactions.get(39).getUri()).endsWith("nextToken=39");
+        assertThat(interactions.get(39).toResponse().firstMatchingHeader("Content-Type")).contains("application/json");
+    }
+
+    private static HttpExecuteRequest request(final SdkHttpMethod method, final String body) {
+        final SdkHttpFullRequest httpRequest = SdkHttpFullRequest.builder()
+                .method(method)
+                .uri(URI.create("https://datazone.us-east-1.api.aws/v2/domains/dzd_1234/environment-blueprint-configurations?maxResults=50"))
+                .putHeader("Authorization", "AWS4-HMAC-SHA256 Credential=AKIDEXAMPLE/20240101/us-east-1/datazone/aws4_request")
+                .build();
+        final HttpExecuteRequest.Builder request = HttpExecuteRequest.builder().request(httpRequest);
+        if (body != null) {
+            request.contentStreamProvider(() -> new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        }
+        return request.build();
+    }
+
+    private static ExecutableHttpRequest executable(final int statusCode, final String body) throws IOException {
+        final ExecutableHttpRequest executable = Mockito.mock(ExecutableHttpRequest.class);
+        when(executable.call()).thenReturn(HttpExecuteResponse.builder()
+                .response(SdkHttpFullResponse.builder()
+                        .statusCode(statusCode)
+                        .putHeader("Content-Type", "application/json")
+                        .putHeader("x-amzn-RequestId", "request-id")
+                        .build())
+                .responseBody(AbortableInputStream.create(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))))
+                .build());
+        return executable;
+    }
+
+    private static String body(final HttpExecuteResponse response) throws IOException {
+        return new String(response.responseBody().orElseThrow().readAllBytes(), StandardCharsets.UTF_8);
+    }
+}
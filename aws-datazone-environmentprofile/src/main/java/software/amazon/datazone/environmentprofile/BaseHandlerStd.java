@@ -6,34 +6,69 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.datazone.environmentprofile.client.DataZoneClientBuilder;
-import software.amazon.datazone.environmentprofile.client.DataZoneClientWrapper;
-import software.amazon.datazone.environmentprofile.helper.LoggerWrapper;
+import software.amazon.datazone.environmentprofile.helper.Tracing;
 
-public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
-
-    protected LoggerWrapper logger;
-    protected DataZoneClientWrapper dataZoneClientWrapper;
+import java.util.Map;
 
+public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(DataZoneClientBuilder::getClient),
-                logger
-        );
+        Tracing.start(ResourceModel.TYPE_NAME, getClass().getSimpleName(), Map.of(
+                "cfn.logicalResourceId", String.valueOf(request.getLogicalResourceIdentifier()),
+                "cfn.clientRequestToken", String.valueOf(request.getClientRequestToken())));
+        final InvocationContext context = InvocationContext.create(proxy, logger);
+        ProgressEvent<ResourceModel, CallbackContext> progressEvent = null;
+        try {
+            if (callbackContext == null && validatesDesiredResourceState()) {
+                // Rejects invalid input, with all of its violations, before the first call to DataZone.
+                ResourceModelValidator.getInstance().validate(request.getDesiredResourceState());
+            }
+            progressEvent = handleRequest(
+                    proxy,
+                    request,
+                    callbackContext != null ? callbackContext : new CallbackContext(),
+                    context
+            );
+            return progressEvent;
+        } finally {
+            Tracing.finish(progressEvent, logger::log);
+            // Export the retries and timeouts of the calls made during this invocation, and log what they cost.
+            context.getOperationMetrics().flush(logger::log);
+            context.getLogger().info("DataZone calls of this invocation: " + context.getInvocationCost().summarize());
+        }
     }
 
-    protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    /**
+     * Handles an invocation with a context of the given client and logger.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final ProxyClient<DataZoneClient> proxyClient,
-            final Logger logger);
+            final Logger logger) {
+        return handleRequest(proxy, request, callbackContext, InvocationContext.create(proxyClient, logger));
+    }
+
+    /**
+     * Handles an invocation with what it works with in the given context. Implementations keep no state in fields, a
+     * handler instance serves concurrent invocations.
+     */
+    protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final InvocationContext context);
+
+    /**
+     * Whether the desired resource state is validated against the resource schema on the first invocation, before the
+     * handler runs. Only the handlers that take it as input do.
+     */
+    protected boolean validatesDesiredResourceState() {
+        return false;
+    }
 }
@@ -1,6 +1,6 @@
 package software.amazon.datazone.environmentprofile;
 
-class Configuration extends BaseConfiguration {
+public class Configuration extends BaseConfiguration {
 
     public Configuration() {
         super("aws-datazone-environmentprofile.json");
@@ -1,16 +1,11 @@
 package software.amazon.datazone.environmentprofile;
 
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.ListEnvironmentProfilesRequest;
 import software.amazon.awssdk.services.datazone.model.ListEnvironmentProfilesResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.datazone.environmentprofile.client.DataZoneClientWrapper;
-import software.amazon.datazone.environmentprofile.helper.LoggerWrapper;
 
 import java.util.List;
 
@@ -20,14 +15,9 @@ public class ListHandler extends BaseHandlerStd {
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-
-        this.logger = new LoggerWrapper(externalLogger);
-        this.dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
-
+            final InvocationContext context) {
         final ListEnvironmentProfilesRequest listEnvironmentProfilesRequest = Translator.translateToListRequest(request.getDesiredResourceState(), request.getNextToken());
-        ListEnvironmentProfilesResponse listEnvironmentProfilesResponse = this.dataZoneClientWrapper.listEnvironmentProfile(listEnvironmentProfilesRequest);
+        ListEnvironmentProfilesResponse listEnvironmentProfilesResponse = context.getDataZoneClientWrapper().listEnvironmentProfile(listEnvironmentProfilesRequest);
         String nextToken = listEnvironmentProfilesResponse.nextToken();
         final List<ResourceModel> models = Translator.translateFromListRequest(listEnvironmentProfilesResponse);
 
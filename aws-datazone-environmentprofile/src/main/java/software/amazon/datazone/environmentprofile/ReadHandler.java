@@ -1,14 +1,10 @@
 package software.amazon.datazone.environmentprofile;
 
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.GetEnvironmentProfileResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.datazone.environmentprofile.client.DataZoneClientWrapper;
-import software.amazon.datazone.environmentprofile.helper.LoggerWrapper;
+import software.amazon.datazone.environmentprofile.helper.Tracing;
 
 public class ReadHandler extends BaseHandlerStd {
 
@@ -16,24 +12,19 @@ public class ReadHandler extends BaseHandlerStd {
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-
-        this.logger = new LoggerWrapper(externalLogger);
-        this.dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
-
-        return proxy.initiate("AWS-DataZone-EnvironmentProfile::Read", proxyClient, request.getDesiredResourceState(), callbackContext)
+            final InvocationContext context) {
+        return Tracing.callChain("AWS-DataZone-EnvironmentProfile::Read", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), request.getDesiredResourceState(), callbackContext)
 
                 .translateToServiceRequest(Translator::translateToReadRequest)
 
                 .makeServiceCall((getEnvironmentProfileRequest, client) -> {
 
-                    GetEnvironmentProfileResponse getEnvironmentProfileResponse = this.dataZoneClientWrapper.getEnvironmentProfile(getEnvironmentProfileRequest);
+                    GetEnvironmentProfileResponse getEnvironmentProfileResponse = context.getDataZoneClientWrapper().getEnvironmentProfile(getEnvironmentProfileRequest);
 
-                    logger.info(String.format("%s has successfully been read.", ResourceModel.TYPE_NAME));
+                    context.getLogger().info(String.format("%s has successfully been read.", ResourceModel.TYPE_NAME));
                     return getEnvironmentProfileResponse;
                 })
 
-                .done(getEnvironmentProfileResponse -> ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(getEnvironmentProfileResponse)));
+                .done(getEnvironmentProfileResponse -> ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(getEnvironmentProfileResponse))));
     }
 }
@@ -56,7 +56,7 @@ public class Translator {
      * @param model resource model
      * @return awsRequest the aws service request to describe a resource
      */
-    static GetEnvironmentProfileRequest translateToReadRequest(final ResourceModel model) {
+    public static GetEnvironmentProfileRequest translateToReadRequest(final ResourceModel model) {
         return GetEnvironmentProfileRequest.builder()
                 .domainIdentifier(getDomainId(model))
                 .identifier(model.getId())
@@ -69,7 +69,7 @@ public class Translator {
      * @param getEnvironmentProfileResponse the aws service describe resource response
      * @return model resource model
      */
-    static ResourceModel translateFromReadResponse(final GetEnvironmentProfileResponse getEnvironmentProfileResponse) {
+    public static ResourceModel translateFromReadResponse(final GetEnvironmentProfileResponse getEnvironmentProfileResponse) {
 
         List<software.amazon.datazone.environmentprofile.EnvironmentParameter> userParams = streamOfOrEmpty(getEnvironmentProfileResponse.userParameters())
                 .map(userParam -> software.amazon.datazone.environmentprofile.EnvironmentParameter.builder()
@@ -135,7 +135,7 @@ public class Translator {
      * @param nextToken token passed to the aws service list resources request
      * @return awsRequest the aws service request to list resources within aws account
      */
-    static ListEnvironmentProfilesRequest translateToListRequest(final ResourceModel model, final String nextToken) {
+    public static ListEnvironmentProfilesRequest translateToListRequest(final ResourceModel model, final String nextToken) {
         return ListEnvironmentProfilesRequest.builder()
                 .domainIdentifier(getDomainId(model))
                 .nextToken(nextToken)
@@ -148,7 +148,7 @@ public class Translator {
      * @param listEnvironmentProfilesResponse the aws service describe resource response
      * @return list of resource models
      */
-    static List<ResourceModel> translateFromListRequest(final ListEnvironmentProfilesResponse listEnvironmentProfilesResponse) {
+    public static List<ResourceModel> translateFromListRequest(final ListEnvironmentProfilesResponse listEnvironmentProfilesResponse) {
         return streamOfOrEmpty(listEnvironmentProfilesResponse.items())
                 .map(environmentProfileSummary -> ResourceModel.builder()
                         .awsAccountId(environmentProfileSummary.awsAccountId())
@@ -1,38 +1,35 @@
 package software.amazon.datazone.environmentprofile;
 
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.UpdateEnvironmentProfileResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.datazone.environmentprofile.client.DataZoneClientWrapper;
-import software.amazon.datazone.environmentprofile.helper.LoggerWrapper;
+import software.amazon.datazone.environmentprofile.helper.Tracing;
 
 public class UpdateHandler extends BaseHandlerStd {
+    private final ReadHandler readHandler = new ReadHandler();
+
+    @Override
+    protected boolean validatesDesiredResourceState() {
+        return true;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-
-        this.logger = new LoggerWrapper(externalLogger);
-        this.dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
-
+            final InvocationContext context) {
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 .then(progress ->
-                        proxy.initiate("AWS-DataZone-EnvironmentProfile::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                        Tracing.callChain("AWS-DataZone-EnvironmentProfile::Update", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), progress.getResourceModel(), progress.getCallbackContext())
 
                                 .translateToServiceRequest(Translator::translateToFirstUpdateRequest)
                                 .makeServiceCall((updateEnvironmentProfileRequest, client) -> {
-                                    UpdateEnvironmentProfileResponse updateEnvironmentProfileResponse = this.dataZoneClientWrapper.updateEnvironmentProfile(updateEnvironmentProfileRequest);
-                                    logger.info(String.format("%s has successfully been updated.", ResourceModel.TYPE_NAME));
+                                    UpdateEnvironmentProfileResponse updateEnvironmentProfileResponse = context.getDataZoneClientWrapper().updateEnvironmentProfile(updateEnvironmentProfileRequest);
+                                    context.getLogger().info(String.format("%s has successfully been updated.", ResourceModel.TYPE_NAME));
                                     return updateEnvironmentProfileResponse;
                                 })
-                                .progress())
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, externalLogger));
+                                .progress()))
+                .then(Tracing.stage("read", progress -> readHandler.handleRequest(proxy, request, callbackContext, context)));
     }
 }
@@ -0,0 +1,88 @@
+package software.amazon.datazone.environmentprofile.client;
+
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Counts the calls, retries and timed out attempts per DataZone operation of one handler invocation, and exports them
+ * in the CloudWatch embedded metric format. Each invocation has its own, published to by the clients built for it,
+ * which come and go with every call, and {@link #flush(Consumer)} hands the counts out at the end of the invocation.
+ * The connection acquire time, which the SDK only exposes as a metric, is passed on to the {@link InvocationCost} of
+ * the same invocation.
+ */
+public final class OperationMetricsPublisher implements MetricPublisher {
+    public static final String NAMESPACE = "DataZoneResourceProviders";
+    // Value of CoreMetric.ERROR_TYPE for attempts ended by apiCallTimeout or apiCallAttemptTimeout.
+    private static final String TIMEOUT_ERROR_TYPE = "ConfiguredTimeout";
+    private static final String EMBEDDED_METRIC_FORMAT = "{\"_aws\":{\"Timestamp\":%d,\"CloudWatchMetrics\":[{" +
+            "\"Namespace\":\"%s\",\"Dimensions\":[[\"Operation\"]],\"Metrics\":[{\"Name\":\"Calls\",\"Unit\":\"Count\"}," +
+            "{\"Name\":\"Retries\",\"Unit\":\"Count\"},{\"Name\":\"Timeouts\",\"Unit\":\"Count\"}]}]}," +
+            "\"Operation\":\"%s\",\"Calls\":%d,\"Retries\":%d,\"Timeouts\":%d}";
+
+    private final Map<String, OperationCounts> counts = new ConcurrentHashMap<>();
+    private final InvocationCost invocationCost;
+
+    public OperationMetricsPublisher(final InvocationCost invocationCost) {
+        this.invocationCost = invocationCost;
+    }
+
+    @Override
+    public void publish(final MetricCollection metricCollection) {
+        final String operation = metricCollection.metricValues(CoreMetric.OPERATION_NAME).stream()
+                .findFirst()
+                .orElse("Unknown");
+        final int retries = metricCollection.metricValues(CoreMetric.RETRY_COUNT).stream()
+                .findFirst()
+                .orElse(0);
+        // Every attempt is a child collection with its own error type.
+        final long timeouts = metricCollection.children().stream()
+                .flatMap(attempt -> attempt.metricValues(CoreMetric.ERROR_TYPE).stream())
+                .filter(TIMEOUT_ERROR_TYPE::equals)
+                .count();
+        counts.computeIfAbsent(operation, key -> new OperationCounts()).add(retries, timeouts);
+        invocationCost.recordConnectionAcquire(operation, metricCollection.children().stream()
+                .flatMap(attempt -> attempt.metricValues(HttpMetric.CONCURRENCY_ACQUIRE_DURATION).stream())
+                .reduce(Duration.ZERO, Duration::plus));
+    }
+
+    /**
+     * Hands out one embedded metric format line per operation called since the last flush, and resets the counts.
+     *
+     * @param sink Receiver of the lines, typically the handler logger.
+     */
+    public void flush(final Consumer<String> sink) {
+        for (final String operation : counts.keySet()) {
+            final OperationCounts operationCounts = counts.remove(operation);
+            if (operationCounts != null) {
+                sink.accept(String.format(EMBEDDED_METRIC_FORMAT, Instant.now().toEpochMilli(), NAMESPACE, operation,
+                        operationCounts.calls.get(), operationCounts.retries.get(), operationCounts.timeouts.get()));
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        // Shared by the clients of the invocation, so it outlives each of them.
+    }
+
+    private static class OperationCounts {
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong retries = new AtomicLong();
+        private final AtomicLong timeouts = new AtomicLong();
+
+        private void add(final long retryCount, final long timeoutCount) {
+            calls.incrementAndGet();
+            retries.addAndGet(retryCount);
+            timeouts.addAndGet(timeoutCount);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package software.amazon.datazone.environmentprofile.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Timeout and retry profiles of the DataZone operations, applied to every call made through the clients built by
+ * {@link DataZoneClientBuilder}. This is the only place these values are configured.
+ * <p>
+ * No call may take as long as an invocation: a handler that is still waiting on a call when its invocation ends
+ * returns no progress event at all, so even the longest profile leaves it half of the invocation to return one.
+ */
+@Getter
+@AllArgsConstructor
+public enum OperationProfile {
+    // Single reads, mostly polled during stabilization. Failing fast leaves the handler time to return and be
+    // re-invoked, instead of a hung call using up the remaining Lambda budget.
+    FAST_FAIL(Duration.ofSeconds(10), Duration.ofSeconds(3), 2),
+    // Pages of lists and searches, which take longer to serve than a single read the larger the page.
+    PAGED_READ(Duration.ofSeconds(20), Duration.ofSeconds(8), 2),
+    STANDARD(Duration.ofSeconds(30), Duration.ofSeconds(10), 3),
+    // Deletes, and creates that carry a client token, are not repeated by the handlers on failure, so they are given
+    // longer attempts and more retries. A retried create with a client token is answered with the resource the first
+    // attempt created.
+    PATIENT(Duration.ofSeconds(30), Duration.ofSeconds(15), 5),
+    // Creates without a client token: an attempt that timed out may have created the resource all the same, and
+    // sending it again would create a second one or fail with a conflict. They are sent once, and given the whole
+    // call timeout to answer.
+    SINGLE_ATTEMPT(Duration.ofSeconds(30), Duration.ofSeconds(30), 0);
+
+    private final Duration apiCallTimeout;
+    private final Duration apiCallAttemptTimeout;
+    private final int maxRetries;
+
+    private static final String CLIENT_TOKEN = "clientToken";
+
+    public static final RetryPolicy RETRY_POLICY = RetryPolicy.builder()
+            .numRetries(Arrays.stream(values()).mapToInt(OperationProfile::getMaxRetries).max().orElse(0))
+            .retryCondition(new OperationProfileRetryCondition())
+            .build();
+
+    /**
+     * @param operationName The DataZone operation name, e.g. GetEnvironment.
+     * @return The profile of the operation, {@link #STANDARD} when the operation is unknown. A create is assumed to
+     * carry a client token, see {@link #forRequest}.
+     */
+    public static OperationProfile forOperation(final String operationName) {
+        if (operationName == null) {
+            return STANDARD;
+        } else if (operationName.startsWith("Get")) {
+            return FAST_FAIL;
+        } else if (operationName.startsWith("List") || operationName.startsWith("Search")) {
+            return PAGED_READ;
+        } else if (operationName.startsWith("Create") || operationName.startsWith("Delete")) {
+            return PATIENT;
+        }
+        return STANDARD;
+    }
+
+    /**
+     * @param operationName The DataZone operation name, e.g. CreateEnvironment.
+     * @param request       The request of the call, null when it is not known.
+     * @return The profile of the operation, {@link #SINGLE_ATTEMPT} for a create whose request has no client token.
+     */
+    public static OperationProfile forRequest(final String operationName, final SdkRequest request) {
+        if (operationName != null && operationName.startsWith("Create") && request != null && !takesClientToken(request)) {
+            return SINGLE_ATTEMPT;
+        }
+        return forOperation(operationName);
+    }
+
+    /**
+     * @return Whether the request has a client token, which the SDK fills in when the handler does not, so that a
+     * retry of the same request is recognized as such.
+     */
+    private static boolean takesClientToken(final SdkRequest request) {
+        return request.sdkFields().stream().anyMatch(field -> CLIENT_TOKEN.equalsIgnoreCase(field.memberName()));
+    }
+}
@@ -0,0 +1,77 @@
+package software.amazon.datazone.environmentprofile.client;
+
+import lombok.NonNull;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serves recorded {@link HttpInteraction}s back instead of calling DataZone, to run the handlers offline on
+ * production-shaped traces, such as a read that pages through 40 pages. A request is answered with the next recorded
+ * response of the same method, uri and body, in the order they were recorded, right away. A request without a
+ * recorded response left fails, so that a handler making different calls than the recording is noticed instead of
+ * answered with something made up.
+ */
+public class ReplayHttpClient implements SdkHttpClient {
+    private final Map<String, Deque<HttpInteraction>> responses = new HashMap<>();
+
+    public ReplayHttpClient(final @NonNull List<HttpInteraction> interactions) {
+        interactions.forEach(interaction ->
+                responses.computeIfAbsent(interaction.requestKey(), key -> new ArrayDeque<>()).add(interaction));
+    }
+
+    public static ReplayHttpClient load(final @NonNull Path file) {
+        return new ReplayHttpClient(HttpInteractionLog.read(file));
+    }
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(final HttpExecuteRequest request) {
+        final String requestKey = HttpInteraction.requestKey(request.httpRequest(),
+                HttpInteraction.readBody(request.contentStreamProvider()));
+        return new ExecutableHttpRequest() {
+            @Override
+            public HttpExecuteResponse call() {
+                final HttpInteraction interaction = next(requestKey);
+                return HttpExecuteResponse.builder()
+                        .response(interaction.toResponse())
+                        .responseBody(AbortableInputStream.create(new ByteArrayInputStream(interaction.responseBodyBytes())))
+                        .build();
+            }
+
+            @Override
+            public void abort() {
+            }
+        };
+    }
+
+    /**
+     * @return The next recorded response to the request.
+     * @throws IllegalStateException When the recording has no response left for the request.
+     */
+    synchronized HttpInteraction next(final String requestKey) {
+        final Deque<HttpInteraction> recorded = responses.get(requestKey);
+        if (recorded == null || recorded.isEmpty()) {
+            throw new IllegalStateException(String.format("No recorded response left for %s", requestKey));
+        }
+        return recorded.poll();
+    }
+
+    @Override
+    public String clientName() {
+        return "Replay";
+    }
+
+    @Override
+    public void close() {
+    }
+}
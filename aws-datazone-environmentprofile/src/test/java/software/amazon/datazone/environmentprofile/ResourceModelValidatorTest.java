@@ -0,0 +1,61 @@
+package software.amazon.datazone.environmentprofile;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ResourceModelValidatorTest extends AbstractTestBase {
+    private final ResourceModelValidator validator = ResourceModelValidator.getInstance();
+
+    @Test
+    public void testValidate_ValidModel_WithReadOnlyProperties_Passes() {
+        final ResourceModel model = ResourceModel.builder()
+                .domainIdentifier("dzd_66zup2ahl2wg4n")
+                .projectIdentifier("b3ovsfpg5srfon")
+                .environmentBlueprintIdentifier("DefaultDataLake")
+                .name("environmentProfileName1")
+                .awsAccountId("123456789012")
+                .awsAccountRegion("us-east-1")
+                // Read-only, they are not input and not validated.
+                .id("not an environment profile id")
+                .domainId("not a domain id")
+                .projectId("not a project id")
+                .build();
+
+        assertThat(validator.violations(model)).isEmpty();
+        validator.validate(model);
+    }
+
+    @Test
+    public void testValidate_InvalidModel_ReportsAllViolations() {
+        final ResourceModel model = ResourceModel.builder()
+                .domainIdentifier("dzd_66zup2ahl2wg4n")
+                .environmentBlueprintIdentifier("DefaultDataLake")
+                .name("environment profile!")
+                .awsAccountId("1234")
+                .awsAccountRegion("us-east")
+                .build();
+
+        assertThat(validator.violations(model))
+                .hasSize(4)
+                .anySatisfy(violation -> assertThat(violation).contains("ProjectIdentifier"))
+                .anySatisfy(violation -> assertThat(violation).startsWith("#/Name"))
+                .anySatisfy(violation -> assertThat(violation).startsWith("#/AwsAccountId"))
+                .anySatisfy(violation -> assertThat(violation).startsWith("#/AwsAccountRegion"));
+        assertThatThrownBy(() -> validator.validate(model))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("4 schema violation(s)");
+    }
+
+    @Test
+    public void testValidate_NoModel_ReportsRequiredProperties() {
+        assertThat(validator.violations(null))
+                .hasSize(4)
+                .anySatisfy(violation -> assertThat(violation).contains("DomainIdentifier"))
+                .anySatisfy(violation -> assertThat(violation).contains("ProjectIdentifier"))
+                .anySatisfy(violation -> assertThat(violation).contains("EnvironmentBlueprintIdentifier"))
+                .anySatisfy(violation -> assertThat(violation).contains("Name"));
+    }
+}
@@ -0,0 +1,114 @@
+package software.amazon.datazone.environmentprofile.client;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.cloudformation.LambdaWrapper;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HttpClientSettingsTest {
+
+    @Test
+    public void testFromEnvironment_NothingSet_UsesSharedDefaultClient() {
+        final HttpClientSettings settings = HttpClientSettings.fromEnvironment(Map.<String, String>of()::get);
+
+        assertThat(settings.getTransport()).isEqualTo(HttpTransport.DEFAULT);
+        assertThat(settings.hasConnectionSettings()).isFalse();
+        assertThat(settings.createHttpClient()).isSameAs(LambdaWrapper.HTTP_CLIENT);
+        assertThat(settings.overrideConfiguration().apiCallAttemptTimeout()).isEmpty();
+    }
+
+    @Test
+    public void testFromEnvironment_AllSet_ParsesSettings() {
+        final HttpClientSettings settings = HttpClientSettings.fromEnvironment(Map.of(
+                HttpClientSettings.TRANSPORT, "url_connection",
+                HttpClientSettings.MAX_CONNECTIONS, "8",
+                HttpClientSettings.TCP_KEEP_ALIVE, "true",
+                HttpClientSettings.CONNECTION_TTL_MILLIS, "60000",
+                HttpClientSettings.CONNECTION_TIMEOUT_MILLIS, "2000",
+                HttpClientSettings.SOCKET_TIMEOUT_MILLIS, "5000",
+                HttpClientSettings.API_CALL_ATTEMPT_TIMEOUT_MILLIS, "10000",
+                HttpClientSettings.ENDPOINT_OVERRIDE, "http://localhost:8080")::get);
+
+        assertThat(settings.getTransport()).isEqualTo(HttpTransport.URL_CONNECTION);
+        assertThat(settings.getMaxConnections()).isEqualTo(8);
+        assertThat(settings.getTcpKeepAlive()).isTrue();
+        assertThat(settings.getConnectionTimeToLive()).isEqualTo(Duration.ofMinutes(1));
+        assertThat(settings.getConnectionTimeout()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(settings.getSocketTimeout()).isEqualTo(Duration.ofSeconds(5));
+        assertThat(settings.getEndpointOverride()).isEqualTo(URI.create("http://localhost:8080"));
+        assertThat(settings.overrideConfiguration().apiCallAttemptTimeout()).contains(Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void testFromEnvironment_InvalidValue_ShouldThrowException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () ->
+                HttpClientSettings.fromEnvironment(Map.of(HttpClientSettings.TRANSPORT, "okhttp")::get));
+        Assertions.assertThrows(IllegalArgumentException.class, () ->
+                HttpClientSettings.fromEnvironment(Map.of(HttpClientSettings.TCP_KEEP_ALIVE, "yes")::get));
+        Assertions.assertThrows(IllegalArgumentException.class, () ->
+                HttpClientSettings.fromEnvironment(Map.of(HttpClientSettings.SOCKET_TIMEOUT_MILLIS, "0")::get));
+    }
+
+    @Test
+    public void testFromEnvironment_RecordAndReplayFiles_ShouldThrowException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> HttpClientSettings.fromEnvironment(Map.of(
+                HttpClientSettings.RECORD_FILE, "/tmp/record.ndjson",
+                HttpClientSettings.REPLAY_FILE, "/tmp/replay.ndjson")::get));
+    }
+
+    @Test
+    public void testCreateHttpClient_RecordFile_WrapsTransportClient() {
+        final HttpClientSettings settings = HttpClientSettings.fromEnvironment(Map.of(
+                HttpClientSettings.TRANSPORT, "url_connection",
+                HttpClientSettings.RECORD_FILE, "/tmp/record.ndjson")::get);
+
+        assertThat(settings.getRecordFile()).isEqualTo(Path.of("/tmp/record.ndjson"));
+        try (SdkHttpClient httpClient = settings.createHttpClient()) {
+            assertThat(httpClient).isInstanceOf(RecordingHttpClient.class);
+        }
+    }
+
+    @Test
+    public void testCreateHttpClient_DefaultTransportWithConnectionSettings_CreatesDedicatedClient() {
+        final HttpClientSettings settings = HttpClientSettings.builder()
+                .maxConnections(4)
+                .connectionTimeToLive(Duration.ofMinutes(1))
+                .build();
+
+        try (SdkHttpClient httpClient = settings.createHttpClient()) {
+            assertThat(httpClient).isInstanceOf(ApacheHttpClient.class).isNotSameAs(LambdaWrapper.HTTP_CLIENT);
+        }
+    }
+
+    @Test
+    public void testCreateHttpClient_UrlConnectionTransport_CreatesUrlConnectionClient() {
+        final HttpClientSettings settings = HttpClientSettings.builder()
+                .transport(HttpTransport.URL_CONNECTION)
+                .connectionTimeout(Duration.ofSeconds(1))
+                .build();
+
+        try (SdkHttpClient httpClient = settings.createHttpClient()) {
+            assertThat(httpClient).isInstanceOf(UrlConnectionHttpClient.class);
+        }
+    }
+
+    @Test
+    public void testHttpTransport_ClientNotPackaged_IsNotAvailable() {
+        final ClassLoader bootstrapOnly = new ClassLoader(null) {
+        };
+
+        assertThat(HttpTransport.CRT.isAvailable(bootstrapOnly)).isFalse();
+        assertThat(HttpTransport.URL_CONNECTION.isAvailable(bootstrapOnly)).isFalse();
+        assertThat(HttpTransport.URL_CONNECTION.isAvailable(HttpClientSettings.class.getClassLoader())).isTrue();
+        assertThat(HttpTransport.DEFAULT.isAvailable(HttpClientSettings.class.getClassLoader())).isTrue();
+    }
+}
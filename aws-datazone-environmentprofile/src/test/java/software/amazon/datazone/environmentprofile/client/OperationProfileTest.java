@@ -0,0 +1,128 @@
+package software.amazon.datazone.environmentprofile.client;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.exception.RetryableException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.services.datazone.model.CreateDomainRequest;
+import software.amazon.awssdk.services.datazone.model.CreateEnvironmentRequest;
+import software.amazon.awssdk.services.datazone.model.GetEnvironmentRequest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OperationProfileTest {
+
+    @Test
+    public void testForOperation_MapsOperationsToProfiles() {
+        assertThat(OperationProfile.forOperation("GetEnvironment")).isEqualTo(OperationProfile.FAST_FAIL);
+        assertThat(OperationProfile.forOperation("ListEnvironments")).isEqualTo(OperationProfile.PAGED_READ);
+        assertThat(OperationProfile.forOperation("SearchListings")).isEqualTo(OperationProfile.PAGED_READ);
+        assertThat(OperationProfile.forOperation("CreateEnvironment")).isEqualTo(OperationProfile.PATIENT);
+        assertThat(OperationProfile.forOperation("DeleteEnvironment")).isEqualTo(OperationProfile.PATIENT);
+        assertThat(OperationProfile.forOperation("UpdateEnvironment")).isEqualTo(OperationProfile.STANDARD);
+        assertThat(OperationProfile.forOperation(null)).isEqualTo(OperationProfile.STANDARD);
+    }
+
+    @Test
+    public void testForRequest_CreateWithoutClientToken_IsSentOnce() {
+        final CreateEnvironmentRequest withoutClientToken = CreateEnvironmentRequest.builder().name("env").build();
+        final CreateDomainRequest withClientToken = CreateDomainRequest.builder().name("domain").build();
+
+        assertThat(OperationProfile.forRequest("CreateEnvironment", withoutClientToken)).isEqualTo(OperationProfile.SINGLE_ATTEMPT);
+        assertThat(OperationProfile.forRequest("CreateDomain", withClientToken)).isEqualTo(OperationProfile.PATIENT);
+        assertThat(OperationProfile.forRequest("CreateEnvironment", null)).isEqualTo(OperationProfile.PATIENT);
+        assertThat(OperationProfile.SINGLE_ATTEMPT.getMaxRetries()).isZero();
+    }
+
+    @Test
+    public void testProfiles_LeaveTimeToReturnWithinTheInvocation() {
+        for (final OperationProfile profile : OperationProfile.values()) {
+            assertThat(profile.getApiCallTimeout()).isLessThanOrEqualTo(Duration.ofSeconds(30));
+            assertThat(profile.getApiCallAttemptTimeout()).isLessThanOrEqualTo(profile.getApiCallTimeout());
+        }
+    }
+
+    @Test
+    public void testModifyRequest_AppliesProfileTimeoutsAndKeepsCredentials() {
+        final GetEnvironmentRequest request = GetEnvironmentRequest.builder()
+                .identifier("env-id")
+                .overrideConfiguration(o -> o.credentialsProvider(AnonymousCredentialsProvider.create()))
+                .build();
+
+        final GetEnvironmentRequest modified = (GetEnvironmentRequest) new OperationProfileInterceptor(null)
+                .modifyRequest(modifyRequestContext(request), executionAttributes("GetEnvironment"));
+
+        assertThat(modified.identifier()).isEqualTo("env-id");
+        assertThat(modified.overrideConfiguration()).hasValueSatisfying(overrideConfiguration -> {
+            assertThat(overrideConfiguration.credentialsProvider()).isPresent();
+            assertThat(overrideConfiguration.apiCallTimeout()).contains(OperationProfile.FAST_FAIL.getApiCallTimeout());
+            assertThat(overrideConfiguration.apiCallAttemptTimeout()).contains(OperationProfile.FAST_FAIL.getApiCallAttemptTimeout());
+        });
+    }
+
+    @Test
+    public void testModifyRequest_ExplicitTimeouts_TakePrecedence() {
+        final GetEnvironmentRequest request = GetEnvironmentRequest.builder()
+                .identifier("env-id")
+                .overrideConfiguration(o -> o.apiCallTimeout(Duration.ofMinutes(2)))
+                .build();
+
+        final GetEnvironmentRequest modified = (GetEnvironmentRequest) new OperationProfileInterceptor(Duration.ofSeconds(7))
+                .modifyRequest(modifyRequestContext(request), executionAttributes("GetEnvironment"));
+
+        assertThat(modified.overrideConfiguration()).hasValueSatisfying(overrideConfiguration -> {
+            assertThat(overrideConfiguration.apiCallTimeout()).contains(Duration.ofMinutes(2));
+            assertThat(overrideConfiguration.apiCallAttemptTimeout()).contains(Duration.ofSeconds(7));
+        });
+    }
+
+    @Test
+    public void testShouldRetry_StopsAtProfileMaximum() {
+        final OperationProfileRetryCondition retryCondition = new OperationProfileRetryCondition();
+
+        assertThat(retryCondition.shouldRetry(retryPolicyContext("GetEnvironment", 0))).isTrue();
+        assertThat(retryCondition.shouldRetry(retryPolicyContext("GetEnvironment", OperationProfile.FAST_FAIL.getMaxRetries()))).isFalse();
+        assertThat(retryCondition.shouldRetry(retryPolicyContext("CreateEnvironment", OperationProfile.FAST_FAIL.getMaxRetries()))).isTrue();
+        assertThat(retryCondition.shouldRetry(retryPolicyContext("CreateEnvironment", OperationProfile.PATIENT.getMaxRetries()))).isFalse();
+        assertThat(OperationProfile.RETRY_POLICY.numRetries()).isEqualTo(OperationProfile.PATIENT.getMaxRetries());
+    }
+
+    @Test
+    public void testShouldRetry_CreateWithoutClientToken_IsNeverRetried() {
+        final OperationProfileRetryCondition retryCondition = new OperationProfileRetryCondition();
+        final CreateEnvironmentRequest request = CreateEnvironmentRequest.builder().name("env").build();
+
+        assertThat(retryCondition.shouldRetry(retryPolicyContext("CreateEnvironment", 0, request))).isFalse();
+    }
+
+    private static Context.ModifyRequest modifyRequestContext(final GetEnvironmentRequest request) {
+        final Context.ModifyRequest context = Mockito.mock(Context.ModifyRequest.class);
+        Mockito.when(context.request()).thenReturn(request);
+        return context;
+    }
+
+    private static ExecutionAttributes executionAttributes(final String operationName) {
+        return new ExecutionAttributes().putAttribute(SdkExecutionAttribute.OPERATION_NAME, operationName);
+    }
+
+    private static RetryPolicyContext retryPolicyContext(final String operationName, final int retriesAttempted) {
+        return retryPolicyContext(operationName, retriesAttempted, null);
+    }
+
+    private static RetryPolicyContext retryPolicyContext(final String operationName, final int retriesAttempted,
+                                                         final SdkRequest originalRequest) {
+        return RetryPolicyContext.builder()
+                .executionAttributes(executionAttributes(operationName))
+                .originalRequest(originalRequest)
+                .exception(RetryableException.create("Connection reset"))
+                .retriesAttempted(retriesAttempted)
+                .build();
+    }
+}
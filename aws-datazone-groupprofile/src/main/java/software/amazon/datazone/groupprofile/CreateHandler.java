@@ -1,7 +1,6 @@
 package software.amazon.datazone.groupprofile;
 
 import com.amazonaws.util.StringUtils;
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.CreateGroupProfileRequest;
 import software.amazon.awssdk.services.datazone.model.CreateGroupProfileResponse;
 import software.amazon.awssdk.services.datazone.model.GetGroupProfileResponse;
@@ -10,51 +9,54 @@ import software.amazon.awssdk.services.datazone.model.ResourceNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.datazone.groupprofile.client.DataZoneClientWrapper;
 import software.amazon.datazone.groupprofile.helper.LoggerWrapper;
+import software.amazon.datazone.groupprofile.helper.Tracing;
 
 public class CreateHandler extends BaseHandlerStd {
+    private final ReadHandler readHandler = new ReadHandler();
+
+    @Override
+    protected boolean validatesDesiredResourceState() {
+        return true;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-
-        this.logger = new LoggerWrapper(externalLogger);
-        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
+            final InvocationContext context) {
+        final DataZoneClientWrapper dataZoneClientWrapper = context.getDataZoneClientWrapper();
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 // Make create call
-                .then(progress -> checkForPreExistence(progress, dataZoneClientWrapper))
+                .then(Tracing.stage("checkForPreExistence", progress -> checkForPreExistence(progress, dataZoneClientWrapper, context.getLogger())))
                 // Checking for pre-existence using null ID
-                .then(progress -> StringUtils.isNullOrEmpty(progress.getResourceModel().getId()) ? createGroupProfile(proxy,
-                        proxyClient, progress, dataZoneClientWrapper) : transitionToActive(proxy, proxyClient, progress, dataZoneClientWrapper))
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, progress.getCallbackContext(),
-                        proxyClient, externalLogger));
+                .then(Tracing.stage("createOrActivate", progress -> StringUtils.isNullOrEmpty(progress.getResourceModel().getId()) ? createGroupProfile(proxy, request,
+                        context, progress, dataZoneClientWrapper) : transitionToActive(proxy, context, progress, dataZoneClientWrapper)))
+                .then(Tracing.stage("read", progress -> readHandler.handleRequest(proxy, request, progress.getCallbackContext(),
+                        context)));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> transitionToActive(AmazonWebServicesClientProxy proxy,
-                                                                             ProxyClient<DataZoneClient> proxyClient,
+                                                                             InvocationContext context,
                                                                              ProgressEvent<ResourceModel, CallbackContext> progress,
                                                                              DataZoneClientWrapper dataZoneClientWrapper) {
         // Call DataZone Control Plane to create the resource.
-        return proxy.initiate("AWS-DataZone-GroupProfile::TransitionToActive", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+        return Tracing.callChain("AWS-DataZone-GroupProfile::TransitionToActive", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), progress.getResourceModel(), progress.getCallbackContext())
                 // get Create Request
                 .translateToServiceRequest(Translator::translateToUpdateRequest)
                 // make service call
                 .makeServiceCall((updateGroupProfileRequest, client) -> dataZoneClientWrapper.updateGroupProfile(updateGroupProfileRequest))
                 // and update the model fields.
-                .progress();
+                .progress());
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> checkForPreExistence(ProgressEvent<ResourceModel, CallbackContext> progress,
-                                                                               DataZoneClientWrapper dataZoneClientWrapper) {
+                                                                               DataZoneClientWrapper dataZoneClientWrapper,
+                                                                               LoggerWrapper logger) {
         // Call DataZone Control Plane to get the resource.
         ResourceModel resourceModel = progress.getResourceModel();
         String domainIdentifier = getDomain(resourceModel);
@@ -99,25 +101,27 @@ public class CreateHandler extends BaseHandlerStd {
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> createGroupProfile(AmazonWebServicesClientProxy proxy,
-                                                                             ProxyClient<DataZoneClient> proxyClient,
+                                                                             ResourceHandlerRequest<ResourceModel> request,
+                                                                             InvocationContext context,
                                                                              ProgressEvent<ResourceModel, CallbackContext> progress,
                                                                              DataZoneClientWrapper dataZoneClientWrapper) {
         // Call DataZone Control Plane to create the resource.
-        return proxy.initiate("AWS-DataZone-GroupProfile::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+        return Tracing.callChain("AWS-DataZone-GroupProfile::Create", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), progress.getResourceModel(), progress.getCallbackContext())
                 // get Create Request
-                .translateToServiceRequest(model -> Translator.translateToCreateRequest(model, getNewClientToken()))
+                .translateToServiceRequest(model -> Translator.translateToCreateRequest(model, getClientToken(request, progress.getCallbackContext())))
                 // make service call
                 .makeServiceCall((createGroupProfileRequest, client) -> dataZoneClientWrapper.createGroupProfile(createGroupProfileRequest))
                 // and update the model fields.
-                .done(this::updateModelFields);
+                .done((createGroupProfileRequest, createGroupProfileResponse, client, resourceModel, callbackContext) ->
+                        updateModelFields(createGroupProfileRequest, createGroupProfileResponse, resourceModel, callbackContext, context)));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> updateModelFields(CreateGroupProfileRequest createGroupProfileRequest,
                                                                             CreateGroupProfileResponse createGroupProfileResponse,
-                                                                            ProxyClient<DataZoneClient> dataZoneClientProxyClient,
                                                                             ResourceModel resourceModel,
-                                                                            CallbackContext callbackContext) {
-        logger.info("Successfully created GroupProfile for domain %s and group identifier %s",
+                                                                            CallbackContext callbackContext,
+                                                                            InvocationContext context) {
+        context.getLogger().info("Successfully created GroupProfile for domain %s and group identifier %s",
                 createGroupProfileRequest.domainIdentifier(), createGroupProfileRequest.groupIdentifier());
         resourceModel.setId(createGroupProfileResponse.id());
         resourceModel.setDomainId(createGroupProfileResponse.domainId());
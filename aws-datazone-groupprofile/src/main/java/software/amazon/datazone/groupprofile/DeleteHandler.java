@@ -1,17 +1,15 @@
 package software.amazon.datazone.groupprofile;
 
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.GetGroupProfileResponse;
 import software.amazon.awssdk.services.datazone.model.GroupProfileStatus;
 import software.amazon.awssdk.services.datazone.model.ResourceNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.datazone.groupprofile.client.DataZoneClientWrapper;
 import software.amazon.datazone.groupprofile.helper.LoggerWrapper;
+import software.amazon.datazone.groupprofile.helper.Tracing;
 
 public class DeleteHandler extends BaseHandlerStd {
 
@@ -19,19 +17,16 @@ public class DeleteHandler extends BaseHandlerStd {
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-
-        this.logger = new LoggerWrapper(externalLogger);
-        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
+            final InvocationContext context) {
+        final DataZoneClientWrapper dataZoneClientWrapper = context.getDataZoneClientWrapper();
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(progress -> deleteGroupProfile(progress, dataZoneClientWrapper))
+                .then(Tracing.stage("deleteGroupProfile", progress -> deleteGroupProfile(progress, dataZoneClientWrapper, context.getLogger())))
                 .then(progress -> ProgressEvent.defaultSuccessHandler(null));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> deleteGroupProfile(
-            ProgressEvent<ResourceModel, CallbackContext> progress, DataZoneClientWrapper dataZoneClientWrapper) {
+            ProgressEvent<ResourceModel, CallbackContext> progress, DataZoneClientWrapper dataZoneClientWrapper, LoggerWrapper logger) {
         ResourceModel resourceModel = progress.getResourceModel();
         String domainIdentifier = getDomain(resourceModel);
         String groupIdentifier = getGroupId(resourceModel);
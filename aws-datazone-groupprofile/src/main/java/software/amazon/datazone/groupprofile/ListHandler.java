@@ -1,15 +1,11 @@
 package software.amazon.datazone.groupprofile;
 
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.SearchGroupProfilesResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.datazone.groupprofile.client.DataZoneClientWrapper;
-import software.amazon.datazone.groupprofile.helper.LoggerWrapper;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -20,11 +16,8 @@ public class ListHandler extends BaseHandlerStd {
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-
-        this.logger = new LoggerWrapper(externalLogger);
-        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
+            final InvocationContext context) {
+        final DataZoneClientWrapper dataZoneClientWrapper = context.getDataZoneClientWrapper();
 
         // Call the API and get response
         SearchGroupProfilesResponse response = dataZoneClientWrapper.searchGroupProfile(
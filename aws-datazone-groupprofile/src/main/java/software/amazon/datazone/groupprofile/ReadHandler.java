@@ -1,16 +1,14 @@
 package software.amazon.datazone.groupprofile;
 
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.GetGroupProfileResponse;
 import software.amazon.awssdk.services.datazone.model.GroupProfileStatus;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.datazone.groupprofile.client.DataZoneClientWrapper;
 import software.amazon.datazone.groupprofile.helper.LoggerWrapper;
+import software.amazon.datazone.groupprofile.helper.Tracing;
 
 public class ReadHandler extends BaseHandlerStd {
 
@@ -18,28 +16,25 @@ public class ReadHandler extends BaseHandlerStd {
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-
-        this.logger = new LoggerWrapper(externalLogger);
-        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
+            final InvocationContext context) {
+        final DataZoneClientWrapper dataZoneClientWrapper = context.getDataZoneClientWrapper();
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(progress -> readGroupProfile(proxy, proxyClient, progress, dataZoneClientWrapper));
+                .then(Tracing.stage("readGroupProfile", progress -> readGroupProfile(proxy, context, progress, dataZoneClientWrapper)));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> readGroupProfile(AmazonWebServicesClientProxy proxy,
-                                                                           ProxyClient<DataZoneClient> proxyClient,
+                                                                           InvocationContext context,
                                                                            ProgressEvent<ResourceModel, CallbackContext> progress,
                                                                            DataZoneClientWrapper dataZoneClientWrapper) {
         // Call DataZone Control Plane to update the resource.
-        return proxy.initiate("AWS-DataZone-GroupProfile::Read", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+        return Tracing.callChain("AWS-DataZone-GroupProfile::Read", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToReadRequest)
                 .makeServiceCall((getGroupProfileRequest, client) -> dataZoneClientWrapper.readGroupProfile(getGroupProfileRequest))
-                .done(this::validateResponse);
+                .done(getGroupProfileResponse -> validateResponse(getGroupProfileResponse, context.getLogger())));
     }
 
-    private ProgressEvent<ResourceModel, CallbackContext> validateResponse(GetGroupProfileResponse getGroupProfileResponse) {
+    private ProgressEvent<ResourceModel, CallbackContext> validateResponse(GetGroupProfileResponse getGroupProfileResponse, LoggerWrapper logger) {
         if (GroupProfileStatus.NOT_ASSIGNED.equals(getGroupProfileResponse.status())) {
             String errorMessage = String.format("Group profile found for Domain %s and Group Identifier %s is NOT_ASSIGNED",
                     getGroupProfileResponse.domainId(), getGroupProfileResponse.id());
@@ -42,7 +42,7 @@ public class Translator {
      * @param model Resource model for the Group Profile.
      * @return The GetGroupProfileRequest for the Group Profile.
      */
-    static GetGroupProfileRequest translateToReadRequest(final ResourceModel model) {
+    public static GetGroupProfileRequest translateToReadRequest(final ResourceModel model) {
         return GetGroupProfileRequest.builder()
                 .domainIdentifier(getDomain(model))
                 .groupIdentifier(getGroupId(model))
@@ -55,7 +55,7 @@ public class Translator {
      * @param getGroupProfileResponse the aws service describe resource response
      * @return model resource model
      */
-    static ResourceModel translateFromReadResponse(final GetGroupProfileResponse getGroupProfileResponse) {
+    public static ResourceModel translateFromReadResponse(final GetGroupProfileResponse getGroupProfileResponse) {
         return ResourceModel.builder()
                 .id(getGroupProfileResponse.id())
                 .domainId(getGroupProfileResponse.domainId())
@@ -107,7 +107,7 @@ public class Translator {
      * @param domainId            The domainId for the GroupProfiles.
      * @return model Resource model.
      */
-    static ResourceModel getResourceModelFromSummary(GroupProfileSummary groupProfileSummary, String domainId) {
+    public static ResourceModel getResourceModelFromSummary(GroupProfileSummary groupProfileSummary, String domainId) {
         return ResourceModel.builder()
                 .id(groupProfileSummary.id())
                 .domainId(domainId)
@@ -1,45 +1,45 @@
 package software.amazon.datazone.groupprofile;
 
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.GroupProfileStatus;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.datazone.groupprofile.client.DataZoneClientWrapper;
-import software.amazon.datazone.groupprofile.helper.LoggerWrapper;
+import software.amazon.datazone.groupprofile.helper.Tracing;
 
 public class UpdateHandler extends BaseHandlerStd {
+    private final ReadHandler readHandler = new ReadHandler();
+
+    @Override
+    protected boolean validatesDesiredResourceState() {
+        return true;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-
+            final InvocationContext context) {
         validateRequest(request.getDesiredResourceState());
 
-        this.logger = new LoggerWrapper(externalLogger);
-        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
+        final DataZoneClientWrapper dataZoneClientWrapper = context.getDataZoneClientWrapper();
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(progress -> updateGroupProfile(proxy, proxyClient, progress, dataZoneClientWrapper))
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, progress.getCallbackContext(), proxyClient, externalLogger));
+                .then(Tracing.stage("updateGroupProfile", progress -> updateGroupProfile(proxy, context, progress, dataZoneClientWrapper)))
+                .then(Tracing.stage("read", progress -> readHandler.handleRequest(proxy, request, progress.getCallbackContext(), context)));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> updateGroupProfile(AmazonWebServicesClientProxy proxy,
-                                                                             ProxyClient<DataZoneClient> proxyClient, ProgressEvent<ResourceModel, CallbackContext> progress,
+                                                                             InvocationContext context, ProgressEvent<ResourceModel, CallbackContext> progress,
                                                                              DataZoneClientWrapper dataZoneClientWrapper) {
         // Call DataZone Control Plane to update the resource.
-        return proxy.initiate("AWS-DataZone-GroupProfile::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+        return Tracing.callChain("AWS-DataZone-GroupProfile::Update", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), progress.getResourceModel(), progress.getCallbackContext())
                 // get Update Request
                 .translateToServiceRequest(Translator::translateToUpdateRequest)
                 // make service call
                 .makeServiceCall((updateGroupProfileRequest, client) -> dataZoneClientWrapper.updateGroupProfile(updateGroupProfileRequest))
-                .progress();
+                .progress());
     }
 
     private void validateRequest(ResourceModel resourceModel) {
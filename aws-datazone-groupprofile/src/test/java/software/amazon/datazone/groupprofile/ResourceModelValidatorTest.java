@@ -0,0 +1,52 @@
+package software.amazon.datazone.groupprofile;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ResourceModelValidatorTest extends AbstractTestBase {
+    private final ResourceModelValidator validator = ResourceModelValidator.getInstance();
+
+    @Test
+    public void testValidate_ValidModel_WithReadOnlyProperties_Passes() {
+        final ResourceModel model = ResourceModel.builder()
+                .domainIdentifier(DOMAIN_IDENTIFIER)
+                .groupIdentifier(GROUP_IDENTIFIER)
+                .status(ASSIGNED)
+                // Read-only, they are not input and not validated.
+                .id("not a group profile id")
+                .domainId("not a domain id")
+                .groupName("not a group name!")
+                .build();
+
+        assertThat(validator.violations(model)).isEmpty();
+        validator.validate(model);
+    }
+
+    @Test
+    public void testValidate_InvalidModel_ReportsAllViolations() {
+        final ResourceModel model = ResourceModel.builder()
+                .domainIdentifier("5sewe4x1y5zajr")
+                .status("DEACTIVATED")
+                .build();
+
+        assertThat(validator.violations(model))
+                .hasSize(3)
+                .anySatisfy(violation -> assertThat(violation).contains("GroupIdentifier"))
+                .anySatisfy(violation -> assertThat(violation).startsWith("#/DomainIdentifier"))
+                .anySatisfy(violation -> assertThat(violation).startsWith("#/Status"));
+        assertThatThrownBy(() -> validator.validate(model))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("3 schema violation(s)");
+    }
+
+    @Test
+    public void testValidate_NoModel_ReportsRequiredProperties() {
+        assertThat(validator.violations(null))
+                .hasSize(2)
+                .anySatisfy(violation -> assertThat(violation).contains("DomainIdentifier"))
+                .anySatisfy(violation -> assertThat(violation).contains("GroupIdentifier"));
+    }
+}
@@ -1,40 +1,37 @@
 package software.amazon.datazone.project;
 
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.CreateProjectResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.datazone.project.client.DataZoneClientWrapper;
-import software.amazon.datazone.project.helper.LoggerWrapper;
+import software.amazon.datazone.project.helper.Tracing;
 
 public class CreateHandler extends BaseHandlerStd {
+    private final ReadHandler readHandler = new ReadHandler();
+
+    @Override
+    protected boolean validatesDesiredResourceState() {
+        return true;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-
-        this.logger = new LoggerWrapper(externalLogger);
-        this.dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient);
-
+            final InvocationContext context) {
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 .then(progress ->
-                        proxy.initiate("AWS-DataZone-Project::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                        Tracing.callChain("AWS-DataZone-Project::Create", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), progress.getResourceModel(), progress.getCallbackContext())
                                 .translateToServiceRequest(Translator::translateToCreateRequest)
                                 .makeServiceCall((createProjectRequest, client) -> {
-                                    CreateProjectResponse createProjectResponse = dataZoneClientWrapper.createProject(createProjectRequest);
+                                    CreateProjectResponse createProjectResponse = context.getDataZoneClientWrapper().createProject(createProjectRequest);
 
-                                    logger.info(String.format("%s successfully created.", ResourceModel.TYPE_NAME));
+                                    context.getLogger().info(String.format("%s successfully created.", ResourceModel.TYPE_NAME));
                                     progress.getResourceModel().setId(createProjectResponse.id());
                                     return createProjectResponse;
                                 })
-                                .progress()
+                                .progress())
                 )
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, externalLogger));
+                .then(Tracing.stage("read", progress -> readHandler.handleRequest(proxy, request, callbackContext, context)));
     }
 }
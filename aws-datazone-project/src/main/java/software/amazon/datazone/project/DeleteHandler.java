@@ -1,15 +1,11 @@
 package software.amazon.datazone.project;
 
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.DeleteProjectResponse;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.datazone.project.client.DataZoneClientWrapper;
-import software.amazon.datazone.project.helper.LoggerWrapper;
+import software.amazon.datazone.project.helper.Tracing;
 
 public class DeleteHandler extends BaseHandlerStd {
 
@@ -17,25 +13,20 @@ public class DeleteHandler extends BaseHandlerStd {
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-
-        this.logger = new LoggerWrapper(externalLogger);
-        this.dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient);
-
+            final InvocationContext context) {
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 .then(progress ->
-                        proxy.initiate("AWS-DataZone-Project::Delete", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                        Tracing.callChain("AWS-DataZone-Project::Delete", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), progress.getResourceModel(), progress.getCallbackContext())
                                 .translateToServiceRequest(Translator::translateToDeleteRequest)
                                 .makeServiceCall((deleteProjectRequest, client) -> {
-                                    DeleteProjectResponse deleteProjectResponse = dataZoneClientWrapper.deleteProject(deleteProjectRequest);
-                                    logger.info(String.format("%s successfully deleted.", ResourceModel.TYPE_NAME));
+                                    DeleteProjectResponse deleteProjectResponse = context.getDataZoneClientWrapper().deleteProject(deleteProjectRequest);
+                                    context.getLogger().info(String.format("%s successfully deleted.", ResourceModel.TYPE_NAME));
                                     if (!deleteProjectResponse.sdkHttpResponse().isSuccessful()) {
                                         throw new CfnServiceInternalErrorException("Project was not successfully deleted with id" + deleteProjectRequest.identifier());
                                     }
                                     return deleteProjectResponse;
                                 })
-                                .progress()
+                                .progress())
                 )
                 .then(progress -> ProgressEvent.defaultSuccessHandler(null));
     }
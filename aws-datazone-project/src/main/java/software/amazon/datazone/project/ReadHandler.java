@@ -1,14 +1,10 @@
 package software.amazon.datazone.project;
 
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.GetProjectResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.datazone.project.client.DataZoneClientWrapper;
-import software.amazon.datazone.project.helper.LoggerWrapper;
+import software.amazon.datazone.project.helper.Tracing;
 
 public class ReadHandler extends BaseHandlerStd {
 
@@ -16,19 +12,14 @@ public class ReadHandler extends BaseHandlerStd {
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-
-        this.logger = new LoggerWrapper(externalLogger);
-        this.dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient);
-
-        return proxy.initiate("AWS-DataZone-Project::Read", proxyClient, request.getDesiredResourceState(), callbackContext)
+            final InvocationContext context) {
+        return Tracing.callChain("AWS-DataZone-Project::Read", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), request.getDesiredResourceState(), callbackContext)
                 .translateToServiceRequest(Translator::translateToReadRequest)
                 .makeServiceCall((getProjectRequest, client) -> {
-                    GetProjectResponse getProjectResponse = this.dataZoneClientWrapper.getProject(getProjectRequest);
-                    logger.info(String.format("%s has successfully been read.", ResourceModel.TYPE_NAME));
+                    GetProjectResponse getProjectResponse = context.getDataZoneClientWrapper().getProject(getProjectRequest);
+                    context.getLogger().info(String.format("%s has successfully been read.", ResourceModel.TYPE_NAME));
                     return getProjectResponse;
                 })
-                .done(getProjectResponse -> ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(getProjectResponse)));
+                .done(getProjectResponse -> ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(getProjectResponse))));
     }
 }
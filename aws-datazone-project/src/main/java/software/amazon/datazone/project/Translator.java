@@ -47,7 +47,7 @@ public class Translator {
      * @param model resource model
      * @return GetProjectRequest the DataZone request to describe a project
      */
-    static GetProjectRequest translateToReadRequest(final ResourceModel model) {
+    public static GetProjectRequest translateToReadRequest(final ResourceModel model) {
         return GetProjectRequest.builder()
                 .domainIdentifier(getDomainId(model))
                 .identifier(model.getId())
@@ -60,7 +60,7 @@ public class Translator {
      * @param GetProjectResponse the DataZone response for describing a project
      * @return model resource model
      */
-    static ResourceModel translateFromReadResponse(final GetProjectResponse getProjectResponse) {
+    public static ResourceModel translateFromReadResponse(final GetProjectResponse getProjectResponse) {
         return ResourceModel.builder()
                 .domainId(getProjectResponse.domainId())
                 .id(getProjectResponse.id())
@@ -109,7 +109,7 @@ public class Translator {
      * @param nextToken     token passed to the DataZone list project resources request
      * @return listProjectsRequest the DataZone request to list project resources within aws account
      */
-    static ListProjectsRequest translateToListRequest(final ResourceModel model, final String nextToken) {
+    public static ListProjectsRequest translateToListRequest(final ResourceModel model, final String nextToken) {
         return ListProjectsRequest.builder()
                 .domainIdentifier(getDomainId(model))
                 .nextToken(nextToken)
@@ -122,7 +122,7 @@ public class Translator {
      * @param listProjectsResponse the DataZone list project resource response
      * @return list of resource models
      */
-    static List<ResourceModel> translateFromListRequest(final ListProjectsResponse listProjectsResponse) {
+    public static List<ResourceModel> translateFromListRequest(final ListProjectsResponse listProjectsResponse) {
 
         return streamOfOrEmpty(listProjectsResponse.items())
                 .map(projectSummary -> ResourceModel.builder()
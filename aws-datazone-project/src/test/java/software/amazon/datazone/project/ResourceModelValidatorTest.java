@@ -0,0 +1,56 @@
+package software.amazon.datazone.project;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ResourceModelValidatorTest extends AbstractTestBase {
+    private final ResourceModelValidator validator = ResourceModelValidator.getInstance();
+
+    @Test
+    public void testValidate_ValidModel_WithReadOnlyProperties_Passes() {
+        final ResourceModel model = ResourceModel.builder()
+                .domainIdentifier("dzd_66zup2ahl2wg4n")
+                .name("Project 1")
+                .description("Test project")
+                .glossaryTerms(List.of("glossary1", "glossary2"))
+                // Read-only, they are not input and not validated.
+                .id("not a project id")
+                .domainId("not a domain id")
+                .createdAt("not a timestamp")
+                .build();
+
+        assertThat(validator.violations(model)).isEmpty();
+        validator.validate(model);
+    }
+
+    @Test
+    public void testValidate_InvalidModel_ReportsAllViolations() {
+        final ResourceModel model = ResourceModel.builder()
+                .domainIdentifier("mockdomainId")
+                .name("Project 1!")
+                .glossaryTerms(List.of("glossary 1"))
+                .build();
+
+        assertThat(validator.violations(model))
+                .hasSize(3)
+                .anySatisfy(violation -> assertThat(violation).startsWith("#/DomainIdentifier"))
+                .anySatisfy(violation -> assertThat(violation).startsWith("#/Name"))
+                .anySatisfy(violation -> assertThat(violation).startsWith("#/GlossaryTerms/0"));
+        assertThatThrownBy(() -> validator.validate(model))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("3 schema violation(s)");
+    }
+
+    @Test
+    public void testValidate_NoModel_ReportsRequiredProperties() {
+        assertThat(validator.violations(null))
+                .hasSize(2)
+                .anySatisfy(violation -> assertThat(violation).contains("DomainIdentifier"))
+                .anySatisfy(violation -> assertThat(violation).contains("Name"));
+    }
+}
@@ -14,51 +14,94 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.datazone.projectmembership.client.DataZoneClientBuilder;
+import software.amazon.datazone.projectmembership.client.DataZoneAsyncClientWrapper;
 import software.amazon.datazone.projectmembership.client.DataZoneClientWrapper;
 import software.amazon.datazone.projectmembership.helper.LoggerWrapper;
+import software.amazon.datazone.projectmembership.helper.Tracing;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import static software.amazon.datazone.projectmembership.helper.Constants.GROUP_IDENTIFIER;
 import static software.amazon.datazone.projectmembership.helper.Constants.USER_IDENTIFIER;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
-    protected LoggerWrapper logger;
-
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(DataZoneClientBuilder::getClient),
-                logger
-        );
+        Tracing.start(ResourceModel.TYPE_NAME, getClass().getSimpleName(), Map.of(
+                "cfn.logicalResourceId", String.valueOf(request.getLogicalResourceIdentifier()),
+                "cfn.clientRequestToken", String.valueOf(request.getClientRequestToken())));
+        final InvocationContext context = InvocationContext.create(proxy, logger);
+        ProgressEvent<ResourceModel, CallbackContext> progressEvent = null;
+        try {
+            if (callbackContext == null && validatesDesiredResourceState()) {
+                // Rejects invalid input, with all of its violations, before the first call to DataZone.
+                ResourceModelValidator.getInstance().validate(request.getDesiredResourceState());
+            }
+            progressEvent = handleRequest(
+                    proxy,
+                    request,
+                    callbackContext != null ? callbackContext : new CallbackContext(),
+                    context
+            );
+            return progressEvent;
+        } finally {
+            Tracing.finish(progressEvent, logger::log);
+            // Export the retries and timeouts of the calls made during this invocation, and log what they cost.
+            context.getOperationMetrics().flush(logger::log);
+            context.getLogger().info("DataZone calls of this invocation: " + context.getInvocationCost().summarize());
+        }
     }
 
-    protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+    /**
+     * Handles an invocation without the async client, the handlers fall back to blocking calls.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final ProxyClient<DataZoneClient> proxyClient,
-            final Logger logger);
+            final Logger logger) {
+        return handleRequest(proxy, request, callbackContext, InvocationContext.create(proxyClient, null, logger));
+    }
+
+    /**
+     * Handles an invocation with what it works with in the given context. Implementations keep no state in fields, a
+     * handler instance serves concurrent invocations.
+     */
+    protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final InvocationContext context);
+
+    /**
+     * Whether the desired resource state is validated against the resource schema on the first invocation, before the
+     * handler runs. Only the handlers that take it as input do.
+     */
+    protected boolean validatesDesiredResourceState() {
+        return false;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> deleteProjectMembership(AmazonWebServicesClientProxy proxy,
-                                                                                    ProxyClient<DataZoneClient> proxyClient,
+                                                                                    InvocationContext context,
                                                                                     ProgressEvent<ResourceModel, CallbackContext> progress,
                                                                                     DataZoneClientWrapper dataZoneClientWrapper) {
         ResourceModel resourceModel = progress.getResourceModel();
         CallbackContext callbackContext = progress.getCallbackContext();
         try {
-            return proxy.initiate("AWS-DataZone-ProjectMembership::Delete", proxyClient, resourceModel, callbackContext)
+            return Tracing.callChain("AWS-DataZone-ProjectMembership::Delete", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), resourceModel, callbackContext)
                     .translateToServiceRequest(model -> Translator.translateToDeleteRequest(model))
                     .makeServiceCall((deleteProjectMembershipRequest, client) -> dataZoneClientWrapper.deleteProjectMembership(deleteProjectMembershipRequest))
-                    .progress();
+                    .progress());
         } catch (ResourceNotFoundException | CfnNotFoundException exception) {
-            logger.info("ProjectMembership with member %s in project %s, domain %s does not exist",
+            context.getLogger().info("ProjectMembership with member %s in project %s, domain %s does not exist",
                     resourceModel.getMemberIdentifier(), resourceModel.getProjectIdentifier(), resourceModel.getDomainIdentifier());
             throw new CfnNotFoundException(exception);
         }
@@ -66,10 +109,15 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     protected ProgressEvent<ResourceModel, CallbackContext> updateModelFields(CreateProjectMembershipRequest createProjectMembershipRequest,
                                                                               ResourceModel resourceModel,
-                                                                              DataZoneClientWrapper dataZoneClientWrapper) {
+                                                                              DataZoneClientWrapper dataZoneClientWrapper,
+                                                                              CompletableFuture<String> memberIdentifierLookup,
+                                                                              LoggerWrapper logger) {
         logger.info("Successfully created ProjectMembership in project %s domain %s member %s", createProjectMembershipRequest.projectIdentifier(),
                 createProjectMembershipRequest.domainIdentifier(), createProjectMembershipRequest.member());
-        String memberIdentifier = getMemberIdentifier(resourceModel, dataZoneClientWrapper);
+        // If the lookup was already started alongside the membership call then just wait for it, else fetch it now.
+        String memberIdentifier = Objects.isNull(memberIdentifierLookup) ?
+                getMemberIdentifier(resourceModel, dataZoneClientWrapper, logger) :
+                DataZoneAsyncClientWrapper.join(memberIdentifierLookup);
         String memberIdentifierType = getMemberIdentifierType(resourceModel);
 
         resourceModel.setMemberIdentifier(memberIdentifier);
@@ -78,7 +126,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         return ProgressEvent.defaultSuccessHandler(resourceModel);
     }
 
-    private String getMemberIdentifier(ResourceModel resourceModel, DataZoneClientWrapper dataZoneClientWrapper) {
+    private String getMemberIdentifier(ResourceModel resourceModel, DataZoneClientWrapper dataZoneClientWrapper, LoggerWrapper logger) {
         String userIdentifier = resourceModel.getMember().getUserIdentifier();
         String groupIdentifier = resourceModel.getMember().getGroupIdentifier();
 
@@ -103,6 +151,80 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         }
     }
 
+    /**
+     * Starts fetching the id of the member on the async client, so that the lookup does not have to wait for the
+     * membership call to finish.
+     *
+     * @param resourceModel Resource model for the ProjectMembership.
+     * @param context       Context of the invocation.
+     * @return The future id of the member, or null when the async client is not available.
+     */
+    protected CompletableFuture<String> lookupMemberIdentifier(ResourceModel resourceModel, InvocationContext context) {
+        if (Objects.isNull(context.getAsyncProxyClient())) {
+            return null;
+        }
+
+        final LoggerWrapper logger = context.getLogger();
+        final DataZoneAsyncClientWrapper dataZoneAsyncClientWrapper = new DataZoneAsyncClientWrapper(context.getAsyncProxyClient(), logger);
+        String userIdentifier = resourceModel.getMember().getUserIdentifier();
+        String groupIdentifier = resourceModel.getMember().getGroupIdentifier();
+
+        if (!StringUtils.isNullOrEmpty(userIdentifier)) {
+            logger.info("Fetching user profile for %s", userIdentifier);
+            final CompletableFuture<GetUserProfileResponse> userProfile = dataZoneAsyncClientWrapper.getUserProfile(
+                    GetUserProfileRequest.builder()
+                            .domainIdentifier(resourceModel.getDomainIdentifier())
+                            .userIdentifier(userIdentifier)
+                            .build());
+            return DataZoneAsyncClientWrapper.cancelling(userProfile.thenApply(getUserProfileResponse -> {
+                logger.info("Received id %s for user %s, type %s", getUserProfileResponse.id(), userIdentifier,
+                        getUserProfileResponse.typeAsString());
+                return getUserProfileResponse.id();
+            }), userProfile);
+        } else {
+            logger.info("Fetching group profile for %s", groupIdentifier);
+            final CompletableFuture<GetGroupProfileResponse> groupProfile = dataZoneAsyncClientWrapper.getGroupProfile(
+                    GetGroupProfileRequest.builder()
+                            .domainIdentifier(resourceModel.getDomainIdentifier())
+                            .groupIdentifier(groupIdentifier)
+                            .build());
+            return DataZoneAsyncClientWrapper.cancelling(groupProfile.thenApply(getGroupProfileResponse -> {
+                logger.info("Received id %s for group %s, name %s", getGroupProfileResponse.id(), groupIdentifier,
+                        getGroupProfileResponse.groupName());
+                return getGroupProfileResponse.id();
+            }), groupProfile);
+        }
+    }
+
+    /**
+     * Makes the membership call while the member lookup is in flight. The lookup is only joined once the call
+     * succeeded, so when the call fails or does not complete the lookup is cancelled rather than left running, and a
+     * failure it already had is logged, as nothing else observes it.
+     *
+     * @param memberIdentifierLookup The lookup started before the call, null when the async client is not available.
+     * @param logger                 Logger of the invocation.
+     * @param membershipCall         Makes the membership call, and joins the lookup once it succeeded.
+     * @return The progress of the membership call.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> whileLookingUpMember(
+            CompletableFuture<String> memberIdentifierLookup,
+            LoggerWrapper logger,
+            Supplier<ProgressEvent<ResourceModel, CallbackContext>> membershipCall) {
+        boolean succeeded = false;
+        try {
+            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = membershipCall.get();
+            succeeded = progressEvent.isSuccess();
+            return progressEvent;
+        } finally {
+            if (!succeeded && !Objects.isNull(memberIdentifierLookup) && !memberIdentifierLookup.cancel(true)) {
+                memberIdentifierLookup.exceptionally(throwable -> {
+                    logger.info("Member lookup failed along with the membership call: %s", throwable);
+                    return null;
+                });
+            }
+        }
+    }
+
     private String getMemberIdentifierType(ResourceModel resourceModel) {
         String userIdentifier = resourceModel.getMember().getUserIdentifier();
         if (!StringUtils.isNullOrEmpty(userIdentifier)) {
@@ -1,40 +1,41 @@
 package software.amazon.datazone.projectmembership;
 
 import com.amazonaws.util.StringUtils;
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.datazone.projectmembership.client.DataZoneClientWrapper;
 import software.amazon.datazone.projectmembership.helper.LoggerWrapper;
+import software.amazon.datazone.projectmembership.helper.Tracing;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 public class CreateHandler extends BaseHandlerStd {
 
+    @Override
+    protected boolean validatesDesiredResourceState() {
+        return true;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-
-        this.logger = new LoggerWrapper(externalLogger);
-        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
+            final InvocationContext context) {
+        final DataZoneClientWrapper dataZoneClientWrapper = context.getDataZoneClientWrapper();
 
-        this.validateInputs(request.getDesiredResourceState());
-        logger.info("Received request for create for DomainId %s and MemberIdentifier %s ",
+        this.validateInputs(request.getDesiredResourceState(), context.getLogger());
+        context.getLogger().info("Received request for create for DomainId %s and MemberIdentifier %s ",
                 request.getDesiredResourceState().getDomainIdentifier(), request.getDesiredResourceState().getMember());
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 // Make create call
-                .then(progress -> createProjectMembership(proxy, proxyClient, progress, dataZoneClientWrapper));
+                .then(Tracing.stage("createProjectMembership", progress -> createProjectMembership(proxy, context, progress, dataZoneClientWrapper)));
     }
 
-    private void validateInputs(ResourceModel resourceModel) {
+    private void validateInputs(ResourceModel resourceModel, LoggerWrapper logger) {
         if (Objects.isNull(resourceModel.getMember())) {
             logger.error("Received invalid request %s", resourceModel);
             throw new CfnInvalidRequestException(new Exception("Member is required for creating Project Membership."));
@@ -55,17 +56,19 @@ public class CreateHandler extends BaseHandlerStd {
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> createProjectMembership(AmazonWebServicesClientProxy proxy,
-                                                                                  ProxyClient<DataZoneClient> proxyClient,
+                                                                                  InvocationContext context,
                                                                                   ProgressEvent<ResourceModel,
                                                                                           CallbackContext> progress,
                                                                                   DataZoneClientWrapper dataZoneClientWrapper) {
-        return proxy.initiate("AWS-DataZone-ProjectMembership::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+        // The member lookup does not depend on the membership call, so start it right away.
+        final CompletableFuture<String> memberIdentifierLookup = lookupMemberIdentifier(progress.getResourceModel(), context);
+        return whileLookingUpMember(memberIdentifierLookup, context.getLogger(), () -> Tracing.callChain("AWS-DataZone-ProjectMembership::Create", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), progress.getResourceModel(), progress.getCallbackContext())
                 // get Create Request
                 .translateToServiceRequest(model -> Translator.translateToCreateRequest(model))
                 // make service call
                 .makeServiceCall((createProjectMembershipRequest, client) -> dataZoneClientWrapper.createProjectMembership(createProjectMembershipRequest))
                 // and update the model fields.
                 .done((createProjectMembershipRequest, createProjectMembershipResponse, dataZoneClientProxyClient, resourceModel, callbackContext) ->
-                        updateModelFields(createProjectMembershipRequest, resourceModel, dataZoneClientWrapper));
+                        updateModelFields(createProjectMembershipRequest, resourceModel, dataZoneClientWrapper, memberIdentifierLookup, context.getLogger()))));
     }
 }
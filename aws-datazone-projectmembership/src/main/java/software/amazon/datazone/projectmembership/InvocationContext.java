@@ -0,0 +1,60 @@
+package software.amazon.datazone.projectmembership;
+
+import lombok.NonNull;
+import lombok.Value;
+import software.amazon.awssdk.services.datazone.DataZoneAsyncClient;
+import software.amazon.awssdk.services.datazone.DataZoneClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.datazone.projectmembership.client.DataZoneClientBuilder;
+import software.amazon.datazone.projectmembership.client.DataZoneClientWrapper;
+import software.amazon.datazone.projectmembership.client.InvocationCost;
+import software.amazon.datazone.projectmembership.client.OperationMetricsPublisher;
+import software.amazon.datazone.projectmembership.helper.LoggerWrapper;
+
+/**
+ * What the handlers work with during one invocation. It is created once per invocation and passed along, the handlers
+ * keep no state of their own, so that one handler instance can serve concurrent invocations.
+ */
+@Value
+class InvocationContext {
+    ProxyClient<DataZoneClient> proxyClient;
+    // Only set for invocations coming from CloudFormation, handlers fall back to blocking calls when it is null.
+    ProxyClient<DataZoneAsyncClient> asyncProxyClient;
+    LoggerWrapper logger;
+    DataZoneClientWrapper dataZoneClientWrapper;
+    // What the calls of the invocation cost, logged and exported when it ends.
+    InvocationCost invocationCost;
+    OperationMetricsPublisher operationMetrics;
+
+    static InvocationContext create(final @NonNull ProxyClient<DataZoneClient> proxyClient,
+                                    final ProxyClient<DataZoneAsyncClient> asyncProxyClient,
+                                    final @NonNull Logger logger) {
+        final InvocationCost invocationCost = new InvocationCost();
+        return create(proxyClient, asyncProxyClient, logger, invocationCost, new OperationMetricsPublisher(invocationCost));
+    }
+
+    /**
+     * Creates the context of an invocation from CloudFormation, with clients that record their calls into the cost and
+     * the metrics of this invocation only.
+     */
+    static InvocationContext create(final @NonNull AmazonWebServicesClientProxy proxy,
+                                    final @NonNull Logger logger) {
+        final InvocationCost invocationCost = new InvocationCost();
+        final OperationMetricsPublisher operationMetrics = new OperationMetricsPublisher(invocationCost);
+        return create(proxy.newProxy(() -> DataZoneClientBuilder.getClient(invocationCost, operationMetrics)),
+                proxy.newProxy(() -> DataZoneClientBuilder.getAsyncClient(invocationCost, operationMetrics)),
+                logger, invocationCost, operationMetrics);
+    }
+
+    private static InvocationContext create(final @NonNull ProxyClient<DataZoneClient> proxyClient,
+                                            final ProxyClient<DataZoneAsyncClient> asyncProxyClient,
+                                            final @NonNull Logger logger,
+                                            final InvocationCost invocationCost,
+                                            final OperationMetricsPublisher operationMetrics) {
+        final LoggerWrapper loggerWrapper = new LoggerWrapper(logger);
+        return new InvocationContext(proxyClient, asyncProxyClient, loggerWrapper, new DataZoneClientWrapper(proxyClient, loggerWrapper),
+                invocationCost, operationMetrics);
+    }
+}
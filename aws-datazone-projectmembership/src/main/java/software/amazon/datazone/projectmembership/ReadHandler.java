@@ -2,18 +2,15 @@ package software.amazon.datazone.projectmembership;
 
 import com.amazonaws.util.CollectionUtils;
 import com.amazonaws.util.StringUtils;
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.ListProjectMembershipsRequest;
 import software.amazon.awssdk.services.datazone.model.ListProjectMembershipsResponse;
 import software.amazon.awssdk.services.datazone.model.ProjectMember;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.datazone.projectmembership.client.DataZoneClientWrapper;
-import software.amazon.datazone.projectmembership.helper.LoggerWrapper;
+import software.amazon.datazone.projectmembership.helper.Tracing;
 
 import java.util.Objects;
 
@@ -26,22 +23,18 @@ public class ReadHandler extends BaseHandlerStd {
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            Logger externalLogger) {
+            final InvocationContext context) {
+        final DataZoneClientWrapper dataZoneClientWrapper = context.getDataZoneClientWrapper();
 
-        // Initialise
-        this.logger = new LoggerWrapper(externalLogger);
-        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
-
-        logger.info("Received request for read for DomainId %s and MemberIdentifier %s ",
+        context.getLogger().info("Received request for read for DomainId %s and MemberIdentifier %s ",
                 request.getDesiredResourceState().getDomainIdentifier(), request.getDesiredResourceState().getMemberIdentifier());
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(progress -> getProjectMembership(proxy, proxyClient, progress, dataZoneClientWrapper));
+                .then(Tracing.stage("getProjectMembership", progress -> getProjectMembership(proxy, context, progress, dataZoneClientWrapper)));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> getProjectMembership(AmazonWebServicesClientProxy proxy,
-                                                                               ProxyClient<DataZoneClient> proxyClient,
+                                                                               InvocationContext context,
                                                                                ProgressEvent<ResourceModel, CallbackContext> progress,
                                                                                DataZoneClientWrapper dataZoneClientWrapper) {
         ResourceModel resourceModel = progress.getResourceModel();
@@ -61,13 +54,13 @@ public class ReadHandler extends BaseHandlerStd {
 
             for (ProjectMember projectMember : response.members()) {
                 if (!Objects.isNull(projectMember.memberDetails().user()) && memberIdentifier.equals(projectMember.memberDetails().user().userId())) {
-                    logger.info("Found membership details for user member %s, in project %s, domain %s," +
+                    context.getLogger().info("Found membership details for user member %s, in project %s, domain %s," +
                             " current designation %s", memberIdentifier, projectIdentifier, domainIdentifier, projectMember.designation());
                     return ProgressEvent.defaultSuccessHandler(getResourceModelForUser(resourceModel, projectMember));
                 }
 
                 if (!Objects.isNull(projectMember.memberDetails().group()) && memberIdentifier.equals(projectMember.memberDetails().group().groupId())) {
-                    logger.info("Found membership details for group member %s, in project %s, domain %s," +
+                    context.getLogger().info("Found membership details for group member %s, in project %s, domain %s," +
                             " current designation %s", memberIdentifier, projectIdentifier, domainIdentifier, projectMember.designation());
                     return ProgressEvent.defaultSuccessHandler(getResourceModelForGroup(resourceModel, projectMember));
                 }
@@ -80,7 +73,7 @@ public class ReadHandler extends BaseHandlerStd {
             }
         }
 
-        logger.info("Failed to find member %s, in project %s, domain %s", memberIdentifier, projectIdentifier,
+        context.getLogger().info("Failed to find member %s, in project %s, domain %s", memberIdentifier, projectIdentifier,
                 domainIdentifier);
         throw new CfnNotFoundException(new Exception(String.format("Failed to find member %s", memberIdentifier)));
     }
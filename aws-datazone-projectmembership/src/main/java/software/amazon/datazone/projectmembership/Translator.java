@@ -1,18 +1,19 @@
 package software.amazon.datazone.projectmembership;
 
 import com.amazonaws.util.StringUtils;
-import com.google.common.collect.Lists;
 import lombok.NonNull;
 import software.amazon.awssdk.awscore.AwsRequest;
-import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.services.datazone.model.CreateProjectMembershipRequest;
 import software.amazon.awssdk.services.datazone.model.DeleteProjectMembershipRequest;
 import software.amazon.awssdk.services.datazone.model.ListProjectMembershipsRequest;
+import software.amazon.awssdk.services.datazone.model.ListProjectMembershipsResponse;
 import software.amazon.awssdk.services.datazone.model.Member;
+import software.amazon.awssdk.services.datazone.model.MemberDetails;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -68,7 +69,7 @@ public class Translator {
      * @param nextToken token passed to the aws service list resources request
      * @return awsRequest the aws service request to list resources within aws account
      */
-    static ListProjectMembershipsRequest translateToListRequest(final @NonNull ResourceModel model,
+    public static ListProjectMembershipsRequest translateToListRequest(final @NonNull ResourceModel model,
                                                                 final String nextToken) {
         return ListProjectMembershipsRequest.builder()
                 .domainIdentifier(model.getDomainIdentifier())
@@ -78,20 +79,50 @@ public class Translator {
     }
 
     /**
-     * Translates resource objects from sdk into a resource model (primary identifier only)
+     * Translates the members of a project into resource models
      *
-     * @param awsResponse the aws service describe resource response
+     * @param model the resource model the members were listed for
+     * @param listProjectMembershipsResponse the aws service list resources response
      * @return list of resource models
      */
-    static List<ResourceModel> translateFromListRequest(final AwsResponse awsResponse) {
-        // e.g. https://github.com/aws-cloudformation/aws-cloudformation-resource-providers-logs/blob/2077c92299aeb9a68ae8f4418b5e932b12a8b186/aws-logs-loggroup/src/main/java/com/aws/logs/loggroup/Translator.java#L75-L82
-        return streamOfOrEmpty(Lists.newArrayList())
-                .map(resource -> ResourceModel.builder()
-                        // include only primary identifier
-                        .build())
+    public static List<ResourceModel> translateFromListRequest(final @NonNull ResourceModel model,
+                                                        final @NonNull ListProjectMembershipsResponse listProjectMembershipsResponse) {
+        return streamOfOrEmpty(listProjectMembershipsResponse.members())
+                .map(projectMember -> ResourceModel.builder()
+                        .domainIdentifier(model.getDomainIdentifier())
+                        .projectIdentifier(model.getProjectIdentifier())
+                        .designation(projectMember.designationAsString())
+                        .memberIdentifier(getMemberIdentifier(projectMember.memberDetails()))
+                        .memberIdentifierType(getMemberIdentifierType(projectMember.memberDetails()))
+                        .build()
+                )
                 .collect(Collectors.toList());
     }
 
+    private static String getMemberIdentifierType(MemberDetails memberDetails) {
+        if (!Objects.isNull(memberDetails.user()) && !StringUtils.isNullOrEmpty(memberDetails.user().userId())) {
+            return USER_IDENTIFIER;
+        }
+
+        if (!Objects.isNull(memberDetails.group()) && !StringUtils.isNullOrEmpty(memberDetails.group().groupId())) {
+            return GROUP_IDENTIFIER;
+        }
+
+        throw new RuntimeException(String.format("Invalid memberDetails %s", memberDetails));
+    }
+
+    private static String getMemberIdentifier(MemberDetails memberDetails) {
+        if (!Objects.isNull(memberDetails.user()) && !StringUtils.isNullOrEmpty(memberDetails.user().userId())) {
+            return memberDetails.user().userId();
+        }
+
+        if (!Objects.isNull(memberDetails.group()) && !StringUtils.isNullOrEmpty(memberDetails.group().groupId())) {
+            return memberDetails.group().groupId();
+        }
+
+        throw new RuntimeException(String.format("Invalid memberDetails %s", memberDetails));
+    }
+
     public static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
         return Optional.ofNullable(collection)
                 .map(Collection::stream)
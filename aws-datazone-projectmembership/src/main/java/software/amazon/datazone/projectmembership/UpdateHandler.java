@@ -1,47 +1,49 @@
 package software.amazon.datazone.projectmembership;
 
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.datazone.projectmembership.client.DataZoneClientWrapper;
-import software.amazon.datazone.projectmembership.helper.LoggerWrapper;
+import software.amazon.datazone.projectmembership.helper.Tracing;
+
+import java.util.concurrent.CompletableFuture;
 
 public class UpdateHandler extends BaseHandlerStd {
 
+    @Override
+    protected boolean validatesDesiredResourceState() {
+        return true;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-
-        // Initialise
-        this.logger = new LoggerWrapper(externalLogger);
-        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
+            final InvocationContext context) {
+        final DataZoneClientWrapper dataZoneClientWrapper = context.getDataZoneClientWrapper();
 
-        logger.info("Received request for update for DomainId %s and MemberIdentifier %s ",
+        context.getLogger().info("Received request for update for DomainId %s and MemberIdentifier %s ",
                 request.getDesiredResourceState().getDomainIdentifier(), request.getDesiredResourceState().getMember());
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(progress -> deleteProjectMembership(proxy, proxyClient, progress, dataZoneClientWrapper))
-                .then(progress -> updateProjectMembership(proxy, proxyClient, progress, dataZoneClientWrapper));
+                .then(Tracing.stage("deleteProjectMembership", progress -> deleteProjectMembership(proxy, context, progress, dataZoneClientWrapper)))
+                .then(Tracing.stage("updateProjectMembership", progress -> updateProjectMembership(proxy, context, progress, dataZoneClientWrapper)));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> updateProjectMembership(AmazonWebServicesClientProxy proxy,
-                                                                                  ProxyClient<DataZoneClient> proxyClient,
+                                                                                  InvocationContext context,
                                                                                   ProgressEvent<ResourceModel,
                                                                                           CallbackContext> progress,
                                                                                   DataZoneClientWrapper dataZoneClientWrapper) {
-        return proxy.initiate("AWS-DataZone-ProjectMembership::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+        // The member lookup does not depend on the membership call, so start it right away.
+        final CompletableFuture<String> memberIdentifierLookup = lookupMemberIdentifier(progress.getResourceModel(), context);
+        return whileLookingUpMember(memberIdentifierLookup, context.getLogger(), () -> Tracing.callChain("AWS-DataZone-ProjectMembership::Update", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), progress.getResourceModel(), progress.getCallbackContext())
                 // get Create Request
                 .translateToServiceRequest(model -> Translator.translateToCreateRequest(model))
                 // make service call
                 .makeServiceCall((createProjectMembershipRequest, client) -> dataZoneClientWrapper.createProjectMembership(createProjectMembershipRequest))
                 // and update the model fields.
                 .done((createProjectMembershipRequest, createProjectMembershipResponse, dataZoneClientProxyClient, resourceModel, callbackContext) ->
-                        updateModelFields(createProjectMembershipRequest, resourceModel, dataZoneClientWrapper));
+                        updateModelFields(createProjectMembershipRequest, resourceModel, dataZoneClientWrapper, memberIdentifierLookup, context.getLogger()))));
     }
 }
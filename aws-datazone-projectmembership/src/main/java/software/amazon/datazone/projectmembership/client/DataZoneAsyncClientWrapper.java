@@ -0,0 +1,107 @@
+package software.amazon.datazone.projectmembership.client;
+
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.datazone.DataZoneAsyncClient;
+import software.amazon.awssdk.services.datazone.model.GetGroupProfileRequest;
+import software.amazon.awssdk.services.datazone.model.GetGroupProfileResponse;
+import software.amazon.awssdk.services.datazone.model.GetUserProfileRequest;
+import software.amazon.awssdk.services.datazone.model.GetUserProfileResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.datazone.projectmembership.helper.LoggerWrapper;
+import software.amazon.datazone.projectmembership.helper.ProjectMembershipOperation;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Async counterpart of {@link DataZoneClientWrapper}. Every call returns immediately with a future, so that the
+ * member identity lookup can be in flight while the membership itself is being created. Failures complete the future
+ * with the same Cfn exceptions that the blocking wrapper throws.
+ */
+@AllArgsConstructor
+public class DataZoneAsyncClientWrapper {
+
+    private final @NonNull ProxyClient<DataZoneAsyncClient> proxyClient;
+    private final @NonNull LoggerWrapper logger;
+
+    public CompletableFuture<GetUserProfileResponse> getUserProfile(final @NonNull GetUserProfileRequest getUserProfileRequest) {
+        final DataZoneAsyncClient client = proxyClient.client();
+        String resourceIdentifier = getUserProfileRequest.domainIdentifier() + "|" + getUserProfileRequest.userIdentifier();
+        return executeCall(ProjectMembershipOperation.GET_USER_PROFILE, getUserProfileRequest, client::getUserProfile, resourceIdentifier, client);
+    }
+
+    public CompletableFuture<GetGroupProfileResponse> getGroupProfile(final @NonNull GetGroupProfileRequest getGroupProfileRequest) {
+        final DataZoneAsyncClient client = proxyClient.client();
+        String resourceIdentifier = getGroupProfileRequest.domainIdentifier() + "|" + getGroupProfileRequest.groupIdentifier();
+        return executeCall(ProjectMembershipOperation.GET_GROUP_PROFILE, getGroupProfileRequest, client::getGroupProfile, resourceIdentifier, client);
+    }
+
+    /**
+     * Waits for the given future and rethrows the Cfn exception it failed with, instead of the wrapping
+     * {@link CompletionException}, so that callers see the same exceptions as with {@link DataZoneClientWrapper}.
+     *
+     * @param future The future to wait for.
+     * @return The result of the future.
+     */
+    public static <T> T join(final @NonNull CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Makes cancelling the dependent future cancel its source too, so that a caller giving up on the result of a call
+     * aborts the request in flight rather than leaving it running. The SDK aborts a request when its future is
+     * cancelled, a future derived from it does not pass the cancellation on by itself.
+     *
+     * @param dependent The future derived from the source, e.g. with thenApply.
+     * @param source    The future of the call.
+     * @return The dependent future.
+     */
+    public static <T> CompletableFuture<T> cancelling(final @NonNull CompletableFuture<T> dependent,
+                                                      final @NonNull CompletableFuture<?> source) {
+        dependent.whenComplete((result, throwable) -> {
+            if (dependent.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return dependent;
+    }
+
+    private <Request extends AwsRequest, Response extends AwsResponse> CompletableFuture<Response> executeCall(
+            final ProjectMembershipOperation operation,
+            final Request request,
+            final Function<Request, CompletableFuture<Response>> clientOperation,
+            final String resourceIdentifier,
+            final DataZoneAsyncClient client) {
+        final CompletableFuture<Response> response;
+        try {
+            response = proxyClient.injectCredentialsAndInvokeV2Async(request, clientOperation);
+        } catch (final Exception e) {
+            client.close();
+            logger.error("Failed to execute operation %s for resource %s, error %s", operation, resourceIdentifier, e);
+            return CompletableFuture.failedFuture(DataZoneClientWrapper.translateAPIExceptionToCfnException(e, operation));
+        }
+
+        return cancelling(response.handle((result, throwable) -> {
+            client.close();
+            if (throwable == null) {
+                return result;
+            }
+            final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ?
+                    throwable.getCause() : throwable;
+            logger.error("Failed to execute operation %s for resource %s, error %s", operation, resourceIdentifier, cause);
+            throw DataZoneClientWrapper.translateAPIExceptionToCfnException(
+                    cause instanceof Exception ? (Exception) cause : new RuntimeException(cause), operation);
+        }), response);
+    }
+}
@@ -1,12 +1,130 @@
 package software.amazon.datazone.projectmembership.client;
 
+import lombok.NonNull;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.services.datazone.DataZoneAsyncClient;
 import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.cloudformation.LambdaWrapper;
 
 public class DataZoneClientBuilder {
+
     public static DataZoneClient getClient() {
-        return DataZoneClient.builder()
-                .httpClient(LambdaWrapper.HTTP_CLIENT)
+        return getClient(HttpClientHolder.SETTINGS, HttpClientHolder.HTTP_CLIENT);
+    }
+
+    /**
+     * @return A client whose calls are recorded into the cost and the metrics of one handler invocation.
+     */
+    public static DataZoneClient getClient(final @NonNull InvocationCost invocationCost,
+                                           final @NonNull OperationMetricsPublisher operationMetrics) {
+        return getClient(HttpClientHolder.SETTINGS, HttpClientHolder.HTTP_CLIENT,
+                recordingInto(overrideConfiguration(HttpClientHolder.SETTINGS), invocationCost, operationMetrics));
+    }
+
+    public static DataZoneClient getClient(final @NonNull HttpClientSettings settings, final @NonNull SdkHttpClient httpClient) {
+        return getClient(settings, httpClient, overrideConfiguration(settings));
+    }
+
+    private static DataZoneClient getClient(final HttpClientSettings settings, final SdkHttpClient httpClient,
+                                            final ClientOverrideConfiguration overrideConfiguration) {
+        final var builder = DataZoneClient.builder()
+                .httpClient(httpClient)
+                .overrideConfiguration(overrideConfiguration);
+        if (settings.getEndpointOverride() != null) {
+            builder.endpointOverride(settings.getEndpointOverride());
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return An async client whose calls are recorded into the cost and the metrics of one handler invocation.
+     */
+    public static DataZoneAsyncClient getAsyncClient(final @NonNull InvocationCost invocationCost,
+                                                     final @NonNull OperationMetricsPublisher operationMetrics) {
+        final var builder = DataZoneAsyncClient.builder()
+                .httpClient(AsyncHttpClientHolder.HTTP_CLIENT)
+                .overrideConfiguration(recordingInto(overrideConfiguration(HttpClientHolder.SETTINGS), invocationCost,
+                        operationMetrics));
+        if (HttpClientHolder.SETTINGS.getEndpointOverride() != null) {
+            builder.endpointOverride(HttpClientHolder.SETTINGS.getEndpointOverride());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Adds the timeouts and retries of the {@link OperationProfile}s and the recording of the {@link InvocationCost} to
+     * the configuration from the settings.
+     */
+    static ClientOverrideConfiguration overrideConfiguration(final HttpClientSettings settings) {
+        return settings.overrideConfiguration().toBuilder()
+                .retryPolicy(OperationProfile.RETRY_POLICY)
+                .addExecutionInterceptor(new OperationProfileInterceptor(settings.getApiCallAttemptTimeout()))
+                .addExecutionInterceptor(new InvocationCostInterceptor())
                 .build();
     }
+
+    /**
+     * Records the calls made with the configuration into the cost and the metrics of one invocation, and of no other
+     * invocation the container runs at the same time.
+     */
+    private static ClientOverrideConfiguration recordingInto(final ClientOverrideConfiguration overrideConfiguration,
+                                                             final InvocationCost invocationCost,
+                                                             final OperationMetricsPublisher operationMetrics) {
+        return overrideConfiguration.toBuilder()
+                .putExecutionAttribute(InvocationCost.INVOCATION_COST, invocationCost)
+                .addMetricPublisher(operationMetrics)
+                .build();
+    }
+
+    /**
+     * Holds the settings and the http client built from them, so that both are only created once per container and
+     * reused across invocations, the same way as {@link LambdaWrapper#HTTP_CLIENT}.
+     */
+    private static class HttpClientHolder {
+        private static final HttpClientSettings SETTINGS = HttpClientSettings.fromEnvironment();
+        private static final SdkHttpClient HTTP_CLIENT = SETTINGS.createHttpClient();
+    }
+
+    /**
+     * Holds the shared async http client, so that it is only created on the first async call and is reused
+     * across invocations in the same container, the same way as {@link LambdaWrapper#HTTP_CLIENT}. The transport
+     * setting does not apply here, the connection settings do, and so do the record and replay files. Replay serves
+     * from the recordings of the sync client, as one recording holds the calls of both.
+     */
+    private static class AsyncHttpClientHolder {
+        private static final SdkAsyncHttpClient HTTP_CLIENT = createAsyncHttpClient(HttpClientHolder.SETTINGS);
+
+        private static SdkAsyncHttpClient createAsyncHttpClient(final HttpClientSettings settings) {
+            if (HttpClientHolder.HTTP_CLIENT instanceof ReplayHttpClient replayHttpClient) {
+                return new ReplayAsyncHttpClient(replayHttpClient);
+            }
+            final SdkAsyncHttpClient httpClient = createNettyHttpClient(settings);
+            return settings.getRecordFile() == null
+                    ? httpClient
+                    : new RecordingAsyncHttpClient(httpClient, HttpInteractionLog.appendingTo(settings.getRecordFile()));
+        }
+
+        private static SdkAsyncHttpClient createNettyHttpClient(final HttpClientSettings settings) {
+            final NettyNioAsyncHttpClient.Builder builder = NettyNioAsyncHttpClient.builder();
+            if (settings.getMaxConnections() != null) {
+                builder.maxConcurrency(settings.getMaxConnections());
+            }
+            if (settings.getTcpKeepAlive() != null) {
+                builder.tcpKeepAlive(settings.getTcpKeepAlive());
+            }
+            if (settings.getConnectionTimeToLive() != null) {
+                builder.connectionTimeToLive(settings.getConnectionTimeToLive());
+            }
+            if (settings.getConnectionTimeout() != null) {
+                builder.connectionTimeout(settings.getConnectionTimeout());
+            }
+            if (settings.getSocketTimeout() != null) {
+                builder.readTimeout(settings.getSocketTimeout());
+            }
+            return builder.build();
+        }
+    }
 }
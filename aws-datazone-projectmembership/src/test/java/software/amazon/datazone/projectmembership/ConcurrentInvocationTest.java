@@ -0,0 +1,183 @@
+package software.amazon.datazone.projectmembership;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.datazone.DataZoneAsyncClient;
+import software.amazon.awssdk.services.datazone.DataZoneClient;
+import software.amazon.awssdk.services.datazone.model.CreateProjectMembershipRequest;
+import software.amazon.awssdk.services.datazone.model.GetUserProfileRequest;
+import software.amazon.awssdk.services.datazone.model.GetUserProfileResponse;
+import software.amazon.awssdk.services.datazone.model.ListProjectMembershipsRequest;
+import software.amazon.awssdk.services.datazone.model.ListProjectMembershipsResponse;
+import software.amazon.awssdk.services.datazone.model.MemberDetails;
+import software.amazon.awssdk.services.datazone.model.ProjectMember;
+import software.amazon.awssdk.services.datazone.model.UserDesignation;
+import software.amazon.awssdk.services.datazone.model.UserDetails;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs many invocations on one handler instance at the same time, each with clients of its own that only know its own
+ * member, so that an invocation picking up the clients, logger, member lookup or call cost of another one shows in its
+ * result.
+ */
+public class ConcurrentInvocationTest extends AbstractTestBase {
+    private static final int THREADS = 16;
+    private static final int INVOCATIONS = 400;
+
+    private AmazonWebServicesClientProxy proxy;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    public void tear_down() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testHandleRequest_ConcurrentCreates_OnOneHandler_EachLooksUpItsOwnMember() throws Exception {
+        final CreateHandler createHandler = new CreateHandler();
+        final CyclicBarrier start = new CyclicBarrier(THREADS);
+
+        final List<InvocationContext> contexts = new ArrayList<>();
+        for (int index = 0; index < INVOCATIONS; index++) {
+            contexts.add(InvocationContext.create(MOCK_PROXY(proxy, clientFor(index)),
+                    MOCK_ASYNC_PROXY(proxy, asyncClientFor(index)), logger));
+        }
+
+        final List<Future<ProgressEvent<ResourceModel, CallbackContext>>> responses = new ArrayList<>();
+        for (int index = 0; index < INVOCATIONS; index++) {
+            final int invocation = index;
+            responses.add(executor.submit(() -> {
+                if (invocation < THREADS) {
+                    // Lines the first invocations up, so that they all run through the handler at once.
+                    start.await(10, TimeUnit.SECONDS);
+                }
+                return createHandler.handleRequest(proxy, getResourceHandlerRequest(modelFor(invocation)),
+                        new CallbackContext(), contexts.get(invocation));
+            }));
+        }
+
+        for (int index = 0; index < INVOCATIONS; index++) {
+            final ProgressEvent<ResourceModel, CallbackContext> response = responses.get(index).get(30, TimeUnit.SECONDS);
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+            assertThat(response.getResourceModel().getMember().getUserIdentifier()).isEqualTo(userIdentifier(index));
+            assertThat(response.getResourceModel().getMemberIdentifier()).isEqualTo(userId(index));
+        }
+        // The cost of the calls of each invocation is its own, and is summarized at its end only.
+        final Map<Object, Boolean> invocationCosts = new IdentityHashMap<>();
+        contexts.forEach(context -> invocationCosts.put(context.getInvocationCost(), true));
+        assertThat(invocationCosts).hasSize(INVOCATIONS);
+    }
+
+    @Test
+    public void testHandleRequest_ConcurrentReads_OnOneHandler_EachFindsItsOwnMember() throws Exception {
+        final ReadHandler readHandler = new ReadHandler();
+
+        final List<Future<ProgressEvent<ResourceModel, CallbackContext>>> responses = new ArrayList<>();
+        for (int index = 0; index < INVOCATIONS; index++) {
+            final InvocationContext context = InvocationContext.create(MOCK_PROXY(proxy, clientFor(index)), null, logger);
+            final ResourceModel resourceModel = modelFor(index);
+            resourceModel.setMemberIdentifier(userId(index));
+            resourceModel.setDesignation(null);
+            final ResourceHandlerRequest<ResourceModel> request = getResourceHandlerRequest(resourceModel);
+            responses.add(executor.submit(() ->
+                    readHandler.handleRequest(proxy, request, new CallbackContext(), context)));
+        }
+
+        for (int index = 0; index < INVOCATIONS; index++) {
+            final ProgressEvent<ResourceModel, CallbackContext> response = responses.get(index).get(30, TimeUnit.SECONDS);
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+            assertThat(response.getResourceModel().getMemberIdentifier()).isEqualTo(userId(index));
+            assertThat(response.getResourceModel().getDesignation()).isEqualTo(designation(index).toString());
+        }
+    }
+
+    /**
+     * @return A client that creates and lists only the membership of the given invocation. Stubbed up front, mocks are
+     * not safe to stub while other threads call them.
+     */
+    private DataZoneClient clientFor(final int index) {
+        final DataZoneClient dataZoneClient = mock(DataZoneClient.class);
+        final ListProjectMembershipsResponse listProjectMembershipsResponse = ListProjectMembershipsResponse.builder()
+                .members(ProjectMember.builder()
+                        .designation(designation(index))
+                        .memberDetails(MemberDetails.fromUser(UserDetails.builder()
+                                .userId(userId(index))
+                                .build()))
+                        .build())
+                .build();
+        Mockito.when(dataZoneClient.createProjectMembership(Mockito.argThat((CreateProjectMembershipRequest request) ->
+                        request != null && userIdentifier(index).equals(request.member().userIdentifier()))))
+                .thenReturn(getCreateProjectMembershipResponse());
+        Mockito.when(dataZoneClient.listProjectMemberships(Mockito.any(ListProjectMembershipsRequest.class)))
+                .thenReturn(listProjectMembershipsResponse);
+        return dataZoneClient;
+    }
+
+    /**
+     * @return An async client that only knows the user profile of the given invocation.
+     */
+    private static DataZoneAsyncClient asyncClientFor(final int index) {
+        final DataZoneAsyncClient dataZoneAsyncClient = mock(DataZoneAsyncClient.class);
+        Mockito.when(dataZoneAsyncClient.getUserProfile(Mockito.argThat((GetUserProfileRequest request) ->
+                        request != null && userIdentifier(index).equals(request.userIdentifier()))))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(GetUserProfileResponse.builder()
+                        .id(userId(index))
+                        .build()));
+        return dataZoneAsyncClient;
+    }
+
+    private ResourceModel modelFor(final int index) {
+        return ResourceModel.builder()
+                .designation(model.getDesignation())
+                .domainIdentifier(model.getDomainIdentifier())
+                .projectIdentifier(model.getProjectIdentifier())
+                .member(Member.builder()
+                        .userIdentifier(userIdentifier(index))
+                        .build())
+                .build();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> getResourceHandlerRequest(final ResourceModel resourceModel) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(resourceModel)
+                .build();
+    }
+
+    private static String userIdentifier(final int index) {
+        return String.format("arn:aws:iam::123456789012:role/member-%d", index);
+    }
+
+    private static String userId(final int index) {
+        return String.format("user-%d", index);
+    }
+
+    private static UserDesignation designation(final int index) {
+        return index % 2 == 0 ? UserDesignation.PROJECT_OWNER : UserDesignation.PROJECT_CONTRIBUTOR;
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.datazone.DataZoneAsyncClient;
 import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.CreateProjectMembershipRequest;
 import software.amazon.awssdk.services.datazone.model.GetUserProfileRequest;
@@ -19,10 +20,12 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +34,8 @@ public class CreateHandlerTest extends AbstractTestBase {
     @Mock
     DataZoneClient dataZoneClient;
     @Mock
+    DataZoneAsyncClient dataZoneAsyncClient;
+    @Mock
     private AmazonWebServicesClientProxy proxy;
     @Mock
     private ProxyClient<DataZoneClient> proxyClient;
@@ -39,6 +44,7 @@ public class CreateHandlerTest extends AbstractTestBase {
     public void setup() {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         dataZoneClient = mock(DataZoneClient.class);
+        dataZoneAsyncClient = mock(DataZoneAsyncClient.class);
         proxyClient = MOCK_PROXY(proxy, dataZoneClient);
     }
 
@@ -70,6 +76,54 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(dataZoneClient, atLeastOnce()).serviceName();
     }
 
+    @Test
+    public void testHandleRequest_AsyncMode_LooksUpMemberOnAsyncClient() {
+        final CreateHandler handler = new CreateHandler();
+        final InvocationContext context = InvocationContext.create(proxyClient, MOCK_ASYNC_PROXY(proxy, dataZoneAsyncClient), logger);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        Mockito.when(dataZoneClient.createProjectMembership(Mockito.any(CreateProjectMembershipRequest.class)))
+                .thenReturn(getCreateProjectMembershipResponse());
+
+        Mockito.when(dataZoneAsyncClient.getUserProfile(Mockito.any(GetUserProfileRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(GetUserProfileResponse.builder().id("user-id").build()));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request,
+                new CallbackContext(), context);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getMemberIdentifier()).isEqualTo("user-id");
+        verify(dataZoneAsyncClient).getUserProfile(Mockito.any(GetUserProfileRequest.class));
+        verify(dataZoneClient, never()).getUserProfile(Mockito.any(GetUserProfileRequest.class));
+    }
+
+    @Test
+    public void testHandleRequest_AsyncModeCreateFails_CancelsMemberLookup() {
+        final CreateHandler handler = new CreateHandler();
+        final InvocationContext context = InvocationContext.create(proxyClient, MOCK_ASYNC_PROXY(proxy, dataZoneAsyncClient), logger);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        Mockito.doThrow(CfnGeneralServiceException.class)
+                .when(dataZoneClient).createProjectMembership(Mockito.any(CreateProjectMembershipRequest.class));
+
+        // A lookup that is still in flight when the membership call fails.
+        final CompletableFuture<GetUserProfileResponse> userProfile = new CompletableFuture<>();
+        Mockito.when(dataZoneAsyncClient.getUserProfile(Mockito.any(GetUserProfileRequest.class)))
+                .thenReturn(userProfile);
+
+        Assertions.assertThrows(CfnGeneralServiceException.class, () ->
+                handler.handleRequest(proxy, request, new CallbackContext(), context)
+        );
+        assertThat(userProfile).isCancelled();
+    }
+
     @Test
     public void testHandleRequest_DataZoneClientThrowsException_ShouldThrowException() {
         final CreateHandler handler = new CreateHandler();
@@ -9,7 +9,11 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.datazone.DataZoneClient;;
 import software.amazon.awssdk.services.datazone.model.ListProjectMembershipsRequest;
+import software.amazon.awssdk.services.datazone.model.ListProjectMembershipsResponse;
+import software.amazon.awssdk.services.datazone.model.MemberDetails;
+import software.amazon.awssdk.services.datazone.model.ProjectMember;
 import software.amazon.awssdk.services.datazone.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.datazone.model.UserDetails;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -32,11 +36,14 @@ public class ReadHandlerTest extends AbstractTestBase {
     @Mock
     private ProxyClient<DataZoneClient> proxyClient;
 
+    private ApiCallCounter apiCalls;
+
     @BeforeEach
     public void setup() {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         dataZoneClient = mock(DataZoneClient.class);
-        proxyClient = MOCK_PROXY(proxy, dataZoneClient);
+        apiCalls = new ApiCallCounter();
+        proxyClient = MOCK_PROXY(proxy, dataZoneClient, apiCalls);
     }
 
     @Test
@@ -59,6 +66,35 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        apiCalls.assertAtMost(1);
+    }
+
+    @Test
+    public void testHandleRequest_MemberOnSecondPage_ListsEachPageOnce() {
+        final ReadHandler handler = new ReadHandler();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        Mockito.when(dataZoneClient.listProjectMemberships(Mockito.any(ListProjectMembershipsRequest.class)))
+                .thenReturn(ListProjectMembershipsResponse.builder()
+                        .members(ProjectMember.builder()
+                                .designation("PROJECT_CONTRIBUTOR")
+                                .memberDetails(MemberDetails.fromUser(UserDetails.builder()
+                                        .userId("other-user-id")
+                                        .build()))
+                                .build())
+                        .nextToken("next-token")
+                        .build())
+                .thenReturn(getListProjectMembershipsResponse());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getDesignation()).isEqualTo("PROJECT_OWNER");
+        apiCalls.assertAtMost("ListProjectMemberships", 2);
+        apiCalls.assertAtMost(2);
     }
 
     @Test
@@ -0,0 +1,38 @@
+package software.amazon.datazone.projectmembership;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ResourceModelValidatorTest extends AbstractTestBase {
+    private final ResourceModelValidator validator = ResourceModelValidator.getInstance();
+
+    @Test
+    public void testValidate_ValidModel_Passes() {
+        assertThat(validator.violations(model)).isEmpty();
+        validator.validate(model);
+    }
+
+    @Test
+    public void testValidate_InvalidModel_ReportsAllViolations() {
+        final ResourceModel invalidModel = ResourceModel.builder()
+                .designation("OWNER")
+                .domainIdentifier(model.getDomainIdentifier())
+                .member(Member.builder()
+                        .userIdentifier("user-id")
+                        .groupIdentifier("group-id")
+                        .build())
+                .build();
+
+        assertThat(validator.violations(invalidModel))
+                .anySatisfy(violation -> assertThat(violation).contains("ProjectIdentifier"))
+                .anySatisfy(violation -> assertThat(violation).startsWith("#/Designation"))
+                .anySatisfy(violation -> assertThat(violation).startsWith("#/Member"));
+        assertThatThrownBy(() -> validator.validate(invalidModel))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("ProjectIdentifier")
+                .hasMessageContaining("Designation");
+    }
+}
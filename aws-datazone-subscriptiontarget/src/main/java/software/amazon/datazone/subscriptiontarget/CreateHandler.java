@@ -1,56 +1,54 @@
 package software.amazon.datazone.subscriptiontarget;
 
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.CreateSubscriptionTargetRequest;
 import software.amazon.awssdk.services.datazone.model.CreateSubscriptionTargetResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.datazone.subscriptiontarget.client.DataZoneClientWrapper;
-import software.amazon.datazone.subscriptiontarget.helper.LoggerWrapper;
+import software.amazon.datazone.subscriptiontarget.helper.Tracing;
 
 public class CreateHandler extends BaseHandlerStd {
+    private final ReadHandler readHandler = new ReadHandler();
+
+    @Override
+    protected boolean validatesDesiredResourceState() {
+        return true;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-
-        // Initialize
-        this.logger = new LoggerWrapper(externalLogger);
-        this.dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
-
+            final InvocationContext context) {
         this.validateRequiredInputs(request.getDesiredResourceState());
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 // Make create call
-                .then(progress -> createSubscriptionTarget(proxy, proxyClient, progress))
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, progress.getCallbackContext(), proxyClient, externalLogger));
+                .then(Tracing.stage("createSubscriptionTarget", progress -> createSubscriptionTarget(proxy, request, context, progress)))
+                .then(Tracing.stage("read", progress -> readHandler.handleRequest(proxy, request, progress.getCallbackContext(), context)));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> createSubscriptionTarget(AmazonWebServicesClientProxy proxy,
-                                                                                   ProxyClient<DataZoneClient> proxyClient,
+                                                                                   ResourceHandlerRequest<ResourceModel> request,
+                                                                                   InvocationContext context,
                                                                                    ProgressEvent<ResourceModel, CallbackContext> progress) {
         // Call DataZone Control Plane to create the resource.
-        return proxy.initiate("AWS-DataZone-SubscriptionTarget::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+        return Tracing.callChain("AWS-DataZone-SubscriptionTarget::Create", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), progress.getResourceModel(), progress.getCallbackContext())
                 // get Create Request
-                .translateToServiceRequest(model -> Translator.translateToCreateRequest(model, getNewClientToken()))
+                .translateToServiceRequest(model -> Translator.translateToCreateRequest(model, getClientToken(request, progress.getCallbackContext())))
                 // make service call
-                .makeServiceCall((createSubscriptionTargetRequest, client) -> dataZoneClientWrapper.createSubscriptionTarget(createSubscriptionTargetRequest))
+                .makeServiceCall((createSubscriptionTargetRequest, client) -> context.getDataZoneClientWrapper().createSubscriptionTarget(createSubscriptionTargetRequest))
                 // and update the model fields.
-                .done(this::updateModelFields);
+                .done((createSubscriptionTargetRequest, createSubscriptionTargetResponse, client, resourceModel, callbackContext) ->
+                        updateModelFields(createSubscriptionTargetRequest, createSubscriptionTargetResponse, resourceModel, callbackContext, context)));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> updateModelFields(CreateSubscriptionTargetRequest createSubscriptionTargetRequest,
                                                                             CreateSubscriptionTargetResponse createSubscriptionTargetResponse,
-                                                                            ProxyClient<DataZoneClient> dataZoneClientProxyClient,
                                                                             ResourceModel resourceModel,
-                                                                            CallbackContext callbackContext) {
-        logger.info("Successfully created SubscriptionTarget with name %s and id %s", createSubscriptionTargetRequest.name(),
+                                                                            CallbackContext callbackContext,
+                                                                            InvocationContext context) {
+        context.getLogger().info("Successfully created SubscriptionTarget with name %s and id %s", createSubscriptionTargetRequest.name(),
                 createSubscriptionTargetResponse.id());
         resourceModel.setId(createSubscriptionTargetResponse.id());
         resourceModel.setDomainId(createSubscriptionTargetRequest.domainIdentifier());
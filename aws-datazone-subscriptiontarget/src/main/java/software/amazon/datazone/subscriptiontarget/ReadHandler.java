@@ -1,13 +1,9 @@
 package software.amazon.datazone.subscriptiontarget;
 
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.datazone.subscriptiontarget.client.DataZoneClientWrapper;
-import software.amazon.datazone.subscriptiontarget.helper.LoggerWrapper;
+import software.amazon.datazone.subscriptiontarget.helper.Tracing;
 
 public class ReadHandler extends BaseHandlerStd {
 
@@ -15,15 +11,10 @@ public class ReadHandler extends BaseHandlerStd {
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-        // Initialize
-        this.logger = new LoggerWrapper(externalLogger);
-        this.dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
-
-        return proxy.initiate("AWS-DataZone-SubscriptionTarget::Read", proxyClient, request.getDesiredResourceState(), callbackContext)
+            final InvocationContext context) {
+        return Tracing.callChain("AWS-DataZone-SubscriptionTarget::Read", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), request.getDesiredResourceState(), callbackContext)
                 .translateToServiceRequest(Translator::translateToReadRequest)
-                .makeServiceCall((getSubscriptionTargetRequest, client) -> dataZoneClientWrapper.getSubscriptionTarget(getSubscriptionTargetRequest))
-                .done(awsResponse -> ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(awsResponse)));
+                .makeServiceCall((getSubscriptionTargetRequest, client) -> context.getDataZoneClientWrapper().getSubscriptionTarget(getSubscriptionTargetRequest))
+                .done(awsResponse -> ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(awsResponse))));
     }
 }
@@ -55,7 +55,7 @@ public class Translator {
      * @param model Resource model for the SubscriptionTarget.
      * @return The GetSubscriptionTargetRequest for the SubscriptionTarget.
      */
-    static GetSubscriptionTargetRequest translateToReadRequest(final ResourceModel model) {
+    public static GetSubscriptionTargetRequest translateToReadRequest(final ResourceModel model) {
         String domainId = Optional.ofNullable(model.getDomainIdentifier()).orElse(model.getDomainId());
         String environmentId = Optional.ofNullable(model.getEnvironmentIdentifier()).orElse(model.getEnvironmentId());
         return GetSubscriptionTargetRequest.builder()
@@ -72,7 +72,7 @@ public class Translator {
      * @param response The GetSubscriptionTargetResponse for the SubscriptionTarget.
      * @return model Resource model.
      */
-    static ResourceModel translateFromReadResponse(final GetSubscriptionTargetResponse response) {
+    public static ResourceModel translateFromReadResponse(final GetSubscriptionTargetResponse response) {
         return ResourceModel.builder()
                 .id(response.id())
                 .domainId(response.domainId())
@@ -150,7 +150,7 @@ public class Translator {
      *
      * @return ListSubscriptionTargetsRequest with the next token.
      */
-    static ListSubscriptionTargetsRequest translateToListRequest(final @NonNull ResourceModel model,
+    public static ListSubscriptionTargetsRequest translateToListRequest(final @NonNull ResourceModel model,
                                                                  final String nextToken) {
         String domainId = Optional.ofNullable(model.getDomainIdentifier()).orElse(model.getDomainId());
         String environmentId = Optional.ofNullable(model.getEnvironmentIdentifier()).orElse(model.getEnvironmentId());
@@ -169,7 +169,7 @@ public class Translator {
      * @param subscriptionTargetSummary The SubscriptionTargetSummary for the SubscriptionTarget.
      * @return model Resource model.
      */
-    static ResourceModel getResourceModelFromSummary(SubscriptionTargetSummary subscriptionTargetSummary) {
+    public static ResourceModel getResourceModelFromSummary(SubscriptionTargetSummary subscriptionTargetSummary) {
         return ResourceModel.builder()
                 .id(subscriptionTargetSummary.id())
                 .domainId(subscriptionTargetSummary.domainId())
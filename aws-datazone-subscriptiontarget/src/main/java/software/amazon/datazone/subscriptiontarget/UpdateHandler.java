@@ -1,42 +1,38 @@
 package software.amazon.datazone.subscriptiontarget;
 
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.datazone.subscriptiontarget.client.DataZoneClientWrapper;
-import software.amazon.datazone.subscriptiontarget.helper.LoggerWrapper;
+import software.amazon.datazone.subscriptiontarget.helper.Tracing;
 
 public class UpdateHandler extends BaseHandlerStd {
+    private final ReadHandler readHandler = new ReadHandler();
+
+    @Override
+    protected boolean validatesDesiredResourceState() {
+        return true;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-
-        // Initialize
-        this.logger = new LoggerWrapper(externalLogger);
-        this.dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
-
+            final InvocationContext context) {
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(progress -> updateSubscriptionTarget(proxy, proxyClient, progress))
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, progress.getCallbackContext(), proxyClient, externalLogger));
+                .then(Tracing.stage("updateSubscriptionTarget", progress -> updateSubscriptionTarget(proxy, context, progress)))
+                .then(Tracing.stage("read", progress -> readHandler.handleRequest(proxy, request, progress.getCallbackContext(), context)));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> updateSubscriptionTarget(AmazonWebServicesClientProxy proxy,
-                                                                                   ProxyClient<DataZoneClient> proxyClient,
+                                                                                   InvocationContext context,
                                                                                    ProgressEvent<ResourceModel, CallbackContext> progress) {
         // Call DataZone Control Plane to update the resource.
-        return proxy.initiate("AWS-DataZone-SubscriptionTarget::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+        return Tracing.callChain("AWS-DataZone-SubscriptionTarget::Update", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), progress.getResourceModel(), progress.getCallbackContext())
                 // get Update Request
                 .translateToServiceRequest(model -> Translator.translateToUpdateRequest(model))
                 // make service call
-                .makeServiceCall((updateSubscriptionTargetRequest, client) -> dataZoneClientWrapper.updateSubscriptionTarget(updateSubscriptionTargetRequest))
-                .progress();
+                .makeServiceCall((updateSubscriptionTargetRequest, client) -> context.getDataZoneClientWrapper().updateSubscriptionTarget(updateSubscriptionTargetRequest))
+                .progress());
     }
 
 }
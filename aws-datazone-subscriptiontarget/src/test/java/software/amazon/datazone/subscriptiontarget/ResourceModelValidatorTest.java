@@ -0,0 +1,72 @@
+package software.amazon.datazone.subscriptiontarget;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ResourceModelValidatorTest extends AbstractTestBase {
+    private final ResourceModelValidator validator = ResourceModelValidator.getInstance();
+
+    @Test
+    public void testValidate_ValidModel_WithReadOnlyProperties_Passes() {
+        final ResourceModel model = validModel()
+                // Read-only, they are not input and not validated.
+                .id("not a subscription target id")
+                .domainId("not a domain id")
+                .projectId("not a project id")
+                .createdAt("not a timestamp")
+                .build();
+
+        assertThat(validator.violations(model)).isEmpty();
+        validator.validate(model);
+    }
+
+    @Test
+    public void testValidate_InvalidModel_ReportsAllViolations() {
+        final ResourceModel model = validModel()
+                .name(null)
+                .authorizedPrincipals(List.of())
+                .environmentIdentifier("environment 1")
+                .subscriptionTargetConfig(List.of(SubscriptionTargetForm.builder()
+                        .formName("1GlueSubscriptionTargetConfigForm")
+                        .content(GLUE_SUBSCRIPTION_TARGET_CONFIG)
+                        .build()))
+                .build();
+
+        assertThat(validator.violations(model))
+                .hasSize(4)
+                .anySatisfy(violation -> assertThat(violation).contains("[Name]"))
+                .anySatisfy(violation -> assertThat(violation).startsWith("#/AuthorizedPrincipals"))
+                .anySatisfy(violation -> assertThat(violation).startsWith("#/EnvironmentIdentifier"))
+                .anySatisfy(violation -> assertThat(violation).startsWith("#/SubscriptionTargetConfig/0/FormName"));
+        assertThatThrownBy(() -> validator.validate(model))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("4 schema violation(s)");
+    }
+
+    @Test
+    public void testValidate_NoModel_ReportsRequiredProperties() {
+        assertThat(validator.violations(null))
+                .hasSize(8)
+                .anySatisfy(violation -> assertThat(violation).contains("DomainIdentifier"))
+                .anySatisfy(violation -> assertThat(violation).contains("EnvironmentIdentifier"))
+                .anySatisfy(violation -> assertThat(violation).contains("SubscriptionTargetConfig"));
+    }
+
+    private static ResourceModel.ResourceModelBuilder validModel() {
+        return ResourceModel.builder()
+                .domainIdentifier(DOMAIN_IDENTIFIER)
+                .environmentIdentifier(ENVIRONMENT_IDENTIFIER)
+                .name(SUBSCRIPTION_TARGET_NAME)
+                .type(TARGET_TYPE)
+                .provider(PROVIDER)
+                .applicableAssetTypes(APPLICABLE_ASSET_TYPES)
+                .authorizedPrincipals(AUTHORIZED_PRINCIPALS)
+                .manageAccessRole(SUBSCRIPTION_TARGET_MANAGE_ACCESS_ROLE)
+                .subscriptionTargetConfig(List.of(GLUE_SUBSCRIPTION_TARGET_CONFIG_FORM));
+    }
+}
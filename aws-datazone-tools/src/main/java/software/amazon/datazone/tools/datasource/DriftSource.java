@@ -0,0 +1,68 @@
+package software.amazon.datazone.tools.datasource;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.json.JSONObject;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.datazone.datasource.Configuration;
+import software.amazon.datazone.datasource.ResourceModel;
+import software.amazon.datazone.datasource.ResponseTranslator;
+import software.amazon.datazone.datasource.Translator;
+import software.amazon.datazone.datasource.client.DataZoneClientBuilder;
+import software.amazon.datazone.datasource.client.DataZoneClientWrapper;
+import software.amazon.datazone.datasource.helper.LoggerWrapper;
+import software.amazon.datazone.tools.drift.ResourceDrift;
+
+import java.util.Optional;
+
+/**
+ * Reads data sources with GetDataSource, as the read handler does. A data source does not outlive its project.
+ */
+public class DriftSource implements ResourceDrift<ResourceModel> {
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public TypeReference<ResourceModel> modelType() {
+        return new TypeReference<ResourceModel>() {
+        };
+    }
+
+    @Override
+    public JSONObject resourceSchema() {
+        return new Configuration().resourceSchemaJSONObject();
+    }
+
+    @Override
+    public String operation() {
+        return "GetDataSource";
+    }
+
+    @Override
+    public String identifier(final ResourceModel model) {
+        return model.getId();
+    }
+
+    @Override
+    public String domainId(final ResourceModel model) {
+        return Optional.ofNullable(model.getDomainIdentifier()).orElse(model.getDomainId());
+    }
+
+    @Override
+    public String projectId(final ResourceModel model) {
+        return Optional.ofNullable(model.getProjectIdentifier()).orElse(model.getProjectId());
+    }
+
+    @Override
+    public ResourceModel read(final AmazonWebServicesClientProxy proxy,
+                              final ResourceModel model,
+                              final Logger logger) {
+        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(
+                proxy.newProxy(DataZoneClientBuilder::getClient), new LoggerWrapper(logger));
+        return ResponseTranslator.translateFromReadResponse(dataZoneClientWrapper.getDataSource(
+                Translator.translateToReadRequest(model)));
+    }
+}
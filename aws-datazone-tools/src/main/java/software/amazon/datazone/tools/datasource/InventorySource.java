@@ -0,0 +1,55 @@
+package software.amazon.datazone.tools.datasource;
+
+import software.amazon.awssdk.services.datazone.model.ListDataSourcesResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.datazone.datasource.ResourceModel;
+import software.amazon.datazone.datasource.ResponseTranslator;
+import software.amazon.datazone.datasource.Translator;
+import software.amazon.datazone.datasource.client.DataZoneClientBuilder;
+import software.amazon.datazone.datasource.client.DataZoneClientWrapper;
+import software.amazon.datazone.datasource.helper.LoggerWrapper;
+import software.amazon.datazone.tools.inventory.InventoryPage;
+import software.amazon.datazone.tools.inventory.InventoryParent;
+import software.amazon.datazone.tools.inventory.InventoryScope;
+import software.amazon.datazone.tools.inventory.ResourceInventory;
+
+import java.util.stream.Collectors;
+
+/**
+ * The data sources of a project.
+ */
+public class InventorySource implements ResourceInventory {
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public InventoryScope scope() {
+        return InventoryScope.PROJECT;
+    }
+
+    @Override
+    public String operation() {
+        return "ListDataSources";
+    }
+
+    @Override
+    public InventoryPage list(final AmazonWebServicesClientProxy proxy,
+                              final InventoryParent parent,
+                              final String nextToken,
+                              final Logger logger) {
+        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(
+                proxy.newProxy(DataZoneClientBuilder::getClient), new LoggerWrapper(logger));
+        final ListDataSourcesResponse response = dataZoneClientWrapper.listDataSources(Translator.translateToListRequest(
+                ResourceModel.builder()
+                        .domainIdentifier(parent.getDomainId())
+                        .projectIdentifier(parent.getProjectId())
+                        .build(), nextToken));
+        return InventoryPage.of(response.items().stream()
+                .map(ResponseTranslator::getResourceModelFromDataSourceSummary)
+                .collect(Collectors.toList()), response.nextToken());
+    }
+}
@@ -0,0 +1,68 @@
+package software.amazon.datazone.tools.domain;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.json.JSONObject;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.datazone.domain.Configuration;
+import software.amazon.datazone.domain.ResourceModel;
+import software.amazon.datazone.domain.Translator;
+import software.amazon.datazone.domain.client.DataZoneClientBuilder;
+import software.amazon.datazone.domain.client.DataZoneClientWrapper;
+import software.amazon.datazone.domain.helper.LoggerWrapper;
+import software.amazon.datazone.tools.drift.ResourceDrift;
+
+/**
+ * Reads domains with GetDomain, as the read handler does. The domain of every other resource is read with it too, once
+ * for all the resources in it.
+ */
+public class DriftSource implements ResourceDrift<ResourceModel> {
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public TypeReference<ResourceModel> modelType() {
+        return new TypeReference<ResourceModel>() {
+        };
+    }
+
+    @Override
+    public JSONObject resourceSchema() {
+        return new Configuration().resourceSchemaJSONObject();
+    }
+
+    @Override
+    public String operation() {
+        return "GetDomain";
+    }
+
+    @Override
+    public String identifier(final ResourceModel model) {
+        return model.getId();
+    }
+
+    @Override
+    public String domainId(final ResourceModel model) {
+        return null;
+    }
+
+    @Override
+    public ResourceModel read(final AmazonWebServicesClientProxy proxy,
+                              final ResourceModel model,
+                              final Logger logger) {
+        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(
+                proxy.newProxy(DataZoneClientBuilder::getClient), new LoggerWrapper(logger));
+        return Translator.translateFromReadResponse(dataZoneClientWrapper.getDomain(
+                Translator.translateToReadRequest(model)));
+    }
+
+    /**
+     * @return The model to read the domain another resource is in with.
+     */
+    public ResourceModel reference(final String domainId) {
+        return ResourceModel.builder().id(domainId).build();
+    }
+}
@@ -0,0 +1,54 @@
+package software.amazon.datazone.tools.domain;
+
+import software.amazon.awssdk.services.datazone.model.ListDomainsResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.datazone.domain.ResourceModel;
+import software.amazon.datazone.domain.Translator;
+import software.amazon.datazone.domain.client.DataZoneClientBuilder;
+import software.amazon.datazone.domain.client.DataZoneClientWrapper;
+import software.amazon.datazone.domain.helper.LoggerWrapper;
+import software.amazon.datazone.tools.inventory.InventoryPage;
+import software.amazon.datazone.tools.inventory.InventoryParent;
+import software.amazon.datazone.tools.inventory.InventoryScope;
+import software.amazon.datazone.tools.inventory.ResourceInventory;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The domains of the account, each of them is a parent of the inventories of a domain.
+ */
+public class InventorySource implements ResourceInventory {
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public InventoryScope scope() {
+        return InventoryScope.ACCOUNT;
+    }
+
+    @Override
+    public String operation() {
+        return "ListDomains";
+    }
+
+    @Override
+    public InventoryPage list(final AmazonWebServicesClientProxy proxy,
+                              final InventoryParent parent,
+                              final String nextToken,
+                              final Logger logger) {
+        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(
+                proxy.newProxy(DataZoneClientBuilder::getClient), new LoggerWrapper(logger));
+        final ListDomainsResponse response = dataZoneClientWrapper.listDomains(Translator.translateToListRequest(nextToken));
+        final List<ResourceModel> models = response.items().stream()
+                .map(Translator::getResourceModelFromDomainSummary)
+                .collect(Collectors.toList());
+        return new InventoryPage(models, response.nextToken(), models.stream()
+                .map(model -> InventoryParent.domain(model.getId()))
+                .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,261 @@
+package software.amazon.datazone.tools.drift;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.datazone.tools.inventory.InventoryCrawler;
+import software.amazon.datazone.tools.inventory.RateLimits;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Detects the drift of many resources at once, instead of one ReadHandler invocation per resource: it takes the
+ * expected resource models as NDJSON, in the format of the snapshot of the {@link InventoryCrawler}, reads their live
+ * state concurrently through the DataZoneClientWrapper and Translator of each provider, see {@link ResourceDrift}, and
+ * compares them property by property, see {@link ModelComparison}. The drift of each resource is written as soon as it
+ * is known, see {@link DriftReport}, and the number of resources per resource type and drift status is printed on the
+ * standard error at the end.
+ * <p>
+ * The expected models have to carry the identifier of their resource, e.g. the Id of an environment, as the physical
+ * resource ids of a stack or a snapshot of the crawler do. The domain and the project of a resource are read once for
+ * all the resources in them: when either is gone, so are its resources, and they are not read. The memberships of a
+ * project are read with one list. The models are read from the input as the reads go, with at most
+ * {@code --max-in-flight} resources being checked at once, so that any number of resources is checked in bounded
+ * memory.
+ * <p>
+ * Usage: {@code DriftDetector [--input expected.ndjson] [--output drift.ndjson] [--workers 32] [--max-in-flight 1000]
+ * [--default-rate 10] [--rate GetEnvironment=5]... [--region us-east-1]}. The expected models are read from the
+ * standard input without {@code --input}, the report is written to the standard output without {@code --output}.
+ * Rates are calls per second, 0 for no limit. The calls are signed as those of the crawler, with session credentials.
+ */
+public final class DriftDetector {
+    private static final Logger DISCARDING_LOGGER = message -> {
+    };
+
+    private final software.amazon.datazone.tools.domain.DriftSource domains = new software.amazon.datazone.tools.domain.DriftSource();
+    private final software.amazon.datazone.tools.project.DriftSource projects = new software.amazon.datazone.tools.project.DriftSource();
+    private final Map<String, ResourceDrift<?>> drifts = new HashMap<>();
+    private final Map<String, ModelComparison> comparisons = new ConcurrentHashMap<>();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Serializer serializer = new Serializer();
+    private final LiveStateReader reader;
+    private final DriftReport report;
+
+    private DriftDetector(final LiveStateReader reader, final DriftReport report) {
+        this.reader = reader;
+        this.report = report;
+        for (final ResourceDrift<?> drift : List.of(
+                domains,
+                projects,
+                new software.amazon.datazone.tools.projectmembership.DriftSource(),
+                new software.amazon.datazone.tools.userprofile.DriftSource(),
+                new software.amazon.datazone.tools.groupprofile.DriftSource(),
+                new software.amazon.datazone.tools.environmentblueprintconfiguration.DriftSource(),
+                new software.amazon.datazone.tools.environmentprofile.DriftSource(),
+                new software.amazon.datazone.tools.environment.DriftSource(),
+                new software.amazon.datazone.tools.datasource.DriftSource(),
+                new software.amazon.datazone.tools.subscriptiontarget.DriftSource())) {
+            drifts.put(drift.typeName(), drift);
+        }
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        String input = null;
+        String output = null;
+        int workers = 32;
+        int maxInFlight = 1000;
+        double defaultRate = 10;
+        final Map<String, Double> rates = new HashMap<>();
+        for (int index = 0; index < args.length; index++) {
+            switch (args[index]) {
+                case "--input":
+                    input = args[++index];
+                    break;
+                case "--output":
+                    output = args[++index];
+                    break;
+                case "--workers":
+                    workers = Integer.parseInt(args[++index]);
+                    break;
+                case "--max-in-flight":
+                    maxInFlight = Integer.parseInt(args[++index]);
+                    break;
+                case "--default-rate":
+                    defaultRate = Double.parseDouble(args[++index]);
+                    break;
+                case "--rate":
+                    final String[] rate = args[++index].split("=", 2);
+                    rates.put(rate[0], Double.parseDouble(rate[1]));
+                    break;
+                case "--region":
+                    System.setProperty(SdkSystemSetting.AWS_REGION.property(), args[++index]);
+                    break;
+                default:
+                    throw new IllegalArgumentException(String.format("Unknown argument %s", args[index]));
+            }
+        }
+
+        final AmazonWebServicesClientProxy proxy = InventoryCrawler.newProxy();
+        final ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            final Thread thread = new Thread(runnable, "drift-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final LiveStateReader reader = new LiveStateReader(proxy, new RateLimits(rates, defaultRate), executor,
+                DISCARDING_LOGGER);
+        final InputStream in = input == null ? System.in : new FileInputStream(input);
+        final OutputStream out = output == null ? System.out : new FileOutputStream(output);
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+             DriftReport report = new DriftReport(new BufferedOutputStream(out))) {
+            final long startNanos = System.nanoTime();
+            new DriftDetector(reader, report).detect(lines, maxInFlight);
+            report.print(System.err, System.nanoTime() - startNanos, reader.getCalls(), reader.getThrottledCalls());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void detect(final BufferedReader lines, final int maxInFlight) throws IOException, InterruptedException {
+        final Semaphore inFlight = new Semaphore(maxInFlight);
+        String line;
+        while ((line = lines.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            final JsonNode resource = mapper.readTree(line);
+            final JsonNode model = resource.get("model");
+            if (model == null) {
+                // The error lines of a snapshot, there is no model to compare.
+                continue;
+            }
+            final String typeName = resource.path("type").asText();
+            final ResourceDrift<?> drift = drifts.get(typeName);
+            if (drift == null) {
+                report.record(typeName, null, null, DriftStatus.NOT_CHECKED, List.of(),
+                        String.format("No drift detection for resource type %s", typeName));
+                continue;
+            }
+            inFlight.acquire();
+            detect(drift, model).whenComplete((result, error) -> inFlight.release());
+        }
+        inFlight.acquire(maxInFlight);
+    }
+
+    private <M> CompletableFuture<Void> detect(final ResourceDrift<M> drift, final JsonNode model) {
+        final M expected;
+        try {
+            expected = serializer.deserialize(model.toString(), drift.modelType());
+        } catch (final IOException e) {
+            report.record(drift.typeName(), null, null, DriftStatus.NOT_CHECKED, List.of(),
+                    String.format("Invalid resource model: %s", e.getMessage()));
+            return CompletableFuture.completedFuture(null);
+        }
+        final String domainId = drift.domainId(expected);
+        final String identifier = drift.identifier(expected);
+        if (identifier == null || domainId == null && !isDomain(drift)) {
+            report.record(drift.typeName(), domainId, identifier, DriftStatus.NOT_CHECKED, List.of(),
+                    "The resource model has no identifier to read the resource with");
+            return CompletableFuture.completedFuture(null);
+        }
+        return missingParent(drift, expected)
+                .thenCompose(missingParent -> {
+                    if (missingParent.isPresent()) {
+                        report.record(drift.typeName(), domainId, identifier, DriftStatus.DELETED, List.of(),
+                                missingParent.get());
+                        return CompletableFuture.<Void>completedFuture(null);
+                    }
+                    return readLiveState(drift, expected).thenAccept(liveState -> compare(drift, expected, liveState));
+                })
+                .exceptionally(error -> {
+                    final Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause()
+                            : error;
+                    final String errorCode = cause instanceof BaseHandlerException handlerException
+                            ? handlerException.getErrorCode().name()
+                            : cause.getClass().getSimpleName();
+                    report.record(drift.typeName(), domainId, identifier, DriftStatus.NOT_CHECKED, List.of(),
+                            String.format("%s: %s", errorCode, cause.getMessage()));
+                    return null;
+                });
+    }
+
+    /**
+     * @return Why the resource is gone with the domain or project it is in, empty if both exist.
+     */
+    private <M> CompletableFuture<Optional<String>> missingParent(final ResourceDrift<M> drift, final M expected) {
+        final String domainId = drift.domainId(expected);
+        final String projectId = drift.projectId(expected);
+        CompletableFuture<Optional<String>> missingParent = CompletableFuture.completedFuture(Optional.empty());
+        if (!isDomain(drift)) {
+            missingParent = reader.readShared(domains, domains.reference(domainId))
+                    .thenApply(domain -> domain.isPresent()
+                            ? Optional.<String>empty()
+                            : Optional.of(String.format("Domain %s does not exist", domainId)));
+        }
+        if (projectId != null && !isProject(drift)) {
+            missingParent = missingParent.thenCompose(missingDomain -> missingDomain.isPresent()
+                    ? CompletableFuture.completedFuture(missingDomain)
+                    : reader.readShared(projects, projects.reference(domainId, projectId))
+                    .thenApply(project -> project.isPresent()
+                            ? Optional.<String>empty()
+                            : Optional.of(String.format("Project %s does not exist", projectId))));
+        }
+        return missingParent;
+    }
+
+    private <M> CompletableFuture<Optional<M>> readLiveState(final ResourceDrift<M> drift, final M expected) {
+        // A domain or a project is read once, for itself and for the resources in it.
+        return isDomain(drift) || isProject(drift) ? reader.readShared(drift, expected) : reader.read(drift, expected);
+    }
+
+    private boolean isDomain(final ResourceDrift<?> drift) {
+        return domains.typeName().equals(drift.typeName());
+    }
+
+    private boolean isProject(final ResourceDrift<?> drift) {
+        return projects.typeName().equals(drift.typeName());
+    }
+
+    private <M> void compare(final ResourceDrift<M> drift, final M expected, final Optional<M> liveState) {
+        if (liveState.isEmpty()) {
+            report.record(drift.typeName(), drift.domainId(expected), drift.identifier(expected), DriftStatus.DELETED,
+                    List.of(), null);
+            return;
+        }
+        final List<ModelComparison.PropertyDifference> differences = comparisons
+                .computeIfAbsent(drift.typeName(), typeName -> new ModelComparison(drift.resourceSchema()))
+                .compare(tree(expected), tree(liveState.get()));
+        report.record(drift.typeName(), drift.domainId(expected), drift.identifier(expected),
+                differences.isEmpty() ? DriftStatus.IN_SYNC : DriftStatus.MODIFIED, differences, null);
+    }
+
+    private JsonNode tree(final Object model) {
+        try {
+            return mapper.readTree(serializer.serialize(model));
+        } catch (final IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+}
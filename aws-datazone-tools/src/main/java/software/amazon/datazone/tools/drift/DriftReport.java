@@ -0,0 +1,106 @@
+package software.amazon.datazone.tools.drift;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Writes the drift of each resource as a line of NDJSON as soon as it is known, and counts the resources of each type
+ * per drift status. A line holds the type name, the domain and identifier of the resource and its status, with the
+ * properties that differ when it is MODIFIED, or why it could not be checked:
+ * <pre>
+ * {"type":"AWS::DataZone::Project","domainId":"dzd_1","identifier":"prj_1","status":"MODIFIED",
+ *  "differences":[{"property":"Description","expected":"Sales","actual":"Marketing"}]}
+ * </pre>
+ */
+final class DriftReport implements AutoCloseable {
+    private static final String ROW_FORMAT = "%-50s %10s %10s %10s %10s %12s%n";
+
+    private final JsonGenerator generator;
+    private final Map<String, Map<DriftStatus, LongAdder>> counts = new ConcurrentSkipListMap<>();
+
+    DriftReport(final OutputStream output) throws IOException {
+        this.generator = new JsonFactory(new ObjectMapper()).createGenerator(output);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    void record(final String typeName,
+                final String domainId,
+                final String identifier,
+                final DriftStatus status,
+                final List<ModelComparison.PropertyDifference> differences,
+                final String message) {
+        counts.computeIfAbsent(typeName, key -> {
+            final Map<DriftStatus, LongAdder> statusCounts = new EnumMap<>(DriftStatus.class);
+            for (final DriftStatus driftStatus : DriftStatus.values()) {
+                statusCounts.put(driftStatus, new LongAdder());
+            }
+            return statusCounts;
+        }).get(status).increment();
+        write(typeName, domainId, identifier, status, differences, message);
+    }
+
+    void print(final PrintStream out, final long elapsedNanos, final long calls, final long throttledCalls) {
+        final long resources = counts.values().stream()
+                .flatMap(statusCounts -> statusCounts.values().stream())
+                .mapToLong(LongAdder::sum)
+                .sum();
+        out.printf("%d resources in %.1f s, %d DataZone calls, %d throttled%n", resources, elapsedNanos / 1e9, calls,
+                throttledCalls);
+        out.printf(ROW_FORMAT, "resource", "in sync", "modified", "deleted", "not checked", "total");
+        counts.forEach((typeName, statusCounts) -> out.printf(ROW_FORMAT, typeName,
+                statusCounts.get(DriftStatus.IN_SYNC).sum(), statusCounts.get(DriftStatus.MODIFIED).sum(),
+                statusCounts.get(DriftStatus.DELETED).sum(), statusCounts.get(DriftStatus.NOT_CHECKED).sum(),
+                statusCounts.values().stream().mapToLong(LongAdder::sum).sum()));
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        generator.close();
+    }
+
+    private synchronized void write(final String typeName,
+                                    final String domainId,
+                                    final String identifier,
+                                    final DriftStatus status,
+                                    final List<ModelComparison.PropertyDifference> differences,
+                                    final String message) {
+        try {
+            generator.writeStartObject();
+            generator.writeStringField("type", typeName);
+            if (domainId != null) {
+                generator.writeStringField("domainId", domainId);
+            }
+            generator.writeStringField("identifier", identifier);
+            generator.writeStringField("status", status.name());
+            if (!differences.isEmpty()) {
+                generator.writeArrayFieldStart("differences");
+                for (final ModelComparison.PropertyDifference difference : differences) {
+                    generator.writeStartObject();
+                    generator.writeStringField("property", difference.getProperty());
+                    generator.writeObjectField("expected", difference.getExpected());
+                    generator.writeObjectField("actual", difference.getActual());
+                    generator.writeEndObject();
+                }
+                generator.writeEndArray();
+            }
+            if (message != null) {
+                generator.writeStringField("message", message);
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
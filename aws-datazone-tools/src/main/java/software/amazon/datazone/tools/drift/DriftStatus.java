@@ -0,0 +1,12 @@
+package software.amazon.datazone.tools.drift;
+
+/**
+ * How the live state of a resource compares to its expected model, as CloudFormation reports the drift of a resource.
+ */
+enum DriftStatus {
+    IN_SYNC,
+    MODIFIED,
+    DELETED,
+    // The live state could not be read, e.g. access was denied or the calls kept being throttled.
+    NOT_CHECKED
+}
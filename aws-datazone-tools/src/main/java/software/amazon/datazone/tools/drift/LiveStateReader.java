@@ -0,0 +1,134 @@
+package software.amazon.datazone.tools.drift;
+
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.datazone.tools.inventory.RateLimits;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Reads the live state of resources on the workers, without blocking the caller. The reads of each DataZone operation
+ * are paced to its rate limit, a read waiting for its slot holds no worker, and a throttled read is made again after a
+ * backoff.
+ * <p>
+ * Reads many resources depend on are made once: {@link #readShared} keeps the live state of a resource for every
+ * resource in it, e.g. a domain, and {@link #readInBatch} reads all the resources of a batch, e.g. the memberships of
+ * a project, with one list.
+ */
+final class LiveStateReader {
+    private static final int MAXIMUM_ATTEMPTS = 5;
+    private static final Duration FIRST_BACKOFF = Duration.ofSeconds(1);
+
+    private final AmazonWebServicesClientProxy proxy;
+    private final RateLimits rateLimits;
+    private final Executor workers;
+    private final Logger logger;
+    private final Map<String, CompletableFuture<?>> shared = new ConcurrentHashMap<>();
+    // Apart from the shared reads, which may read in batches themselves.
+    private final Map<String, CompletableFuture<?>> batches = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder throttledCalls = new LongAdder();
+
+    LiveStateReader(final AmazonWebServicesClientProxy proxy,
+                    final RateLimits rateLimits,
+                    final Executor workers,
+                    final Logger logger) {
+        this.proxy = proxy;
+        this.rateLimits = rateLimits;
+        this.workers = workers;
+        this.logger = logger;
+    }
+
+    /**
+     * @return The live state of the resource, empty if it does not exist anymore.
+     */
+    <M> CompletableFuture<Optional<M>> read(final ResourceDrift<M> drift, final M model) {
+        final String batchKey = drift.batchKey(model);
+        if (batchKey != null) {
+            return readInBatch(drift, model, batchKey);
+        }
+        return call(drift.operation(), () -> {
+            try {
+                return Optional.of(drift.read(proxy, model, logger));
+            } catch (final CfnNotFoundException e) {
+                return Optional.<M>empty();
+            }
+        }, 1);
+    }
+
+    /**
+     * @return The live state of the resource, read once for all the callers that ask for the same resource.
+     */
+    <M> CompletableFuture<Optional<M>> readShared(final ResourceDrift<M> drift, final M model) {
+        @SuppressWarnings("unchecked")
+        final CompletableFuture<Optional<M>> liveState = (CompletableFuture<Optional<M>>) shared.computeIfAbsent(
+                drift.typeName() + " " + drift.identifier(model), key -> read(drift, model));
+        return liveState;
+    }
+
+    long getCalls() {
+        return calls.sum();
+    }
+
+    long getThrottledCalls() {
+        return throttledCalls.sum();
+    }
+
+    private <M> CompletableFuture<Optional<M>> readInBatch(final ResourceDrift<M> drift,
+                                                          final M model,
+                                                          final String batchKey) {
+        @SuppressWarnings("unchecked")
+        final CompletableFuture<Map<String, M>> batch = (CompletableFuture<Map<String, M>>) batches.computeIfAbsent(
+                drift.typeName() + " " + batchKey,
+                key -> call(drift.operation(), () -> drift.readBatch(proxy, model, () -> awaitSlot(drift.operation()),
+                        logger), 1));
+        return batch.thenApply(liveStates -> Optional.ofNullable(liveStates.get(drift.identifier(model))));
+    }
+
+    private <T> CompletableFuture<T> call(final String operation, final Supplier<T> call, final int attempt) {
+        final long backoffNanos = attempt == 1 ? 0 : FIRST_BACKOFF.toNanos() << (attempt - 2);
+        final long waitNanos = rateLimits.reserve(operation) + backoffNanos;
+        final Executor executor = waitNanos > 0
+                ? CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS, workers)
+                : workers;
+        return CompletableFuture.supplyAsync(() -> {
+            calls.increment();
+            return call.get();
+        }, executor).exceptionallyCompose(error -> {
+            final Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause()
+                    : error;
+            if (cause instanceof CfnThrottlingException) {
+                throttledCalls.increment();
+                if (attempt < MAXIMUM_ATTEMPTS) {
+                    return call(operation, call, attempt + 1);
+                }
+            }
+            return CompletableFuture.failedFuture(cause);
+        });
+    }
+
+    /**
+     * Blocks the worker until the next slot of the operation, for the pages of a batch after the first.
+     */
+    private void awaitSlot(final String operation) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(rateLimits.reserve(operation));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+        calls.increment();
+    }
+}
@@ -0,0 +1,114 @@
+package software.amazon.datazone.tools.drift;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compares an expected resource model with its live state property by property, the way CloudFormation detects the
+ * drift of a resource: only the properties the expected model sets are compared, the read-only properties are not
+ * input and the write-only ones are never read back, both are left out. Arrays whose schema sets insertionOrder to
+ * false are compared regardless of the order of their items.
+ */
+final class ModelComparison {
+    private final Set<String> ignoredProperties = new HashSet<>();
+    private final Set<String> unorderedProperties = new HashSet<>();
+
+    ModelComparison(final JSONObject resourceSchema) {
+        addProperties(resourceSchema.optJSONArray("readOnlyProperties"), ignoredProperties);
+        addProperties(resourceSchema.optJSONArray("writeOnlyProperties"), ignoredProperties);
+        final JSONObject properties = resourceSchema.optJSONObject("properties");
+        if (properties != null) {
+            for (final String name : properties.keySet()) {
+                final JSONObject property = properties.getJSONObject(name);
+                if ("array".equals(property.optString("type")) && !property.optBoolean("insertionOrder", true)) {
+                    unorderedProperties.add(name);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param expected The serialized expected model.
+     * @param actual   The serialized live state.
+     * @return The properties that differ, in the order of the expected model.
+     */
+    List<PropertyDifference> compare(final JsonNode expected, final JsonNode actual) {
+        final List<PropertyDifference> differences = new ArrayList<>();
+        final Iterator<Map.Entry<String, JsonNode>> fields = expected.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            final String name = field.getKey();
+            if (ignoredProperties.contains(name) || field.getValue().isNull()) {
+                continue;
+            }
+            final JsonNode actualValue = actual.get(name);
+            if (!matches(name, field.getValue(), actualValue)) {
+                differences.add(new PropertyDifference(name, field.getValue(), actualValue));
+            }
+        }
+        return differences;
+    }
+
+    private boolean matches(final String name, final JsonNode expected, final JsonNode actual) {
+        if (actual == null || actual.isNull()) {
+            // An empty collection is not set either, DataZone does not return those.
+            return expected.isContainerNode() && expected.isEmpty();
+        }
+        if (unorderedProperties.contains(name) && expected.isArray() && actual.isArray()) {
+            return expected.size() == actual.size() && counts(expected).equals(counts(actual));
+        }
+        return expected.equals(actual);
+    }
+
+    private static Map<JsonNode, Integer> counts(final JsonNode array) {
+        final Map<JsonNode, Integer> counts = new HashMap<>();
+        array.forEach(item -> counts.merge(item, 1, Integer::sum));
+        return counts;
+    }
+
+    private static void addProperties(final JSONArray pointers, final Set<String> names) {
+        for (int index = 0; pointers != null && index < pointers.length(); index++) {
+            // Only whole properties, e.g. /properties/Id, what is nested in a property is compared with it.
+            final String[] segments = pointers.getString(index).split("/");
+            if (segments.length == 3 && "properties".equals(segments[1])) {
+                names.add(segments[2]);
+            }
+        }
+    }
+
+    /**
+     * A property whose live value is not the expected one, the actual value is null when it is not set.
+     */
+    static final class PropertyDifference {
+        private final String property;
+        private final JsonNode expected;
+        private final JsonNode actual;
+
+        private PropertyDifference(final String property, final JsonNode expected, final JsonNode actual) {
+            this.property = property;
+            this.expected = expected;
+            this.actual = actual;
+        }
+
+        String getProperty() {
+            return property;
+        }
+
+        JsonNode getExpected() {
+            return expected;
+        }
+
+        JsonNode getActual() {
+            return actual;
+        }
+    }
+}
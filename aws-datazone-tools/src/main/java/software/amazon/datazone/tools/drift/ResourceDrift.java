@@ -0,0 +1,91 @@
+package software.amazon.datazone.tools.drift;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.json.JSONObject;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.Map;
+
+/**
+ * Reads the live state of resources of one resource type for {@link DriftDetector}. Each provider implements it as
+ * DriftSource in its package of the tools, with its DataZoneClientWrapper and Translator, so that the live state is
+ * the resource model its read handler returns.
+ *
+ * @param <M> The resource model of the resource type.
+ */
+public interface ResourceDrift<M> {
+
+    /**
+     * @return The type name of the resource, e.g. AWS::DataZone::Environment.
+     */
+    String typeName();
+
+    /**
+     * @return The type the expected resource models are deserialized into.
+     */
+    TypeReference<M> modelType();
+
+    /**
+     * @return The resource schema of the provider, its read-only and write-only properties are not compared.
+     */
+    JSONObject resourceSchema();
+
+    /**
+     * @return The DataZone operation the resources are read with, e.g. GetEnvironment. The rate limits apply per
+     * operation.
+     */
+    String operation();
+
+    /**
+     * @return The identifier of the resource in its domain, e.g. the id of an environment.
+     */
+    String identifier(M model);
+
+    /**
+     * @return The id of the domain of the resource, null for a domain.
+     */
+    String domainId(M model);
+
+    /**
+     * @return The id of the project the resource does not outlive, null if there is none.
+     */
+    default String projectId(final M model) {
+        return null;
+    }
+
+    /**
+     * @return The live state of the resource.
+     * @throws software.amazon.cloudformation.exceptions.CfnNotFoundException If it does not exist anymore.
+     */
+    M read(AmazonWebServicesClientProxy proxy, M model, Logger logger);
+
+    /**
+     * @return The key of the resources that are read together with {@link #readBatch}, e.g. the project of a
+     * membership; null for the resources that are read one by one.
+     */
+    default String batchKey(final M model) {
+        return null;
+    }
+
+    /**
+     * Reads all the resources of the batch of the model at once, with a paginated list call. By default the batch is
+     * the resource of the model alone, read with {@link #read}; a batch key that many resources share needs the
+     * list call that reads them all.
+     *
+     * @param beforeNextPage Waits for the rate limit of the operation, before every page but the first.
+     * @return The live state of the resources of the batch, by identifier.
+     */
+    default Map<String, M> readBatch(final AmazonWebServicesClientProxy proxy,
+                                     final M model,
+                                     final Runnable beforeNextPage,
+                                     final Logger logger) {
+        try {
+            return Map.of(identifier(model), read(proxy, model, logger));
+        } catch (final CfnNotFoundException e) {
+            // Missing from the batch, as a resource that is not listed anymore.
+            return Map.of();
+        }
+    }
+}
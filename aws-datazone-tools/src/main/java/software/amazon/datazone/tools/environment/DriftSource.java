@@ -0,0 +1,67 @@
+package software.amazon.datazone.tools.environment;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.json.JSONObject;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.datazone.environment.Configuration;
+import software.amazon.datazone.environment.ResourceModel;
+import software.amazon.datazone.environment.Translator;
+import software.amazon.datazone.environment.client.DataZoneClientBuilder;
+import software.amazon.datazone.environment.client.DataZoneClientWrapper;
+import software.amazon.datazone.environment.helper.LoggerWrapper;
+import software.amazon.datazone.tools.drift.ResourceDrift;
+
+import java.util.Optional;
+
+/**
+ * Reads environments with GetEnvironment, as the read handler does. An environment does not outlive its project.
+ */
+public class DriftSource implements ResourceDrift<ResourceModel> {
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public TypeReference<ResourceModel> modelType() {
+        return new TypeReference<ResourceModel>() {
+        };
+    }
+
+    @Override
+    public JSONObject resourceSchema() {
+        return new Configuration().resourceSchemaJSONObject();
+    }
+
+    @Override
+    public String operation() {
+        return "GetEnvironment";
+    }
+
+    @Override
+    public String identifier(final ResourceModel model) {
+        return model.getId();
+    }
+
+    @Override
+    public String domainId(final ResourceModel model) {
+        return Optional.ofNullable(model.getDomainIdentifier()).orElse(model.getDomainId());
+    }
+
+    @Override
+    public String projectId(final ResourceModel model) {
+        return Optional.ofNullable(model.getProjectIdentifier()).orElse(model.getProjectId());
+    }
+
+    @Override
+    public ResourceModel read(final AmazonWebServicesClientProxy proxy,
+                              final ResourceModel model,
+                              final Logger logger) {
+        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(
+                proxy.newProxy(DataZoneClientBuilder::getClient), new LoggerWrapper(logger));
+        return Translator.translateFromReadResponse(dataZoneClientWrapper.getEnvironment(
+                Translator.translateToReadRequest(model)));
+    }
+}
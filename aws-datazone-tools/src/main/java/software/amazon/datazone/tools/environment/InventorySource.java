@@ -0,0 +1,53 @@
+package software.amazon.datazone.tools.environment;
+
+import software.amazon.awssdk.services.datazone.model.ListEnvironmentsResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.datazone.environment.ResourceModel;
+import software.amazon.datazone.environment.Translator;
+import software.amazon.datazone.environment.client.DataZoneClientBuilder;
+import software.amazon.datazone.environment.client.DataZoneClientWrapper;
+import software.amazon.datazone.environment.helper.LoggerWrapper;
+import software.amazon.datazone.tools.inventory.InventoryPage;
+import software.amazon.datazone.tools.inventory.InventoryParent;
+import software.amazon.datazone.tools.inventory.InventoryScope;
+import software.amazon.datazone.tools.inventory.ResourceInventory;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The environments of a project, each of them is a parent of the inventories of an environment.
+ */
+public class InventorySource implements ResourceInventory {
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public InventoryScope scope() {
+        return InventoryScope.PROJECT;
+    }
+
+    @Override
+    public String operation() {
+        return "ListEnvironments";
+    }
+
+    @Override
+    public InventoryPage list(final AmazonWebServicesClientProxy proxy,
+                              final InventoryParent parent,
+                              final String nextToken,
+                              final Logger logger) {
+        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(
+                proxy.newProxy(DataZoneClientBuilder::getClient), new LoggerWrapper(logger));
+        final ListEnvironmentsResponse response = dataZoneClientWrapper.listEnvironment(Translator.translateToListRequest(
+                ResourceModel.builder().domainIdentifier(parent.getDomainId()).build(), parent.getProjectId(), nextToken));
+        final List<ResourceModel> models = Translator.translateFromListRequest(response);
+        return new InventoryPage(models, response.nextToken(), models.stream()
+                .map(model -> InventoryParent.environment(parent.getDomainId(), parent.getProjectId(), model.getId()))
+                .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,62 @@
+package software.amazon.datazone.tools.environmentblueprintconfiguration;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.json.JSONObject;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.datazone.environmentblueprintconfiguration.Configuration;
+import software.amazon.datazone.environmentblueprintconfiguration.ResourceModel;
+import software.amazon.datazone.environmentblueprintconfiguration.Translator;
+import software.amazon.datazone.environmentblueprintconfiguration.client.DataZoneClientBuilder;
+import software.amazon.datazone.environmentblueprintconfiguration.client.DataZoneClientWrapper;
+import software.amazon.datazone.environmentblueprintconfiguration.helper.LoggerWrapper;
+import software.amazon.datazone.tools.drift.ResourceDrift;
+
+import java.util.Optional;
+
+/**
+ * Reads environment blueprint configurations with GetEnvironmentBlueprintConfiguration, as the read handler does.
+ */
+public class DriftSource implements ResourceDrift<ResourceModel> {
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public TypeReference<ResourceModel> modelType() {
+        return new TypeReference<ResourceModel>() {
+        };
+    }
+
+    @Override
+    public JSONObject resourceSchema() {
+        return new Configuration().resourceSchemaJSONObject();
+    }
+
+    @Override
+    public String operation() {
+        return "GetEnvironmentBlueprintConfiguration";
+    }
+
+    @Override
+    public String identifier(final ResourceModel model) {
+        return model.getEnvironmentBlueprintId();
+    }
+
+    @Override
+    public String domainId(final ResourceModel model) {
+        return Optional.ofNullable(model.getDomainIdentifier()).orElse(model.getDomainId());
+    }
+
+    @Override
+    public ResourceModel read(final AmazonWebServicesClientProxy proxy,
+                              final ResourceModel model,
+                              final Logger logger) {
+        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(
+                proxy.newProxy(DataZoneClientBuilder::getClient), new LoggerWrapper(logger));
+        return Translator.translateFromReadResponse(dataZoneClientWrapper.getEnvironmentBlueprintConfiguration(
+                Translator.translateToReadRequest(model)));
+    }
+}
@@ -0,0 +1,51 @@
+package software.amazon.datazone.tools.environmentblueprintconfiguration;
+
+import software.amazon.awssdk.services.datazone.model.ListEnvironmentBlueprintConfigurationsResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.datazone.environmentblueprintconfiguration.ResourceModel;
+import software.amazon.datazone.environmentblueprintconfiguration.Translator;
+import software.amazon.datazone.environmentblueprintconfiguration.client.DataZoneClientBuilder;
+import software.amazon.datazone.environmentblueprintconfiguration.client.DataZoneClientWrapper;
+import software.amazon.datazone.environmentblueprintconfiguration.helper.LoggerWrapper;
+import software.amazon.datazone.tools.inventory.InventoryPage;
+import software.amazon.datazone.tools.inventory.InventoryParent;
+import software.amazon.datazone.tools.inventory.InventoryScope;
+import software.amazon.datazone.tools.inventory.ResourceInventory;
+
+import java.util.stream.Collectors;
+
+/**
+ * The environment blueprint configurations of a domain.
+ */
+public class InventorySource implements ResourceInventory {
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public InventoryScope scope() {
+        return InventoryScope.DOMAIN;
+    }
+
+    @Override
+    public String operation() {
+        return "ListEnvironmentBlueprintConfigurations";
+    }
+
+    @Override
+    public InventoryPage list(final AmazonWebServicesClientProxy proxy,
+                              final InventoryParent parent,
+                              final String nextToken,
+                              final Logger logger) {
+        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(
+                proxy.newProxy(DataZoneClientBuilder::getClient), new LoggerWrapper(logger));
+        final ListEnvironmentBlueprintConfigurationsResponse response = dataZoneClientWrapper.listEnvironmentBlueprintConfigurations(
+                Translator.translateToListRequest(ResourceModel.builder().domainIdentifier(parent.getDomainId()).build(), nextToken));
+        return InventoryPage.of(response.items().stream()
+                .map(Translator::getResourceModelFromItem)
+                .collect(Collectors.toList()), response.nextToken());
+    }
+}
@@ -0,0 +1,62 @@
+package software.amazon.datazone.tools.environmentprofile;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.json.JSONObject;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.datazone.environmentprofile.Configuration;
+import software.amazon.datazone.environmentprofile.ResourceModel;
+import software.amazon.datazone.environmentprofile.Translator;
+import software.amazon.datazone.environmentprofile.client.DataZoneClientBuilder;
+import software.amazon.datazone.environmentprofile.client.DataZoneClientWrapper;
+import software.amazon.datazone.environmentprofile.helper.LoggerWrapper;
+import software.amazon.datazone.tools.drift.ResourceDrift;
+
+import java.util.Optional;
+
+/**
+ * Reads environment profiles with GetEnvironmentProfile, as the read handler does.
+ */
+public class DriftSource implements ResourceDrift<ResourceModel> {
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public TypeReference<ResourceModel> modelType() {
+        return new TypeReference<ResourceModel>() {
+        };
+    }
+
+    @Override
+    public JSONObject resourceSchema() {
+        return new Configuration().resourceSchemaJSONObject();
+    }
+
+    @Override
+    public String operation() {
+        return "GetEnvironmentProfile";
+    }
+
+    @Override
+    public String identifier(final ResourceModel model) {
+        return model.getId();
+    }
+
+    @Override
+    public String domainId(final ResourceModel model) {
+        return Optional.ofNullable(model.getDomainIdentifier()).orElse(model.getDomainId());
+    }
+
+    @Override
+    public ResourceModel read(final AmazonWebServicesClientProxy proxy,
+                              final ResourceModel model,
+                              final Logger logger) {
+        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(
+                proxy.newProxy(DataZoneClientBuilder::getClient), new LoggerWrapper(logger));
+        return Translator.translateFromReadResponse(dataZoneClientWrapper.getEnvironmentProfile(
+                Translator.translateToReadRequest(model)));
+    }
+}
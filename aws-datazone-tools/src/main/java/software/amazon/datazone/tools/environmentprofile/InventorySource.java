@@ -0,0 +1,47 @@
+package software.amazon.datazone.tools.environmentprofile;
+
+import software.amazon.awssdk.services.datazone.model.ListEnvironmentProfilesResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.datazone.environmentprofile.ResourceModel;
+import software.amazon.datazone.environmentprofile.Translator;
+import software.amazon.datazone.environmentprofile.client.DataZoneClientBuilder;
+import software.amazon.datazone.environmentprofile.client.DataZoneClientWrapper;
+import software.amazon.datazone.environmentprofile.helper.LoggerWrapper;
+import software.amazon.datazone.tools.inventory.InventoryPage;
+import software.amazon.datazone.tools.inventory.InventoryParent;
+import software.amazon.datazone.tools.inventory.InventoryScope;
+import software.amazon.datazone.tools.inventory.ResourceInventory;
+
+/**
+ * The environment profiles of a domain.
+ */
+public class InventorySource implements ResourceInventory {
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public InventoryScope scope() {
+        return InventoryScope.DOMAIN;
+    }
+
+    @Override
+    public String operation() {
+        return "ListEnvironmentProfiles";
+    }
+
+    @Override
+    public InventoryPage list(final AmazonWebServicesClientProxy proxy,
+                              final InventoryParent parent,
+                              final String nextToken,
+                              final Logger logger) {
+        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(
+                proxy.newProxy(DataZoneClientBuilder::getClient), new LoggerWrapper(logger));
+        final ListEnvironmentProfilesResponse response = dataZoneClientWrapper.listEnvironmentProfile(Translator.translateToListRequest(
+                ResourceModel.builder().domainIdentifier(parent.getDomainId()).build(), nextToken));
+        return InventoryPage.of(Translator.translateFromListRequest(response), response.nextToken());
+    }
+}
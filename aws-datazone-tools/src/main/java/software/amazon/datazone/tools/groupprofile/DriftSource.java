@@ -0,0 +1,69 @@
+package software.amazon.datazone.tools.groupprofile;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.json.JSONObject;
+import software.amazon.awssdk.services.datazone.model.GetGroupProfileResponse;
+import software.amazon.awssdk.services.datazone.model.GroupProfileStatus;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.datazone.groupprofile.Configuration;
+import software.amazon.datazone.groupprofile.ResourceModel;
+import software.amazon.datazone.groupprofile.Translator;
+import software.amazon.datazone.groupprofile.client.DataZoneClientBuilder;
+import software.amazon.datazone.groupprofile.client.DataZoneClientWrapper;
+import software.amazon.datazone.groupprofile.helper.LoggerWrapper;
+import software.amazon.datazone.tools.drift.ResourceDrift;
+
+import java.util.Optional;
+
+/**
+ * Reads group profiles with GetGroupProfile, as the read handler does: an unassigned profile is gone.
+ */
+public class DriftSource implements ResourceDrift<ResourceModel> {
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public TypeReference<ResourceModel> modelType() {
+        return new TypeReference<ResourceModel>() {
+        };
+    }
+
+    @Override
+    public JSONObject resourceSchema() {
+        return new Configuration().resourceSchemaJSONObject();
+    }
+
+    @Override
+    public String operation() {
+        return "GetGroupProfile";
+    }
+
+    @Override
+    public String identifier(final ResourceModel model) {
+        return Translator.getGroupId(model);
+    }
+
+    @Override
+    public String domainId(final ResourceModel model) {
+        return Optional.ofNullable(model.getDomainIdentifier()).orElse(model.getDomainId());
+    }
+
+    @Override
+    public ResourceModel read(final AmazonWebServicesClientProxy proxy,
+                              final ResourceModel model,
+                              final Logger logger) {
+        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(
+                proxy.newProxy(DataZoneClientBuilder::getClient), new LoggerWrapper(logger));
+        final GetGroupProfileResponse response = dataZoneClientWrapper.readGroupProfile(
+                Translator.translateToReadRequest(model));
+        if (GroupProfileStatus.NOT_ASSIGNED.equals(response.status())) {
+            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, response.id());
+        }
+        return Translator.translateFromReadResponse(response);
+    }
+}
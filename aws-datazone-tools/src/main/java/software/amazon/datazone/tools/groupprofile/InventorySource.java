@@ -0,0 +1,51 @@
+package software.amazon.datazone.tools.groupprofile;
+
+import software.amazon.awssdk.services.datazone.model.SearchGroupProfilesResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.datazone.groupprofile.ResourceModel;
+import software.amazon.datazone.groupprofile.Translator;
+import software.amazon.datazone.groupprofile.client.DataZoneClientBuilder;
+import software.amazon.datazone.groupprofile.client.DataZoneClientWrapper;
+import software.amazon.datazone.groupprofile.helper.LoggerWrapper;
+import software.amazon.datazone.tools.inventory.InventoryPage;
+import software.amazon.datazone.tools.inventory.InventoryParent;
+import software.amazon.datazone.tools.inventory.InventoryScope;
+import software.amazon.datazone.tools.inventory.ResourceInventory;
+
+import java.util.stream.Collectors;
+
+/**
+ * The group profiles of a domain.
+ */
+public class InventorySource implements ResourceInventory {
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public InventoryScope scope() {
+        return InventoryScope.DOMAIN;
+    }
+
+    @Override
+    public String operation() {
+        return "SearchGroupProfiles";
+    }
+
+    @Override
+    public InventoryPage list(final AmazonWebServicesClientProxy proxy,
+                              final InventoryParent parent,
+                              final String nextToken,
+                              final Logger logger) {
+        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(
+                proxy.newProxy(DataZoneClientBuilder::getClient), new LoggerWrapper(logger));
+        final SearchGroupProfilesResponse response = dataZoneClientWrapper.searchGroupProfile(Translator.translateToSearchRequest(
+                ResourceModel.builder().domainIdentifier(parent.getDomainId()).build(), nextToken));
+        return InventoryPage.of(response.items().stream()
+                .map(groupProfileSummary -> Translator.getResourceModelFromSummary(groupProfileSummary, parent.getDomainId()))
+                .collect(Collectors.toList()), response.nextToken());
+    }
+}
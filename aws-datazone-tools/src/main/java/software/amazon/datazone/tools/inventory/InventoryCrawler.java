@@ -0,0 +1,290 @@
+package software.amazon.datazone.tools.inventory;
+
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Crawls everything DataZone holds in an account and region into an NDJSON snapshot, see {@link InventoryWriter}: the
+ * domains, their user and group profiles, environment blueprint configurations, environment profiles and projects, the
+ * memberships, environments and data sources of the projects, and the subscription targets of the environments.
+ * <p>
+ * Each page of each parent is a task of its own on a work-stealing pool: the next page of a parent and the listings of
+ * the resources it returns are submitted as soon as it comes in, so that the crawl fans out over the domains and
+ * projects as fast as the rate limits allow, rather than going through them one list call at a time. The calls of each
+ * DataZone operation are spaced to its rate limit, see {@link RateLimits}; a task waiting for its slot holds no worker.
+ * A throttled page is listed again after a backoff, any other failure is written to the snapshot as an error line and
+ * the crawl goes on with the rest. The number of resources, pages and errors per resource type is printed on the
+ * standard error at the end.
+ * <p>
+ * The calls go through the DataZoneClientWrapper of each provider, with the proxy CloudFormation hands to the
+ * handlers, which signs them with session credentials: those of the default credentials provider chain have to be
+ * temporary ones, such as those of a role or of {@code aws sts get-session-token}. {@code DATAZONE_ENDPOINT_OVERRIDE}
+ * points the crawl to the stand-in, with any credentials.
+ * <p>
+ * Usage: {@code InventoryCrawler [--workers 16] [--default-rate 5] [--rate ListEnvironments=2]... [--domain dzd_1]...
+ * [--region us-east-1] [--output inventory.ndjson]}. Rates are calls per second, 0 for no limit; {@code --domain}
+ * crawls these domains instead of all of them. The snapshot goes to the standard output without {@code --output}.
+ */
+public final class InventoryCrawler {
+    private static final long REMAINING_TIME_MILLIS = Duration.ofHours(12).toMillis();
+    private static final int MAXIMUM_ATTEMPTS = 5;
+    private static final Duration FIRST_BACKOFF = Duration.ofSeconds(1);
+    private static final String ROW_FORMAT = "%-50s %10s %8s %8s %10s%n";
+    private static final Logger DISCARDING_LOGGER = message -> {
+    };
+
+    private final List<ResourceInventory> inventories;
+    private final AmazonWebServicesClientProxy proxy;
+    private final RateLimits rateLimits;
+    private final InventoryWriter writer;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService delays = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "inventory-delays");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, Counts> counts = new ConcurrentSkipListMap<>();
+    private final AtomicLong pendingPages = new AtomicLong();
+    private final CountDownLatch done = new CountDownLatch(1);
+
+    private InventoryCrawler(final List<ResourceInventory> inventories,
+                             final AmazonWebServicesClientProxy proxy,
+                             final RateLimits rateLimits,
+                             final InventoryWriter writer,
+                             final int workers) {
+        this.inventories = inventories;
+        this.proxy = proxy;
+        this.rateLimits = rateLimits;
+        this.writer = writer;
+        this.workers = Executors.newWorkStealingPool(workers);
+        for (final ResourceInventory inventory : inventories) {
+            counts.putIfAbsent(inventory.typeName(), new Counts());
+        }
+    }
+
+    public static List<ResourceInventory> inventories() {
+        return List.of(
+                new software.amazon.datazone.tools.domain.InventorySource(),
+                new software.amazon.datazone.tools.userprofile.InventorySource("SSO_USER"),
+                new software.amazon.datazone.tools.userprofile.InventorySource("IAM_USER"),
+                new software.amazon.datazone.tools.groupprofile.InventorySource(),
+                new software.amazon.datazone.tools.environmentblueprintconfiguration.InventorySource(),
+                new software.amazon.datazone.tools.environmentprofile.InventorySource(),
+                new software.amazon.datazone.tools.project.InventorySource(),
+                new software.amazon.datazone.tools.projectmembership.InventorySource(),
+                new software.amazon.datazone.tools.environment.InventorySource(),
+                new software.amazon.datazone.tools.datasource.InventorySource(),
+                new software.amazon.datazone.tools.subscriptiontarget.InventorySource());
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        int workers = 16;
+        double defaultRate = 5;
+        final Map<String, Double> rates = new HashMap<>();
+        final List<String> domainIds = new ArrayList<>();
+        String output = null;
+        for (int index = 0; index < args.length; index++) {
+            switch (args[index]) {
+                case "--workers":
+                    workers = Integer.parseInt(args[++index]);
+                    break;
+                case "--default-rate":
+                    defaultRate = Double.parseDouble(args[++index]);
+                    break;
+                case "--rate":
+                    final String[] rate = args[++index].split("=", 2);
+                    rates.put(rate[0], Double.parseDouble(rate[1]));
+                    break;
+                case "--domain":
+                    domainIds.add(args[++index]);
+                    break;
+                case "--region":
+                    System.setProperty(SdkSystemSetting.AWS_REGION.property(), args[++index]);
+                    break;
+                case "--output":
+                    output = args[++index];
+                    break;
+                default:
+                    throw new IllegalArgumentException(String.format("Unknown argument %s", args[index]));
+            }
+        }
+
+        final AmazonWebServicesClientProxy proxy = newProxy();
+        final OutputStream out = output == null ? System.out : new FileOutputStream(output);
+        try (InventoryWriter writer = new InventoryWriter(new BufferedOutputStream(out))) {
+            final InventoryCrawler crawler = new InventoryCrawler(inventories(), proxy,
+                    new RateLimits(rates, defaultRate), writer, workers);
+            final long startNanos = System.nanoTime();
+            crawler.crawl(domainIds);
+            crawler.print(System.err, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * @return The proxy the handlers get from CloudFormation, with the credentials of the default provider chain.
+     */
+    public static AmazonWebServicesClientProxy newProxy() {
+        return new AmazonWebServicesClientProxy(new LoggerProxy(), credentials(), () -> REMAINING_TIME_MILLIS);
+    }
+
+    /**
+     * The proxy only signs with session credentials, the way CloudFormation passes them to the handlers.
+     */
+    private static Credentials credentials() {
+        final AwsCredentials credentials = DefaultCredentialsProvider.create().resolveCredentials();
+        if (!(credentials instanceof AwsSessionCredentials sessionCredentials)) {
+            throw new IllegalStateException("The crawler signs with session credentials, use temporary credentials, "
+                    + "such as those of a role or of aws sts get-session-token");
+        }
+        return new Credentials(sessionCredentials.accessKeyId(), sessionCredentials.secretAccessKey(),
+                sessionCredentials.sessionToken());
+    }
+
+    /**
+     * @param domainIds The domains to crawl, all those of the account when empty.
+     */
+    private void crawl(final List<String> domainIds) throws InterruptedException {
+        // Counts the pages of the crawl start, so that it cannot end before all of them are submitted.
+        pendingPages.incrementAndGet();
+        if (domainIds.isEmpty()) {
+            submitChildren(List.of(InventoryParent.account()));
+        } else {
+            for (final String domainId : domainIds) {
+                submitChildren(List.of(InventoryParent.domain(domainId)));
+            }
+        }
+        completePage();
+        while (!done.await(30, TimeUnit.SECONDS)) {
+            System.err.printf("%d pages listed, %d in flight%n",
+                    counts.values().stream().mapToLong(count -> count.pages.sum()).sum(), pendingPages.get());
+        }
+        workers.shutdown();
+        delays.shutdown();
+    }
+
+    /**
+     * Lists the resources in each of the parents, with the inventories of their scope.
+     */
+    private void submitChildren(final List<InventoryParent> parents) {
+        for (final InventoryParent parent : parents) {
+            for (final ResourceInventory inventory : inventories) {
+                if (inventory.scope() == parent.getScope()) {
+                    submit(inventory, parent, null, 1, 0);
+                }
+            }
+        }
+    }
+
+    private void submit(final ResourceInventory inventory,
+                        final InventoryParent parent,
+                        final String nextToken,
+                        final int attempt,
+                        final long backoffNanos) {
+        pendingPages.incrementAndGet();
+        final Runnable page = () -> {
+            final long waitNanos = rateLimits.reserve(inventory.operation());
+            final Runnable list = () -> listPage(inventory, parent, nextToken, attempt);
+            if (waitNanos > 0) {
+                delays.schedule(() -> workers.execute(list), waitNanos, TimeUnit.NANOSECONDS);
+            } else {
+                workers.execute(list);
+            }
+        };
+        if (backoffNanos > 0) {
+            delays.schedule(page, backoffNanos, TimeUnit.NANOSECONDS);
+        } else {
+            page.run();
+        }
+    }
+
+    private void listPage(final ResourceInventory inventory,
+                          final InventoryParent parent,
+                          final String nextToken,
+                          final int attempt) {
+        final Counts count = counts.get(inventory.typeName());
+        try {
+            final InventoryPage page = inventory.list(proxy, parent, nextToken, DISCARDING_LOGGER);
+            count.pages.increment();
+            count.models.add(page.getModels().size());
+            writer.writeModels(inventory, parent, page.getModels());
+            if (page.getNextToken() != null) {
+                submit(inventory, parent, page.getNextToken(), 1, 0);
+            }
+            submitChildren(page.getChildren());
+        } catch (final CfnThrottlingException e) {
+            count.throttled.increment();
+            if (attempt < MAXIMUM_ATTEMPTS) {
+                // Backs off exponentially, the other pages of the operation keep their slots.
+                submit(inventory, parent, nextToken, attempt + 1, FIRST_BACKOFF.toNanos() << (attempt - 1));
+            } else {
+                fail(inventory, parent, count, e);
+            }
+        } catch (final RuntimeException e) {
+            fail(inventory, parent, count, e);
+        } finally {
+            completePage();
+        }
+    }
+
+    private void fail(final ResourceInventory inventory,
+                      final InventoryParent parent,
+                      final Counts count,
+                      final RuntimeException e) {
+        count.errors.increment();
+        final String errorCode = e instanceof BaseHandlerException handlerException
+                ? handlerException.getErrorCode().name()
+                : e.getClass().getSimpleName();
+        writer.writeError(inventory, parent, errorCode, e.getMessage());
+        System.err.printf("%s in %s: %s %s%n", inventory.typeName(), parent, errorCode, e.getMessage());
+    }
+
+    private void completePage() {
+        if (pendingPages.decrementAndGet() == 0) {
+            done.countDown();
+        }
+    }
+
+    private void print(final PrintStream out, final long elapsedNanos) {
+        out.printf("crawled in %.1f s%n", elapsedNanos / 1e9);
+        out.printf(ROW_FORMAT, "resource", "resources", "pages", "errors", "throttled");
+        counts.forEach((typeName, count) -> out.printf(ROW_FORMAT, typeName, count.models.sum(), count.pages.sum(),
+                count.errors.sum(), count.throttled.sum()));
+    }
+
+    /**
+     * What the crawl listed of one resource type.
+     */
+    private static final class Counts {
+        private final LongAdder models = new LongAdder();
+        private final LongAdder pages = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder throttled = new LongAdder();
+    }
+}
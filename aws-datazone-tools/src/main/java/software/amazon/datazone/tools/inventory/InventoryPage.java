@@ -0,0 +1,44 @@
+package software.amazon.datazone.tools.inventory;
+
+import java.util.List;
+
+/**
+ * One page of the resources of a parent, as one list or search call returns it, and the parents these resources are
+ * to the inventories of the next scope down.
+ */
+public final class InventoryPage {
+    private final List<?> models;
+    private final String nextToken;
+    private final List<InventoryParent> children;
+
+    public InventoryPage(final List<?> models, final String nextToken, final List<InventoryParent> children) {
+        this.models = models;
+        this.nextToken = nextToken;
+        this.children = children;
+    }
+
+    /**
+     * @return A page of resources that nothing is listed in.
+     */
+    public static InventoryPage of(final List<?> models, final String nextToken) {
+        return new InventoryPage(models, nextToken, List.of());
+    }
+
+    /**
+     * @return The resource models of the page, as the list handler of the resource type translates them.
+     */
+    public List<?> getModels() {
+        return models;
+    }
+
+    /**
+     * @return The token of the next page, null on the last page.
+     */
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    public List<InventoryParent> getChildren() {
+        return children;
+    }
+}
@@ -0,0 +1,74 @@
+package software.amazon.datazone.tools.inventory;
+
+import java.util.Objects;
+
+/**
+ * The resource an inventory lists resources in: the account, a domain, a project or an environment, with the ids of
+ * the resources it is in itself.
+ */
+public final class InventoryParent {
+    private static final InventoryParent ACCOUNT = new InventoryParent(InventoryScope.ACCOUNT, null, null, null);
+
+    private final InventoryScope scope;
+    private final String domainId;
+    private final String projectId;
+    private final String environmentId;
+
+    private InventoryParent(final InventoryScope scope,
+                            final String domainId,
+                            final String projectId,
+                            final String environmentId) {
+        this.scope = scope;
+        this.domainId = domainId;
+        this.projectId = projectId;
+        this.environmentId = environmentId;
+    }
+
+    public static InventoryParent account() {
+        return ACCOUNT;
+    }
+
+    public static InventoryParent domain(final String domainId) {
+        return new InventoryParent(InventoryScope.DOMAIN, Objects.requireNonNull(domainId), null, null);
+    }
+
+    public static InventoryParent project(final String domainId, final String projectId) {
+        return new InventoryParent(InventoryScope.PROJECT, Objects.requireNonNull(domainId),
+                Objects.requireNonNull(projectId), null);
+    }
+
+    public static InventoryParent environment(final String domainId, final String projectId, final String environmentId) {
+        return new InventoryParent(InventoryScope.ENVIRONMENT, Objects.requireNonNull(domainId), projectId,
+                Objects.requireNonNull(environmentId));
+    }
+
+    public InventoryScope getScope() {
+        return scope;
+    }
+
+    public String getDomainId() {
+        return domainId;
+    }
+
+    public String getProjectId() {
+        return projectId;
+    }
+
+    public String getEnvironmentId() {
+        return environmentId;
+    }
+
+    @Override
+    public String toString() {
+        switch (scope) {
+            case DOMAIN:
+                return String.format("domain %s", domainId);
+            case PROJECT:
+                return String.format("project %s of domain %s", projectId, domainId);
+            case ENVIRONMENT:
+                return String.format("environment %s of domain %s", environmentId, domainId);
+            default:
+                return "account";
+        }
+    }
+}
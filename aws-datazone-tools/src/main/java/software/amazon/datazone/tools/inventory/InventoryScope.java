@@ -0,0 +1,11 @@
+package software.amazon.datazone.tools.inventory;
+
+/**
+ * What a {@link ResourceInventory} lists its resources in, from the account down to an environment.
+ */
+public enum InventoryScope {
+    ACCOUNT,
+    DOMAIN,
+    PROJECT,
+    ENVIRONMENT
+}
@@ -0,0 +1,80 @@
+package software.amazon.datazone.tools.inventory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Writes the snapshot as NDJSON, one line per resource as its page comes in, so that a crawl of any size holds no more
+ * than its pages in flight. A resource line holds the type name, the ids of its parent and the resource model, the
+ * way the {@link Serializer} of the wrapper writes it into a progress event:
+ * <pre>
+ * {"type":"AWS::DataZone::Project","domainId":"dzd_1","model":{"DomainId":"dzd_1","Id":"prj_1",...}}
+ * </pre>
+ * A page that could not be listed gets an error line instead, with the error code and message in place of the model.
+ */
+final class InventoryWriter implements AutoCloseable {
+    private final Serializer serializer = new Serializer();
+    private final JsonGenerator generator;
+
+    InventoryWriter(final OutputStream output) throws IOException {
+        this.generator = new JsonFactory().createGenerator(output);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    synchronized void writeModels(final ResourceInventory inventory, final InventoryParent parent, final List<?> models) {
+        try {
+            for (final Object model : models) {
+                startLine(inventory, parent);
+                generator.writeFieldName("model");
+                generator.writeRawValue(serializer.serialize(model));
+                endLine();
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    synchronized void writeError(final ResourceInventory inventory,
+                                 final InventoryParent parent,
+                                 final String errorCode,
+                                 final String message) {
+        try {
+            startLine(inventory, parent);
+            generator.writeStringField("errorCode", errorCode);
+            generator.writeStringField("message", message);
+            endLine();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        generator.close();
+    }
+
+    private void startLine(final ResourceInventory inventory, final InventoryParent parent) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", inventory.typeName());
+        writeOptionalField("domainId", parent.getDomainId());
+        writeOptionalField("projectId", parent.getProjectId());
+        writeOptionalField("environmentId", parent.getEnvironmentId());
+    }
+
+    private void endLine() throws IOException {
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private void writeOptionalField(final String name, final String value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(name, value);
+        }
+    }
+}
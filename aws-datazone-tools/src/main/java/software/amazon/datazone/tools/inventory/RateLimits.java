@@ -0,0 +1,53 @@
+package software.amazon.datazone.tools.inventory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces the calls of each DataZone operation evenly, so that no operation goes above its rate, whatever the number
+ * of workers. A call reserves the next free slot of its operation and waits until then; the crawler does not hold a
+ * worker while it waits.
+ */
+public final class RateLimits {
+    private final Map<String, Double> callsPerSecond;
+    private final double defaultCallsPerSecond;
+    private final Map<String, Slots> slots = new ConcurrentHashMap<>();
+
+    /**
+     * @param callsPerSecond        The rate of the operations with their own, 0 for no limit.
+     * @param defaultCallsPerSecond The rate of every other operation, 0 for no limit.
+     */
+    public RateLimits(final Map<String, Double> callsPerSecond, final double defaultCallsPerSecond) {
+        this.callsPerSecond = Map.copyOf(callsPerSecond);
+        this.defaultCallsPerSecond = defaultCallsPerSecond;
+    }
+
+    /**
+     * Reserves the next call of the operation.
+     *
+     * @return The nanoseconds to wait before making the call.
+     */
+    public long reserve(final String operation) {
+        return slots.computeIfAbsent(operation, key -> new Slots(callsPerSecond.getOrDefault(key, defaultCallsPerSecond)))
+                .reserve(System.nanoTime());
+    }
+
+    private static final class Slots {
+        private final long intervalNanos;
+        private long nextFreeNanos = Long.MIN_VALUE;
+
+        private Slots(final double callsPerSecond) {
+            this.intervalNanos = callsPerSecond > 0 ? Math.round(TimeUnit.SECONDS.toNanos(1) / callsPerSecond) : 0;
+        }
+
+        private synchronized long reserve(final long nowNanos) {
+            if (intervalNanos == 0) {
+                return 0;
+            }
+            final long slotNanos = nextFreeNanos == Long.MIN_VALUE || nextFreeNanos - nowNanos < 0 ? nowNanos : nextFreeNanos;
+            nextFreeNanos = slotNanos + intervalNanos;
+            return slotNanos - nowNanos;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package software.amazon.datazone.tools.inventory;
+
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+
+/**
+ * Lists the resources of one resource type in a parent, page by page, for {@link InventoryCrawler}. Each provider
+ * implements it as InventorySource in its package of the tools, with its DataZoneClientWrapper and Translator, so that
+ * the snapshot holds the same resource models as its list handler returns.
+ */
+public interface ResourceInventory {
+
+    /**
+     * @return The type name of the resource, e.g. AWS::DataZone::Environment.
+     */
+    String typeName();
+
+    /**
+     * @return What the resources are listed in.
+     */
+    InventoryScope scope();
+
+    /**
+     * @return The DataZone operation a page is listed with, e.g. ListEnvironments. The rate limits apply per operation.
+     */
+    String operation();
+
+    /**
+     * @param parent    The parent to list the resources of, of the scope of the inventory.
+     * @param nextToken The token of the page to list, null for the first one.
+     * @return The page, the wrapper throws the Cfn exception of a failed call.
+     */
+    InventoryPage list(AmazonWebServicesClientProxy proxy, InventoryParent parent, String nextToken, Logger logger);
+}
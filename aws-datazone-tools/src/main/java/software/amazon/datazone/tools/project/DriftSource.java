@@ -0,0 +1,70 @@
+package software.amazon.datazone.tools.project;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.json.JSONObject;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.datazone.project.Configuration;
+import software.amazon.datazone.project.ResourceModel;
+import software.amazon.datazone.project.Translator;
+import software.amazon.datazone.project.client.DataZoneClientBuilder;
+import software.amazon.datazone.project.client.DataZoneClientWrapper;
+import software.amazon.datazone.tools.drift.ResourceDrift;
+
+import java.util.Optional;
+
+/**
+ * Reads projects with GetProject, as the read handler does. The project of the resources that do not outlive it is
+ * read with it too, once for all the resources in it.
+ */
+public class DriftSource implements ResourceDrift<ResourceModel> {
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public TypeReference<ResourceModel> modelType() {
+        return new TypeReference<ResourceModel>() {
+        };
+    }
+
+    @Override
+    public JSONObject resourceSchema() {
+        return new Configuration().resourceSchemaJSONObject();
+    }
+
+    @Override
+    public String operation() {
+        return "GetProject";
+    }
+
+    @Override
+    public String identifier(final ResourceModel model) {
+        return model.getId();
+    }
+
+    @Override
+    public String domainId(final ResourceModel model) {
+        return Optional.ofNullable(model.getDomainIdentifier()).orElse(model.getDomainId());
+    }
+
+    @Override
+    public ResourceModel read(final AmazonWebServicesClientProxy proxy,
+                              final ResourceModel model,
+                              final Logger logger) {
+        // The project wrapper does not log.
+        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(
+                proxy.newProxy(DataZoneClientBuilder::getClient));
+        return Translator.translateFromReadResponse(dataZoneClientWrapper.getProject(
+                Translator.translateToReadRequest(model)));
+    }
+
+    /**
+     * @return The model to read the project another resource is in with.
+     */
+    public ResourceModel reference(final String domainId, final String projectId) {
+        return ResourceModel.builder().domainIdentifier(domainId).id(projectId).build();
+    }
+}
@@ -0,0 +1,53 @@
+package software.amazon.datazone.tools.project;
+
+import software.amazon.awssdk.services.datazone.model.ListProjectsResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.datazone.project.ResourceModel;
+import software.amazon.datazone.project.Translator;
+import software.amazon.datazone.project.client.DataZoneClientBuilder;
+import software.amazon.datazone.project.client.DataZoneClientWrapper;
+import software.amazon.datazone.tools.inventory.InventoryPage;
+import software.amazon.datazone.tools.inventory.InventoryParent;
+import software.amazon.datazone.tools.inventory.InventoryScope;
+import software.amazon.datazone.tools.inventory.ResourceInventory;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The projects of a domain, each of them is a parent of the inventories of a project.
+ */
+public class InventorySource implements ResourceInventory {
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public InventoryScope scope() {
+        return InventoryScope.DOMAIN;
+    }
+
+    @Override
+    public String operation() {
+        return "ListProjects";
+    }
+
+    @Override
+    public InventoryPage list(final AmazonWebServicesClientProxy proxy,
+                              final InventoryParent parent,
+                              final String nextToken,
+                              final Logger logger) {
+        // The project wrapper does not log.
+        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(
+                proxy.newProxy(DataZoneClientBuilder::getClient));
+        final ListProjectsResponse response = dataZoneClientWrapper.listProject(Translator.translateToListRequest(
+                ResourceModel.builder().domainIdentifier(parent.getDomainId()).build(), nextToken));
+        final List<ResourceModel> models = Translator.translateFromListRequest(response);
+        return new InventoryPage(models, response.nextToken(), models.stream()
+                .map(model -> InventoryParent.project(parent.getDomainId(), model.getId()))
+                .collect(Collectors.toList()));
+    }
+}
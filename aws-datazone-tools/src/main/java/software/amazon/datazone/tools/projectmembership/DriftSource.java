@@ -0,0 +1,127 @@
+package software.amazon.datazone.tools.projectmembership;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import software.amazon.awssdk.services.datazone.model.ListProjectMembershipsResponse;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.datazone.projectmembership.Configuration;
+import software.amazon.datazone.projectmembership.ResourceModel;
+import software.amazon.datazone.projectmembership.Translator;
+import software.amazon.datazone.projectmembership.client.DataZoneClientBuilder;
+import software.amazon.datazone.projectmembership.client.DataZoneClientWrapper;
+import software.amazon.datazone.projectmembership.helper.LoggerWrapper;
+import software.amazon.datazone.tools.drift.ResourceDrift;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads project memberships. There is no call to read one membership, the read handler lists the members of the
+ * project until it finds it; the memberships of a project are read in one batch instead, with one listing of its
+ * members for all of them.
+ */
+public class DriftSource implements ResourceDrift<ResourceModel> {
+    private static final String DESIGNATION = "/properties/Designation";
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public TypeReference<ResourceModel> modelType() {
+        return new TypeReference<ResourceModel>() {
+        };
+    }
+
+    /**
+     * @return The schema, with Designation compared: it is write-only because the read handler does not return it, but
+     * the listing does.
+     */
+    @Override
+    public JSONObject resourceSchema() {
+        final JSONObject schema = new Configuration().resourceSchemaJSONObject();
+        final JSONArray writeOnlyProperties = new JSONArray();
+        for (final Object property : schema.getJSONArray("writeOnlyProperties")) {
+            if (!DESIGNATION.equals(property)) {
+                writeOnlyProperties.put(property);
+            }
+        }
+        return schema.put("writeOnlyProperties", writeOnlyProperties);
+    }
+
+    @Override
+    public String operation() {
+        return "ListProjectMemberships";
+    }
+
+    /**
+     * @return The id of the user or group, from the template member when the model has no member identifier.
+     */
+    @Override
+    public String identifier(final ResourceModel model) {
+        if (model.getMemberIdentifier() != null || model.getMember() == null) {
+            return model.getMemberIdentifier();
+        }
+        return model.getMember().getUserIdentifier() != null
+                ? model.getMember().getUserIdentifier()
+                : model.getMember().getGroupIdentifier();
+    }
+
+    @Override
+    public String domainId(final ResourceModel model) {
+        return model.getDomainIdentifier();
+    }
+
+    @Override
+    public String projectId(final ResourceModel model) {
+        return model.getProjectIdentifier();
+    }
+
+    @Override
+    public ResourceModel read(final AmazonWebServicesClientProxy proxy,
+                              final ResourceModel model,
+                              final Logger logger) {
+        final ResourceModel liveState = readBatch(proxy, model, () -> {
+        }, logger).get(identifier(model));
+        if (liveState == null) {
+            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, identifier(model));
+        }
+        return liveState;
+    }
+
+    @Override
+    public String batchKey(final ResourceModel model) {
+        return String.format("%s %s", model.getDomainIdentifier(), model.getProjectIdentifier());
+    }
+
+    @Override
+    public Map<String, ResourceModel> readBatch(final AmazonWebServicesClientProxy proxy,
+                                                final ResourceModel model,
+                                                final Runnable beforeNextPage,
+                                                final Logger logger) {
+        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(
+                proxy.newProxy(DataZoneClientBuilder::getClient), new LoggerWrapper(logger));
+        final ResourceModel project = ResourceModel.builder()
+                .domainIdentifier(model.getDomainIdentifier())
+                .projectIdentifier(model.getProjectIdentifier())
+                .build();
+        final Map<String, ResourceModel> memberships = new HashMap<>();
+        String nextToken = null;
+        do {
+            if (nextToken != null) {
+                beforeNextPage.run();
+            }
+            final ListProjectMembershipsResponse response = dataZoneClientWrapper.listProjectMemberships(
+                    Translator.translateToListRequest(project, nextToken));
+            for (final ResourceModel membership : Translator.translateFromListRequest(project, response)) {
+                memberships.put(membership.getMemberIdentifier(), membership);
+            }
+            nextToken = response.nextToken();
+        } while (nextToken != null);
+        return memberships;
+    }
+}
@@ -0,0 +1,51 @@
+package software.amazon.datazone.tools.projectmembership;
+
+import software.amazon.awssdk.services.datazone.model.ListProjectMembershipsResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.datazone.projectmembership.ResourceModel;
+import software.amazon.datazone.projectmembership.Translator;
+import software.amazon.datazone.projectmembership.client.DataZoneClientBuilder;
+import software.amazon.datazone.projectmembership.client.DataZoneClientWrapper;
+import software.amazon.datazone.projectmembership.helper.LoggerWrapper;
+import software.amazon.datazone.tools.inventory.InventoryPage;
+import software.amazon.datazone.tools.inventory.InventoryParent;
+import software.amazon.datazone.tools.inventory.InventoryScope;
+import software.amazon.datazone.tools.inventory.ResourceInventory;
+
+/**
+ * The members of a project.
+ */
+public class InventorySource implements ResourceInventory {
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public InventoryScope scope() {
+        return InventoryScope.PROJECT;
+    }
+
+    @Override
+    public String operation() {
+        return "ListProjectMemberships";
+    }
+
+    @Override
+    public InventoryPage list(final AmazonWebServicesClientProxy proxy,
+                              final InventoryParent parent,
+                              final String nextToken,
+                              final Logger logger) {
+        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(
+                proxy.newProxy(DataZoneClientBuilder::getClient), new LoggerWrapper(logger));
+        final ResourceModel model = ResourceModel.builder()
+                .domainIdentifier(parent.getDomainId())
+                .projectIdentifier(parent.getProjectId())
+                .build();
+        final ListProjectMembershipsResponse response = dataZoneClientWrapper.listProjectMemberships(
+                Translator.translateToListRequest(model, nextToken));
+        return InventoryPage.of(Translator.translateFromListRequest(model, response), response.nextToken());
+    }
+}
@@ -0,0 +1,54 @@
+package software.amazon.datazone.tools.subscriptiontarget;
+
+import software.amazon.awssdk.services.datazone.model.ListSubscriptionTargetsResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.datazone.subscriptiontarget.ResourceModel;
+import software.amazon.datazone.subscriptiontarget.Translator;
+import software.amazon.datazone.subscriptiontarget.client.DataZoneClientBuilder;
+import software.amazon.datazone.subscriptiontarget.client.DataZoneClientWrapper;
+import software.amazon.datazone.subscriptiontarget.helper.LoggerWrapper;
+import software.amazon.datazone.tools.inventory.InventoryPage;
+import software.amazon.datazone.tools.inventory.InventoryParent;
+import software.amazon.datazone.tools.inventory.InventoryScope;
+import software.amazon.datazone.tools.inventory.ResourceInventory;
+
+import java.util.stream.Collectors;
+
+/**
+ * The subscription targets of an environment.
+ */
+public class InventorySource implements ResourceInventory {
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public InventoryScope scope() {
+        return InventoryScope.ENVIRONMENT;
+    }
+
+    @Override
+    public String operation() {
+        return "ListSubscriptionTargets";
+    }
+
+    @Override
+    public InventoryPage list(final AmazonWebServicesClientProxy proxy,
+                              final InventoryParent parent,
+                              final String nextToken,
+                              final Logger logger) {
+        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(
+                proxy.newProxy(DataZoneClientBuilder::getClient), new LoggerWrapper(logger));
+        final ListSubscriptionTargetsResponse response = dataZoneClientWrapper.listSubscriptionTargets(
+                Translator.translateToListRequest(ResourceModel.builder()
+                        .domainIdentifier(parent.getDomainId())
+                        .environmentIdentifier(parent.getEnvironmentId())
+                        .build(), nextToken));
+        return InventoryPage.of(response.items().stream()
+                .map(Translator::getResourceModelFromSummary)
+                .collect(Collectors.toList()), response.nextToken());
+    }
+}
@@ -0,0 +1,70 @@
+package software.amazon.datazone.tools.userprofile;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.json.JSONObject;
+import software.amazon.awssdk.services.datazone.model.GetUserProfileResponse;
+import software.amazon.awssdk.services.datazone.model.UserProfileStatus;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.datazone.tools.drift.ResourceDrift;
+import software.amazon.datazone.userprofile.Configuration;
+import software.amazon.datazone.userprofile.ResourceModel;
+import software.amazon.datazone.userprofile.Translator;
+import software.amazon.datazone.userprofile.client.DataZoneClientBuilder;
+import software.amazon.datazone.userprofile.client.DataZoneClientWrapper;
+import software.amazon.datazone.userprofile.helper.LoggerWrapper;
+
+import java.util.Optional;
+
+/**
+ * Reads user profiles with GetUserProfile, as the read handler does: a deactivated or unassigned profile is gone.
+ */
+public class DriftSource implements ResourceDrift<ResourceModel> {
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public TypeReference<ResourceModel> modelType() {
+        return new TypeReference<ResourceModel>() {
+        };
+    }
+
+    @Override
+    public JSONObject resourceSchema() {
+        return new Configuration().resourceSchemaJSONObject();
+    }
+
+    @Override
+    public String operation() {
+        return "GetUserProfile";
+    }
+
+    @Override
+    public String identifier(final ResourceModel model) {
+        return Translator.getUserId(model);
+    }
+
+    @Override
+    public String domainId(final ResourceModel model) {
+        return Optional.ofNullable(model.getDomainIdentifier()).orElse(model.getDomainId());
+    }
+
+    @Override
+    public ResourceModel read(final AmazonWebServicesClientProxy proxy,
+                              final ResourceModel model,
+                              final Logger logger) {
+        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(
+                proxy.newProxy(DataZoneClientBuilder::getClient), new LoggerWrapper(logger));
+        final GetUserProfileResponse response = dataZoneClientWrapper.readUserProfile(
+                Translator.translateToReadRequest(model));
+        if (UserProfileStatus.DEACTIVATED.equals(response.status())
+                || UserProfileStatus.NOT_ASSIGNED.equals(response.status())) {
+            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, response.id());
+        }
+        return Translator.translateFromReadResponse(response);
+    }
+}
@@ -0,0 +1,60 @@
+package software.amazon.datazone.tools.userprofile;
+
+import software.amazon.awssdk.services.datazone.model.SearchUserProfilesResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.datazone.tools.inventory.InventoryPage;
+import software.amazon.datazone.tools.inventory.InventoryParent;
+import software.amazon.datazone.tools.inventory.InventoryScope;
+import software.amazon.datazone.tools.inventory.ResourceInventory;
+import software.amazon.datazone.userprofile.ResourceModel;
+import software.amazon.datazone.userprofile.Translator;
+import software.amazon.datazone.userprofile.client.DataZoneClientBuilder;
+import software.amazon.datazone.userprofile.client.DataZoneClientWrapper;
+import software.amazon.datazone.userprofile.helper.LoggerWrapper;
+
+import java.util.stream.Collectors;
+
+/**
+ * The user profiles of a domain of one user type. A search only returns the profiles of one type, the crawler lists
+ * each type with an inventory of its own.
+ */
+public class InventorySource implements ResourceInventory {
+    private final String userType;
+
+    /**
+     * @param userType The user type of the profiles, SSO_USER or IAM_USER.
+     */
+    public InventorySource(final String userType) {
+        this.userType = userType;
+    }
+
+    @Override
+    public String typeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public InventoryScope scope() {
+        return InventoryScope.DOMAIN;
+    }
+
+    @Override
+    public String operation() {
+        return "SearchUserProfiles";
+    }
+
+    @Override
+    public InventoryPage list(final AmazonWebServicesClientProxy proxy,
+                              final InventoryParent parent,
+                              final String nextToken,
+                              final Logger logger) {
+        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(
+                proxy.newProxy(DataZoneClientBuilder::getClient), new LoggerWrapper(logger));
+        final SearchUserProfilesResponse response = dataZoneClientWrapper.searchUserProfile(Translator.translateToSearchRequest(
+                ResourceModel.builder().domainIdentifier(parent.getDomainId()).userType(userType).build(), nextToken));
+        return InventoryPage.of(response.items().stream()
+                .map(userProfileSummary -> Translator.getResourceModelFromSummary(userProfileSummary, parent.getDomainId()))
+                .collect(Collectors.toList()), response.nextToken());
+    }
+}
@@ -2,7 +2,6 @@ package software.amazon.datazone.userprofile;
 
 import com.amazonaws.util.StringUtils;
 import com.google.common.base.Objects;
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.CreateUserProfileRequest;
 import software.amazon.awssdk.services.datazone.model.CreateUserProfileResponse;
 import software.amazon.awssdk.services.datazone.model.GetDomainResponse;
@@ -15,41 +14,74 @@ import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.datazone.userprofile.client.DataZoneAsyncClientWrapper;
 import software.amazon.datazone.userprofile.client.DataZoneClientWrapper;
 import software.amazon.datazone.userprofile.helper.LoggerWrapper;
+import software.amazon.datazone.userprofile.helper.Tracing;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 public class CreateHandler extends BaseHandlerStd {
+    private final ReadHandler readHandler = new ReadHandler();
+
+    @Override
+    protected boolean validatesDesiredResourceState() {
+        return true;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
+            final InvocationContext context) {
+        final DataZoneClientWrapper dataZoneClientWrapper = context.getDataZoneClientWrapper();
 
-        this.logger = new LoggerWrapper(externalLogger);
-        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
+        final ResourceModel desiredResourceState = request.getDesiredResourceState();
+        final Supplier<GetDomainResponse> domain;
+        final Supplier<GetUserProfileResponse> existingUserProfile;
+        CompletableFuture<GetUserProfileResponse> userProfileLookup = null;
+        if (context.getAsyncProxyClient() == null) {
+            domain = () -> dataZoneClientWrapper.getDomain(Translator.translateToGetDomainRequest(desiredResourceState));
+            existingUserProfile = () -> dataZoneClientWrapper.readUserProfile(Translator.translateToReadRequest(desiredResourceState));
+        } else {
+            // The domain validation and the pre-existence check are independent, so both calls are started together.
+            final DataZoneAsyncClientWrapper dataZoneAsyncClientWrapper = new DataZoneAsyncClientWrapper(context.getAsyncProxyClient(), context.getLogger());
+            final CompletableFuture<GetDomainResponse> domainResponse =
+                    dataZoneAsyncClientWrapper.getDomain(Translator.translateToGetDomainRequest(desiredResourceState));
+            final CompletableFuture<GetUserProfileResponse> userProfileResponse =
+                    dataZoneAsyncClientWrapper.readUserProfile(Translator.translateToReadRequest(desiredResourceState));
+            domain = () -> DataZoneAsyncClientWrapper.join(domainResponse);
+            existingUserProfile = () -> DataZoneAsyncClientWrapper.join(userProfileResponse);
+            userProfileLookup = userProfileResponse;
+        }
 
-        validateRequest(request.getDesiredResourceState(), dataZoneClientWrapper);
+        try {
+            validateRequest(desiredResourceState, domain);
+        } catch (final RuntimeException e) {
+            // Nothing joins the pre-existence check of a request that is not valid, so it is not left in flight.
+            if (userProfileLookup != null) {
+                userProfileLookup.cancel(true);
+            }
+            throw e;
+        }
 
-        return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+        return ProgressEvent.progress(desiredResourceState, callbackContext)
                 // Make create call
-                .then(progress -> checkForPreExistence(progress, dataZoneClientWrapper))
+                .then(Tracing.stage("checkForPreExistence", progress -> checkForPreExistence(progress, existingUserProfile, context.getLogger())))
                 // Checking for pre-existence using null ID
-                .then(progress -> StringUtils.isNullOrEmpty(progress.getResourceModel().getId()) ? createUserProfile(proxy, proxyClient, progress, dataZoneClientWrapper) :
-                        transitionToActive(proxy, proxyClient, progress, dataZoneClientWrapper))
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, progress.getCallbackContext(),
-                        proxyClient, externalLogger));
+                .then(Tracing.stage("createOrActivate", progress -> StringUtils.isNullOrEmpty(progress.getResourceModel().getId()) ? createUserProfile(proxy, request, context, progress, dataZoneClientWrapper) :
+                        transitionToActive(proxy, context, progress, dataZoneClientWrapper)))
+                .then(Tracing.stage("read", progress -> readHandler.handleRequest(proxy, request, progress.getCallbackContext(),
+                        context)));
     }
 
-    private void validateRequest(ResourceModel resourceModel, DataZoneClientWrapper dataZoneClientWrapper) {
-        GetDomainResponse domainResponse = dataZoneClientWrapper.getDomain(Translator.translateToGetDomainRequest(resourceModel));
+    private void validateRequest(ResourceModel resourceModel, Supplier<GetDomainResponse> domain) {
+        GetDomainResponse domainResponse = domain.get();
         if (Objects.equal(domainResponse.singleSignOn().userAssignment(), UserAssignment.AUTOMATIC) && resourceModel.getUserType().equals(UserType.SSO_USER.toString())) {
             String errorMessage = String.format("Cannot create User Profile for SSO Users in Domains with implicit User assignment.",
                     resourceModel.getDomainId(), resourceModel.getId());
@@ -63,21 +95,22 @@ public class CreateHandler extends BaseHandlerStd {
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> transitionToActive(AmazonWebServicesClientProxy proxy,
-                                                                             ProxyClient<DataZoneClient> proxyClient,
+                                                                             InvocationContext context,
                                                                              ProgressEvent<ResourceModel, CallbackContext> progress,
                                                                              DataZoneClientWrapper dataZoneClientWrapper) {
         // Call DataZone Control Plane to create the resource.
-        return proxy.initiate("AWS-DataZone-UserProfile::TransitionToActive", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+        return Tracing.callChain("AWS-DataZone-UserProfile::TransitionToActive", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), progress.getResourceModel(), progress.getCallbackContext())
                 // get Create Request
                 .translateToServiceRequest(Translator::translateToUpdateRequest)
                 // make service call
                 .makeServiceCall((updateUserProfileRequest, client) -> dataZoneClientWrapper.updateUserProfile(updateUserProfileRequest))
                 // and update the model fields.
-                .progress();
+                .progress());
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> checkForPreExistence(ProgressEvent<ResourceModel, CallbackContext> progress,
-                                                                               DataZoneClientWrapper dataZoneClientWrapper) {
+                                                                               Supplier<GetUserProfileResponse> existingUserProfile,
+                                                                               LoggerWrapper logger) {
         // Call DataZone Control Plane to get the resource.
         ResourceModel resourceModel = progress.getResourceModel();
         String domainIdentifier = resourceModel.getDomainIdentifier();
@@ -86,7 +119,7 @@ public class CreateHandler extends BaseHandlerStd {
                 domainIdentifier, userIdentifier);
         GetUserProfileResponse response;
         try {
-            response = dataZoneClientWrapper.readUserProfile(Translator.translateToReadRequest(resourceModel));
+            response = existingUserProfile.get();
         } catch (ResourceNotFoundException | CfnNotFoundException e) {
             logger.info("User Profile for Domain %s and User Identifier %s does not exist, proceeding with " +
                     "creation...", domainIdentifier, userIdentifier);
@@ -127,25 +160,27 @@ public class CreateHandler extends BaseHandlerStd {
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> createUserProfile(AmazonWebServicesClientProxy proxy,
-                                                                            ProxyClient<DataZoneClient> proxyClient,
+                                                                            ResourceHandlerRequest<ResourceModel> request,
+                                                                            InvocationContext context,
                                                                             ProgressEvent<ResourceModel, CallbackContext> progress,
                                                                             DataZoneClientWrapper dataZoneClientWrapper) {
         // Call DataZone Control Plane to create the resource.
-        return proxy.initiate("AWS-DataZone-UserProfile::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+        return Tracing.callChain("AWS-DataZone-UserProfile::Create", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), progress.getResourceModel(), progress.getCallbackContext())
                 // get Create Request
-                .translateToServiceRequest(model -> Translator.translateToCreateRequest(model, getNewClientToken()))
+                .translateToServiceRequest(model -> Translator.translateToCreateRequest(model, getClientToken(request, progress.getCallbackContext())))
                 // make service call
                 .makeServiceCall((createUserProfileRequest, client) -> dataZoneClientWrapper.createUserProfile(createUserProfileRequest))
                 // and update the model fields.
-                .done(this::updateModelFields);
+                .done((createUserProfileRequest, createUserProfileResponse, client, resourceModel, callbackContext) ->
+                        updateModelFields(createUserProfileRequest, createUserProfileResponse, resourceModel, callbackContext, context)));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> updateModelFields(CreateUserProfileRequest createUserProfileRequest,
                                                                             CreateUserProfileResponse createUserProfileResponse,
-                                                                            ProxyClient<DataZoneClient> dataZoneClientProxyClient,
                                                                             ResourceModel resourceModel,
-                                                                            CallbackContext callbackContext) {
-        logger.info("Successfully created UserProfile for domain %s and user identifier %s",
+                                                                            CallbackContext callbackContext,
+                                                                            InvocationContext context) {
+        context.getLogger().info("Successfully created UserProfile for domain %s and user identifier %s",
                 createUserProfileRequest.domainIdentifier(), createUserProfileRequest.userIdentifier());
         resourceModel.setId(createUserProfileResponse.id());
         resourceModel.setDomainId(createUserProfileResponse.domainId());
@@ -1,17 +1,15 @@
 package software.amazon.datazone.userprofile;
 
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.GetUserProfileResponse;
 import software.amazon.awssdk.services.datazone.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.datazone.model.UserProfileStatus;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.datazone.userprofile.client.DataZoneClientWrapper;
 import software.amazon.datazone.userprofile.helper.LoggerWrapper;
+import software.amazon.datazone.userprofile.helper.Tracing;
 
 public class DeleteHandler extends BaseHandlerStd {
 
@@ -19,20 +17,18 @@ public class DeleteHandler extends BaseHandlerStd {
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-
-        this.logger = new LoggerWrapper(externalLogger);
-        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
+            final InvocationContext context) {
+        final DataZoneClientWrapper dataZoneClientWrapper = context.getDataZoneClientWrapper();
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(progress -> deleteUserProfile(progress, dataZoneClientWrapper))
+                .then(Tracing.stage("deleteUserProfile", progress -> deleteUserProfile(progress, dataZoneClientWrapper, context.getLogger())))
                 .then(progress -> ProgressEvent.defaultSuccessHandler(null));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> deleteUserProfile(
             ProgressEvent<ResourceModel, CallbackContext> progress,
-            DataZoneClientWrapper dataZoneClientWrapper
+            DataZoneClientWrapper dataZoneClientWrapper,
+            LoggerWrapper logger
     ) {
         ResourceModel resourceModel = progress.getResourceModel();
         String domainIdentifier = getDomain(resourceModel);
@@ -1,16 +1,14 @@
 package software.amazon.datazone.userprofile;
 
-import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.GetUserProfileResponse;
 import software.amazon.awssdk.services.datazone.model.UserProfileStatus;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.datazone.userprofile.client.DataZoneClientWrapper;
 import software.amazon.datazone.userprofile.helper.LoggerWrapper;
+import software.amazon.datazone.userprofile.helper.Tracing;
 
 public class ReadHandler extends BaseHandlerStd {
 
@@ -18,28 +16,25 @@ public class ReadHandler extends BaseHandlerStd {
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<DataZoneClient> proxyClient,
-            final Logger externalLogger) {
-
-        this.logger = new LoggerWrapper(externalLogger);
-        final DataZoneClientWrapper dataZoneClientWrapper = new DataZoneClientWrapper(proxyClient, logger);
+            final InvocationContext context) {
+        final DataZoneClientWrapper dataZoneClientWrapper = context.getDataZoneClientWrapper();
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(progress -> readUserProfile(proxy, proxyClient, progress, dataZoneClientWrapper));
+                .then(Tracing.stage("readUserProfile", progress -> readUserProfile(proxy, context, progress, dataZoneClientWrapper)));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> readUserProfile(AmazonWebServicesClientProxy proxy,
-                                                                          ProxyClient<DataZoneClient> proxyClient,
+                                                                          InvocationContext context,
                                                                           ProgressEvent<ResourceModel, CallbackContext> progress,
                                                                           DataZoneClientWrapper dataZoneClientWrapper) {
         // Call DataZone Control Plane to update the resource.
-        return proxy.initiate("AWS-DataZone-UserProfile::Read", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+        return Tracing.callChain("AWS-DataZone-UserProfile::Read", callGraph -> proxy.initiate(callGraph, context.getProxyClient(), progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToReadRequest)
                 .makeServiceCall((getUserProfileRequest, client) -> dataZoneClientWrapper.readUserProfile(getUserProfileRequest))
-                .done(this::validateResponse);
+                .done(getUserProfileResponse -> validateResponse(getUserProfileResponse, context.getLogger())));
     }
 
-    private ProgressEvent<ResourceModel, CallbackContext> validateResponse(GetUserProfileResponse getUserProfileResponse) {
+    private ProgressEvent<ResourceModel, CallbackContext> validateResponse(GetUserProfileResponse getUserProfileResponse, LoggerWrapper logger) {
         String errorMessage = String.format("User profile found for Domain %s and User Identifier %s is DEACTIVATED",
                 getUserProfileResponse.domainId(), getUserProfileResponse.id());
         if (UserProfileStatus.DEACTIVATED.equals(getUserProfileResponse.status()) ||
@@ -58,7 +58,7 @@ public class Translator {
      * @param model Resource model for the User Profile.
      * @return The GetUserProfileRequest for the User Profile.
      */
-    static GetUserProfileRequest translateToReadRequest(final ResourceModel model) {
+    public static GetUserProfileRequest translateToReadRequest(final ResourceModel model) {
         return GetUserProfileRequest.builder()
                 .domainIdentifier(getDomain(model))
                 .userIdentifier(getUserId(model))
@@ -71,7 +71,7 @@ public class Translator {
      * @param getUserProfileResponse the aws service describe resource response
      * @return model resource model
      */
-    static ResourceModel translateFromReadResponse(final GetUserProfileResponse getUserProfileResponse) {
+    public static ResourceModel translateFromReadResponse(final GetUserProfileResponse getUserProfileResponse) {
         UserProfileDetails details = Objects.isNull(getUserProfileResponse.details()) ? null : UserProfileDetails.builder()
                 .iam(Objects.isNull(getUserProfileResponse.details().iam()) ? null : IamUserProfileDetails.builder()
                         .arn(getUserProfileResponse.details().iam().arn())
@@ -135,7 +135,7 @@ public class Translator {
      * @param domainId           The domain for UserProfiles.
      * @return model Resource model.
      */
-    static ResourceModel getResourceModelFromSummary(UserProfileSummary userProfileSummary, String domainId) {
+    public static ResourceModel getResourceModelFromSummary(UserProfileSummary userProfileSummary, String domainId) {
         return ResourceModel.builder()
                 .id(userProfileSummary.id())
                 .domainId(domainId)
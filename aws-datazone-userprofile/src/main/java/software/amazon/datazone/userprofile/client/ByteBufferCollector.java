@@ -0,0 +1,73 @@
+package software.amazon.datazone.userprofile.client;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Collects the bytes of an async request or response body, passing them on unchanged to the subscriber that reads
+ * the body, or reading the body itself when there is none.
+ */
+final class ByteBufferCollector implements Subscriber<ByteBuffer> {
+    private final Subscriber<? super ByteBuffer> downstream;
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final CompletableFuture<byte[]> body = new CompletableFuture<>();
+
+    /**
+     * @param downstream The subscriber reading the body, null to read it here.
+     */
+    ByteBufferCollector(final Subscriber<? super ByteBuffer> downstream) {
+        this.downstream = downstream;
+    }
+
+    /**
+     * @return The whole body, once it has been read.
+     */
+    CompletableFuture<byte[]> getBody() {
+        return body;
+    }
+
+    @Override
+    public void onSubscribe(final Subscription subscription) {
+        if (downstream == null) {
+            subscription.request(Long.MAX_VALUE);
+        } else {
+            downstream.onSubscribe(subscription);
+        }
+    }
+
+    @Override
+    public void onNext(final ByteBuffer buffer) {
+        // Copied through a read-only view, so that the position of the buffer is left to the downstream subscriber.
+        final ByteBuffer view = buffer.asReadOnlyBuffer();
+        final byte[] chunk = new byte[view.remaining()];
+        view.get(chunk);
+        synchronized (bytes) {
+            bytes.write(chunk, 0, chunk.length);
+        }
+        if (downstream != null) {
+            downstream.onNext(buffer);
+        }
+    }
+
+    @Override
+    public void onError(final Throwable error) {
+        body.completeExceptionally(error);
+        if (downstream != null) {
+            downstream.onError(error);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        synchronized (bytes) {
+            body.complete(bytes.toByteArray());
+        }
+        if (downstream != null) {
+            downstream.onComplete();
+        }
+    }
+}
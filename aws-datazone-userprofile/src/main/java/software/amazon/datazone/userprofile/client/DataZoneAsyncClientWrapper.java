@@ -0,0 +1,113 @@
+package software.amazon.datazone.userprofile.client;
+
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.datazone.DataZoneAsyncClient;
+import software.amazon.awssdk.services.datazone.model.GetDomainRequest;
+import software.amazon.awssdk.services.datazone.model.GetDomainResponse;
+import software.amazon.awssdk.services.datazone.model.GetUserProfileRequest;
+import software.amazon.awssdk.services.datazone.model.GetUserProfileResponse;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.datazone.userprofile.helper.DomainOperation;
+import software.amazon.datazone.userprofile.helper.LoggerWrapper;
+import software.amazon.datazone.userprofile.helper.UserProfileOperation;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Async counterpart of {@link DataZoneClientWrapper}. Every call returns immediately with a future, so that the
+ * pre-validation of the domain and the pre-existence check of the User Profile can be in flight at the same time.
+ * Failures complete the future with the same Cfn exceptions that the blocking wrapper throws.
+ */
+@AllArgsConstructor
+public class DataZoneAsyncClientWrapper {
+
+    private final @NonNull ProxyClient<DataZoneAsyncClient> proxyClient;
+    private final @NonNull LoggerWrapper logger;
+
+    public CompletableFuture<GetDomainResponse> getDomain(final @NonNull GetDomainRequest getDomainRequest) {
+        final DataZoneAsyncClient client = proxyClient.client();
+        return executeCall(DomainOperation.GET_DOMAIN.getName(), getDomainRequest, client::getDomain,
+                String.format("Domain with id %s", getDomainRequest.identifier()), client,
+                e -> DataZoneClientWrapper.translateAPIExceptionToCfnException(e, DomainOperation.GET_DOMAIN));
+    }
+
+    public CompletableFuture<GetUserProfileResponse> readUserProfile(final @NonNull GetUserProfileRequest readUserProfileRequest) {
+        final DataZoneAsyncClient client = proxyClient.client();
+        String resourceIdentifier = String.format("%s-%s", readUserProfileRequest.domainIdentifier(),
+                readUserProfileRequest.userIdentifier());
+        return executeCall(UserProfileOperation.GET_USER_PROFILE.getName(), readUserProfileRequest, client::getUserProfile,
+                String.format("User Profile with id %s", resourceIdentifier), client,
+                e -> DataZoneClientWrapper.translateAPIExceptionToCfnException(e, UserProfileOperation.GET_USER_PROFILE));
+    }
+
+    /**
+     * Waits for the given future and rethrows the Cfn exception it failed with, instead of the wrapping
+     * {@link CompletionException}, so that callers see the same exceptions as with {@link DataZoneClientWrapper}.
+     *
+     * @param future The future to wait for.
+     * @return The result of the future.
+     */
+    public static <T> T join(final @NonNull CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Makes cancelling the dependent future cancel its source too, so that a caller giving up on the result of a call
+     * aborts the request in flight rather than leaving it running. The SDK aborts a request when its future is
+     * cancelled, a future derived from it does not pass the cancellation on by itself.
+     *
+     * @param dependent The future derived from the source, e.g. with thenApply.
+     * @param source    The future of the call.
+     * @return The dependent future.
+     */
+    public static <T> CompletableFuture<T> cancelling(final @NonNull CompletableFuture<T> dependent,
+                                                      final @NonNull CompletableFuture<?> source) {
+        dependent.whenComplete((result, throwable) -> {
+            if (dependent.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return dependent;
+    }
+
+    private <Request extends AwsRequest, Response extends AwsResponse> CompletableFuture<Response> executeCall(
+            final String operation,
+            final Request request,
+            final Function<Request, CompletableFuture<Response>> clientOperation,
+            final String resourceDescription,
+            final DataZoneAsyncClient client,
+            final Function<Exception, BaseHandlerException> exceptionTranslator) {
+        final CompletableFuture<Response> response;
+        try {
+            response = proxyClient.injectCredentialsAndInvokeV2Async(request, clientOperation);
+        } catch (final Exception e) {
+            client.close();
+            logger.error("Failed to perform %s on %s due to error %s", operation, resourceDescription, e);
+            return CompletableFuture.failedFuture(exceptionTranslator.apply(e));
+        }
+
+        return cancelling(response.handle((result, throwable) -> {
+            client.close();
+            if (throwable == null) {
+                return result;
+            }
+            final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ?
+                    throwable.getCause() : throwable;
+            logger.error("Failed to perform %s on %s due to error %s", operation, resourceDescription, cause);
+            throw exceptionTranslator.apply(cause instanceof Exception ? (Exception) cause : new RuntimeException(cause));
+        }), response);
+    }
+}
@@ -0,0 +1,166 @@
+package software.amazon.datazone.userprofile;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.datazone.DataZoneAsyncClient;
+import software.amazon.awssdk.services.datazone.DataZoneClient;
+import software.amazon.awssdk.services.datazone.model.CreateUserProfileRequest;
+import software.amazon.awssdk.services.datazone.model.CreateUserProfileResponse;
+import software.amazon.awssdk.services.datazone.model.GetDomainRequest;
+import software.amazon.awssdk.services.datazone.model.GetUserProfileRequest;
+import software.amazon.awssdk.services.datazone.model.GetUserProfileResponse;
+import software.amazon.awssdk.services.datazone.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.datazone.model.UserAssignment;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs many invocations on one handler instance at the same time, each with clients of its own that only know its own
+ * user profile, so that an invocation picking up the clients, logger or call cost of another one shows in its result.
+ */
+public class ConcurrentInvocationTest extends AbstractTestBase {
+    private static final int THREADS = 16;
+    private static final int INVOCATIONS = 400;
+
+    private AmazonWebServicesClientProxy proxy;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    public void tear_down() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testHandleRequest_ConcurrentCreates_OnOneHandler_EachGetsItsOwnUserProfile() throws Exception {
+        final CreateHandler createHandler = new CreateHandler();
+        final CyclicBarrier start = new CyclicBarrier(THREADS);
+
+        final List<InvocationContext> contexts = new ArrayList<>();
+        for (int index = 0; index < INVOCATIONS; index++) {
+            contexts.add(InvocationContext.create(MOCK_PROXY(proxy, clientFor(index)),
+                    MOCK_ASYNC_PROXY(proxy, asyncClientFor(index)), logger));
+        }
+
+        final List<Future<ProgressEvent<ResourceModel, CallbackContext>>> responses = new ArrayList<>();
+        for (int index = 0; index < INVOCATIONS; index++) {
+            final int invocation = index;
+            responses.add(executor.submit(() -> {
+                if (invocation < THREADS) {
+                    // Lines the first invocations up, so that they all run through the handler at once.
+                    start.await(10, TimeUnit.SECONDS);
+                }
+                return createHandler.handleRequest(proxy, getResourceHandlerRequest(modelFor(invocation)),
+                        new CallbackContext(), contexts.get(invocation));
+            }));
+        }
+
+        for (int index = 0; index < INVOCATIONS; index++) {
+            final ProgressEvent<ResourceModel, CallbackContext> response = responses.get(index).get(30, TimeUnit.SECONDS);
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+            assertThat(response.getResourceModel().getId()).isEqualTo(userId(index));
+            assertThat(response.getResourceModel().getStatus()).isEqualTo(ASSIGNED);
+        }
+        // The cost of the calls of each invocation is its own, and is summarized at its end only.
+        final Map<Object, Boolean> invocationCosts = new IdentityHashMap<>();
+        contexts.forEach(context -> invocationCosts.put(context.getInvocationCost(), true));
+        assertThat(invocationCosts).hasSize(INVOCATIONS);
+    }
+
+    @Test
+    public void testHandleRequest_ConcurrentReads_OnOneHandler_EachGetsItsOwnUserProfile() throws Exception {
+        final ReadHandler readHandler = new ReadHandler();
+
+        final List<Future<ProgressEvent<ResourceModel, CallbackContext>>> responses = new ArrayList<>();
+        for (int index = 0; index < INVOCATIONS; index++) {
+            final InvocationContext context = InvocationContext.create(MOCK_PROXY(proxy, clientFor(index)), null, logger);
+            final ResourceModel resourceModel = modelFor(index);
+            responses.add(executor.submit(() -> readHandler.handleRequest(proxy, getResourceHandlerRequest(resourceModel),
+                    new CallbackContext(), context)));
+        }
+
+        for (int index = 0; index < INVOCATIONS; index++) {
+            final ProgressEvent<ResourceModel, CallbackContext> response = responses.get(index).get(30, TimeUnit.SECONDS);
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+            assertThat(response.getResourceModel().getId()).isEqualTo(userId(index));
+        }
+    }
+
+    /**
+     * @return A client that creates and reads only the user profile of the given invocation. Stubbed up front, mocks
+     * are not safe to stub while other threads call them.
+     */
+    private static DataZoneClient clientFor(final int index) {
+        final DataZoneClient dataZoneClient = mock(DataZoneClient.class);
+        Mockito.when(dataZoneClient.createUserProfile(Mockito.argThat((CreateUserProfileRequest request) ->
+                        request != null && userIdentifier(index).equals(request.userIdentifier()))))
+                .thenReturn(CreateUserProfileResponse.builder()
+                        .id(userId(index))
+                        .type(TYPE)
+                        .domainId(DOMAIN_IDENTIFIER)
+                        .status(ASSIGNED)
+                        .build());
+        Mockito.when(dataZoneClient.getUserProfile(Mockito.any(GetUserProfileRequest.class)))
+                .thenReturn(getUserProfileResponse(index));
+        return dataZoneClient;
+    }
+
+    /**
+     * @return An async client of a domain where the user profile of the given invocation does not exist yet.
+     */
+    private static DataZoneAsyncClient asyncClientFor(final int index) {
+        final DataZoneAsyncClient dataZoneAsyncClient = mock(DataZoneAsyncClient.class);
+        Mockito.when(dataZoneAsyncClient.getDomain(Mockito.any(GetDomainRequest.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(getGetDomainResponse(UserAssignment.MANUAL)));
+        Mockito.when(dataZoneAsyncClient.getUserProfile(Mockito.argThat((GetUserProfileRequest request) ->
+                        request != null && userIdentifier(index).equals(request.userIdentifier()))))
+                .thenAnswer(invocation -> CompletableFuture.failedFuture(ResourceNotFoundException.builder().build()));
+        return dataZoneAsyncClient;
+    }
+
+    private static ResourceModel modelFor(final int index) {
+        final ResourceModel resourceModel = getModel();
+        resourceModel.setUserIdentifier(userIdentifier(index));
+        return resourceModel;
+    }
+
+    private static GetUserProfileResponse getUserProfileResponse(final int index) {
+        return GetUserProfileResponse.builder()
+                .id(userId(index))
+                .type(TYPE)
+                .domainId(DOMAIN_IDENTIFIER)
+                .status(ASSIGNED)
+                .build();
+    }
+
+    private static String userIdentifier(final int index) {
+        return String.format("arn:aws:iam::123456789012:role/user-%d", index);
+    }
+
+    private static String userId(final int index) {
+        return String.format("user-%d", index);
+    }
+}
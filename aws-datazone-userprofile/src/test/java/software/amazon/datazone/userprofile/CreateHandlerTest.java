@@ -7,6 +7,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.datazone.DataZoneAsyncClient;
 import software.amazon.awssdk.services.datazone.DataZoneClient;
 import software.amazon.awssdk.services.datazone.model.AccessDeniedException;
 import software.amazon.awssdk.services.datazone.model.CreateUserProfileRequest;
@@ -25,14 +26,18 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 public class CreateHandlerTest extends AbstractTestBase {
 
     @Mock
     DataZoneClient dataZoneClient;
+    @Mock
+    DataZoneAsyncClient dataZoneAsyncClient;
     CreateHandler createHandler;
     @Mock
     private AmazonWebServicesClientProxy proxy;
@@ -189,4 +194,32 @@ public class CreateHandlerTest extends AbstractTestBase {
                 createHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger)
         );
     }
+
+    @Test
+    public void testHandleRequest_AsyncMode_ValidatesRequestOnAsyncClient() {
+        // setup
+        final ResourceModel resourceModel = getModel();
+        final ResourceHandlerRequest<ResourceModel> request = getResourceHandlerRequest(resourceModel);
+        final InvocationContext context = InvocationContext.create(proxyClient, MOCK_ASYNC_PROXY(proxy, dataZoneAsyncClient), logger);
+
+        Mockito.when(dataZoneAsyncClient.getDomain(Mockito.any(GetDomainRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(getGetDomainResponse(UserAssignment.MANUAL)));
+
+        Mockito.when(dataZoneAsyncClient.getUserProfile(Mockito.any(GetUserProfileRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(ResourceNotFoundException.builder().build()));
+
+        Mockito.when(dataZoneClient.createUserProfile(Mockito.any(CreateUserProfileRequest.class)))
+                .thenReturn(getCreateUserProfileResponse());
+
+        Mockito.when(dataZoneClient.getUserProfile(Mockito.any(GetUserProfileRequest.class)))
+                .thenReturn(getGetUserProfileResponse(UserProfileStatus.ASSIGNED.toString()));
+
+        // make call
+        ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(proxy, request, new CallbackContext(), context);
+
+        // assertions
+        assertCfnResponse(response, OperationStatus.SUCCESS);
+        assertResponseModel(response.getResourceModel());
+        Mockito.verify(dataZoneClient, never()).getDomain(Mockito.any(GetDomainRequest.class));
+    }
 }
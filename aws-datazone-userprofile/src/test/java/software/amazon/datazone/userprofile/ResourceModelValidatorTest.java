@@ -0,0 +1,55 @@
+package software.amazon.datazone.userprofile;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ResourceModelValidatorTest extends AbstractTestBase {
+    private final ResourceModelValidator validator = ResourceModelValidator.getInstance();
+
+    @Test
+    public void testValidate_ValidModel_WithReadOnlyProperties_Passes() {
+        final ResourceModel model = ResourceModel.builder()
+                .domainIdentifier(DOMAIN_IDENTIFIER)
+                .userIdentifier(USER_IDENTIFIER)
+                .userType(USER_TYPE)
+                .status(ASSIGNED)
+                // Read-only, they are not input and not validated.
+                .id(USER_IDENTIFIER)
+                .domainId(DOMAIN_ID)
+                .type("not a type")
+                .build();
+
+        assertThat(validator.violations(model)).isEmpty();
+        validator.validate(model);
+    }
+
+    @Test
+    public void testValidate_InvalidModel_ReportsAllViolations() {
+        final ResourceModel model = ResourceModel.builder()
+                .userIdentifier("not a user")
+                .userType(TYPE)
+                .status("ENABLED")
+                .build();
+
+        assertThat(validator.violations(model))
+                .hasSize(4)
+                .anySatisfy(violation -> assertThat(violation).contains("DomainIdentifier"))
+                .anySatisfy(violation -> assertThat(violation).startsWith("#/UserIdentifier"))
+                .anySatisfy(violation -> assertThat(violation).startsWith("#/UserType"))
+                .anySatisfy(violation -> assertThat(violation).startsWith("#/Status"));
+        assertThatThrownBy(() -> validator.validate(model))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("4 schema violation(s)");
+    }
+
+    @Test
+    public void testValidate_NoModel_ReportsRequiredProperties() {
+        assertThat(validator.violations(null))
+                .hasSize(2)
+                .anySatisfy(violation -> assertThat(violation).contains("DomainIdentifier"))
+                .anySatisfy(violation -> assertThat(violation).contains("UserIdentifier"));
+    }
+}